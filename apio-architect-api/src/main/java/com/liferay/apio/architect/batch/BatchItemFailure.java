@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.batch;
+
+/**
+ * Represents an item that couldn't be processed in a batch operation.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class BatchItemFailure<T> {
+
+	public BatchItemFailure(T identifier, int statusCode, String reason) {
+		_identifier = identifier;
+		_statusCode = statusCode;
+		_reason = reason;
+	}
+
+	/**
+	 * Returns the identifier of the item that couldn't be processed.
+	 *
+	 * @return the item's identifier
+	 */
+	public T getIdentifier() {
+		return _identifier;
+	}
+
+	/**
+	 * Returns the reason why the item couldn't be processed.
+	 *
+	 * @return the failure's reason
+	 */
+	public String getReason() {
+		return _reason;
+	}
+
+	/**
+	 * Returns the HTTP status code that the item would have gotten if it had
+	 * been processed alone.
+	 *
+	 * @return the failure's status code
+	 */
+	public int getStatusCode() {
+		return _statusCode;
+	}
+
+	private final T _identifier;
+	private final String _reason;
+	private final int _statusCode;
+
+}
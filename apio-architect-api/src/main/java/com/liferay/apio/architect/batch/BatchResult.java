@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.batch;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -25,13 +27,59 @@ import java.util.List;
 public class BatchResult<T> {
 
 	public BatchResult(List<T> identifiers, String resourceName) {
+		this(identifiers, Collections.emptyList(), resourceName);
+	}
+
+	/**
+	 * Creates a batch result for an operation in which some items could be
+	 * processed and some others couldn't.
+	 *
+	 * @param identifiers the identifiers of the processed items
+	 * @param batchItemFailures the items that couldn't be processed
+	 * @param resourceName the name of the elements' resource
+	 * @review
+	 */
+	public BatchResult(
+		List<T> identifiers, List<BatchItemFailure<T>> batchItemFailures,
+		String resourceName) {
+
 		_identifiers = identifiers;
+		_batchItemFailures = batchItemFailures;
 
 		this.resourceName = resourceName;
 	}
 
 	/**
-	 * Returns the list of identifiers created in the batch operation.
+	 * Returns the items that couldn't be processed in the batch operation,
+	 * with the status code and reason of each failure.
+	 *
+	 * @return the list of failed items
+	 * @review
+	 */
+	public List<BatchItemFailure<T>> getBatchItemFailures() {
+		return _batchItemFailures;
+	}
+
+	/**
+	 * Returns the list of identifiers of the items that couldn't be processed
+	 * in the batch operation.
+	 *
+	 * @return the list of failed identifiers
+	 * @review
+	 */
+	public List<T> getFailedIdentifiers() {
+		List<T> failedIdentifiers = new ArrayList<>();
+
+		for (BatchItemFailure<T> batchItemFailure : _batchItemFailures) {
+			failedIdentifiers.add(batchItemFailure.getIdentifier());
+		}
+
+		return failedIdentifiers;
+	}
+
+	/**
+	 * Returns the list of identifiers created or processed in the batch
+	 * operation.
 	 *
 	 * @return the list of identifiers
 	 */
@@ -44,6 +92,7 @@ public class BatchResult<T> {
 	 */
 	public final String resourceName;
 
+	private final List<BatchItemFailure<T>> _batchItemFailures;
 	private final List<T> _identifiers;
 
 }
\ No newline at end of file
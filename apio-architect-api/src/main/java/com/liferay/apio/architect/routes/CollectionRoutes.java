@@ -19,6 +19,7 @@ import aQute.bnd.annotation.ProviderType;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
+import com.liferay.apio.architect.alias.routes.GetPageAsyncFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasAddingPermissionFunction;
 import com.liferay.apio.architect.form.Form;
@@ -32,6 +33,7 @@ import com.liferay.apio.architect.pagination.Pagination;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Holds information about the routes supported for a {@link
@@ -82,6 +84,18 @@ public interface CollectionRoutes<T, S> {
 	 */
 	public Optional<Form> getFormOptional();
 
+	/**
+	 * Returns the asynchronous function used to obtain the page, if the
+	 * endpoint was added through one of the {@code addGetterAsync} methods of
+	 * the {@link CollectionRoutes.Builder}. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the asynchronous function used to obtain the page, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<GetPageAsyncFunction<T>> getGetPageAsyncFunctionOptional();
+
 	/**
 	 * Returns the function used to obtain the page, if the endpoint was added
 	 * through the {@link CollectionRoutes.Builder} and the function therefore
@@ -364,6 +378,88 @@ public interface CollectionRoutes<T, S> {
 				getterThrowableTriFunction,
 			Class<A> aClass, Class<B> bClass);
 
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter.
+		 *
+		 * @param  getterThrowableBiFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addGetterAsync(
+			ThrowableBiFunction<Pagination, A, CompletionStage<PageItems<T>>>
+				getterThrowableBiFunction,
+			Class<A> aClass);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with none
+		 * extra parameters.
+		 *
+		 * @param  getterThrowableFunction the function that starts calculating
+		 *         the page
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addGetterAsync(
+			ThrowableFunction<Pagination, CompletionStage<PageItems<T>>>
+				getterThrowableFunction);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with four
+		 * extra parameters.
+		 *
+		 * @param  getterThrowablePentaFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @param  dClass the class of the page function's fifth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C, D> Builder<T, S> addGetterAsync(
+			ThrowablePentaFunction
+				<Pagination, A, B, C, D, CompletionStage<PageItems<T>>>
+					getterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with three
+		 * extra parameters.
+		 *
+		 * @param  getterThrowableTetraFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C> Builder<T, S> addGetterAsync(
+			ThrowableTetraFunction
+				<Pagination, A, B, C, CompletionStage<PageItems<T>>>
+					getterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with two
+		 * extra parameters.
+		 *
+		 * @param  getterThrowableTriFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B> Builder<T, S> addGetterAsync(
+			ThrowableTriFunction
+				<Pagination, A, B, CompletionStage<PageItems<T>>>
+					getterThrowableTriFunction,
+			Class<A> aClass, Class<B> bClass);
+
 		/**
 		 * Constructs the {@link CollectionRoutes} instance with the information
 		 * provided to the builder.
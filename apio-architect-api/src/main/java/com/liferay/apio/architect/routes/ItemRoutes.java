@@ -18,7 +18,9 @@ import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
+import com.liferay.apio.architect.alias.routes.GetItemAsyncFunction;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
+import com.liferay.apio.architect.alias.routes.GetItemsFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasRemovePermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasUpdatePermissionFunction;
@@ -35,7 +37,10 @@ import com.liferay.apio.architect.function.throwable.ThrowablePentaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Holds information about the routes supported for an {@link
@@ -76,6 +81,18 @@ public interface ItemRoutes<T, S> {
 	 */
 	public Optional<Form> getFormOptional();
 
+	/**
+	 * Returns the asynchronous function used to obtain the item, if the
+	 * endpoint was added through one of the {@code addGetterAsync} methods of
+	 * the {@link ItemRoutes.Builder}. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the asynchronous function used to obtain the item, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<GetItemAsyncFunction<T, S>> getItemAsyncFunctionOptional();
+
 	/**
 	 * Returns the function used to obtain the item, if the endpoint was added
 	 * through the {@link ItemRoutes.Builder} and the function therefore exists.
@@ -86,6 +103,18 @@ public interface ItemRoutes<T, S> {
 	 */
 	public Optional<GetItemFunction<T, S>> getItemFunctionOptional();
 
+	/**
+	 * Returns the function used to obtain several items at once, if the
+	 * endpoint was added through one of the {@code addBatchGetter} methods of
+	 * the {@link ItemRoutes.Builder}. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the function used to obtain several items, if the function
+	 *         exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<GetItemsFunction<T, S>> getItemsFunctionOptional();
+
 	/**
 	 * Returns the function used to update the item, if the endpoint was added
 	 * through the {@link ItemRoutes.Builder} and the function therefore exists.
@@ -107,6 +136,91 @@ public interface ItemRoutes<T, S> {
 	@ProviderType
 	public interface Builder<T, S> {
 
+		/**
+		 * Adds a route to a batch item function with one extra parameter. The
+		 * function receives the list of identifiers and returns the found
+		 * items, keyed by their identifier. Identifiers missing from the
+		 * returned map are considered not found.
+		 *
+		 * @param  batchGetterThrowableBiFunction the function that calculates
+		 *         the items
+		 * @param  aClass the class of the batch function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addBatchGetter(
+			ThrowableBiFunction<List<S>, A, Map<S, T>>
+				batchGetterThrowableBiFunction,
+			Class<A> aClass);
+
+		/**
+		 * Adds a route to a batch item function with none extra parameters.
+		 * The function receives the list of identifiers and returns the found
+		 * items, keyed by their identifier. Identifiers missing from the
+		 * returned map are considered not found.
+		 *
+		 * @param  batchGetterThrowableFunction the function that calculates
+		 *         the items
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addBatchGetter(
+			ThrowableFunction<List<S>, Map<S, T>> batchGetterThrowableFunction);
+
+		/**
+		 * Adds a route to a batch item function with four extra parameters.
+		 * The function receives the list of identifiers and returns the found
+		 * items, keyed by their identifier.
+		 *
+		 * @param  batchGetterThrowablePentaFunction the function that
+		 *         calculates the items
+		 * @param  aClass the class of the batch function's second parameter
+		 * @param  bClass the class of the batch function's third parameter
+		 * @param  cClass the class of the batch function's fourth parameter
+		 * @param  dClass the class of the batch function's fifth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C, D> Builder<T, S> addBatchGetter(
+			ThrowablePentaFunction<List<S>, A, B, C, D, Map<S, T>>
+				batchGetterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass);
+
+		/**
+		 * Adds a route to a batch item function with three extra parameters.
+		 * The function receives the list of identifiers and returns the found
+		 * items, keyed by their identifier.
+		 *
+		 * @param  batchGetterThrowableTetraFunction the function that
+		 *         calculates the items
+		 * @param  aClass the class of the batch function's second parameter
+		 * @param  bClass the class of the batch function's third parameter
+		 * @param  cClass the class of the batch function's fourth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C> Builder<T, S> addBatchGetter(
+			ThrowableTetraFunction<List<S>, A, B, C, Map<S, T>>
+				batchGetterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass);
+
+		/**
+		 * Adds a route to a batch item function with two extra parameters. The
+		 * function receives the list of identifiers and returns the found
+		 * items, keyed by their identifier.
+		 *
+		 * @param  batchGetterThrowableTriFunction the function that calculates
+		 *         the items
+		 * @param  aClass the class of the batch function's second parameter
+		 * @param  bClass the class of the batch function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B> Builder<T, S> addBatchGetter(
+			ThrowableTriFunction<List<S>, A, B, Map<S, T>>
+				batchGetterThrowableTriFunction,
+			Class<A> aClass, Class<B> bClass);
+
 		/**
 		 * Adds a route to an item function with one extra parameter.
 		 *
@@ -171,6 +285,84 @@ public interface ItemRoutes<T, S> {
 			ThrowableTriFunction<S, A, B, T> getterThrowableTriFunction,
 			Class<A> aClass, Class<B> bClass);
 
+		/**
+		 * Adds a route to an asynchronous item function with one extra
+		 * parameter.
+		 *
+		 * @param  getterThrowableBiFunction the function that starts
+		 *         calculating the item
+		 * @param  aClass the class of the item function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S> addGetterAsync(
+			ThrowableBiFunction<S, A, CompletionStage<T>>
+				getterThrowableBiFunction,
+			Class<A> aClass);
+
+		/**
+		 * Adds a route to an asynchronous item function with none extra
+		 * parameters.
+		 *
+		 * @param  getterThrowableFunction the function that starts calculating
+		 *         the item
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S> addGetterAsync(
+			ThrowableFunction<S, CompletionStage<T>> getterThrowableFunction);
+
+		/**
+		 * Adds a route to an asynchronous item function with four extra
+		 * parameters.
+		 *
+		 * @param  getterThrowablePentaFunction the function that starts
+		 *         calculating the item
+		 * @param  aClass the class of the item function's second parameter
+		 * @param  bClass the class of the item function's third parameter
+		 * @param  cClass the class of the item function's fourth parameter
+		 * @param  dClass the class of the item function's fifth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C, D> Builder<T, S> addGetterAsync(
+			ThrowablePentaFunction<S, A, B, C, D, CompletionStage<T>>
+				getterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass);
+
+		/**
+		 * Adds a route to an asynchronous item function with three extra
+		 * parameters.
+		 *
+		 * @param  getterThrowableTetraFunction the function that starts
+		 *         calculating the item
+		 * @param  aClass the class of the item function's second parameter
+		 * @param  bClass the class of the item function's third parameter
+		 * @param  cClass the class of the item function's fourth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C> Builder<T, S> addGetterAsync(
+			ThrowableTetraFunction<S, A, B, C, CompletionStage<T>>
+				getterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass);
+
+		/**
+		 * Adds a route to an asynchronous item function with two extra
+		 * parameters.
+		 *
+		 * @param  getterThrowableTriFunction the function that starts
+		 *         calculating the item
+		 * @param  aClass the class of the item function's second parameter
+		 * @param  bClass the class of the item function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B> Builder<T, S> addGetterAsync(
+			ThrowableTriFunction<S, A, B, CompletionStage<T>>
+				getterThrowableTriFunction,
+			Class<A> aClass, Class<B> bClass);
+
 		/**
 		 * Adds a route to a remover function with one extra parameter.
 		 *
@@ -19,7 +19,9 @@ import aQute.bnd.annotation.ProviderType;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageAsyncFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPagesFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasNestedAddingPermissionFunction;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
@@ -31,7 +33,9 @@ import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Holds information about the routes supported for a {@link
@@ -86,6 +90,19 @@ public interface NestedCollectionRoutes<T, S, U> {
 	public Optional<NestedCreateItemFunction<T, U>>
 		getNestedCreateItemFunctionOptional();
 
+	/**
+	 * Returns the asynchronous function used to obtain the page, if the
+	 * endpoint was added through one of the {@code addGetterAsync} methods of
+	 * the {@link NestedCollectionRoutes.Builder}. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the asynchronous function used to obtain the page, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<NestedGetPageAsyncFunction<T, U>>
+		getNestedGetPageAsyncFunctionOptional();
+
 	/**
 	 * Returns the function used to obtain the page, if the endpoint was added
 	 * through the {@link NestedCollectionRoutes.Builder} and the function
@@ -97,6 +114,19 @@ public interface NestedCollectionRoutes<T, S, U> {
 	public Optional<NestedGetPageFunction<T, U>>
 		getNestedGetPageFunctionOptional();
 
+	/**
+	 * Returns the function used to obtain the page of several parent models
+	 * at once, if the endpoint was added through one of the {@code
+	 * addBatchGetter} methods of the {@link NestedCollectionRoutes.Builder}.
+	 * Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to obtain the pages, if the function exists;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<NestedGetPagesFunction<T, U>>
+		getNestedGetPagesFunctionOptional();
+
 	/**
 	 * Creates the {@link NestedCollectionRoutes} of a {@link
 	 * com.liferay.apio.architect.router.NestedCollectionRouter}.
@@ -110,6 +140,95 @@ public interface NestedCollectionRoutes<T, S, U> {
 	@ProviderType
 	public interface Builder<T, S, U> {
 
+		/**
+		 * Adds a route to a batch collection page function with none extra
+		 * parameters. The function receives the list of parent identifiers and
+		 * returns the page items of each one, keyed by the parent identifier.
+		 * Parent identifiers missing from the returned map are considered to
+		 * have an empty page.
+		 *
+		 * @param  batchGetterThrowableBiFunction the function that calculates
+		 *         the pages
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S, U> addBatchGetter(
+			ThrowableBiFunction<Pagination, List<U>, Map<U, PageItems<T>>>
+				batchGetterThrowableBiFunction);
+
+		/**
+		 * Adds a route to a batch collection page function with four extra
+		 * parameters. The function receives the list of parent identifiers and
+		 * returns the page items of each one, keyed by the parent identifier.
+		 *
+		 * @param  batchGetterThrowableHexaFunction the function that
+		 *         calculates the pages
+		 * @param  aClass the class of the batch function's third parameter
+		 * @param  bClass the class of the batch function's fourth parameter
+		 * @param  cClass the class of the batch function's fifth parameter
+		 * @param  dClass the class of the batch function's sixth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C, D> Builder<T, S, U> addBatchGetter(
+			ThrowableHexaFunction
+				<Pagination, List<U>, A, B, C, D, Map<U, PageItems<T>>>
+					batchGetterThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass);
+
+		/**
+		 * Adds a route to a batch collection page function with three extra
+		 * parameters. The function receives the list of parent identifiers and
+		 * returns the page items of each one, keyed by the parent identifier.
+		 *
+		 * @param  batchGetterThrowablePentaFunction the function that
+		 *         calculates the pages
+		 * @param  aClass the class of the batch function's third parameter
+		 * @param  bClass the class of the batch function's fourth parameter
+		 * @param  cClass the class of the batch function's fifth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C> Builder<T, S, U> addBatchGetter(
+			ThrowablePentaFunction
+				<Pagination, List<U>, A, B, C, Map<U, PageItems<T>>>
+					batchGetterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass);
+
+		/**
+		 * Adds a route to a batch collection page function with two extra
+		 * parameters. The function receives the list of parent identifiers and
+		 * returns the page items of each one, keyed by the parent identifier.
+		 *
+		 * @param  batchGetterThrowableTetraFunction the function that
+		 *         calculates the pages
+		 * @param  aClass the class of the batch function's third parameter
+		 * @param  bClass the class of the batch function's fourth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B> Builder<T, S, U> addBatchGetter(
+			ThrowableTetraFunction
+				<Pagination, List<U>, A, B, Map<U, PageItems<T>>>
+					batchGetterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass);
+
+		/**
+		 * Adds a route to a batch collection page function with one extra
+		 * parameter. The function receives the list of parent identifiers and
+		 * returns the page items of each one, keyed by the parent identifier.
+		 *
+		 * @param  batchGetterThrowableTriFunction the function that calculates
+		 *         the pages
+		 * @param  aClass the class of the batch function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S, U> addBatchGetter(
+			ThrowableTriFunction<Pagination, List<U>, A, Map<U, PageItems<T>>>
+				batchGetterThrowableTriFunction,
+			Class<A> aClass);
+
 		/**
 		 * Adds a route to a creator function that has no extra parameters.
 		 *
@@ -399,6 +518,89 @@ public interface NestedCollectionRoutes<T, S, U> {
 				getterThrowableTriFunction,
 			Class<A> aClass);
 
+		/**
+		 * Adds a route to an asynchronous collection page function with none
+		 * extra parameters.
+		 *
+		 * @param  getterThrowableBiFunction the function that starts
+		 *         calculating the page
+		 * @return the updated builder
+		 * @review
+		 */
+		public Builder<T, S, U> addGetterAsync(
+			ThrowableBiFunction<Pagination, U, CompletionStage<PageItems<T>>>
+				getterThrowableBiFunction);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with four
+		 * extra parameters.
+		 *
+		 * @param  getterThrowableHexaFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @param  dClass the class of the page function's fifth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C, D> Builder<T, S, U> addGetterAsync(
+			ThrowableHexaFunction
+				<Pagination, U, A, B, C, D, CompletionStage<PageItems<T>>>
+					getterThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with three
+		 * extra parameters.
+		 *
+		 * @param  getterThrowablePentaFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @param  cClass the class of the page function's fourth parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B, C> Builder<T, S, U> addGetterAsync(
+			ThrowablePentaFunction
+				<Pagination, U, A, B, C, CompletionStage<PageItems<T>>>
+					getterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with two
+		 * extra parameters.
+		 *
+		 * @param  getterThrowableTetraFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @param  bClass the class of the page function's third parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A, B> Builder<T, S, U> addGetterAsync(
+			ThrowableTetraFunction
+				<Pagination, U, A, B, CompletionStage<PageItems<T>>>
+					getterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass);
+
+		/**
+		 * Adds a route to an asynchronous collection page function with one
+		 * extra parameter.
+		 *
+		 * @param  getterThrowableTriFunction the function that starts
+		 *         calculating the page
+		 * @param  aClass the class of the page function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public <A> Builder<T, S, U> addGetterAsync(
+			ThrowableTriFunction
+				<Pagination, U, A, CompletionStage<PageItems<T>>>
+					getterThrowableTriFunction,
+			Class<A> aClass);
+
 		/**
 		 * Constructs the {@link NestedCollectionRoutes} instance with the
 		 * information provided to the builder.
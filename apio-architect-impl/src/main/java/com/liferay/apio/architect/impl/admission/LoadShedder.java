@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.admission;
+
+import static com.liferay.apio.architect.impl.admission.RequestPriority.CRITICAL;
+import static com.liferay.apio.architect.impl.admission.RequestPriority.SHEDDABLE;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether new requests are admitted, based on the number of requests
+ * in flight and on the queueing delay observed in recent requests.
+ *
+ * <p>
+ * The queueing delay is estimated as the difference between the average
+ * latency of recent requests and the minimum latency observed in the last
+ * {@code minLatencyWindow} nanoseconds, which approximates the latency of a
+ * request that doesn't wait. Once the delay stays above the target for a whole
+ * interval, {@link RequestPriority#SHEDDABLE} requests are rejected. {@link
+ * RequestPriority#NORMAL} requests are also rejected if the delay is above
+ * twice the target. Both are also rejected while {@code maxInFlight}
+ * requests are in flight, if that limit is positive. {@link
+ * RequestPriority#CRITICAL} requests are always admitted.
+ * </p>
+ *
+ * <p>
+ * Time is read from the provided supplier, so the algorithm can be tested with
+ * a simulated clock.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class LoadShedder {
+
+	public LoadShedder(
+		long target, long interval, long minLatencyWindow, int maxInFlight,
+		LongSupplier nanoTimeSupplier) {
+
+		_target = target;
+		_interval = interval;
+		_minLatencyWindow = minLatencyWindow;
+		_maxInFlight = maxInFlight;
+		_nanoTimeSupplier = nanoTimeSupplier;
+	}
+
+	/**
+	 * Returns the number of admitted requests that haven't completed yet.
+	 *
+	 * @return the number of requests in flight
+	 */
+	public int getInFlightCount() {
+		return _inFlightCount.get();
+	}
+
+	/**
+	 * Returns the current estimation of the queueing delay, in nanoseconds.
+	 *
+	 * @return the queueing delay
+	 */
+	public synchronized long getQueueingDelay() {
+		if (_minLatency < 0) {
+			return 0;
+		}
+
+		return Math.max(0, (long)_averageLatency - _minLatency);
+	}
+
+	/**
+	 * Returns the number of requests rejected so far.
+	 *
+	 * @return the number of rejected requests
+	 */
+	public long getRejectedCount() {
+		return _rejectedCount.sum();
+	}
+
+	/**
+	 * Returns the number of seconds rejected clients should wait before
+	 * retrying.
+	 *
+	 * @return the number of seconds to wait
+	 */
+	public long getRetryAfterSeconds() {
+		long seconds = TimeUnit.NANOSECONDS.toSeconds(
+			_interval + getQueueingDelay());
+
+		return Math.max(1, seconds);
+	}
+
+	/**
+	 * Records the completion of an admitted request.
+	 *
+	 * @param latency the request's latency, in nanoseconds
+	 */
+	public synchronized void release(long latency) {
+		_inFlightCount.decrementAndGet();
+
+		long now = _nanoTimeSupplier.getAsLong();
+
+		if ((_minLatency < 0) || (latency < _minLatency) ||
+			((now - _minLatencyTime) > _minLatencyWindow)) {
+
+			_minLatency = latency;
+			_minLatencyTime = now;
+		}
+
+		if (_lastSampleTime < 0) {
+			_averageLatency = latency;
+		}
+		else {
+			_averageLatency += _WEIGHT * (latency - _averageLatency);
+		}
+
+		_lastSampleTime = now;
+
+		if (getQueueingDelay() <= _target) {
+			_aboveTargetTime = -1;
+		}
+		else if (_aboveTargetTime < 0) {
+			_aboveTargetTime = now;
+		}
+	}
+
+	/**
+	 * Tries to admit a new request. Every admitted request must be followed by
+	 * a call to {@link #release(long)}.
+	 *
+	 * @param  requestPriority the request's priority
+	 * @return {@code true} if the request was admitted; {@code false} if it
+	 *         must be rejected
+	 */
+	public boolean tryAdmit(RequestPriority requestPriority) {
+		if ((requestPriority != CRITICAL) && _isShedding(requestPriority)) {
+			_rejectedCount.increment();
+
+			return false;
+		}
+
+		_inFlightCount.incrementAndGet();
+
+		return true;
+	}
+
+	private synchronized boolean _isShedding(RequestPriority requestPriority) {
+		if ((_maxInFlight > 0) && (_inFlightCount.get() >= _maxInFlight)) {
+			return true;
+		}
+
+		if (_aboveTargetTime < 0) {
+			return false;
+		}
+
+		long now = _nanoTimeSupplier.getAsLong();
+
+		if ((now - _lastSampleTime) > _interval) {
+			_aboveTargetTime = -1;
+
+			return false;
+		}
+
+		if ((now - _aboveTargetTime) < _interval) {
+			return false;
+		}
+
+		if (requestPriority == SHEDDABLE) {
+			return true;
+		}
+
+		if (getQueueingDelay() > (2 * _target)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final double _WEIGHT = 0.2;
+
+	private long _aboveTargetTime = -1;
+	private double _averageLatency;
+	private final AtomicInteger _inFlightCount = new AtomicInteger();
+	private final long _interval;
+	private long _lastSampleTime = -1;
+	private final int _maxInFlight;
+	private long _minLatency = -1;
+	private long _minLatencyTime;
+	private final long _minLatencyWindow;
+	private final LongSupplier _nanoTimeSupplier;
+	private final LongAdder _rejectedCount = new LongAdder();
+	private final long _target;
+
+}
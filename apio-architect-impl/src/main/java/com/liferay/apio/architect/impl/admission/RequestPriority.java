@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.admission;
+
+/**
+ * Represents how important a request is when the {@link LoadShedder} has to
+ * reject work.
+ *
+ * @author Alejandro Hernández
+ */
+public enum RequestPriority {
+
+	/**
+	 * Requests that are never shed, like the API's documentation, entry point
+	 * and readiness check.
+	 */
+	CRITICAL,
+
+	/**
+	 * Requests that keep their response open, like the change feed and the
+	 * streamed collections. They're never shed nor counted as in flight, since
+	 * their duration doesn't reflect the server's load.
+	 */
+	LONG_LIVED,
+
+	/**
+	 * Requests that are shed only when the queueing delay is well above the
+	 * target.
+	 */
+	NORMAL,
+
+	/**
+	 * Requests that are shed first, like batch imports.
+	 */
+	SHEDDABLE;
+
+	/**
+	 * Returns the priority of a request, based on its path relative to the
+	 * application.
+	 *
+	 * @param  path the request's path
+	 * @return the request's priority
+	 */
+	public static RequestPriority fromPath(String path) {
+		String relativePath = path;
+
+		if (relativePath.startsWith("/")) {
+			relativePath = relativePath.substring(1);
+		}
+
+		if (relativePath.isEmpty() || relativePath.equals("doc") ||
+			relativePath.equals("ready")) {
+
+			return CRITICAL;
+		}
+
+		if (relativePath.startsWith("changes/") ||
+			relativePath.startsWith("stream/")) {
+
+			return LONG_LIVED;
+		}
+
+		if (relativePath.startsWith("batch/")) {
+			return SHEDDABLE;
+		}
+
+		return NORMAL;
+	}
+
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.alias;
+
+import com.liferay.apio.architect.function.TriFunction;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.Map;
+
+/**
+ * Defines a type alias for a function that returns the first page of a nested
+ * collection for several parent models at once. The function receives the
+ * parent resource's name, the nested collection's name, and the parent
+ * models' paths keyed by their identifiers. It returns the pages keyed by the
+ * same identifiers.
+ *
+ * @author Alejandro Hernández
+ */
+@FunctionalInterface
+public interface NestedPagesFunction
+	extends TriFunction<String, String, Map<Object, Path>, Map<Object, Page>> {
+}
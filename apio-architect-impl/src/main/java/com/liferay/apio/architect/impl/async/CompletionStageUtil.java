@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.async;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Provides utility functions for bridging {@code CompletionStage} instances
+ * returned by asynchronous routes and the {@link Try} instances used
+ * everywhere else.
+ *
+ * @author Alejandro Hernández
+ */
+public class CompletionStageUtil {
+
+	/**
+	 * Waits for a {@code CompletionStage} to complete, and returns its result
+	 * as a {@code Try}. This blocks the calling thread, so it should only be
+	 * used by callers that can't work asynchronously.
+	 *
+	 * @param  completionStage the completion stage
+	 * @return the stage's value, if it completed normally; a {@code Failure}
+	 *         with the stage's exception otherwise
+	 */
+	public static <T> Try<T> await(CompletionStage<T> completionStage) {
+		CompletableFuture<T> completableFuture =
+			completionStage.toCompletableFuture();
+
+		return Try.fromFallible(
+			completableFuture::get
+		).recoverWith(
+			exception -> toTry(null, exception)
+		);
+	}
+
+	/**
+	 * Returns a {@code CompletionStage} that completes with the value of the
+	 * {@code CompletionStage} contained in the {@code Try}, or exceptionally
+	 * if the {@code Try} is a {@code Failure}.
+	 *
+	 * @param  completionStageTry the {@code Try} containing the completion
+	 *         stage
+	 * @return the completion stage
+	 */
+	public static <T> CompletionStage<T> flatten(
+		Try<CompletionStage<T>> completionStageTry) {
+
+		return completionStageTry.fold(
+			CompletionStageUtil::_failedCompletionStage,
+			completionStage -> completionStage);
+	}
+
+	/**
+	 * Returns an already completed {@code CompletionStage} with the value of
+	 * the {@code Try}, or completed exceptionally with its exception if the
+	 * {@code Try} is a {@code Failure}.
+	 *
+	 * @param  tTry the {@code Try}
+	 * @return the completed stage
+	 */
+	public static <T> CompletionStage<T> toCompletionStage(Try<T> tTry) {
+		return tTry.fold(
+			CompletionStageUtil::_failedCompletionStage,
+			CompletableFuture::completedFuture);
+	}
+
+	/**
+	 * Transforms the result of a {@code CompletionStage}, as received by its
+	 * {@code whenComplete} and {@code handle} methods, into a {@code Try}.
+	 *
+	 * @param  t the stage's value, if it completed normally
+	 * @param  throwable the stage's exception, if it completed exceptionally
+	 * @return the stage's value, if it completed normally; a {@code Failure}
+	 *         with the stage's exception otherwise
+	 */
+	public static <T> Try<T> toTry(T t, Throwable throwable) {
+		if (throwable == null) {
+			return Try.success(t);
+		}
+
+		if ((throwable instanceof CompletionException) ||
+			(throwable instanceof ExecutionException)) {
+
+			return Try.fail(_getCauseException(throwable));
+		}
+
+		if (throwable instanceof Exception) {
+			return Try.fail((Exception)throwable);
+		}
+
+		return Try.fail(new CompletionException(throwable));
+	}
+
+	private static <T> CompletionStage<T> _failedCompletionStage(
+		Exception exception) {
+
+		CompletableFuture<T> completableFuture = new CompletableFuture<>();
+
+		completableFuture.completeExceptionally(exception);
+
+		return completableFuture;
+	}
+
+	private static Exception _getCauseException(Throwable throwable) {
+		Throwable cause = throwable.getCause();
+
+		if (cause instanceof Exception) {
+			return (Exception)cause;
+		}
+
+		return new CompletionException(cause);
+	}
+
+	private CompletionStageUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
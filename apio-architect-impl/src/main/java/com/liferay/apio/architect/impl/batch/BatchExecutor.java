@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.batch;
+
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.List;
+
+/**
+ * Runs the per-item work of batch operations, such as batch updates or
+ * deletions, on a bounded pool of threads.
+ *
+ * @author Alejandro Hernández
+ */
+public interface BatchExecutor {
+
+	/**
+	 * Applies the function to every item and returns the result for each one,
+	 * in the same order as the items. A failure in one item doesn't prevent
+	 * the rest from being processed. Items that can't be scheduled fail with
+	 * a {@link java.util.concurrent.RejectedExecutionException}.
+	 *
+	 * @param  items the items to process
+	 * @param  throwableFunction the function to apply to each item
+	 * @return the result for each item
+	 * @throws javax.ws.rs.BadRequestException if there are more items than
+	 *         the maximum allowed in a batch operation
+	 */
+	public <T, R> List<Try<R>> execute(
+		List<T> items, ThrowableFunction<T, R> throwableFunction);
+
+}
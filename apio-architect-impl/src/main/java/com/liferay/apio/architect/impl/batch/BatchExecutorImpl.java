@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.batch;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.BadRequestException;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+
+/**
+ * Default {@link BatchExecutor} implementation.
+ *
+ * <p>
+ * Items are processed by a pool of {@link #THREADS} daemon threads shared by
+ * every batch operation, so a big batch can't exhaust the server's resources.
+ * Items waiting for a thread are held in a queue bounded by {@link
+ * #QUEUE_SIZE}; once it's full, new items are rejected and reported as failed
+ * with a {@link RejectedExecutionException}. Batch operations with more than
+ * {@link #MAX_ITEMS} items are rejected.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class BatchExecutorImpl implements BatchExecutor {
+
+	/**
+	 * The property with the maximum number of items a batch operation can
+	 * contain.
+	 */
+	public static final String MAX_ITEMS = "batch.items.max";
+
+	/**
+	 * The property with the maximum number of items waiting for a thread.
+	 */
+	public static final String QUEUE_SIZE = "batch.executor.queue.size";
+
+	/**
+	 * The property with the number of threads that process the items.
+	 */
+	public static final String THREADS = "batch.executor.threads";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_maxItems = getInteger(properties, MAX_ITEMS, 1000);
+
+		int queueSize = Math.max(1, getInteger(properties, QUEUE_SIZE, 1000));
+		int threads = Math.max(1, getInteger(properties, THREADS, 4));
+
+		AtomicInteger threadCount = new AtomicInteger();
+
+		_executorService = new ThreadPoolExecutor(
+			threads, threads, 0, MILLISECONDS,
+			new ArrayBlockingQueue<>(queueSize),
+			runnable -> {
+				String name =
+					_THREAD_NAME + " " + threadCount.incrementAndGet();
+
+				Thread thread = new Thread(runnable, name);
+
+				thread.setDaemon(true);
+
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Deactivate
+	public void deactivate() {
+		_executorService.shutdownNow();
+	}
+
+	@Override
+	public <T, R> List<Try<R>> execute(
+		List<T> items, ThrowableFunction<T, R> throwableFunction) {
+
+		if (items.size() > _maxItems) {
+			throw new BadRequestException(
+				"A maximum of " + _maxItems + " items can be processed in a " +
+					"batch operation");
+		}
+
+		List<CompletableFuture<Try<R>>> completableFutures = new ArrayList<>(
+			items.size());
+
+		for (T item : items) {
+			completableFutures.add(_submit(item, throwableFunction));
+		}
+
+		List<Try<R>> results = new ArrayList<>(items.size());
+
+		for (CompletableFuture<Try<R>> completableFuture : completableFutures) {
+			results.add(completableFuture.join());
+		}
+
+		return results;
+	}
+
+	private <T, R> CompletableFuture<Try<R>> _submit(
+		T item, ThrowableFunction<T, R> throwableFunction) {
+
+		try {
+			return CompletableFuture.supplyAsync(
+				() -> Try.fromFallible(() -> throwableFunction.apply(item)),
+				_executorService);
+		}
+		catch (RejectedExecutionException ree) {
+			return CompletableFuture.completedFuture(Try.fail(ree));
+		}
+	}
+
+	private static final String _THREAD_NAME = "Apio batch executor";
+
+	private ExecutorService _executorService;
+	private int _maxItems;
+
+}
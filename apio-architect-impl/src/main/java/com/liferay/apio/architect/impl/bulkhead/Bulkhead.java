@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.toCompletionStage;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.ws.rs.ServiceUnavailableException;
+
+/**
+ * Limits the number of concurrent calls to the routes of a resource, so a
+ * slow resource can't take every container thread.
+ *
+ * <p>
+ * Calls over the {@link BulkheadPolicy}'s concurrency limit wait for a free
+ * slot, as long as the queue isn't full and the slot is released before the
+ * queue timeout. Otherwise, they fail fast with a {@code
+ * ServiceUnavailableException}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class Bulkhead {
+
+	public Bulkhead(String name, BulkheadPolicy bulkheadPolicy) {
+		_name = name;
+		_bulkheadPolicy = bulkheadPolicy;
+
+		_semaphore = new Semaphore(bulkheadPolicy.getMaxConcurrent(), true);
+	}
+
+	/**
+	 * Acquires a slot, waiting in the queue if needed. Every successful call
+	 * must be followed by a call to {@link #release()}.
+	 *
+	 * @throws ServiceUnavailableException if the concurrency limit is reached
+	 *         and no slot is released in time
+	 */
+	public void acquire() {
+		if (!_tryAcquire()) {
+			_rejectedCount.increment();
+
+			throw new ServiceUnavailableException(
+				"Too many concurrent requests to resource " + _name);
+		}
+	}
+
+	/**
+	 * Executes a supplier inside the bulkhead, and returns its result.
+	 *
+	 * @param  supplier the supplier
+	 * @return the supplier's result, or a {@code Failure} with a {@code
+	 *         ServiceUnavailableException} if the call was rejected
+	 */
+	public <T> Try<T> execute(Supplier<Try<T>> supplier) {
+		try {
+			acquire();
+		}
+		catch (ServiceUnavailableException sue) {
+			return Try.fail(sue);
+		}
+
+		try {
+			return supplier.get();
+		}
+		finally {
+			release();
+		}
+	}
+
+	/**
+	 * Executes a supplier of an asynchronous result inside the bulkhead. The
+	 * slot is held until the returned stage completes.
+	 *
+	 * @param  supplier the supplier
+	 * @return the supplier's stage, or a stage completed exceptionally with a
+	 *         {@code ServiceUnavailableException} if the call was rejected
+	 */
+	public <T> CompletionStage<T> executeAsync(
+		Supplier<CompletionStage<T>> supplier) {
+
+		try {
+			acquire();
+		}
+		catch (ServiceUnavailableException sue) {
+			return toCompletionStage(Try.fail(sue));
+		}
+
+		CompletionStage<T> completionStage;
+
+		try {
+			completionStage = supplier.get();
+		}
+		catch (RuntimeException re) {
+			release();
+
+			throw re;
+		}
+
+		return completionStage.whenComplete((t, throwable) -> release());
+	}
+
+	/**
+	 * Returns the bulkhead's policy.
+	 *
+	 * @return the bulkhead's policy
+	 */
+	public BulkheadPolicy getBulkheadPolicy() {
+		return _bulkheadPolicy;
+	}
+
+	/**
+	 * Returns the bulkhead's current statistics.
+	 *
+	 * @return the bulkhead's statistics
+	 */
+	public BulkheadStats getStats() {
+		int activeCount =
+			_bulkheadPolicy.getMaxConcurrent() - _semaphore.availablePermits();
+
+		return new BulkheadStats(
+			activeCount, _queuedCount.get(), _rejectedCount.sum(),
+			_bulkheadPolicy);
+	}
+
+	/**
+	 * Releases a slot acquired with {@link #acquire()}.
+	 */
+	public void release() {
+		_semaphore.release();
+	}
+
+	private boolean _tryAcquire() {
+		if (_semaphore.tryAcquire()) {
+			return true;
+		}
+
+		if (_queuedCount.incrementAndGet() > _bulkheadPolicy.getMaxQueued()) {
+			_queuedCount.decrementAndGet();
+
+			return false;
+		}
+
+		try {
+			return _semaphore.tryAcquire(
+				_bulkheadPolicy.getQueueTimeout(), MILLISECONDS);
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			return false;
+		}
+		finally {
+			_queuedCount.decrementAndGet();
+		}
+	}
+
+	private final BulkheadPolicy _bulkheadPolicy;
+	private final String _name;
+	private final AtomicInteger _queuedCount = new AtomicInteger();
+	private final LongAdder _rejectedCount = new LongAdder();
+	private final Semaphore _semaphore;
+
+}
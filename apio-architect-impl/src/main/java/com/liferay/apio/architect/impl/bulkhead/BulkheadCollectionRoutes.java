@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.CreateItemFunction;
+import com.liferay.apio.architect.alias.routes.GetPageAsyncFunction;
+import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+
+import java.util.Optional;
+
+/**
+ * Decorates the {@link CollectionRoutes} of a resource so every getter and
+ * creator call runs inside a {@link Bulkhead}.
+ *
+ * @author Alejandro Hernández
+ */
+public class BulkheadCollectionRoutes<T, S> implements CollectionRoutes<T, S> {
+
+	public BulkheadCollectionRoutes(
+		CollectionRoutes<T, S> collectionRoutes, Bulkhead bulkhead) {
+
+		_collectionRoutes = collectionRoutes;
+		_bulkhead = bulkhead;
+	}
+
+	@Override
+	public Optional<BatchCreateItemFunction<S>>
+		getBatchCreateItemFunctionOptional() {
+
+		Optional<BatchCreateItemFunction<S>> optional =
+			_collectionRoutes.getBatchCreateItemFunctionOptional();
+
+		return optional.map(
+			batchCreateItemFunction -> httpServletRequest -> body ->
+				_bulkhead.execute(
+					() -> batchCreateItemFunction.apply(
+						httpServletRequest
+					).apply(
+						body
+					)));
+	}
+
+	@Override
+	public Optional<CreateItemFunction<T>> getCreateItemFunctionOptional() {
+		Optional<CreateItemFunction<T>> optional =
+			_collectionRoutes.getCreateItemFunctionOptional();
+
+		return optional.map(
+			createItemFunction -> httpServletRequest -> body ->
+				_bulkhead.execute(
+					() -> createItemFunction.apply(
+						httpServletRequest
+					).apply(
+						body
+					)));
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _collectionRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<GetPageAsyncFunction<T>>
+		getGetPageAsyncFunctionOptional() {
+
+		Optional<GetPageAsyncFunction<T>> optional =
+			_collectionRoutes.getGetPageAsyncFunctionOptional();
+
+		return optional.map(
+			getPageAsyncFunction -> httpServletRequest ->
+				_bulkhead.executeAsync(
+					() -> getPageAsyncFunction.apply(httpServletRequest)));
+	}
+
+	@Override
+	public Optional<GetPageFunction<T>> getGetPageFunctionOptional() {
+		Optional<GetPageFunction<T>> optional =
+			_collectionRoutes.getGetPageFunctionOptional();
+
+		return optional.map(
+			getPageFunction -> httpServletRequest -> _bulkhead.execute(
+				() -> getPageFunction.apply(httpServletRequest)));
+	}
+
+	private final Bulkhead _bulkhead;
+	private final CollectionRoutes<T, S> _collectionRoutes;
+
+}
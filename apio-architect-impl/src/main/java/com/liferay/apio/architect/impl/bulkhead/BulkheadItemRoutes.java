@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
+import com.liferay.apio.architect.alias.routes.GetItemAsyncFunction;
+import com.liferay.apio.architect.alias.routes.GetItemFunction;
+import com.liferay.apio.architect.alias.routes.GetItemsFunction;
+import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Decorates the {@link ItemRoutes} of a resource so every getter, updater and
+ * remover call runs inside a {@link Bulkhead}.
+ *
+ * @author Alejandro Hernández
+ */
+public class BulkheadItemRoutes<T, S> implements ItemRoutes<T, S> {
+
+	public BulkheadItemRoutes(ItemRoutes<T, S> itemRoutes, Bulkhead bulkhead) {
+		_itemRoutes = itemRoutes;
+		_bulkhead = bulkhead;
+	}
+
+	@Override
+	public Optional<DeleteItemConsumer<S>> getDeleteConsumerOptional() {
+		Optional<DeleteItemConsumer<S>> optional =
+			_itemRoutes.getDeleteConsumerOptional();
+
+		return optional.map(
+			deleteItemConsumer -> httpServletRequest -> {
+				ThrowableConsumer<S> throwableConsumer =
+					deleteItemConsumer.apply(httpServletRequest);
+
+				return s -> {
+					_bulkhead.acquire();
+
+					try {
+						throwableConsumer.accept(s);
+					}
+					finally {
+						_bulkhead.release();
+					}
+				};
+			});
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _itemRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<GetItemAsyncFunction<T, S>> getItemAsyncFunctionOptional() {
+		Optional<GetItemAsyncFunction<T, S>> optional =
+			_itemRoutes.getItemAsyncFunctionOptional();
+
+		return optional.map(
+			getItemAsyncFunction -> httpServletRequest -> s ->
+				_bulkhead.executeAsync(
+					() -> getItemAsyncFunction.apply(
+						httpServletRequest
+					).apply(
+						s
+					)));
+	}
+
+	@Override
+	public Optional<GetItemFunction<T, S>> getItemFunctionOptional() {
+		Optional<GetItemFunction<T, S>> optional =
+			_itemRoutes.getItemFunctionOptional();
+
+		return optional.map(
+			getItemFunction -> httpServletRequest -> s -> _bulkhead.execute(
+				() -> getItemFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				)));
+	}
+
+	@Override
+	public Optional<GetItemsFunction<T, S>> getItemsFunctionOptional() {
+		Optional<GetItemsFunction<T, S>> optional =
+			_itemRoutes.getItemsFunctionOptional();
+
+		return optional.map(
+			getItemsFunction -> httpServletRequest -> list -> _bulkhead.execute(
+				() -> getItemsFunction.apply(
+					httpServletRequest
+				).apply(
+					list
+				)));
+	}
+
+	@Override
+	public Optional<UpdateItemFunction<T, S>> getUpdateItemFunctionOptional() {
+		Optional<UpdateItemFunction<T, S>> optional =
+			_itemRoutes.getUpdateItemFunctionOptional();
+
+		return optional.map(
+			updateItemFunction -> httpServletRequest -> {
+				Function<S, Function<Body, Try<SingleModel<T>>>> function =
+					updateItemFunction.apply(httpServletRequest);
+
+				return s -> body -> _bulkhead.execute(
+					() -> function.apply(
+						s
+					).apply(
+						body
+					));
+			});
+	}
+
+	private final Bulkhead _bulkhead;
+	private final ItemRoutes<T, S> _itemRoutes;
+
+}
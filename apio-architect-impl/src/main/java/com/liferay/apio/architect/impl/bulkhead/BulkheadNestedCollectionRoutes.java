@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageAsyncFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPagesFunction;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+
+import java.util.Optional;
+
+/**
+ * Decorates the {@link NestedCollectionRoutes} of a resource so every getter
+ * and creator call runs inside a {@link Bulkhead}.
+ *
+ * @author Alejandro Hernández
+ */
+public class BulkheadNestedCollectionRoutes<T, S, U>
+	implements NestedCollectionRoutes<T, S, U> {
+
+	public BulkheadNestedCollectionRoutes(
+		NestedCollectionRoutes<T, S, U> nestedCollectionRoutes,
+		Bulkhead bulkhead) {
+
+		_nestedCollectionRoutes = nestedCollectionRoutes;
+		_bulkhead = bulkhead;
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _nestedCollectionRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<NestedBatchCreateItemFunction<S, U>>
+		getNestedBatchCreateItemFunctionOptional() {
+
+		Optional<NestedBatchCreateItemFunction<S, U>> optional =
+			_nestedCollectionRoutes.getNestedBatchCreateItemFunctionOptional();
+
+		return optional.map(
+			nestedBatchCreateItemFunction ->
+				httpServletRequest -> body -> identifier -> _bulkhead.execute(
+					() -> nestedBatchCreateItemFunction.apply(
+						httpServletRequest
+					).apply(
+						body
+					).apply(
+						identifier
+					)));
+	}
+
+	@Override
+	public Optional<NestedCreateItemFunction<T, U>>
+		getNestedCreateItemFunctionOptional() {
+
+		Optional<NestedCreateItemFunction<T, U>> optional =
+			_nestedCollectionRoutes.getNestedCreateItemFunctionOptional();
+
+		return optional.map(
+			nestedCreateItemFunction ->
+				httpServletRequest -> identifier -> body -> _bulkhead.execute(
+					() -> nestedCreateItemFunction.apply(
+						httpServletRequest
+					).apply(
+						identifier
+					).apply(
+						body
+					)));
+	}
+
+	@Override
+	public Optional<NestedGetPageAsyncFunction<T, U>>
+		getNestedGetPageAsyncFunctionOptional() {
+
+		Optional<NestedGetPageAsyncFunction<T, U>> optional =
+			_nestedCollectionRoutes.getNestedGetPageAsyncFunctionOptional();
+
+		return optional.map(
+			nestedGetPageAsyncFunction ->
+				httpServletRequest -> path -> identifier ->
+					_bulkhead.executeAsync(
+						() -> nestedGetPageAsyncFunction.apply(
+							httpServletRequest
+						).apply(
+							path
+						).apply(
+							identifier
+						)));
+	}
+
+	@Override
+	public Optional<NestedGetPageFunction<T, U>>
+		getNestedGetPageFunctionOptional() {
+
+		Optional<NestedGetPageFunction<T, U>> optional =
+			_nestedCollectionRoutes.getNestedGetPageFunctionOptional();
+
+		return optional.map(
+			nestedGetPageFunction ->
+				httpServletRequest -> path -> identifier -> _bulkhead.execute(
+					() -> nestedGetPageFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					)));
+	}
+
+	@Override
+	public Optional<NestedGetPagesFunction<T, U>>
+		getNestedGetPagesFunctionOptional() {
+
+		Optional<NestedGetPagesFunction<T, U>> optional =
+			_nestedCollectionRoutes.getNestedGetPagesFunctionOptional();
+
+		return optional.map(
+			nestedGetPagesFunction ->
+				httpServletRequest -> list -> _bulkhead.execute(
+					() -> nestedGetPagesFunction.apply(
+						httpServletRequest
+					).apply(
+						list
+					)));
+	}
+
+	private final Bulkhead _bulkhead;
+	private final NestedCollectionRoutes<T, S, U> _nestedCollectionRoutes;
+
+}
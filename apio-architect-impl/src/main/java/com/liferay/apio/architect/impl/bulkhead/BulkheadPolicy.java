@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Represents the concurrency limits a {@link Bulkhead} applies to the routes
+ * of a resource.
+ *
+ * <p>
+ * Routers opt in by adding the {@link #KEY_MAX_CONCURRENT} property to their
+ * OSGi component. The property can also be added to a {@code
+ * CollectionResource}, since its properties are copied to the routers.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class BulkheadPolicy {
+
+	/**
+	 * The router's property that contains the maximum number of calls to the
+	 * router's routes that can run at the same time.
+	 */
+	public static final String KEY_MAX_CONCURRENT =
+		"apio.architect.bulkhead.max.concurrent";
+
+	/**
+	 * The router's property that contains the maximum number of calls that
+	 * can wait for a free slot once the concurrency limit is reached. It's
+	 * {@code 0} by default, so calls over the limit are rejected immediately.
+	 */
+	public static final String KEY_MAX_QUEUED =
+		"apio.architect.bulkhead.max.queued";
+
+	/**
+	 * The router's property that contains the maximum number of milliseconds
+	 * a queued call waits for a free slot before being rejected. It's {@code
+	 * 1000} by default.
+	 */
+	public static final String KEY_QUEUE_TIMEOUT =
+		"apio.architect.bulkhead.queue.timeout";
+
+	/**
+	 * Returns the policy defined by a router's properties, if the router opted
+	 * in for a bulkhead; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  propertyFunction the function that returns a router's property
+	 * @return the policy, if the router opted in; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<BulkheadPolicy> fromProperties(
+		Function<String, Object> propertyFunction) {
+
+		return _getLongOptional(
+			propertyFunction, KEY_MAX_CONCURRENT
+		).filter(
+			maxConcurrent -> maxConcurrent > 0
+		).map(
+			maxConcurrent -> new BulkheadPolicy(
+				maxConcurrent.intValue(),
+				_getLongOptional(
+					propertyFunction, KEY_MAX_QUEUED
+				).filter(
+					maxQueued -> maxQueued >= 0
+				).orElse(
+					0L
+				).intValue(),
+				_getLongOptional(
+					propertyFunction, KEY_QUEUE_TIMEOUT
+				).filter(
+					queueTimeout -> queueTimeout >= 0
+				).orElse(
+					1000L
+				))
+		);
+	}
+
+	public BulkheadPolicy(int maxConcurrent, int maxQueued, long queueTimeout) {
+		_maxConcurrent = maxConcurrent;
+		_maxQueued = maxQueued;
+		_queueTimeout = queueTimeout;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+
+		if (!(object instanceof BulkheadPolicy)) {
+			return false;
+		}
+
+		BulkheadPolicy bulkheadPolicy = (BulkheadPolicy)object;
+
+		if ((_maxConcurrent == bulkheadPolicy._maxConcurrent) &&
+			(_maxQueued == bulkheadPolicy._maxQueued) &&
+			(_queueTimeout == bulkheadPolicy._queueTimeout)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the maximum number of calls that can run at the same time.
+	 *
+	 * @return the maximum number of concurrent calls
+	 */
+	public int getMaxConcurrent() {
+		return _maxConcurrent;
+	}
+
+	/**
+	 * Returns the maximum number of calls that can wait for a free slot.
+	 *
+	 * @return the maximum number of queued calls
+	 */
+	public int getMaxQueued() {
+		return _maxQueued;
+	}
+
+	/**
+	 * Returns the maximum number of milliseconds a queued call waits for a
+	 * free slot.
+	 *
+	 * @return the queue timeout
+	 */
+	public long getQueueTimeout() {
+		return _queueTimeout;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(_maxConcurrent, _maxQueued, _queueTimeout);
+	}
+
+	private static Optional<Long> _getLongOptional(
+		Function<String, Object> propertyFunction, String key) {
+
+		return Optional.ofNullable(
+			propertyFunction.apply(key)
+		).map(
+			String::valueOf
+		).flatMap(
+			value -> Try.fromFallible(
+				() -> Long.parseLong(value)
+			).toOptional()
+		);
+	}
+
+	private final int _maxConcurrent;
+	private final int _maxQueued;
+	private final long _queueTimeout;
+
+}
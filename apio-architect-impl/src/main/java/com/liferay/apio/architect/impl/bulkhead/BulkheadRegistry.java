@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import java.util.Map;
+
+/**
+ * Keeps the {@link Bulkhead} instances of the resources whose routers opted in
+ * through a {@link BulkheadPolicy}, so their state survives the recomputation
+ * of the routes.
+ *
+ * @author Alejandro Hernández
+ */
+public interface BulkheadRegistry {
+
+	/**
+	 * Returns the bulkhead with the provided key. A new bulkhead is created if
+	 * none exists, or if the existing one has a different policy.
+	 *
+	 * @param  key the bulkhead's key
+	 * @param  bulkheadPolicy the bulkhead's policy
+	 * @return the bulkhead
+	 */
+	public Bulkhead getBulkhead(String key, BulkheadPolicy bulkheadPolicy);
+
+	/**
+	 * Returns the current statistics of every bulkhead, keyed by the
+	 * bulkhead's key.
+	 *
+	 * @return the bulkheads' statistics
+	 */
+	public Map<String, BulkheadStats> getStats();
+
+	/**
+	 * Removes the bulkhead with the provided key, if it exists.
+	 *
+	 * @param key the bulkhead's key
+	 */
+	public void remove(String key);
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Default {@link BulkheadRegistry} implementation.
+ *
+ * <p>
+ * Bulkheads are keyed by the URL template of the routes they protect: {@code
+ * <resource>} for collection routes, {@code <resource>/{id}} for item routes,
+ * and {@code <resource>/{id}/<nested>} for nested collection routes.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class BulkheadRegistryImpl implements BulkheadRegistry {
+
+	@Override
+	public Bulkhead getBulkhead(String key, BulkheadPolicy bulkheadPolicy) {
+		return _bulkheads.compute(
+			key,
+			(__, bulkhead) -> {
+				if ((bulkhead != null) &&
+					bulkheadPolicy.equals(bulkhead.getBulkheadPolicy())) {
+
+					return bulkhead;
+				}
+
+				return new Bulkhead(key, bulkheadPolicy);
+			});
+	}
+
+	@Override
+	public Map<String, BulkheadStats> getStats() {
+		Map<String, BulkheadStats> stats = new TreeMap<>();
+
+		_bulkheads.forEach(
+			(key, bulkhead) -> stats.put(key, bulkhead.getStats()));
+
+		return stats;
+	}
+
+	@Override
+	public void remove(String key) {
+		_bulkheads.remove(key);
+	}
+
+	private final Map<String, Bulkhead> _bulkheads = new ConcurrentHashMap<>();
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+/**
+ * Represents a snapshot of a {@link Bulkhead}'s statistics.
+ *
+ * @author Alejandro Hernández
+ */
+public class BulkheadStats {
+
+	public BulkheadStats(
+		int activeCount, int queuedCount, long rejectedCount,
+		BulkheadPolicy bulkheadPolicy) {
+
+		_activeCount = activeCount;
+		_queuedCount = queuedCount;
+		_rejectedCount = rejectedCount;
+		_bulkheadPolicy = bulkheadPolicy;
+	}
+
+	/**
+	 * Returns the number of calls running when the snapshot was taken.
+	 *
+	 * @return the number of active calls
+	 */
+	public int getActiveCount() {
+		return _activeCount;
+	}
+
+	/**
+	 * Returns the policy the bulkhead applies.
+	 *
+	 * @return the bulkhead's policy
+	 */
+	public BulkheadPolicy getBulkheadPolicy() {
+		return _bulkheadPolicy;
+	}
+
+	/**
+	 * Returns the number of calls waiting for a free slot when the snapshot
+	 * was taken.
+	 *
+	 * @return the number of queued calls
+	 */
+	public int getQueuedCount() {
+		return _queuedCount;
+	}
+
+	/**
+	 * Returns the number of calls rejected since the bulkhead was created.
+	 *
+	 * @return the number of rejected calls
+	 */
+	public long getRejectedCount() {
+		return _rejectedCount;
+	}
+
+	private final int _activeCount;
+	private final BulkheadPolicy _bulkheadPolicy;
+	private final int _queuedCount;
+	private final long _rejectedCount;
+
+}
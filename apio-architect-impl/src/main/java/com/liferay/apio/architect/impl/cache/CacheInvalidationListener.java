@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import com.liferay.apio.architect.impl.invalidation.InvalidationBus;
+import com.liferay.apio.architect.impl.invalidation.InvalidationEvent;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Subscribes the {@link ModelCache} and the {@link ResponseCache} to the
+ * {@link InvalidationBus}, so writes made on any node invalidate the cached
+ * models and responses of this one.
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class CacheInvalidationListener {
+
+	@Activate
+	public void activate() {
+		_invalidationBus.subscribe(_invalidationFunction);
+	}
+
+	@Deactivate
+	public void deactivate() {
+		_invalidationBus.unsubscribe(_invalidationFunction);
+	}
+
+	private Consumer<InvalidationEvent> _getInvalidationEventConsumer(
+		HttpServletRequest httpServletRequest) {
+
+		BiConsumer<String, Object> biConsumer =
+			_modelCache.getInvalidationBiConsumer(httpServletRequest);
+
+		return invalidationEvent -> {
+			String name = invalidationEvent.getName();
+
+			Optional<Object> optional =
+				invalidationEvent.getIdentifierOptional();
+
+			optional.ifPresent(
+				identifier -> biConsumer.accept(name, identifier));
+
+			_responseCache.invalidate(name);
+		};
+	}
+
+	private final Function<HttpServletRequest, Consumer<InvalidationEvent>>
+		_invalidationFunction = this::_getInvalidationEventConsumer;
+
+	@Reference
+	private InvalidationBus _invalidationBus;
+
+	@Reference
+	private ModelCache _modelCache;
+
+	@Reference
+	private ResponseCache _responseCache;
+
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+/**
+ * Represents a serialized response stored in the {@link ResponseCache}. Each
+ * media type is stored under its own key, so responses in binary JSON formats
+ * keep their encoded bytes and are never generated again.
+ *
+ * @author Alejandro Hernández
+ */
+public class CachedResponse {
+
+	public CachedResponse(Object entity, String mediaType) {
+		_entity = entity;
+		_mediaType = mediaType;
+	}
+
+	/**
+	 * Returns the response's entity: the JSON document as a {@code String},
+	 * or the encoded document as a {@code byte[]} for binary JSON media types.
+	 *
+	 * @return the response's entity
+	 */
+	public Object getEntity() {
+		return _entity;
+	}
+
+	/**
+	 * Returns the media type the response was serialized with.
+	 *
+	 * @return the response's media type
+	 */
+	public String getMediaType() {
+		return _mediaType;
+	}
+
+	private final Object _entity;
+	private final String _mediaType;
+
+}
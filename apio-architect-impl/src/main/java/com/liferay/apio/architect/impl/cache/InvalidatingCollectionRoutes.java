@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.CreateItemFunction;
+import com.liferay.apio.architect.alias.routes.GetPageAsyncFunction;
+import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Optional;
+
+/**
+ * Decorates the {@link CollectionRoutes} of a resource so every successful
+ * creation invalidates the cached representations of the collection.
+ *
+ * @author Alejandro Hernández
+ */
+public class InvalidatingCollectionRoutes<T, S>
+	implements CollectionRoutes<T, S> {
+
+	public InvalidatingCollectionRoutes(
+		CollectionRoutes<T, S> collectionRoutes, Runnable invalidationRunnable) {
+
+		_collectionRoutes = collectionRoutes;
+		_invalidationRunnable = invalidationRunnable;
+	}
+
+	@Override
+	public Optional<BatchCreateItemFunction<S>>
+		getBatchCreateItemFunctionOptional() {
+
+		Optional<BatchCreateItemFunction<S>> optional =
+			_collectionRoutes.getBatchCreateItemFunctionOptional();
+
+		return optional.map(this::_getInvalidatingBatchCreateItemFunction);
+	}
+
+	@Override
+	public Optional<CreateItemFunction<T>> getCreateItemFunctionOptional() {
+		Optional<CreateItemFunction<T>> optional =
+			_collectionRoutes.getCreateItemFunctionOptional();
+
+		return optional.map(this::_getInvalidatingCreateItemFunction);
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _collectionRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<GetPageAsyncFunction<T>>
+		getGetPageAsyncFunctionOptional() {
+
+		return _collectionRoutes.getGetPageAsyncFunctionOptional();
+	}
+
+	@Override
+	public Optional<GetPageFunction<T>> getGetPageFunctionOptional() {
+		return _collectionRoutes.getGetPageFunctionOptional();
+	}
+
+	private BatchCreateItemFunction<S> _getInvalidatingBatchCreateItemFunction(
+		BatchCreateItemFunction<S> batchCreateItemFunction) {
+
+		return httpServletRequest -> body -> {
+			Try<BatchResult<S>> batchResultTry = batchCreateItemFunction.apply(
+				httpServletRequest
+			).apply(
+				body
+			);
+
+			batchResultTry.ifSuccess(__ -> _invalidationRunnable.run());
+
+			return batchResultTry;
+		};
+	}
+
+	private CreateItemFunction<T> _getInvalidatingCreateItemFunction(
+		CreateItemFunction<T> createItemFunction) {
+
+		return httpServletRequest -> body -> {
+			Try<SingleModel<T>> singleModelTry = createItemFunction.apply(
+				httpServletRequest
+			).apply(
+				body
+			);
+
+			singleModelTry.ifSuccess(__ -> _invalidationRunnable.run());
+
+			return singleModelTry;
+		};
+	}
+
+	private final CollectionRoutes<T, S> _collectionRoutes;
+	private final Runnable _invalidationRunnable;
+
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
+import com.liferay.apio.architect.alias.routes.GetItemAsyncFunction;
+import com.liferay.apio.architect.alias.routes.GetItemFunction;
+import com.liferay.apio.architect.alias.routes.GetItemsFunction;
+import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Decorates the {@link ItemRoutes} of a resource so every successful update or
+ * removal invalidates the cached representations of the model.
+ *
+ * @author Alejandro Hernández
+ */
+public class InvalidatingItemRoutes<T, S> implements ItemRoutes<T, S> {
+
+	public InvalidatingItemRoutes(
+		ItemRoutes<T, S> itemRoutes,
+		Function<HttpServletRequest, Consumer<S>> invalidationFunction) {
+
+		_itemRoutes = itemRoutes;
+		_invalidationFunction = invalidationFunction;
+	}
+
+	@Override
+	public Optional<DeleteItemConsumer<S>> getDeleteConsumerOptional() {
+		Optional<DeleteItemConsumer<S>> optional =
+			_itemRoutes.getDeleteConsumerOptional();
+
+		return optional.map(this::_getInvalidatingDeleteItemConsumer);
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _itemRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<GetItemAsyncFunction<T, S>> getItemAsyncFunctionOptional() {
+		return _itemRoutes.getItemAsyncFunctionOptional();
+	}
+
+	@Override
+	public Optional<GetItemFunction<T, S>> getItemFunctionOptional() {
+		return _itemRoutes.getItemFunctionOptional();
+	}
+
+	@Override
+	public Optional<GetItemsFunction<T, S>> getItemsFunctionOptional() {
+		return _itemRoutes.getItemsFunctionOptional();
+	}
+
+	@Override
+	public Optional<UpdateItemFunction<T, S>> getUpdateItemFunctionOptional() {
+		Optional<UpdateItemFunction<T, S>> optional =
+			_itemRoutes.getUpdateItemFunctionOptional();
+
+		return optional.map(this::_getInvalidatingUpdateItemFunction);
+	}
+
+	private DeleteItemConsumer<S> _getInvalidatingDeleteItemConsumer(
+		DeleteItemConsumer<S> deleteItemConsumer) {
+
+		return httpServletRequest -> {
+			ThrowableConsumer<S> throwableConsumer = deleteItemConsumer.apply(
+				httpServletRequest);
+
+			Consumer<S> consumer = _invalidationFunction.apply(
+				httpServletRequest);
+
+			return s -> {
+				throwableConsumer.accept(s);
+
+				consumer.accept(s);
+			};
+		};
+	}
+
+	private UpdateItemFunction<T, S> _getInvalidatingUpdateItemFunction(
+		UpdateItemFunction<T, S> updateItemFunction) {
+
+		return httpServletRequest -> {
+			Function<S, Function<Body, Try<SingleModel<T>>>> function =
+				updateItemFunction.apply(httpServletRequest);
+
+			Consumer<S> consumer = _invalidationFunction.apply(
+				httpServletRequest);
+
+			return s -> body -> {
+				Try<SingleModel<T>> singleModelTry = function.apply(
+					s
+				).apply(
+					body
+				);
+
+				singleModelTry.ifSuccess(__ -> consumer.accept(s));
+
+				return singleModelTry;
+			};
+		};
+	}
+
+	private final Function<HttpServletRequest, Consumer<S>>
+		_invalidationFunction;
+	private final ItemRoutes<T, S> _itemRoutes;
+
+}
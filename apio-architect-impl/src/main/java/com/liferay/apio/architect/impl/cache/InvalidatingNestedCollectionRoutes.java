@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageAsyncFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPagesFunction;
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Decorates the {@link NestedCollectionRoutes} of a resource so every
+ * successful creation invalidates the cached representations of the nested
+ * resource's collection. The invalidation receives the parent model's
+ * identifier.
+ *
+ * @author Alejandro Hernández
+ */
+public class InvalidatingNestedCollectionRoutes<T, S, U>
+	implements NestedCollectionRoutes<T, S, U> {
+
+	public InvalidatingNestedCollectionRoutes(
+		NestedCollectionRoutes<T, S, U> nestedCollectionRoutes,
+		BiConsumer<HttpServletRequest, U> invalidationBiConsumer) {
+
+		_nestedCollectionRoutes = nestedCollectionRoutes;
+		_invalidationBiConsumer = invalidationBiConsumer;
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _nestedCollectionRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<NestedBatchCreateItemFunction<S, U>>
+		getNestedBatchCreateItemFunctionOptional() {
+
+		Optional<NestedBatchCreateItemFunction<S, U>> optional =
+			_nestedCollectionRoutes.getNestedBatchCreateItemFunctionOptional();
+
+		return optional.map(
+			this::_getInvalidatingNestedBatchCreateItemFunction);
+	}
+
+	@Override
+	public Optional<NestedCreateItemFunction<T, U>>
+		getNestedCreateItemFunctionOptional() {
+
+		Optional<NestedCreateItemFunction<T, U>> optional =
+			_nestedCollectionRoutes.getNestedCreateItemFunctionOptional();
+
+		return optional.map(this::_getInvalidatingNestedCreateItemFunction);
+	}
+
+	@Override
+	public Optional<NestedGetPageAsyncFunction<T, U>>
+		getNestedGetPageAsyncFunctionOptional() {
+
+		return _nestedCollectionRoutes.getNestedGetPageAsyncFunctionOptional();
+	}
+
+	@Override
+	public Optional<NestedGetPageFunction<T, U>>
+		getNestedGetPageFunctionOptional() {
+
+		return _nestedCollectionRoutes.getNestedGetPageFunctionOptional();
+	}
+
+	@Override
+	public Optional<NestedGetPagesFunction<T, U>>
+		getNestedGetPagesFunctionOptional() {
+
+		return _nestedCollectionRoutes.getNestedGetPagesFunctionOptional();
+	}
+
+	private NestedBatchCreateItemFunction<S, U>
+		_getInvalidatingNestedBatchCreateItemFunction(
+			NestedBatchCreateItemFunction<S, U> nestedBatchCreateItemFunction) {
+
+		return httpServletRequest -> body -> u -> {
+			Try<BatchResult<S>> batchResultTry =
+				nestedBatchCreateItemFunction.apply(
+					httpServletRequest
+				).apply(
+					body
+				).apply(
+					u
+				);
+
+			batchResultTry.ifSuccess(
+				__ -> _invalidationBiConsumer.accept(httpServletRequest, u));
+
+			return batchResultTry;
+		};
+	}
+
+	private NestedCreateItemFunction<T, U>
+		_getInvalidatingNestedCreateItemFunction(
+			NestedCreateItemFunction<T, U> nestedCreateItemFunction) {
+
+		return httpServletRequest -> u -> body -> {
+			Try<SingleModel<T>> singleModelTry = nestedCreateItemFunction.apply(
+				httpServletRequest
+			).apply(
+				u
+			).apply(
+				body
+			);
+
+			singleModelTry.ifSuccess(
+				__ -> _invalidationBiConsumer.accept(httpServletRequest, u));
+
+			return singleModelTry;
+		};
+	}
+
+	private final BiConsumer<HttpServletRequest, U> _invalidationBiConsumer;
+	private final NestedCollectionRoutes<T, S, U> _nestedCollectionRoutes;
+
+}
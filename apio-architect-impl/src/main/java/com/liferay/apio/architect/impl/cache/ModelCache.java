@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Caches the {@link SingleModel} instances retrieved through the item routes'
+ * {@link com.liferay.apio.architect.alias.routes.GetItemFunction}.
+ *
+ * <p>
+ * Implementations must, at least, memoize every model retrieved during a
+ * request, so the same model is only fetched once per response. They can also
+ * share models between requests, as long as they're invalidated when the model
+ * is updated or removed.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public interface ModelCache {
+
+	/**
+	 * Returns a bi-consumer that removes the single model with the provided
+	 * name and identifier from the cache. The request's models are looked up
+	 * when this method is called, so the bi-consumer can invalidate models
+	 * from threads other than the request's one.
+	 *
+	 * @param  httpServletRequest the current request, or {@code null}
+	 * @return the bi-consumer that receives the name and identifier of the
+	 *         models to remove
+	 * @review
+	 */
+	public BiConsumer<String, Object> getInvalidationBiConsumer(
+		HttpServletRequest httpServletRequest);
+
+	/**
+	 * Returns a consumer that caches single models with the provided name and
+	 * identifier, replacing the cached one, if any. The request is only read
+	 * when this method is called, so the consumer can be called from any
+	 * thread, like the one completing an asynchronous fetch.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the resource's name
+	 * @param  identifier the model's identifier
+	 * @return the consumer that caches the single models
+	 * @review
+	 */
+	public <T> Consumer<SingleModel<T>> getSingleModelConsumer(
+		HttpServletRequest httpServletRequest, String name, Object identifier);
+
+	/**
+	 * Returns the single model with the provided name and identifier, using the
+	 * supplier to retrieve it if it isn't cached yet.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the resource's name
+	 * @param  identifier the model's identifier
+	 * @param  supplier the supplier used to retrieve the single model
+	 * @return the single model, if it could be retrieved; a {@code Failure}
+	 *         otherwise
+	 */
+	public <T> Try<SingleModel<T>> getSingleModelTry(
+		HttpServletRequest httpServletRequest, String name, Object identifier,
+		Supplier<Try<SingleModel<T>>> supplier);
+
+	/**
+	 * Returns the cache's current statistics.
+	 *
+	 * @return the cache's statistics
+	 */
+	public ModelCacheStats getStats();
+
+	/**
+	 * Removes the single model with the provided name and identifier from the
+	 * cache.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param name the resource's name
+	 * @param identifier the model's identifier
+	 */
+	public void invalidate(
+		HttpServletRequest httpServletRequest, String name, Object identifier);
+
+	/**
+	 * Removes every shared single model from the cache.
+	 */
+	public void invalidateAll();
+
+}
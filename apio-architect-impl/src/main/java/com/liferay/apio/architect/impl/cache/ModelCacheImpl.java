@@ -0,0 +1,397 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import static com.liferay.apio.architect.impl.request.PaginatedHttpServletRequest.getPageAttributeName;
+import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getLong;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Default {@link ModelCache} implementation.
+ *
+ * <p>
+ * Every model is memoized in a request attribute, so it's only fetched once
+ * per response. If the {@link #SHARED_ENABLED} property is {@code true}, the
+ * models are also kept in a shared cache bounded by the {@link
+ * #SHARED_MAX_SIZE} and {@link #SHARED_TTL} properties. Since single models
+ * contain operations that depend on the request's {@link Credentials}, shared
+ * entries are partitioned by the credentials' value.
+ * </p>
+ *
+ * <p>
+ * Invalidating a model increments its generation. A model fetched while its
+ * generation changed isn't stored in the shared cache, so a fetch that
+ * started before an invalidation can't store a stale model after it.
+ * Generations are kept in a fixed number of counters, shared by the models
+ * whose keys collide, so a collision only discards more fetches.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class ModelCacheImpl implements ModelCache {
+
+	/**
+	 * The property that enables the shared cache. It's disabled by default.
+	 */
+	public static final String SHARED_ENABLED = "model.cache.shared.enabled";
+
+	/**
+	 * The property with the maximum number of resources held by the shared
+	 * cache.
+	 */
+	public static final String SHARED_MAX_SIZE = "model.cache.shared.max.size";
+
+	/**
+	 * The property with the number of milliseconds a shared entry is valid.
+	 */
+	public static final String SHARED_TTL = "model.cache.shared.ttl";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_sharedEnabled = getBoolean(properties, SHARED_ENABLED, false);
+		_sharedMaxSize = getInteger(properties, SHARED_MAX_SIZE, 1000);
+		_sharedTTL = getLong(properties, SHARED_TTL, 60000);
+
+		invalidateAll();
+	}
+
+	@Override
+	public BiConsumer<String, Object> getInvalidationBiConsumer(
+		HttpServletRequest httpServletRequest) {
+
+		Map<CacheKey, Try<SingleModel<?>>> requestModels = _getRequestModels(
+			httpServletRequest);
+
+		return (name, identifier) -> {
+			CacheKey cacheKey = new CacheKey(name, identifier);
+
+			requestModels.remove(cacheKey);
+
+			synchronized (_sharedModels) {
+				_generations.incrementAndGet(_getGenerationIndex(cacheKey));
+
+				if (_sharedModels.remove(cacheKey) != null) {
+					_invalidationCount.increment();
+				}
+			}
+		};
+	}
+
+	@Override
+	public <T> Consumer<SingleModel<T>> getSingleModelConsumer(
+		HttpServletRequest httpServletRequest, String name, Object identifier) {
+
+		CacheKey cacheKey = new CacheKey(name, identifier);
+
+		Map<CacheKey, Try<SingleModel<?>>> requestModels = _getRequestModels(
+			httpServletRequest);
+
+		if (!_sharedEnabled) {
+			return singleModel -> requestModels.put(
+				cacheKey, Try.success(singleModel));
+		}
+
+		Object credentialsKey = _getCredentialsKey(httpServletRequest);
+
+		long generation = _getGeneration(cacheKey);
+
+		return singleModel -> {
+			requestModels.put(cacheKey, Try.success(singleModel));
+
+			_putSharedSingleModel(
+				cacheKey, credentialsKey, singleModel, generation,
+				System.currentTimeMillis());
+		};
+	}
+
+	@Override
+	public <T> Try<SingleModel<T>> getSingleModelTry(
+		HttpServletRequest httpServletRequest, String name, Object identifier,
+		Supplier<Try<SingleModel<T>>> supplier) {
+
+		CacheKey cacheKey = new CacheKey(name, identifier);
+
+		Map<CacheKey, Try<SingleModel<?>>> requestModels = _getRequestModels(
+			httpServletRequest);
+
+		Try<SingleModel<?>> requestTry = requestModels.get(cacheKey);
+
+		if (requestTry != null) {
+			_requestHitCount.increment();
+
+			return unsafeCast(requestTry);
+		}
+
+		Try<SingleModel<T>> singleModelTry = _getSharedSingleModelTry(
+			httpServletRequest, cacheKey, supplier);
+
+		requestModels.put(cacheKey, unsafeCast(singleModelTry));
+
+		return singleModelTry;
+	}
+
+	@Override
+	public ModelCacheStats getStats() {
+		int size;
+
+		synchronized (_sharedModels) {
+			size = _sharedModels.size();
+		}
+
+		return new ModelCacheStats(
+			_requestHitCount.sum(), _sharedHitCount.sum(), _missCount.sum(),
+			_evictionCount.sum(), _invalidationCount.sum(), size);
+	}
+
+	@Override
+	public void invalidate(
+		HttpServletRequest httpServletRequest, String name, Object identifier) {
+
+		BiConsumer<String, Object> biConsumer = getInvalidationBiConsumer(
+			httpServletRequest);
+
+		biConsumer.accept(name, identifier);
+	}
+
+	@Override
+	public void invalidateAll() {
+		synchronized (_sharedModels) {
+			for (int i = 0; i < _generations.length(); i++) {
+				_generations.incrementAndGet(i);
+			}
+
+			_sharedModels.clear();
+		}
+	}
+
+	private Object _getCredentialsKey(HttpServletRequest httpServletRequest) {
+		return _providerManager.provideOptional(
+			httpServletRequest, Credentials.class
+		).map(
+			Credentials::get
+		).orElse(
+			""
+		);
+	}
+
+	private long _getGeneration(CacheKey cacheKey) {
+		return _generations.get(_getGenerationIndex(cacheKey));
+	}
+
+	private int _getGenerationIndex(CacheKey cacheKey) {
+		return (cacheKey.hashCode() & Integer.MAX_VALUE) % _GENERATIONS_SIZE;
+	}
+
+	private Map<CacheKey, Try<SingleModel<?>>> _getRequestModels(
+		HttpServletRequest httpServletRequest) {
+
+		if (httpServletRequest == null) {
+			return new HashMap<>();
+		}
+
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (attribute != null) {
+			return unsafeCast(attribute);
+		}
+
+		Map<CacheKey, Try<SingleModel<?>>> requestModels =
+			new ConcurrentHashMap<>();
+
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, requestModels);
+
+		return requestModels;
+	}
+
+	private <T> Try<SingleModel<T>> _getSharedSingleModelTry(
+		HttpServletRequest httpServletRequest, CacheKey cacheKey,
+		Supplier<Try<SingleModel<T>>> supplier) {
+
+		if (!_sharedEnabled) {
+			_missCount.increment();
+
+			return supplier.get();
+		}
+
+		Object credentialsKey = _getCredentialsKey(httpServletRequest);
+
+		long generation = _getGeneration(cacheKey);
+
+		long now = System.currentTimeMillis();
+
+		synchronized (_sharedModels) {
+			Map<Object, CacheEntry> cacheEntries = _sharedModels.get(cacheKey);
+
+			if (cacheEntries != null) {
+				CacheEntry cacheEntry = cacheEntries.get(credentialsKey);
+
+				if ((cacheEntry != null) && (cacheEntry._expiration > now)) {
+					_sharedHitCount.increment();
+
+					return Try.success(unsafeCast(cacheEntry._singleModel));
+				}
+
+				if (cacheEntry != null) {
+					cacheEntries.remove(credentialsKey);
+
+					_evictionCount.increment();
+				}
+			}
+		}
+
+		_missCount.increment();
+
+		Try<SingleModel<T>> singleModelTry = supplier.get();
+
+		singleModelTry.ifSuccess(
+			singleModel -> _putSharedSingleModel(
+				cacheKey, credentialsKey, singleModel, generation, now));
+
+		return singleModelTry;
+	}
+
+	private void _putSharedSingleModel(
+		CacheKey cacheKey, Object credentialsKey, SingleModel<?> singleModel,
+		long generation, long now) {
+
+		CacheEntry cacheEntry = new CacheEntry(singleModel, now + _sharedTTL);
+
+		synchronized (_sharedModels) {
+			if (_getGeneration(cacheKey) != generation) {
+				return;
+			}
+
+			Map<Object, CacheEntry> cacheEntries =
+				_sharedModels.computeIfAbsent(cacheKey, __ -> new HashMap<>());
+
+			cacheEntries.put(credentialsKey, cacheEntry);
+		}
+	}
+
+	private static final String _ATTRIBUTE_NAME = getPageAttributeName(
+		ModelCacheImpl.class.getName() + "#requestModels");
+
+	private static final int _GENERATIONS_SIZE = 256;
+
+	private final LongAdder _evictionCount = new LongAdder();
+	private final AtomicLongArray _generations = new AtomicLongArray(
+		_GENERATIONS_SIZE);
+	private final LongAdder _invalidationCount = new LongAdder();
+	private final LongAdder _missCount = new LongAdder();
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private final LongAdder _requestHitCount = new LongAdder();
+	private volatile boolean _sharedEnabled;
+	private final LongAdder _sharedHitCount = new LongAdder();
+	private volatile int _sharedMaxSize = 1000;
+
+	private final Map<CacheKey, Map<Object, CacheEntry>> _sharedModels =
+		new LinkedHashMap<CacheKey, Map<Object, CacheEntry>>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<CacheKey, Map<Object, CacheEntry>> eldest) {
+
+				if (size() > _sharedMaxSize) {
+					_evictionCount.increment();
+
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+
+	private volatile long _sharedTTL = 60000;
+
+	private static class CacheEntry {
+
+		private CacheEntry(SingleModel<?> singleModel, long expiration) {
+			_singleModel = singleModel;
+			_expiration = expiration;
+		}
+
+		private final long _expiration;
+		private final SingleModel<?> _singleModel;
+
+	}
+
+	private static class CacheKey {
+
+		private CacheKey(String name, Object identifier) {
+			_name = name;
+			_identifier = identifier;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey cacheKey = (CacheKey)object;
+
+			if (Objects.equals(_name, cacheKey._name) &&
+				Objects.equals(_identifier, cacheKey._identifier)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_name, _identifier);
+		}
+
+		private final Object _identifier;
+		private final String _name;
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+/**
+ * Represents a snapshot of a {@link ModelCache}'s statistics.
+ *
+ * @author Alejandro Hernández
+ */
+public class ModelCacheStats {
+
+	public ModelCacheStats(
+		long requestHitCount, long sharedHitCount, long missCount,
+		long evictionCount, long invalidationCount, int size) {
+
+		_requestHitCount = requestHitCount;
+		_sharedHitCount = sharedHitCount;
+		_missCount = missCount;
+		_evictionCount = evictionCount;
+		_invalidationCount = invalidationCount;
+		_size = size;
+	}
+
+	/**
+	 * Returns the number of shared entries evicted because of the cache's size
+	 * or time-to-live bounds.
+	 *
+	 * @return the number of evicted entries
+	 */
+	public long getEvictionCount() {
+		return _evictionCount;
+	}
+
+	/**
+	 * Returns the total number of hits, both request-scoped and shared.
+	 *
+	 * @return the total number of hits
+	 */
+	public long getHitCount() {
+		return _requestHitCount + _sharedHitCount;
+	}
+
+	/**
+	 * Returns the ratio of lookups served from the cache, or {@code 0} if no
+	 * lookup has been made yet.
+	 *
+	 * @return the cache's hit ratio
+	 */
+	public double getHitRate() {
+		long requestCount = getHitCount() + _missCount;
+
+		if (requestCount == 0) {
+			return 0;
+		}
+
+		return (double)getHitCount() / requestCount;
+	}
+
+	/**
+	 * Returns the number of entries removed because their model was updated or
+	 * deleted.
+	 *
+	 * @return the number of invalidated entries
+	 */
+	public long getInvalidationCount() {
+		return _invalidationCount;
+	}
+
+	/**
+	 * Returns the number of lookups that had to call the item route.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMissCount() {
+		return _missCount;
+	}
+
+	/**
+	 * Returns the number of lookups served from the request-scoped memo.
+	 *
+	 * @return the number of request-scoped hits
+	 */
+	public long getRequestHitCount() {
+		return _requestHitCount;
+	}
+
+	/**
+	 * Returns the number of lookups served from the shared cache.
+	 *
+	 * @return the number of shared hits
+	 */
+	public long getSharedHitCount() {
+		return _sharedHitCount;
+	}
+
+	/**
+	 * Returns the number of resources currently held in the shared cache.
+	 *
+	 * @return the shared cache's size
+	 */
+	public int getSize() {
+		return _size;
+	}
+
+	private final long _evictionCount;
+	private final long _invalidationCount;
+	private final long _missCount;
+	private final long _requestHitCount;
+	private final long _sharedHitCount;
+	private final int _size;
+
+}
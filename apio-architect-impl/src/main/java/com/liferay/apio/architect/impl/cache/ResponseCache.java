@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Caches the serialized responses of collection pages, for the resources that
+ * opted in through a {@link ResponseCachePolicy}.
+ *
+ * @author Alejandro Hernández
+ */
+public interface ResponseCache {
+
+	/**
+	 * Discards the mark set on the current request by {@link
+	 * #getCachedResponseOptional(HttpServletRequest, String,
+	 * ResponseCachePolicy, String)}, so its response isn't stored. This should
+	 * be called for responses that mustn't be cached, such as those with a
+	 * status other than {@code 200 OK}.
+	 *
+	 * @param httpServletRequest the current request
+	 * @review
+	 */
+	public void discardCachedResponse(HttpServletRequest httpServletRequest);
+
+	/**
+	 * Returns the cached response for the current request, if present. If the
+	 * response isn't cached yet, the request is marked so the response can be
+	 * stored with {@link #putCachedResponse(HttpServletRequest, String,
+	 * String)} once it has been written.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the collection resource's name
+	 * @param  responseCachePolicy the resource's cache policy
+	 * @param  mediaType the negotiated media type
+	 * @return the cached response, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<CachedResponse> getCachedResponseOptional(
+		HttpServletRequest httpServletRequest, String name,
+		ResponseCachePolicy responseCachePolicy, String mediaType);
+
+	/**
+	 * Removes every cached response of a collection resource.
+	 *
+	 * @param name the collection resource's name
+	 */
+	public void invalidate(String name);
+
+	/**
+	 * Stores the serialized response of the current request, if it was marked
+	 * as cacheable by {@link #getCachedResponseOptional(HttpServletRequest,
+	 * String, ResponseCachePolicy, String)}.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param mediaType the media type the response was serialized with
+	 * @param entity the response's entity, as described in {@link
+	 *        CachedResponse#getEntity()}
+	 */
+	public void putCachedResponse(
+		HttpServletRequest httpServletRequest, String mediaType, Object entity);
+
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+
+import com.liferay.apio.architect.impl.request.util.RequestKeyUtil;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Default {@link ResponseCache} implementation.
+ *
+ * <p>
+ * Responses are keyed with {@link RequestKeyUtil#getRequestKey(
+ * HttpServletRequest, ProviderManager, String, String, boolean)}, by using the
+ * resource's name and the negotiated media type. The cache is bounded by the
+ * {@link #MAX_SIZE} property, evicting the least recently used responses
+ * first.
+ * </p>
+ *
+ * <p>
+ * Invalidating a resource increments its generation, so every response stored
+ * for a previous generation is discarded the next time it's read. This also
+ * prevents storing a response whose page was retrieved before a concurrent
+ * invalidation.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class ResponseCacheImpl implements ResponseCache {
+
+	/**
+	 * The property with the maximum number of cached responses.
+	 */
+	public static final String MAX_SIZE = "response.cache.max.size";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_maxSize = getInteger(properties, MAX_SIZE, 500);
+
+		synchronized (_cachedResponses) {
+			_cachedResponses.clear();
+		}
+	}
+
+	@Override
+	public void discardCachedResponse(HttpServletRequest httpServletRequest) {
+		httpServletRequest.removeAttribute(_ATTRIBUTE_NAME);
+	}
+
+	@Override
+	public Optional<CachedResponse> getCachedResponseOptional(
+		HttpServletRequest httpServletRequest, String name,
+		ResponseCachePolicy responseCachePolicy, String mediaType) {
+
+		List<Object> key = RequestKeyUtil.getRequestKey(
+			httpServletRequest, _providerManager, name, mediaType,
+			responseCachePolicy.isPartitionByCredentials());
+
+		long generation = _getGeneration(name);
+
+		long now = System.currentTimeMillis();
+
+		synchronized (_cachedResponses) {
+			CacheEntry cacheEntry = _cachedResponses.get(key);
+
+			if (cacheEntry != null) {
+				if ((cacheEntry._generation == generation) &&
+					(cacheEntry._expiration > now)) {
+
+					return Optional.of(cacheEntry._cachedResponse);
+				}
+
+				_cachedResponses.remove(key);
+			}
+		}
+
+		httpServletRequest.setAttribute(
+			_ATTRIBUTE_NAME,
+			new PendingResponse(
+				key, name, generation, now + responseCachePolicy.getTTL()));
+
+		return Optional.empty();
+	}
+
+	@Override
+	public void invalidate(String name) {
+		AtomicLong atomicLong = _generations.computeIfAbsent(
+			name, __ -> new AtomicLong());
+
+		atomicLong.incrementAndGet();
+	}
+
+	@Override
+	public void putCachedResponse(
+		HttpServletRequest httpServletRequest, String mediaType,
+		Object entity) {
+
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (!(attribute instanceof PendingResponse)) {
+			return;
+		}
+
+		httpServletRequest.removeAttribute(_ATTRIBUTE_NAME);
+
+		PendingResponse pendingResponse = (PendingResponse)attribute;
+
+		if (pendingResponse._generation !=
+				_getGeneration(pendingResponse._name)) {
+
+			return;
+		}
+
+		CacheEntry cacheEntry = new CacheEntry(
+			new CachedResponse(entity, mediaType), pendingResponse._generation,
+			pendingResponse._expiration);
+
+		synchronized (_cachedResponses) {
+			_cachedResponses.put(pendingResponse._key, cacheEntry);
+		}
+	}
+
+	private long _getGeneration(String name) {
+		return Optional.ofNullable(
+			_generations.get(name)
+		).map(
+			AtomicLong::get
+		).orElse(
+			0L
+		);
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		ResponseCacheImpl.class.getName() + "#pendingResponse";
+
+	private final Map<List<Object>, CacheEntry> _cachedResponses =
+		new LinkedHashMap<List<Object>, CacheEntry>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<List<Object>, CacheEntry> eldest) {
+
+				if (size() > _maxSize) {
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+
+	private final Map<String, AtomicLong> _generations =
+		new ConcurrentHashMap<>();
+	private volatile int _maxSize = 500;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private static class CacheEntry {
+
+		private CacheEntry(
+			CachedResponse cachedResponse, long generation, long expiration) {
+
+			_cachedResponse = cachedResponse;
+			_generation = generation;
+			_expiration = expiration;
+		}
+
+		private final CachedResponse _cachedResponse;
+		private final long _expiration;
+		private final long _generation;
+
+	}
+
+	private static class PendingResponse {
+
+		private PendingResponse(
+			List<Object> key, String name, long generation, long expiration) {
+
+			_key = key;
+			_name = name;
+			_generation = generation;
+			_expiration = expiration;
+		}
+
+		private final long _expiration;
+		private final long _generation;
+		private final List<Object> _key;
+		private final String _name;
+
+	}
+
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Represents how the responses of a collection resource are cached by the
+ * {@link ResponseCache}.
+ *
+ * <p>
+ * Collection routers opt in by adding the {@link #KEY_TTL} property to their
+ * OSGi component. The property can also be added to a {@code
+ * CollectionResource}, since its properties are copied to the router.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ResponseCachePolicy {
+
+	/**
+	 * The router's property that indicates whether the cached responses must
+	 * be partitioned by the request's {@code Credentials}. It's {@code true}
+	 * by default, and should only be disabled for resources whose
+	 * representation doesn't depend on the current user.
+	 */
+	public static final String KEY_PARTITION_BY_CREDENTIALS =
+		"apio.architect.response.cache.partition.by.credentials";
+
+	/**
+	 * The router's property that contains the number of milliseconds a cached
+	 * response is valid.
+	 */
+	public static final String KEY_TTL = "apio.architect.response.cache.ttl";
+
+	/**
+	 * Returns the policy defined by a router's properties, if the router opted
+	 * in for response caching; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  propertyFunction the function that returns a router's property
+	 * @return the policy, if the router opted in; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<ResponseCachePolicy> fromProperties(
+		Function<String, Object> propertyFunction) {
+
+		return Optional.ofNullable(
+			propertyFunction.apply(KEY_TTL)
+		).map(
+			String::valueOf
+		).flatMap(
+			ttl -> Try.fromFallible(
+				() -> Long.parseLong(ttl)
+			).toOptional()
+		).filter(
+			ttl -> ttl > 0
+		).map(
+			ttl -> new ResponseCachePolicy(
+				ttl,
+				!"false".equals(
+					String.valueOf(
+						propertyFunction.apply(KEY_PARTITION_BY_CREDENTIALS))))
+		);
+	}
+
+	public ResponseCachePolicy(long ttl, boolean partitionByCredentials) {
+		_ttl = ttl;
+		_partitionByCredentials = partitionByCredentials;
+	}
+
+	/**
+	 * Returns the number of milliseconds a cached response is valid.
+	 *
+	 * @return the cached responses' time-to-live
+	 */
+	public long getTTL() {
+		return _ttl;
+	}
+
+	/**
+	 * Returns {@code true} if the cached responses are partitioned by the
+	 * request's credentials.
+	 *
+	 * @return {@code true} if responses are partitioned by credentials; {@code
+	 *         false} otherwise
+	 */
+	public boolean isPartitionByCredentials() {
+		return _partitionByCredentials;
+	}
+
+	private final boolean _partitionByCredentials;
+	private final long _ttl;
+
+}
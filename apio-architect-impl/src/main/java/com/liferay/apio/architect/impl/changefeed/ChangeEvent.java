@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+import java.util.Optional;
+
+/**
+ * Represents a change made to a model by a successful creation, update or
+ * removal.
+ *
+ * @author Alejandro Hernández
+ */
+public class ChangeEvent {
+
+	/**
+	 * Creates a change of a model of a root resource.
+	 *
+	 * @param type the change's type
+	 * @param name the resource's name
+	 * @param identifier the model's identifier
+	 */
+	public ChangeEvent(Type type, String name, Object identifier) {
+		this(type, name, identifier, null, null);
+	}
+
+	/**
+	 * Creates a change of a model created inside a parent model's nested
+	 * collection.
+	 *
+	 * @param type the change's type
+	 * @param name the nested resource's name
+	 * @param identifier the model's identifier
+	 * @param parentName the parent resource's name
+	 * @param parentIdentifier the parent model's identifier
+	 */
+	public ChangeEvent(
+		Type type, String name, Object identifier, String parentName,
+		Object parentIdentifier) {
+
+		_type = type;
+		_name = name;
+		_identifier = identifier;
+		_parentName = parentName;
+		_parentIdentifier = parentIdentifier;
+	}
+
+	/**
+	 * Returns the changed model's identifier.
+	 *
+	 * @return the model's identifier
+	 */
+	public Object getIdentifier() {
+		return _identifier;
+	}
+
+	/**
+	 * Returns the name of the changed model's resource.
+	 *
+	 * @return the resource's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns the parent model's identifier, if the model was created inside a
+	 * nested collection; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the parent model's identifier, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Object> getParentIdentifierOptional() {
+		return Optional.ofNullable(_parentIdentifier);
+	}
+
+	/**
+	 * Returns the parent resource's name, if the model was created inside a
+	 * nested collection; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the parent resource's name, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getParentNameOptional() {
+		return Optional.ofNullable(_parentName);
+	}
+
+	/**
+	 * Returns the change's type.
+	 *
+	 * @return the change's type
+	 */
+	public Type getType() {
+		return _type;
+	}
+
+	/**
+	 * The types of change.
+	 */
+	public enum Type {
+
+		CREATED, DELETED, UPDATED
+
+	}
+
+	private final Object _identifier;
+	private final String _name;
+	private final Object _parentIdentifier;
+	private final String _parentName;
+	private final Type _type;
+
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Publishes the changes made to the models of the API to the subscribers of
+ * the change feeds of their collections.
+ *
+ * <p>
+ * Changes are recorded while a request is being processed and are published
+ * once its response has been written, so they can carry the model's
+ * representation.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public interface ChangeFeed {
+
+	/**
+	 * Returns a consumer that records the changes made while processing the
+	 * request. It must be called on the request's thread, but the consumer
+	 * can be used from any thread, for example, by the items of a batch
+	 * operation. If there's no request, the changes are published
+	 * immediately.
+	 *
+	 * @param  httpServletRequest the current request, or {@code null}
+	 * @return the consumer that records the request's changes
+	 */
+	public Consumer<ChangeEvent> getChangeEventConsumer(
+		HttpServletRequest httpServletRequest);
+
+	/**
+	 * Returns the changes recorded while processing the request that haven't
+	 * been published yet.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's unpublished changes
+	 */
+	public List<ChangeEvent> getChangeEvents(
+		HttpServletRequest httpServletRequest);
+
+	/**
+	 * Returns the maximum size, in bytes, of the representations attached to
+	 * the notifications. Returns {@code 0} if representations mustn't be
+	 * attached.
+	 *
+	 * @return the maximum size of the representations
+	 */
+	public int getRepresentationMaxSize();
+
+	/**
+	 * Publishes the changes recorded while processing the request.
+	 *
+	 * @param httpServletRequest the current request
+	 */
+	public void publish(HttpServletRequest httpServletRequest);
+
+	/**
+	 * Publishes the changes recorded while processing the request, attaching
+	 * the representation written in its response if only one model changed.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param representation the JSON representation written in the response
+	 */
+	public void publish(
+		HttpServletRequest httpServletRequest, byte[] representation);
+
+	/**
+	 * Records a change made while processing the request. If there's no
+	 * request, the change is published immediately.
+	 *
+	 * @param httpServletRequest the current request, or {@code null}
+	 * @param changeEvent the change
+	 */
+	public void record(
+		HttpServletRequest httpServletRequest, ChangeEvent changeEvent);
+
+	/**
+	 * Subscribes to the changes of a collection.
+	 *
+	 * @param  name the collection's resource name
+	 * @param  sendFunction the non-blocking function that sends each
+	 *         notification to the subscriber
+	 * @param  closeRunnable the function that closes the subscriber's
+	 *         connection
+	 * @return the subscriber
+	 */
+	public ChangeFeedSubscriber subscribe(
+		String name,
+		Function<ChangeNotification, CompletionStage<?>> sendFunction,
+		Runnable closeRunnable);
+
+	/**
+	 * Subscribes to the changes of a parent model's nested collection.
+	 *
+	 * @param  name the nested resource's name
+	 * @param  parentName the parent resource's name
+	 * @param  parentIdentifier the parent model's identifier
+	 * @param  sendFunction the non-blocking function that sends each
+	 *         notification to the subscriber
+	 * @param  closeRunnable the function that closes the subscriber's
+	 *         connection
+	 * @return the subscriber
+	 */
+	public ChangeFeedSubscriber subscribe(
+		String name, String parentName, Object parentIdentifier,
+		Function<ChangeNotification, CompletionStage<?>> sendFunction,
+		Runnable closeRunnable);
+
+}
@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+import static com.liferay.apio.architect.impl.url.URLCreator.createSingleURL;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type;
+import com.liferay.apio.architect.impl.url.ApplicationURL;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Default {@link ChangeFeed} implementation.
+ *
+ * <p>
+ * Each change is serialized once, as a JSON object with its {@code type},
+ * {@code resource}, {@code id} and {@code @id}, and the resulting notification
+ * is handed to every interested subscriber. If the {@link #REPRESENTATION}
+ * property is {@code true}, the notification also contains the model's {@code
+ * representation}, as written in the response of the request that changed it.
+ * Since that representation is rendered with the permissions of the user that
+ * made the change, it's disabled by default.
+ * </p>
+ *
+ * <p>
+ * Closed subscribers are removed whenever a new subscriber joins, and every
+ * subscriber is closed when the component is deactivated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class ChangeFeedImpl implements ChangeFeed {
+
+	/**
+	 * The property with the maximum number of notifications buffered for each
+	 * subscriber. It's {@code 256} by default.
+	 */
+	public static final String BUFFER_SIZE = "change.feed.buffer.size";
+
+	/**
+	 * The property that indicates whether notifications contain the model's
+	 * representation. It's {@code false} by default.
+	 */
+	public static final String REPRESENTATION = "change.feed.representation";
+
+	/**
+	 * The property with the maximum size, in bytes, of the representations
+	 * contained in notifications. It's {@code 65536} by default.
+	 */
+	public static final String REPRESENTATION_MAX_SIZE =
+		"change.feed.representation.max.size";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_bufferSize = getInteger(properties, BUFFER_SIZE, 256);
+
+		if (getBoolean(properties, REPRESENTATION, false)) {
+			_representationMaxSize = getInteger(
+				properties, REPRESENTATION_MAX_SIZE, 65536);
+		}
+		else {
+			_representationMaxSize = 0;
+		}
+	}
+
+	@Deactivate
+	public void deactivate() {
+		for (Set<ChangeFeedSubscriber> subscribers : _subscribers.values()) {
+			subscribers.forEach(ChangeFeedSubscriber::close);
+		}
+
+		_subscribers.clear();
+	}
+
+	@Override
+	public Consumer<ChangeEvent> getChangeEventConsumer(
+		HttpServletRequest httpServletRequest) {
+
+		if (httpServletRequest == null) {
+			return changeEvent -> _notify(null, changeEvent, null);
+		}
+
+		List<ChangeEvent> changeEvents = _getChangeEvents(httpServletRequest);
+
+		if (changeEvents == null) {
+			changeEvents = Collections.synchronizedList(new ArrayList<>());
+
+			httpServletRequest.setAttribute(
+				_CHANGE_EVENTS_ATTRIBUTE, changeEvents);
+		}
+
+		return changeEvents::add;
+	}
+
+	@Override
+	public List<ChangeEvent> getChangeEvents(
+		HttpServletRequest httpServletRequest) {
+
+		List<ChangeEvent> changeEvents = _getChangeEvents(httpServletRequest);
+
+		if (changeEvents == null) {
+			return Collections.emptyList();
+		}
+
+		synchronized (changeEvents) {
+			return new ArrayList<>(changeEvents);
+		}
+	}
+
+	@Override
+	public int getRepresentationMaxSize() {
+		return _representationMaxSize;
+	}
+
+	@Override
+	public void publish(HttpServletRequest httpServletRequest) {
+		_publish(httpServletRequest, null);
+	}
+
+	@Override
+	public void publish(
+		HttpServletRequest httpServletRequest, byte[] representation) {
+
+		_publish(httpServletRequest, representation);
+	}
+
+	@Override
+	public void record(
+		HttpServletRequest httpServletRequest, ChangeEvent changeEvent) {
+
+		Consumer<ChangeEvent> consumer = getChangeEventConsumer(
+			httpServletRequest);
+
+		consumer.accept(changeEvent);
+	}
+
+	@Override
+	public ChangeFeedSubscriber subscribe(
+		String name,
+		Function<ChangeNotification, CompletionStage<?>> sendFunction,
+		Runnable closeRunnable) {
+
+		return _subscribe(
+			new ChangeFeedSubscriber(
+				name, _bufferSize, sendFunction, closeRunnable));
+	}
+
+	@Override
+	public ChangeFeedSubscriber subscribe(
+		String name, String parentName, Object parentIdentifier,
+		Function<ChangeNotification, CompletionStage<?>> sendFunction,
+		Runnable closeRunnable) {
+
+		return _subscribe(
+			new ChangeFeedSubscriber(
+				name, parentName, parentIdentifier, _bufferSize,
+				sendFunction, closeRunnable));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ChangeEvent> _getChangeEvents(
+		HttpServletRequest httpServletRequest) {
+
+		return (List<ChangeEvent>)httpServletRequest.getAttribute(
+			_CHANGE_EVENTS_ATTRIBUTE);
+	}
+
+	private String _getData(
+		HttpServletRequest httpServletRequest, ChangeEvent changeEvent,
+		byte[] representation) {
+
+		ObjectNode objectNode = _OBJECT_MAPPER.createObjectNode();
+
+		Type type = changeEvent.getType();
+
+		objectNode.put("type", _getName(type));
+
+		objectNode.put("resource", changeEvent.getName());
+
+		Optional<Path> pathOptional = _pathIdentifierMapperManager.mapToPath(
+			changeEvent.getName(), changeEvent.getIdentifier());
+
+		pathOptional.ifPresent(
+			path -> {
+				objectNode.put("id", path.getId());
+
+				Optional<ApplicationURL> optional = Optional.ofNullable(
+					httpServletRequest
+				).flatMap(
+					request -> _providerManager.provideOptional(
+						request, ApplicationURL.class)
+				);
+
+				optional.ifPresent(
+					applicationURL -> objectNode.put(
+						"@id", createSingleURL(applicationURL, path)));
+			});
+
+		if (representation != null) {
+			Try<JsonNode> jsonNodeTry = Try.fromFallible(
+				() -> _OBJECT_MAPPER.readTree(representation));
+
+			jsonNodeTry.ifSuccess(
+				jsonNode -> objectNode.set("representation", jsonNode));
+		}
+
+		try {
+			return _OBJECT_MAPPER.writeValueAsString(objectNode);
+		}
+		catch (JsonProcessingException jpe) {
+			return objectNode.toString();
+		}
+	}
+
+	private String _getName(Type type) {
+		String name = type.name();
+
+		return name.toLowerCase(Locale.ENGLISH);
+	}
+
+	private void _notify(
+		HttpServletRequest httpServletRequest, ChangeEvent changeEvent,
+		byte[] representation) {
+
+		Set<ChangeFeedSubscriber> subscribers = _subscribers.get(
+			changeEvent.getName());
+
+		if ((subscribers == null) || subscribers.isEmpty()) {
+			return;
+		}
+
+		ChangeNotification changeNotification = null;
+
+		for (ChangeFeedSubscriber subscriber : subscribers) {
+			if (subscriber.isClosed()) {
+				subscribers.remove(subscriber);
+
+				continue;
+			}
+
+			if (!subscriber.accepts(changeEvent)) {
+				continue;
+			}
+
+			if (changeNotification == null) {
+				changeNotification = new ChangeNotification(
+					_sequence.incrementAndGet(),
+					_getName(changeEvent.getType()),
+					_getData(httpServletRequest, changeEvent, representation));
+			}
+
+			subscriber.offer(changeNotification);
+		}
+	}
+
+	private void _publish(
+		HttpServletRequest httpServletRequest, byte[] representation) {
+
+		List<ChangeEvent> changeEvents = _getChangeEvents(httpServletRequest);
+
+		if (changeEvents == null) {
+			return;
+		}
+
+		httpServletRequest.removeAttribute(_CHANGE_EVENTS_ATTRIBUTE);
+
+		List<ChangeEvent> list;
+
+		synchronized (changeEvents) {
+			list = new ArrayList<>(changeEvents);
+		}
+
+		if (list.size() != 1) {
+			representation = null;
+		}
+
+		for (ChangeEvent changeEvent : list) {
+			_notify(httpServletRequest, changeEvent, representation);
+		}
+	}
+
+	private void _removeClosedSubscribers() {
+		for (Set<ChangeFeedSubscriber> subscribers : _subscribers.values()) {
+			subscribers.removeIf(ChangeFeedSubscriber::isClosed);
+		}
+	}
+
+	private ChangeFeedSubscriber _subscribe(
+		ChangeFeedSubscriber changeFeedSubscriber) {
+
+		_removeClosedSubscribers();
+
+		Set<ChangeFeedSubscriber> subscribers = _subscribers.computeIfAbsent(
+			changeFeedSubscriber.getName(),
+			__ -> ConcurrentHashMap.newKeySet());
+
+		subscribers.add(changeFeedSubscriber);
+
+		return changeFeedSubscriber;
+	}
+
+	private static final String _CHANGE_EVENTS_ATTRIBUTE =
+		ChangeFeedImpl.class.getName() + ".changeEvents";
+
+	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper();
+
+	private volatile int _bufferSize = 256;
+
+	@Reference
+	private PathIdentifierMapperManager _pathIdentifierMapperManager;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private volatile int _representationMaxSize;
+	private final AtomicLong _sequence = new AtomicLong();
+	private final Map<String, Set<ChangeFeedSubscriber>> _subscribers =
+		new ConcurrentHashMap<>();
+
+}
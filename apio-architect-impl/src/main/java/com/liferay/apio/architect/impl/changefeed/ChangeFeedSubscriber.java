@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+import com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Represents a subscriber of the change feed of a collection or nested
+ * collection.
+ *
+ * <p>
+ * Notifications are sent one at a time through the provided send function,
+ * which mustn't block, and are buffered while the previous one is being sent.
+ * If the buffer is full (the subscriber is too slow), the buffered
+ * notifications are discarded and replaced by a single {@code overflow}
+ * notification, so the subscriber knows it must reload the collection. The
+ * subscriber is closed, along with its connection, once a notification can't
+ * be sent.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ChangeFeedSubscriber {
+
+	/**
+	 * Creates a subscriber of a collection's changes.
+	 *
+	 * @param name the collection's resource name
+	 * @param bufferSize the maximum number of buffered notifications
+	 * @param sendFunction the function that sends a notification
+	 * @param closeRunnable the function that closes the subscriber's
+	 *        connection
+	 */
+	public ChangeFeedSubscriber(
+		String name, int bufferSize,
+		Function<ChangeNotification, CompletionStage<?>> sendFunction,
+		Runnable closeRunnable) {
+
+		this(name, null, null, bufferSize, sendFunction, closeRunnable);
+	}
+
+	/**
+	 * Creates a subscriber of a nested collection's changes.
+	 *
+	 * @param name the nested resource's name
+	 * @param parentName the parent resource's name
+	 * @param parentIdentifier the parent model's identifier
+	 * @param bufferSize the maximum number of buffered notifications
+	 * @param sendFunction the function that sends a notification
+	 * @param closeRunnable the function that closes the subscriber's
+	 *        connection
+	 */
+	public ChangeFeedSubscriber(
+		String name, String parentName, Object parentIdentifier,
+		int bufferSize,
+		Function<ChangeNotification, CompletionStage<?>> sendFunction,
+		Runnable closeRunnable) {
+
+		_name = name;
+		_parentName = parentName;
+		_parentIdentifier = parentIdentifier;
+		_bufferSize = Math.max(bufferSize, 1);
+		_sendFunction = sendFunction;
+		_closeRunnable = closeRunnable;
+	}
+
+	/**
+	 * Returns {@code true} if the subscriber must be notified of a change.
+	 * Nested collection subscribers are notified of the models created inside
+	 * their parent model, and of every update and removal of the nested
+	 * resource's models, since those can't be attributed to a parent.
+	 *
+	 * @param  changeEvent the change
+	 * @return {@code true} if the subscriber must be notified; {@code false}
+	 *         otherwise
+	 */
+	public boolean accepts(ChangeEvent changeEvent) {
+		if (!_name.equals(changeEvent.getName())) {
+			return false;
+		}
+
+		if ((_parentName == null) ||
+			(changeEvent.getType() != Type.CREATED)) {
+
+			return true;
+		}
+
+		Optional<String> parentNameOptional =
+			changeEvent.getParentNameOptional();
+		Optional<Object> parentIdentifierOptional =
+			changeEvent.getParentIdentifierOptional();
+
+		if (_parentName.equals(parentNameOptional.orElse(null)) &&
+			Objects.equals(
+				_parentIdentifier, parentIdentifierOptional.orElse(null))) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Closes the subscriber and its connection, discarding the buffered
+	 * notifications. Does nothing if the subscriber is already closed.
+	 */
+	public void close() {
+		synchronized (this) {
+			if (_closed) {
+				return;
+			}
+
+			_closed = true;
+
+			_buffer.clear();
+		}
+
+		_closeRunnable.run();
+	}
+
+	/**
+	 * Returns the number of notifications discarded because the buffer was
+	 * full.
+	 *
+	 * @return the number of discarded notifications
+	 */
+	public synchronized long getDroppedCount() {
+		return _droppedCount;
+	}
+
+	/**
+	 * Returns the subscriber's resource name.
+	 *
+	 * @return the resource's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns {@code true} if the subscriber has been closed.
+	 *
+	 * @return {@code true} if the subscriber is closed; {@code false}
+	 *         otherwise
+	 */
+	public synchronized boolean isClosed() {
+		return _closed;
+	}
+
+	/**
+	 * Buffers a notification, and starts sending the buffered notifications if
+	 * none is being sent. This method never blocks on the subscriber's
+	 * connection.
+	 *
+	 * @param changeNotification the notification
+	 */
+	public void offer(ChangeNotification changeNotification) {
+		synchronized (this) {
+			if (_closed) {
+				return;
+			}
+
+			if (_buffer.size() >= _bufferSize) {
+				_droppedCount += _buffer.size();
+
+				_buffer.clear();
+
+				_buffer.add(
+					new ChangeNotification(
+						changeNotification.getId(), "overflow", "{}"));
+
+				_droppedCount++;
+			}
+			else {
+				_buffer.add(changeNotification);
+			}
+
+			if (_sending) {
+				return;
+			}
+
+			_sending = true;
+		}
+
+		_sendNext();
+	}
+
+	private void _sendNext() {
+		ChangeNotification changeNotification;
+
+		synchronized (this) {
+			changeNotification = _buffer.poll();
+
+			if ((changeNotification == null) || _closed) {
+				_sending = false;
+
+				return;
+			}
+		}
+
+		CompletionStage<?> completionStage;
+
+		try {
+			completionStage = _sendFunction.apply(changeNotification);
+		}
+		catch (RuntimeException re) {
+			close();
+
+			return;
+		}
+
+		completionStage.whenComplete(
+			(__, throwable) -> {
+				if (throwable != null) {
+					close();
+
+					return;
+				}
+
+				_sendNext();
+			});
+	}
+
+	private final Queue<ChangeNotification> _buffer = new ArrayDeque<>();
+	private final int _bufferSize;
+	private boolean _closed;
+	private final Runnable _closeRunnable;
+	private long _droppedCount;
+	private final String _name;
+	private final Object _parentIdentifier;
+	private final String _parentName;
+	private boolean _sending;
+	private final Function<ChangeNotification, CompletionStage<?>>
+		_sendFunction;
+
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+/**
+ * Represents a {@link ChangeEvent} ready to be sent to the subscribers of a
+ * change feed.
+ *
+ * @author Alejandro Hernández
+ */
+public class ChangeNotification {
+
+	public ChangeNotification(long id, String name, String data) {
+		_id = id;
+		_name = name;
+		_data = data;
+	}
+
+	/**
+	 * Returns the notification's JSON data.
+	 *
+	 * @return the notification's data
+	 */
+	public String getData() {
+		return _data;
+	}
+
+	/**
+	 * Returns the notification's sequence number, unique in the change feed.
+	 *
+	 * @return the notification's sequence number
+	 */
+	public long getId() {
+		return _id;
+	}
+
+	/**
+	 * Returns the notification's name (e.g., {@code created}, {@code updated},
+	 * {@code deleted} or {@code overflow}).
+	 *
+	 * @return the notification's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	private final String _data;
+	private final long _id;
+	private final String _name;
+
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+import static com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type.CREATED;
+
+import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.CreateItemFunction;
+import com.liferay.apio.architect.alias.routes.GetPageAsyncFunction;
+import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Decorates the {@link CollectionRoutes} of a resource so every successful
+ * creation records a {@link ChangeEvent}.
+ *
+ * @author Alejandro Hernández
+ */
+public class NotifyingCollectionRoutes<T, S> implements CollectionRoutes<T, S> {
+
+	public NotifyingCollectionRoutes(
+		CollectionRoutes<T, S> collectionRoutes,
+		Function<T, Object> identifierFunction,
+		BiConsumer<HttpServletRequest, ChangeEvent> changeEventBiConsumer) {
+
+		_collectionRoutes = collectionRoutes;
+		_identifierFunction = identifierFunction;
+		_changeEventBiConsumer = changeEventBiConsumer;
+	}
+
+	@Override
+	public Optional<BatchCreateItemFunction<S>>
+		getBatchCreateItemFunctionOptional() {
+
+		Optional<BatchCreateItemFunction<S>> optional =
+			_collectionRoutes.getBatchCreateItemFunctionOptional();
+
+		return optional.map(this::_getNotifyingBatchCreateItemFunction);
+	}
+
+	@Override
+	public Optional<CreateItemFunction<T>> getCreateItemFunctionOptional() {
+		Optional<CreateItemFunction<T>> optional =
+			_collectionRoutes.getCreateItemFunctionOptional();
+
+		return optional.map(this::_getNotifyingCreateItemFunction);
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _collectionRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<GetPageAsyncFunction<T>>
+		getGetPageAsyncFunctionOptional() {
+
+		return _collectionRoutes.getGetPageAsyncFunctionOptional();
+	}
+
+	@Override
+	public Optional<GetPageFunction<T>> getGetPageFunctionOptional() {
+		return _collectionRoutes.getGetPageFunctionOptional();
+	}
+
+	private BatchCreateItemFunction<S> _getNotifyingBatchCreateItemFunction(
+		BatchCreateItemFunction<S> batchCreateItemFunction) {
+
+		return httpServletRequest -> body -> {
+			Try<BatchResult<S>> batchResultTry = batchCreateItemFunction.apply(
+				httpServletRequest
+			).apply(
+				body
+			);
+
+			batchResultTry.ifSuccess(
+				batchResult -> {
+					List<S> identifiers = batchResult.getIdentifiers();
+
+					identifiers.forEach(
+						identifier -> _changeEventBiConsumer.accept(
+							httpServletRequest,
+							new ChangeEvent(
+								CREATED, batchResult.resourceName,
+								identifier)));
+				});
+
+			return batchResultTry;
+		};
+	}
+
+	private CreateItemFunction<T> _getNotifyingCreateItemFunction(
+		CreateItemFunction<T> createItemFunction) {
+
+		return httpServletRequest -> body -> {
+			Try<SingleModel<T>> singleModelTry = createItemFunction.apply(
+				httpServletRequest
+			).apply(
+				body
+			);
+
+			singleModelTry.ifSuccess(
+				singleModel -> _changeEventBiConsumer.accept(
+					httpServletRequest,
+					new ChangeEvent(
+						CREATED, singleModel.getResourceName(),
+						_identifierFunction.apply(singleModel.getModel()))));
+
+			return singleModelTry;
+		};
+	}
+
+	private final BiConsumer<HttpServletRequest, ChangeEvent>
+		_changeEventBiConsumer;
+	private final CollectionRoutes<T, S> _collectionRoutes;
+	private final Function<T, Object> _identifierFunction;
+
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+import static com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type.CREATED;
+
+import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageAsyncFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPagesFunction;
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Decorates the {@link NestedCollectionRoutes} of a resource so every
+ * successful creation records a {@link ChangeEvent} with the parent model's
+ * identifier.
+ *
+ * @author Alejandro Hernández
+ */
+public class NotifyingNestedCollectionRoutes<T, S, U>
+	implements NestedCollectionRoutes<T, S, U> {
+
+	public NotifyingNestedCollectionRoutes(
+		NestedCollectionRoutes<T, S, U> nestedCollectionRoutes,
+		String parentName, Function<T, Object> identifierFunction,
+		BiConsumer<HttpServletRequest, ChangeEvent> changeEventBiConsumer) {
+
+		_nestedCollectionRoutes = nestedCollectionRoutes;
+		_parentName = parentName;
+		_identifierFunction = identifierFunction;
+		_changeEventBiConsumer = changeEventBiConsumer;
+	}
+
+	@Override
+	public Optional<Form> getFormOptional() {
+		return _nestedCollectionRoutes.getFormOptional();
+	}
+
+	@Override
+	public Optional<NestedBatchCreateItemFunction<S, U>>
+		getNestedBatchCreateItemFunctionOptional() {
+
+		Optional<NestedBatchCreateItemFunction<S, U>> optional =
+			_nestedCollectionRoutes.getNestedBatchCreateItemFunctionOptional();
+
+		return optional.map(this::_getNotifyingNestedBatchCreateItemFunction);
+	}
+
+	@Override
+	public Optional<NestedCreateItemFunction<T, U>>
+		getNestedCreateItemFunctionOptional() {
+
+		Optional<NestedCreateItemFunction<T, U>> optional =
+			_nestedCollectionRoutes.getNestedCreateItemFunctionOptional();
+
+		return optional.map(this::_getNotifyingNestedCreateItemFunction);
+	}
+
+	@Override
+	public Optional<NestedGetPageAsyncFunction<T, U>>
+		getNestedGetPageAsyncFunctionOptional() {
+
+		return _nestedCollectionRoutes.getNestedGetPageAsyncFunctionOptional();
+	}
+
+	@Override
+	public Optional<NestedGetPageFunction<T, U>>
+		getNestedGetPageFunctionOptional() {
+
+		return _nestedCollectionRoutes.getNestedGetPageFunctionOptional();
+	}
+
+	@Override
+	public Optional<NestedGetPagesFunction<T, U>>
+		getNestedGetPagesFunctionOptional() {
+
+		return _nestedCollectionRoutes.getNestedGetPagesFunctionOptional();
+	}
+
+	private NestedBatchCreateItemFunction<S, U>
+		_getNotifyingNestedBatchCreateItemFunction(
+			NestedBatchCreateItemFunction<S, U> nestedBatchCreateItemFunction) {
+
+		return httpServletRequest -> body -> u -> {
+			Try<BatchResult<S>> batchResultTry =
+				nestedBatchCreateItemFunction.apply(
+					httpServletRequest
+				).apply(
+					body
+				).apply(
+					u
+				);
+
+			batchResultTry.ifSuccess(
+				batchResult -> {
+					List<S> identifiers = batchResult.getIdentifiers();
+
+					identifiers.forEach(
+						identifier -> _changeEventBiConsumer.accept(
+							httpServletRequest,
+							new ChangeEvent(
+								CREATED, batchResult.resourceName, identifier,
+								_parentName, u)));
+				});
+
+			return batchResultTry;
+		};
+	}
+
+	private NestedCreateItemFunction<T, U>
+		_getNotifyingNestedCreateItemFunction(
+			NestedCreateItemFunction<T, U> nestedCreateItemFunction) {
+
+		return httpServletRequest -> u -> body -> {
+			Try<SingleModel<T>> singleModelTry = nestedCreateItemFunction.apply(
+				httpServletRequest
+			).apply(
+				u
+			).apply(
+				body
+			);
+
+			singleModelTry.ifSuccess(
+				singleModel -> _changeEventBiConsumer.accept(
+					httpServletRequest,
+					new ChangeEvent(
+						CREATED, singleModel.getResourceName(),
+						_identifierFunction.apply(singleModel.getModel()),
+						_parentName, u)));
+
+			return singleModelTry;
+		};
+	}
+
+	private final BiConsumer<HttpServletRequest, ChangeEvent>
+		_changeEventBiConsumer;
+	private final Function<T, Object> _identifierFunction;
+	private final NestedCollectionRoutes<T, S, U> _nestedCollectionRoutes;
+	private final String _parentName;
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.coalescing;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a serialized response shared by coalesced requests, with the
+ * status and headers the leader's response was written with.
+ *
+ * @author Alejandro Hernández
+ */
+public class CoalescedResponse {
+
+	public CoalescedResponse(
+		byte[] body, String mediaType, int status,
+		Map<String, List<Object>> headers) {
+
+		_body = body;
+		_mediaType = mediaType;
+		_status = status;
+		_headers = headers;
+	}
+
+	/**
+	 * Returns the response's serialized body.
+	 *
+	 * @return the response's body
+	 */
+	public byte[] getBody() {
+		return _body;
+	}
+
+	/**
+	 * Returns the response's representation headers that can be shared with
+	 * other requests, other than its media type.
+	 *
+	 * @return the response's headers
+	 */
+	public Map<String, List<Object>> getHeaders() {
+		return _headers;
+	}
+
+	/**
+	 * Returns the media type the response was serialized with.
+	 *
+	 * @return the response's media type
+	 */
+	public String getMediaType() {
+		return _mediaType;
+	}
+
+	/**
+	 * Returns the response's status code.
+	 *
+	 * @return the response's status code
+	 */
+	public int getStatus() {
+		return _status;
+	}
+
+	private final byte[] _body;
+	private final Map<String, List<Object>> _headers;
+	private final String _mediaType;
+	private final int _status;
+
+}
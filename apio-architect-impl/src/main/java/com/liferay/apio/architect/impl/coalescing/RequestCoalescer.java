@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.coalescing;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Coalesces concurrent computations of the same key into a single flight.
+ *
+ * <p>
+ * The first caller joining a key becomes the flight's leader and computes the
+ * value, while the rest wait for the leader to complete or fail the flight.
+ * Values aren't kept once the flight completes, so later callers start a new
+ * flight. Flights whose leader hasn't finished after the {@code timeout}
+ * nanoseconds are considered abandoned: their followers stop waiting, and the
+ * next caller joining the key becomes the leader of a new flight. Followers
+ * never wait more than the {@code maxWait} nanoseconds, so a slow leader only
+ * delays them briefly before they compute the value on their own.
+ * </p>
+ *
+ * <p>
+ * Time is read from the provided supplier, so the algorithm can be tested with
+ * a simulated clock.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestCoalescer<K, V> {
+
+	public RequestCoalescer(
+		long timeout, long maxWait, LongSupplier nanoTimeSupplier) {
+
+		_timeout = timeout;
+		_maxWait = maxWait;
+		_nanoTimeSupplier = nanoTimeSupplier;
+	}
+
+	/**
+	 * Returns the number of callers that got the value computed by another
+	 * caller's flight.
+	 *
+	 * @return the number of coalesced callers
+	 */
+	public long getCoalescedCount() {
+		return _coalescedCount.sum();
+	}
+
+	/**
+	 * Returns the number of flights whose leader hasn't finished yet.
+	 *
+	 * @return the number of flights in progress
+	 */
+	public int getInFlightCount() {
+		return _flights.size();
+	}
+
+	/**
+	 * Joins the flight of a key. If there's no flight in progress for the key,
+	 * a new one is started with the caller as its leader.
+	 *
+	 * @param  key the key
+	 * @return the caller's view of the flight
+	 */
+	public Flight join(K key) {
+		Flight flight = new Flight(
+			key, new CompletableFuture<>(), _nanoTimeSupplier.getAsLong(),
+			true);
+
+		while (true) {
+			Flight leaderFlight = _flights.putIfAbsent(key, flight);
+
+			if (leaderFlight == null) {
+				return flight;
+			}
+
+			if ((flight._start - leaderFlight._start) <= _timeout) {
+				return new Flight(
+					key, leaderFlight._completableFuture, leaderFlight._start,
+					false);
+			}
+
+			if (_flights.replace(key, leaderFlight, flight)) {
+				leaderFlight._completableFuture.completeExceptionally(
+					new CancellationException());
+
+				return flight;
+			}
+		}
+	}
+
+	/**
+	 * Represents a caller's view of a flight.
+	 */
+	public class Flight {
+
+		/**
+		 * Waits for the flight's leader to complete the flight, and returns
+		 * the computed value. Returns {@code Optional#empty()} if the leader
+		 * fails, or doesn't finish in time or within the maximum wait, so the
+		 * caller must compute the value on its own.
+		 *
+		 * @return the value computed by the leader, if present; {@code
+		 *         Optional#empty()} otherwise
+		 */
+		public Optional<V> await() {
+			long remaining =
+				_timeout - (_nanoTimeSupplier.getAsLong() - _start);
+
+			long wait = Math.min(remaining, _maxWait);
+
+			try {
+				V value = _completableFuture.get(
+					Math.max(wait, 0), NANOSECONDS);
+
+				_coalescedCount.increment();
+
+				return Optional.of(value);
+			}
+			catch (InterruptedException ie) {
+				Thread currentThread = Thread.currentThread();
+
+				currentThread.interrupt();
+
+				return Optional.empty();
+			}
+			catch (CancellationException | ExecutionException |
+				   TimeoutException e) {
+
+				return Optional.empty();
+			}
+		}
+
+		/**
+		 * Completes the flight with the computed value, handing it to every
+		 * follower. Does nothing if the caller isn't the flight's leader.
+		 *
+		 * @param value the computed value
+		 */
+		public void complete(V value) {
+			if (!_leader) {
+				return;
+			}
+
+			_flights.remove(_key, this);
+
+			_completableFuture.complete(value);
+		}
+
+		/**
+		 * Fails the flight, so every follower computes the value on its own.
+		 * Does nothing if the caller isn't the flight's leader.
+		 */
+		public void fail() {
+			if (!_leader) {
+				return;
+			}
+
+			_flights.remove(_key, this);
+
+			_completableFuture.completeExceptionally(
+				new CancellationException());
+		}
+
+		/**
+		 * Returns {@code true} if the caller is the flight's leader, so it
+		 * must compute the value and complete or fail the flight.
+		 *
+		 * @return {@code true} if the caller is the leader; {@code false}
+		 *         otherwise
+		 */
+		public boolean isLeader() {
+			return _leader;
+		}
+
+		private Flight(
+			K key, CompletableFuture<V> completableFuture, long start,
+			boolean leader) {
+
+			_key = key;
+			_completableFuture = completableFuture;
+			_start = start;
+			_leader = leader;
+		}
+
+		private final CompletableFuture<V> _completableFuture;
+		private final K _key;
+		private final boolean _leader;
+		private final long _start;
+
+	}
+
+	private final LongAdder _coalescedCount = new LongAdder();
+	private final Map<K, Flight> _flights = new ConcurrentHashMap<>();
+	private final long _maxWait;
+	private final LongSupplier _nanoTimeSupplier;
+	private final long _timeout;
+
+}
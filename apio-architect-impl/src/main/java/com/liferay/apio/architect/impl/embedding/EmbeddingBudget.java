@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.embedding;
+
+import java.util.Optional;
+
+import javax.ws.rs.BadRequestException;
+
+/**
+ * Keeps track of the resources embedded while writing a response, and decides
+ * whether a new resource can be embedded according to an {@link
+ * EmbeddingPolicy}.
+ *
+ * <p>
+ * Once a limit is reached, the budget either throws a {@code
+ * BadRequestException} or refuses every resource that would exceed it, so it
+ * is written as a link instead, depending on {@link
+ * EmbeddingPolicy#isReject()}. Instances are created per response and aren't
+ * thread safe.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class EmbeddingBudget {
+
+	/**
+	 * Returns a budget without limits.
+	 *
+	 * @return the budget without limits
+	 */
+	public static EmbeddingBudget unlimited() {
+		return new EmbeddingBudget(EmbeddingPolicy.UNLIMITED);
+	}
+
+	public EmbeddingBudget(EmbeddingPolicy embeddingPolicy) {
+		_embeddingPolicy = embeddingPolicy;
+	}
+
+	/**
+	 * Checks whether a resource can still be fetched to be embedded, without
+	 * reserving any budget. Callers should check this before fetching the
+	 * resource, and then reserve the budget with {@link #tryEmbed(String,
+	 * int)}.
+	 *
+	 * @param  embeddedPath the embedded resource's path, with its elements
+	 *         separated by dots
+	 * @return {@code true} if the resource can be fetched; {@code false} if it
+	 *         must be written as a link
+	 * @throws BadRequestException if the resource exceeds a limit and the
+	 *         policy rejects such requests
+	 */
+	public boolean canFetch(String embeddedPath) {
+		int depth = embeddedPath.split("\\.").length;
+
+		if (depth > _embeddingPolicy.getMaxDepth()) {
+			return _refuse(
+				embeddedPath, "depth", _embeddingPolicy.getMaxDepth());
+		}
+
+		if (_fetches >= _embeddingPolicy.getMaxFetches()) {
+			return _refuse(
+				embeddedPath, "fetches", _embeddingPolicy.getMaxFetches());
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the number of resources embedded so far.
+	 *
+	 * @return the number of embedding fetches
+	 */
+	public int getFetches() {
+		return _fetches;
+	}
+
+	/**
+	 * Returns the number of items embedded so far.
+	 *
+	 * @return the number of embedded items
+	 */
+	public int getItems() {
+		return _items;
+	}
+
+	/**
+	 * Returns the number of resources that can still be embedded.
+	 *
+	 * @return the number of remaining embedding fetches
+	 */
+	public int getRemainingFetches() {
+		return Math.max(_embeddingPolicy.getMaxFetches() - _fetches, 0);
+	}
+
+	/**
+	 * Returns the warning to add to a truncated response, if a resource was
+	 * refused; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the warning, if a resource was refused; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getWarningOptional() {
+		return Optional.ofNullable(
+			_exceededLimit
+		).map(
+			limit -> "199 - \"Embedded resources exceeding the maximum " +
+				limit + " were replaced by links\""
+		);
+	}
+
+	/**
+	 * Returns {@code true} if a resource was refused because it exceeded a
+	 * limit.
+	 *
+	 * @return {@code true} if a resource was refused; {@code false} otherwise
+	 */
+	public boolean isExceeded() {
+		if (_exceededLimit != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reserves the budget needed to embed a resource, if it doesn't exceed any
+	 * limit. Embedding a resource counts as a fetch, and as many items as the
+	 * resource contains.
+	 *
+	 * @param  embeddedPath the embedded resource's path, with its elements
+	 *         separated by dots
+	 * @param  items the number of items the resource contains
+	 * @return {@code true} if the resource can be embedded; {@code false} if it
+	 *         must be written as a link
+	 * @throws BadRequestException if the resource exceeds a limit and the
+	 *         policy rejects such requests
+	 */
+	public boolean tryEmbed(String embeddedPath, int items) {
+		if (!canFetch(embeddedPath)) {
+			return false;
+		}
+
+		if ((long)_items + items > _embeddingPolicy.getMaxItems()) {
+			return _refuse(
+				embeddedPath, "items", _embeddingPolicy.getMaxItems());
+		}
+
+		_fetches++;
+		_items += items;
+
+		return true;
+	}
+
+	private boolean _refuse(String embeddedPath, String limit, int max) {
+		String description = "embedding " + limit + " (" + max + ")";
+
+		if (_embeddingPolicy.isReject()) {
+			throw new BadRequestException(
+				"Embedding \"" + embeddedPath + "\" exceeds the maximum " +
+					description);
+		}
+
+		_exceededLimit = description;
+
+		return false;
+	}
+
+	private final EmbeddingPolicy _embeddingPolicy;
+	private String _exceededLimit;
+	private int _fetches;
+	private int _items;
+
+}
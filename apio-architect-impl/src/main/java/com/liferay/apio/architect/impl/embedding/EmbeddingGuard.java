@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.embedding;
+
+/**
+ * Provides the {@link EmbeddingPolicy} that limits the resources embedded in
+ * a resource's responses.
+ *
+ * @author Alejandro Hernández
+ */
+public interface EmbeddingGuard {
+
+	/**
+	 * Returns a new {@link EmbeddingBudget} for a response of the resource.
+	 *
+	 * @param  name the resource's name
+	 * @return the budget
+	 */
+	public EmbeddingBudget createEmbeddingBudget(String name);
+
+	/**
+	 * Returns the policy that limits the resources embedded in the resource's
+	 * responses. It's the global policy, restricted by the resource's own
+	 * policy if it has one.
+	 *
+	 * @param  name the resource's name
+	 * @return the resource's embedding policy
+	 */
+	public EmbeddingPolicy getEmbeddingPolicy(String name);
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.embedding;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+
+import com.liferay.apio.architect.impl.wiring.osgi.manager.router.CollectionRouterManager;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Default {@link EmbeddingGuard} implementation.
+ *
+ * <p>
+ * The global policy is built from the {@link #MAX_DEPTH}, {@link
+ * #MAX_FETCHES}, {@link #MAX_ITEMS} and {@link #REJECT} properties, and is
+ * restricted by the policy of each collection router, if present.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class EmbeddingGuardImpl implements EmbeddingGuard {
+
+	/**
+	 * The property with the maximum number of path elements of an embedded
+	 * resource. It's {@code 3} by default.
+	 */
+	public static final String MAX_DEPTH = "embedding.max.depth";
+
+	/**
+	 * The property with the maximum number of embedded related models and
+	 * collections per response. It's {@code 100} by default.
+	 */
+	public static final String MAX_FETCHES = "embedding.max.fetches";
+
+	/**
+	 * The property with the maximum number of embedded items per response.
+	 * It's {@code 1000} by default.
+	 */
+	public static final String MAX_ITEMS = "embedding.max.items";
+
+	/**
+	 * The property that indicates whether requests exceeding the policy are
+	 * rejected with a {@code 400}. It's {@code false} by default, so the
+	 * resources exceeding the policy are written as links.
+	 */
+	public static final String REJECT = "embedding.reject";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_embeddingPolicy = new EmbeddingPolicy(
+			getInteger(properties, MAX_DEPTH, 3),
+			getInteger(properties, MAX_FETCHES, 100),
+			getInteger(properties, MAX_ITEMS, 1000),
+			getBoolean(properties, REJECT, false));
+	}
+
+	@Override
+	public EmbeddingBudget createEmbeddingBudget(String name) {
+		return new EmbeddingBudget(getEmbeddingPolicy(name));
+	}
+
+	@Override
+	public EmbeddingPolicy getEmbeddingPolicy(String name) {
+		Optional<EmbeddingPolicy> optional =
+			_collectionRouterManager.getEmbeddingPolicyOptional(name);
+
+		return optional.map(
+			_embeddingPolicy::restrict
+		).orElse(
+			_embeddingPolicy
+		);
+	}
+
+	@Reference
+	private CollectionRouterManager _collectionRouterManager;
+
+	private EmbeddingPolicy _embeddingPolicy = EmbeddingPolicy.UNLIMITED;
+
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.embedding;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Represents the limits an {@link EmbeddingBudget} applies to the resources
+ * embedded in a response.
+ *
+ * <p>
+ * The global policy is configured in the {@link EmbeddingGuard}. Collection
+ * routers can tighten it for their resource by adding any of the {@code KEY_}
+ * properties to their OSGi component. The properties can also be added to a
+ * {@code CollectionResource}, since its properties are copied to the router.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class EmbeddingPolicy {
+
+	/**
+	 * The router's property that contains the maximum number of path elements
+	 * of an embedded resource. A value of {@code 1} only allows embedding the
+	 * resource's own related models and collections.
+	 */
+	public static final String KEY_MAX_DEPTH =
+		"apio.architect.embedding.max.depth";
+
+	/**
+	 * The router's property that contains the maximum number of embedded
+	 * related models and collections, each of them needing at least one fetch.
+	 */
+	public static final String KEY_MAX_FETCHES =
+		"apio.architect.embedding.max.fetches";
+
+	/**
+	 * The router's property that contains the maximum number of embedded
+	 * items, counting each embedded related model and each item of an
+	 * embedded collection's page.
+	 */
+	public static final String KEY_MAX_ITEMS =
+		"apio.architect.embedding.max.items";
+
+	/**
+	 * The router's property that indicates whether requests exceeding the
+	 * policy must be rejected with a {@code 400} instead of truncated.
+	 */
+	public static final String KEY_REJECT = "apio.architect.embedding.reject";
+
+	/**
+	 * The policy without limits.
+	 */
+	public static final EmbeddingPolicy UNLIMITED = new EmbeddingPolicy(
+		Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, false);
+
+	/**
+	 * Returns the policy defined by a router's properties, if the router
+	 * defines any of them; returns {@code Optional#empty()} otherwise. Missing
+	 * limits are unbounded, so they don't tighten the global policy.
+	 *
+	 * @param  propertyFunction the function that returns a router's property
+	 * @return the policy, if the router defines it; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<EmbeddingPolicy> fromProperties(
+		Function<String, Object> propertyFunction) {
+
+		Optional<Integer> maxDepthOptional = _getIntegerOptional(
+			propertyFunction, KEY_MAX_DEPTH);
+		Optional<Integer> maxFetchesOptional = _getIntegerOptional(
+			propertyFunction, KEY_MAX_FETCHES);
+		Optional<Integer> maxItemsOptional = _getIntegerOptional(
+			propertyFunction, KEY_MAX_ITEMS);
+		boolean reject = "true".equals(
+			String.valueOf(propertyFunction.apply(KEY_REJECT)));
+
+		if (!maxDepthOptional.isPresent() && !maxFetchesOptional.isPresent() &&
+			!maxItemsOptional.isPresent() && !reject) {
+
+			return Optional.empty();
+		}
+
+		return Optional.of(
+			new EmbeddingPolicy(
+				maxDepthOptional.orElse(Integer.MAX_VALUE),
+				maxFetchesOptional.orElse(Integer.MAX_VALUE),
+				maxItemsOptional.orElse(Integer.MAX_VALUE), reject));
+	}
+
+	public EmbeddingPolicy(
+		int maxDepth, int maxFetches, int maxItems, boolean reject) {
+
+		_maxDepth = maxDepth;
+		_maxFetches = maxFetches;
+		_maxItems = maxItems;
+		_reject = reject;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+
+		if (!(object instanceof EmbeddingPolicy)) {
+			return false;
+		}
+
+		EmbeddingPolicy embeddingPolicy = (EmbeddingPolicy)object;
+
+		if ((_maxDepth == embeddingPolicy._maxDepth) &&
+			(_maxFetches == embeddingPolicy._maxFetches) &&
+			(_maxItems == embeddingPolicy._maxItems) &&
+			(_reject == embeddingPolicy._reject)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the maximum number of path elements of an embedded resource.
+	 *
+	 * @return the maximum embedding depth
+	 */
+	public int getMaxDepth() {
+		return _maxDepth;
+	}
+
+	/**
+	 * Returns the maximum number of embedded related models and collections.
+	 *
+	 * @return the maximum number of embedding fetches
+	 */
+	public int getMaxFetches() {
+		return _maxFetches;
+	}
+
+	/**
+	 * Returns the maximum number of embedded items.
+	 *
+	 * @return the maximum number of embedded items
+	 */
+	public int getMaxItems() {
+		return _maxItems;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(_maxDepth, _maxFetches, _maxItems, _reject);
+	}
+
+	/**
+	 * Returns {@code true} if requests exceeding this policy must be rejected
+	 * instead of truncated.
+	 *
+	 * @return {@code true} if requests exceeding the policy are rejected;
+	 *         {@code false} otherwise
+	 */
+	public boolean isReject() {
+		return _reject;
+	}
+
+	/**
+	 * Returns the policy with the lowest limit of this policy and the provided
+	 * one. Requests are rejected if either policy rejects them.
+	 *
+	 * @param  embeddingPolicy the policy to combine with this one
+	 * @return the combined policy
+	 */
+	public EmbeddingPolicy restrict(EmbeddingPolicy embeddingPolicy) {
+		return new EmbeddingPolicy(
+			Math.min(_maxDepth, embeddingPolicy._maxDepth),
+			Math.min(_maxFetches, embeddingPolicy._maxFetches),
+			Math.min(_maxItems, embeddingPolicy._maxItems),
+			_reject || embeddingPolicy._reject);
+	}
+
+	/**
+	 * Returns a policy with the same limits that truncates the requests
+	 * exceeding them instead of rejecting them. It's used by writers that
+	 * start sending the response before the whole response is written.
+	 *
+	 * @return the truncating policy
+	 */
+	public EmbeddingPolicy truncating() {
+		if (!_reject) {
+			return this;
+		}
+
+		return new EmbeddingPolicy(_maxDepth, _maxFetches, _maxItems, false);
+	}
+
+	private static Optional<Integer> _getIntegerOptional(
+		Function<String, Object> propertyFunction, String key) {
+
+		return Optional.ofNullable(
+			propertyFunction.apply(key)
+		).map(
+			String::valueOf
+		).flatMap(
+			value -> Try.fromFallible(
+				() -> Integer.parseInt(value)
+			).toOptional()
+		).filter(
+			value -> value >= 0
+		);
+	}
+
+	private final int _maxDepth;
+	private final int _maxFetches;
+	private final int _maxItems;
+	private final boolean _reject;
+
+}
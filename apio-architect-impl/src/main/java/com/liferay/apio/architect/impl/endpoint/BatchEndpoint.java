@@ -20,10 +20,15 @@ import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.functional.Try;
 
+import java.util.List;
+
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
 
 /**
  * Declares the endpoints for batch operations.
@@ -65,4 +70,35 @@ public interface BatchEndpoint<T> {
 		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
 		Body body);
 
+	/**
+	 * Deletes the collection items with the provided IDs from the resource
+	 * specified by {@code name}. This occurs via a DELETE request to the
+	 * resource, with an {@code id} query parameter for each item. The items
+	 * that couldn't be deleted are reported as failed in the batch result.
+	 *
+	 * @param  ids the IDs of the items to delete
+	 * @return the batch result operation, or an exception if an error occurred
+	 * @review
+	 */
+	@DELETE
+	@Path("/")
+	public Try<BatchResult<T>> deleteBatchCollectionItems(
+		@QueryParam("id") List<String> ids);
+
+	/**
+	 * Updates multiple collection items of the resource specified by {@code
+	 * name}. This occurs via a PUT request to the resource, whose body is an
+	 * array with the new values of each item. Each value must contain the ID
+	 * of the item in its {@code id} field. The items that couldn't be updated
+	 * are reported as failed in the batch result.
+	 *
+	 * @param  body the request's body
+	 * @return the batch result operation, or an exception if an error occurred
+	 * @review
+	 */
+	@Consumes(APPLICATION_JSON)
+	@Path("/")
+	@PUT
+	public Try<BatchResult<T>> updateBatchCollectionItems(Body body);
+
 }
\ No newline at end of file
@@ -15,23 +15,50 @@
 package com.liferay.apio.architect.impl.endpoint;
 
 import static com.liferay.apio.architect.impl.endpoint.ExceptionSupplierUtil.notAllowed;
+import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
+import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
+import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+import static javax.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.alias.IdentifierFunction;
+import com.liferay.apio.architect.batch.BatchItemFailure;
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.batch.BatchExecutor;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.supplier.ThrowableSupplier;
+import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.StatusType;
+
+import org.slf4j.Logger;
+
 /**
  * Creates {@link BatchEndpoint} instances.
  *
@@ -48,10 +75,14 @@ public interface BatchEndpointBuilder {
 	public static <T, S> RequestStep<T, S> name(String name) {
 		return httpServletRequest -> singleModelFunction ->
 			representorSupplier -> collectionRoutesSupplier ->
-				nestedCollectionRoutesFunction -> () -> new BatchEndpointImpl<>(
-					name, httpServletRequest, singleModelFunction,
-					representorSupplier, collectionRoutesSupplier,
-					nestedCollectionRoutesFunction);
+				nestedCollectionRoutesFunction -> itemRoutesSupplier ->
+					pathToIdentifierFunction -> batchExecutor ->
+						apiErrorFunction -> () -> new BatchEndpointImpl<>(
+							name, httpServletRequest, singleModelFunction,
+							representorSupplier, collectionRoutesSupplier,
+							nestedCollectionRoutesFunction, itemRoutesSupplier,
+							pathToIdentifierFunction, batchExecutor,
+							apiErrorFunction);
 	}
 
 	public class BatchEndpointImpl<T, S> implements BatchEndpoint<S> {
@@ -99,13 +130,62 @@ public interface BatchEndpointBuilder {
 			);
 		}
 
+		@Override
+		public Try<BatchResult<S>> deleteBatchCollectionItems(
+			List<String> ids) {
+
+			return Try.fromFallible(
+				_itemRoutesSupplier
+			).mapOptional(
+				ItemRoutes::getDeleteConsumerOptional, notAllowed(DELETE, _name)
+			).map(
+				requestFunction -> requestFunction.apply(_httpServletRequest)
+			).map(
+				throwableConsumer -> _execute(
+					_getIdentifiers(new LinkedHashSet<>(ids)),
+					identifier -> {
+						throwableConsumer.accept(identifier);
+
+						return identifier;
+					})
+			);
+		}
+
+		@Override
+		public Try<BatchResult<S>> updateBatchCollectionItems(Body body) {
+			return Try.fromFallible(
+				_itemRoutesSupplier
+			).mapOptional(
+				ItemRoutes::getUpdateItemFunctionOptional,
+				notAllowed(PUT, _name)
+			).map(
+				requestFunction -> requestFunction.apply(_httpServletRequest)
+			).map(
+				identifierFunction -> {
+					Map<S, Body> bodies = _getBodies(body);
+
+					return _execute(
+						new ArrayList<>(bodies.keySet()),
+						identifier -> identifierFunction.apply(
+							identifier
+						).apply(
+							bodies.get(identifier)
+						).get());
+				}
+			);
+		}
+
 		private BatchEndpointImpl(
 			String name, HttpServletRequest httpServletRequest,
 			Function<String, Try<SingleModel<T>>> singleModelFunction,
 			ThrowableSupplier<Representor<T>> representorSupplier,
 			ThrowableSupplier<CollectionRoutes<T, S>> collectionRoutesSupplier,
 			ThrowableFunction<String, NestedCollectionRoutes<T, S, Object>>
-				nestedCollectionRoutesFunction) {
+				nestedCollectionRoutesFunction,
+			ThrowableSupplier<ItemRoutes<T, S>> itemRoutesSupplier,
+			IdentifierFunction<S> pathToIdentifierFunction,
+			BatchExecutor batchExecutor,
+			Function<Exception, Optional<APIError>> apiErrorFunction) {
 
 			_name = name;
 			_httpServletRequest = httpServletRequest;
@@ -113,6 +193,104 @@ public interface BatchEndpointBuilder {
 			_representorSupplier = representorSupplier;
 			_collectionRoutesSupplier = collectionRoutesSupplier;
 			_nestedCollectionRoutesFunction = nestedCollectionRoutesFunction;
+			_itemRoutesSupplier = itemRoutesSupplier;
+			_pathToIdentifierFunction = pathToIdentifierFunction;
+			_batchExecutor = batchExecutor;
+			_apiErrorFunction = apiErrorFunction;
+		}
+
+		private BatchResult<S> _execute(
+			List<S> identifiers, ThrowableFunction<S, ?> throwableFunction) {
+
+			List<Try<Object>> results = _batchExecutor.execute(
+				identifiers, throwableFunction::apply);
+
+			List<S> processedIdentifiers = new ArrayList<>();
+			List<BatchItemFailure<S>> batchItemFailures = new ArrayList<>();
+
+			for (int i = 0; i < identifiers.size(); i++) {
+				S identifier = identifiers.get(i);
+
+				Try<Object> result = results.get(i);
+
+				if (result.isSuccess()) {
+					processedIdentifiers.add(identifier);
+
+					continue;
+				}
+
+				result.ifFailure(
+					e -> {
+						batchItemFailures.add(
+							_getBatchItemFailure(identifier, e));
+
+						if (_logger.isDebugEnabled()) {
+							_logger.debug(
+								"Unable to process item {} of {} in batch " +
+									"operation",
+								identifier, _name, e);
+						}
+					});
+			}
+
+			return new BatchResult<>(
+				processedIdentifiers, batchItemFailures, _name);
+		}
+
+		private BatchItemFailure<S> _getBatchItemFailure(
+			S identifier, Exception exception) {
+
+			Optional<APIError> optional = _apiErrorFunction.apply(exception);
+
+			if (optional.isPresent()) {
+				APIError apiError = optional.get();
+
+				return new BatchItemFailure<>(
+					identifier, apiError.getStatusCode(), apiError.getTitle());
+			}
+
+			StatusType statusType = INTERNAL_SERVER_ERROR;
+
+			if (exception instanceof WebApplicationException) {
+				WebApplicationException webApplicationException =
+					(WebApplicationException)exception;
+
+				Response response = webApplicationException.getResponse();
+
+				statusType = response.getStatusInfo();
+			}
+			else if (exception instanceof RejectedExecutionException) {
+				statusType = SERVICE_UNAVAILABLE;
+			}
+
+			return new BatchItemFailure<>(
+				identifier, statusType.getStatusCode(),
+				statusType.getReasonPhrase());
+		}
+
+		private Map<S, Body> _getBodies(Body body) {
+			List<Body> bodies = body.getBodyMembersOptional(
+			).orElseThrow(
+				() -> new BadRequestException("Body is not a valid JSON Array")
+			);
+
+			Map<S, Body> map = new LinkedHashMap<>();
+
+			for (Body itemBody : bodies) {
+				String id = itemBody.getValueOptional(
+					"id"
+				).orElseThrow(
+					() -> new BadRequestException(
+						"Every item of a batch update must have an id")
+				);
+
+				S identifier = _pathToIdentifierFunction.apply(
+					new Path(_name, id));
+
+				map.put(identifier, itemBody);
+			}
+
+			return map;
 		}
 
 		private Object _getIdentifierFunction(SingleModel<T> singleModel)
@@ -123,19 +301,69 @@ public interface BatchEndpointBuilder {
 			return representor.getIdentifier(singleModel.getModel());
 		}
 
+		private List<S> _getIdentifiers(Iterable<String> ids) {
+			List<S> identifiers = new ArrayList<>();
+
+			for (String id : ids) {
+				identifiers.add(
+					_pathToIdentifierFunction.apply(new Path(_name, id)));
+			}
+
+			return identifiers;
+		}
+
+		private static final Logger _logger = getLogger(
+			BatchEndpointBuilder.class);
+
+		private final Function<Exception, Optional<APIError>>
+			_apiErrorFunction;
+		private final BatchExecutor _batchExecutor;
 		private final ThrowableSupplier<CollectionRoutes<T, S>>
 			_collectionRoutesSupplier;
 		private final HttpServletRequest _httpServletRequest;
+		private final ThrowableSupplier<ItemRoutes<T, S>> _itemRoutesSupplier;
 		private final String _name;
 		private final ThrowableFunction
 			<String, NestedCollectionRoutes<T, S, Object>>
 				_nestedCollectionRoutesFunction;
+		private final IdentifierFunction<S> _pathToIdentifierFunction;
 		private final ThrowableSupplier<Representor<T>> _representorSupplier;
 		private final Function<String, Try<SingleModel<T>>>
 			_singleModelFunction;
 
 	}
 
+	@FunctionalInterface
+	public interface APIErrorFunctionStep<S> {
+
+		/**
+		 * Adds information to the builder about the function that maps the
+		 * exception thrown by an item of a batch update or deletion to an
+		 * {@link APIError}, if an exception mapper for it exists.
+		 *
+		 * @param  function the function
+		 * @return the builder's following step
+		 */
+		public BuildStep<S> apiErrorFunction(
+			Function<Exception, Optional<APIError>> function);
+
+	}
+
+	@FunctionalInterface
+	public interface BatchExecutorStep<S> {
+
+		/**
+		 * Adds information to the builder about the {@link BatchExecutor} that
+		 * processes the items of batch updates and deletions.
+		 *
+		 * @param  batchExecutor the batch executor
+		 * @return the builder's following step
+		 */
+		public APIErrorFunctionStep<S> batchExecutor(
+			BatchExecutor batchExecutor);
+
+	}
+
 	@FunctionalInterface
 	public interface BuildStep<T> {
 
@@ -166,6 +394,21 @@ public interface BatchEndpointBuilder {
 
 	}
 
+	@FunctionalInterface
+	public interface ItemRoutesSupplierStep<T, S> {
+
+		/**
+		 * Adds information to the builder about the supplier that provides the
+		 * current resource's {@link ItemRoutes}.
+		 *
+		 * @param  supplier the supplier
+		 * @return the builder's following step
+		 */
+		public PathToIdentifierFunctionStep<S> itemRoutesSupplier(
+			ThrowableSupplier<ItemRoutes<T, S>> supplier);
+
+	}
+
 	@FunctionalInterface
 	public interface NestedCollectionRoutesFunctionStep<T, S> {
 
@@ -177,12 +420,28 @@ public interface BatchEndpointBuilder {
 		 * @param  function the function
 		 * @return the builder's following step
 		 */
-		public BuildStep<S> nestedCollectionRoutesFunction(
+		public ItemRoutesSupplierStep<T, S> nestedCollectionRoutesFunction(
 			ThrowableFunction<String, NestedCollectionRoutes<T, S, Object>>
 				function);
 
 	}
 
+	@FunctionalInterface
+	public interface PathToIdentifierFunctionStep<S> {
+
+		/**
+		 * Adds information to the builder about the function that converts a
+		 * {@link Path} into the identifier of one of the current resource's
+		 * items.
+		 *
+		 * @param  function the function
+		 * @return the builder's following step
+		 */
+		public BatchExecutorStep<S> pathToIdentifierFunction(
+			IdentifierFunction<S> function);
+
+	}
+
 	@FunctionalInterface
 	public interface RepresentorSupplierStep<T, S> {
 
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.endpoint;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static javax.ws.rs.core.MediaType.SERVER_SENT_EVENTS;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.changefeed.ChangeFeed;
+import com.liferay.apio.architect.impl.changefeed.ChangeNotification;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+/**
+ * Declares the endpoint for subscribing to the changes of collections and
+ * nested collections as server-sent events, instead of polling them.
+ *
+ * <p>
+ * Each event is named after the change's type ({@code created}, {@code
+ * updated} or {@code deleted}), and contains the changed model's resource
+ * name, identifier and URL. An {@code overflow} event is sent instead of the
+ * buffered events if the subscriber can't keep up, so it must reload the
+ * collection.
+ * </p>
+ *
+ * <p>
+ * Before subscribing, the collection's first page is requested with the
+ * subscriber's credentials, so subscribing requires the same permissions as
+ * getting the collection.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ChangeFeedEndpoint {
+
+	public ChangeFeedEndpoint(
+		String name, ChangeFeed changeFeed, Supplier<Try<?>> pageTrySupplier,
+		BiFunction<String, String, Try<?>> nestedPageTryBiFunction,
+		Function<String, Object> identifierFunction) {
+
+		_name = name;
+		_changeFeed = changeFeed;
+		_pageTrySupplier = pageTrySupplier;
+		_nestedPageTryBiFunction = nestedPageTryBiFunction;
+		_identifierFunction = identifierFunction;
+	}
+
+	/**
+	 * Subscribes to the changes of the collection.
+	 *
+	 * @param sseEventSink the subscriber's event sink
+	 * @param sse the server-sent events context
+	 */
+	@GET
+	@Path("/")
+	@Produces(SERVER_SENT_EVENTS)
+	public void subscribe(
+		@Context SseEventSink sseEventSink, @Context Sse sse) {
+
+		_checkAccess(_pageTrySupplier.get());
+
+		_changeFeed.subscribe(
+			_name, _getSendFunction(sseEventSink, sse), sseEventSink::close);
+	}
+
+	/**
+	 * Subscribes to the changes of a model's nested collection.
+	 *
+	 * @param id the parent model's identifier, as it appears in its URL
+	 * @param nestedName the nested resource's name
+	 * @param sseEventSink the subscriber's event sink
+	 * @param sse the server-sent events context
+	 */
+	@GET
+	@Path("/{id}/{nestedName}")
+	@Produces(SERVER_SENT_EVENTS)
+	public void subscribe(
+		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
+		@Context SseEventSink sseEventSink, @Context Sse sse) {
+
+		_checkAccess(_nestedPageTryBiFunction.apply(id, nestedName));
+
+		Object parentIdentifier = _identifierFunction.apply(id);
+
+		_changeFeed.subscribe(
+			nestedName, _name, parentIdentifier,
+			_getSendFunction(sseEventSink, sse), sseEventSink::close);
+	}
+
+	private void _checkAccess(Try<?> pageTry) {
+		if (pageTry.isFailure()) {
+			pageTry.getUnchecked();
+		}
+	}
+
+	private Function<ChangeNotification, CompletionStage<?>> _getSendFunction(
+		SseEventSink sseEventSink, Sse sse) {
+
+		return changeNotification -> {
+			OutboundSseEvent.Builder builder = sse.newEventBuilder();
+
+			OutboundSseEvent outboundSseEvent = builder.id(
+				String.valueOf(changeNotification.getId())
+			).name(
+				changeNotification.getName()
+			).mediaType(
+				APPLICATION_JSON_TYPE
+			).data(
+				String.class, changeNotification.getData()
+			).build();
+
+			return sseEventSink.send(outboundSseEvent);
+		};
+	}
+
+	private final ChangeFeed _changeFeed;
+	private final Function<String, Object> _identifierFunction;
+	private final String _name;
+	private final BiFunction<String, String, Try<?>> _nestedPageTryBiFunction;
+	private final Supplier<Try<?>> _pageTrySupplier;
+
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.endpoint;
+
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.message.json.ld.JSONLDMessageMapperUtil;
+import com.liferay.apio.architect.representor.Representor;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+/**
+ * Declares the endpoint for the JSON-LD context documents shared by every
+ * resource of a type.
+ *
+ * <p>
+ * Documents only change when their type's representor changes, but that can
+ * happen whenever a bundle is updated and their URL stays the same. Clients
+ * can cache them for {@link #MAX_AGE} seconds; after that, they must
+ * revalidate them with their {@code ETag}, which is cheap since an unchanged
+ * document gets a {@code 304} response.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ContextEndpoint {
+
+	/**
+	 * The number of seconds clients can cache a context document before
+	 * revalidating it.
+	 */
+	public static final int MAX_AGE = 60;
+
+	public ContextEndpoint(
+		ThrowableFunction<String, Representor<Object>> representorFunction) {
+
+		_representorFunction = representorFunction;
+	}
+
+	/**
+	 * Returns the context document shared by every resource of a type.
+	 *
+	 * @param  name the resource's name, extracted from the URL
+	 * @param  request the current request
+	 * @return the context document, or a {@code 304} response if the client's
+	 *         copy is still valid
+	 */
+	@GET
+	@Path("{name}")
+	@Produces("application/ld+json")
+	public Response getContext(
+		@PathParam("name") String name, @Context Request request) {
+
+		return Try.fromFallible(
+			() -> _representorFunction.apply(name)
+		).map(
+			JSONLDMessageMapperUtil::getSharedContext
+		).map(
+			context -> _getResponse(context, request)
+		).getUnchecked();
+	}
+
+	private Response _getResponse(String context, Request request) {
+		EntityTag entityTag = new EntityTag(
+			Integer.toHexString(context.hashCode()));
+
+		ResponseBuilder responseBuilder = request.evaluatePreconditions(
+			entityTag);
+
+		if (responseBuilder == null) {
+			responseBuilder = Response.ok(context, "application/ld+json");
+		}
+
+		CacheControl cacheControl = new CacheControl();
+
+		cacheControl.setMaxAge(MAX_AGE);
+		cacheControl.setMustRevalidate(true);
+
+		return responseBuilder.cacheControl(
+			cacheControl
+		).tag(
+			entityTag
+		).build();
+	}
+
+	private final ThrowableFunction<String, Representor<Object>>
+		_representorFunction;
+
+}
@@ -22,6 +22,8 @@ import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.List;
+
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
@@ -29,6 +31,9 @@ import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 
 /**
@@ -78,6 +83,19 @@ public interface PageEndpoint<T> {
 	public Response deleteCollectionItem(@PathParam("id") String id)
 		throws Exception;
 
+	/**
+	 * Resumes the {@code AsyncResponse} with the {@link SingleModel} for the
+	 * specified resource, once it's available. The request thread is released
+	 * while an asynchronous getter is running.
+	 *
+	 * @param id the resource's ID
+	 * @param asyncResponse the suspended response
+	 */
+	@GET
+	@Path("{id}")
+	public void getCollectionItemSingleModel(
+		@PathParam("id") String id, @Suspended AsyncResponse asyncResponse);
+
 	/**
 	 * Returns the {@link SingleModel} for the specified resource.
 	 *
@@ -85,10 +103,40 @@ public interface PageEndpoint<T> {
 	 * @return the {@link SingleModel} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
+	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id);
+
+	/**
+	 * Returns a collection {@link Page} containing the items with the provided
+	 * IDs, in the order of their first appearance. IDs that don't match any
+	 * item are left out of the page. If the resource's item routes have a
+	 * batch getter, every item is fetched with a single call to it.
+	 *
+	 * @param  ids the resources' IDs
+	 * @return the collection {@link Page} with the items, or an exception if
+	 *         an error occurred
+	 * @review
+	 */
+	public Try<Page<T>> getCollectionItemsPageTry(List<String> ids);
+
+	/**
+	 * Resumes the {@code AsyncResponse} with the collection {@link Page} for
+	 * the specified resource, once it's available. The request thread is
+	 * released while an asynchronous getter is running.
+	 *
+	 * <p>
+	 * If one or more {@code id} query parameters are provided, the page
+	 * contains only the items with those IDs (see {@link
+	 * #getCollectionItemsPageTry(List)}).
+	 * </p>
+	 *
+	 * @param ids the IDs of the items to fetch, if any
+	 * @param asyncResponse the suspended response
+	 */
 	@GET
-	@Path("{id}")
-	public Try<SingleModel<T>> getCollectionItemSingleModelTry(
-		@PathParam("id") String id);
+	@Path("/")
+	public void getCollectionPage(
+		@QueryParam("id") List<String> ids,
+		@Suspended AsyncResponse asyncResponse);
 
 	/**
 	 * Returns the collection {@link Page} for the specified resource.
@@ -96,10 +144,23 @@ public interface PageEndpoint<T> {
 	 * @return the collection {@link Page} for the specified resource, or an
 	 *         exception if an error occurred
 	 */
-	@GET
-	@Path("/")
 	public Try<Page<T>> getCollectionPageTry();
 
+	/**
+	 * Resumes the {@code AsyncResponse} with a nested collection {@link Page}
+	 * for the specified resource, once it's available. The request thread is
+	 * released while an asynchronous getter is running.
+	 *
+	 * @param id the parent resource's ID
+	 * @param nestedName the nested resource's name
+	 * @param asyncResponse the suspended response
+	 */
+	@GET
+	@Path("{id}/{nestedName}")
+	public void getNestedCollectionPage(
+		@PathParam("id") String id, @PathParam("nestedName") String nestedName,
+		@Suspended AsyncResponse asyncResponse);
+
 	/**
 	 * Returns a nested collection {@link Page} for the specified resource.
 	 *
@@ -108,10 +169,8 @@ public interface PageEndpoint<T> {
 	 * @return the nested collection {@link Page} for the specified resource, or
 	 *         an exception if an error occurred
 	 */
-	@GET
-	@Path("{id}/{nestedName}")
 	public Try<Page<T>> getNestedCollectionPageTry(
-		@PathParam("id") String id, @PathParam("nestedName") String nestedName);
+		String id, String nestedName);
 
 	/**
 	 * Updates the specified collection item.
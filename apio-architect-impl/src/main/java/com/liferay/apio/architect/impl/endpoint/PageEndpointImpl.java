@@ -14,19 +14,29 @@
 
 package com.liferay.apio.architect.impl.endpoint;
 
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.toCompletionStage;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.toTry;
 import static com.liferay.apio.architect.impl.endpoint.ExceptionSupplierUtil.notAllowed;
 import static com.liferay.apio.architect.impl.endpoint.ExceptionSupplierUtil.notFound;
+import static com.liferay.apio.architect.impl.metrics.Phase.MODEL_FETCH;
 import static com.liferay.apio.architect.operation.HTTPMethod.DELETE;
 import static com.liferay.apio.architect.operation.HTTPMethod.POST;
 import static com.liferay.apio.architect.operation.HTTPMethod.PUT;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 import static javax.ws.rs.core.Response.noContent;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
+import com.liferay.apio.architect.alias.routes.GetPageAsyncFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageAsyncFunction;
 import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.async.CompletionStageUtil;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.pagination.ItemsPageImpl;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.routes.CollectionRoutes;
@@ -36,12 +46,19 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.supplier.ThrowableSupplier;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.Response;
 
 /**
@@ -52,21 +69,28 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 	public PageEndpointImpl(
 		String name, HttpServletRequest httpServletRequest,
 		Function<String, Try<SingleModel<T>>> singleModelFunction,
+		Function<String, CompletionStage<SingleModel<T>>>
+			singleModelAsyncFunction,
+		Function<List<String>, Try<List<SingleModel<T>>>> singleModelsFunction,
 		ThrowableSupplier<CollectionRoutes<T, S>> collectionRoutesSupplier,
 		ThrowableSupplier<Representor<T>> representorSupplier,
 		ThrowableSupplier<ItemRoutes<T, S>> itemRoutesSupplier,
 		ThrowableFunction<String, NestedCollectionRoutes<T, S, Object>>
 			nestedCollectionRoutesFunction,
-		IdentifierFunction<S> pathToIdentifierFunction) {
+		IdentifierFunction<S> pathToIdentifierFunction,
+		Instrumentation instrumentation) {
 
 		_name = name;
 		_httpServletRequest = httpServletRequest;
 		_singleModelFunction = singleModelFunction;
+		_singleModelAsyncFunction = singleModelAsyncFunction;
+		_singleModelsFunction = singleModelsFunction;
 		_collectionRoutesSupplier = collectionRoutesSupplier;
 		_representorSupplier = representorSupplier;
 		_itemRoutesSupplier = itemRoutesSupplier;
 		_nestedCollectionRoutesFunction = nestedCollectionRoutesFunction;
 		_pathToIdentifierFunction = pathToIdentifierFunction;
+		_instrumentation = instrumentation;
 	}
 
 	@Override
@@ -126,11 +150,74 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		return noContent().build();
 	}
 
+	@Override
+	public void getCollectionItemSingleModel(
+		String id, AsyncResponse asyncResponse) {
+
+		asyncResponse.setTimeout(_ASYNC_TIMEOUT, SECONDS);
+
+		CompletionStage<SingleModel<T>> completionStage =
+			_singleModelAsyncFunction.apply(id);
+
+		completionStage.whenComplete(
+			(singleModel, throwable) -> asyncResponse.resume(
+				new GenericEntity<Try<SingleModel<T>>>(
+					toTry(singleModel, throwable)) {}));
+	}
+
 	@Override
 	public Try<SingleModel<T>> getCollectionItemSingleModelTry(String id) {
 		return _singleModelFunction.apply(id);
 	}
 
+	@Override
+	public Try<Page<T>> getCollectionItemsPageTry(List<String> ids) {
+		List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+		if (distinctIds.size() > _IDS_MAX) {
+			return Try.fail(
+				new BadRequestException(
+					"A maximum of " + _IDS_MAX + " IDs can be requested at " +
+						"once"));
+		}
+
+		return _singleModelsFunction.apply(
+			distinctIds
+		).map(
+			singleModels -> _getItemsPage(distinctIds, singleModels)
+		);
+	}
+
+	@Override
+	public void getCollectionPage(
+		List<String> ids, AsyncResponse asyncResponse) {
+
+		if ((ids != null) && !ids.isEmpty()) {
+			_resume(
+				asyncResponse,
+				toCompletionStage(getCollectionItemsPageTry(ids)));
+
+			return;
+		}
+
+		Optional<GetPageAsyncFunction<T>> optional = Try.fromFallible(
+			_collectionRoutesSupplier
+		).toOptional(
+		).flatMap(
+			CollectionRoutes::getGetPageAsyncFunctionOptional
+		);
+
+		CompletionStage<Page<T>> completionStage = optional.map(
+			requestFunction -> _instrumentation.measureAsync(
+				_httpServletRequest, _name, MODEL_FETCH,
+				() -> requestFunction.apply(_httpServletRequest))
+		).orElseGet(
+			() -> toCompletionStage(getCollectionPageTry())
+		);
+
+		_resume(asyncResponse, completionStage);
+	}
+
 	@Override
 	public Try<Page<T>> getCollectionPageTry() {
 		return Try.fromFallible(
@@ -138,10 +225,52 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		).mapOptional(
 			CollectionRoutes::getGetPageFunctionOptional, notFound(_name)
 		).flatMap(
-			requestFunction -> requestFunction.apply(_httpServletRequest)
+			requestFunction -> _instrumentation.measure(
+				_httpServletRequest, _name, MODEL_FETCH,
+				() -> requestFunction.apply(_httpServletRequest))
 		);
 	}
 
+	@Override
+	public void getNestedCollectionPage(
+		String id, String nestedName, AsyncResponse asyncResponse) {
+
+		Optional<NestedGetPageAsyncFunction<T, Object>> optional =
+			Try.fromFallible(
+				() -> _nestedCollectionRoutesFunction.apply(nestedName)
+			).toOptional(
+			).flatMap(
+				NestedCollectionRoutes::getNestedGetPageAsyncFunctionOptional
+			);
+
+		CompletionStage<Page<T>> completionStage = optional.map(
+			requestFunction -> requestFunction.apply(
+				_httpServletRequest
+			).apply(
+				new Path(_name, id)
+			)
+		).map(
+			identifierFunction -> _singleModelFunction.apply(
+				id
+			).map(
+				this::_getIdentifierFunction
+			).map(
+				identifier -> _instrumentation.measureAsync(
+					_httpServletRequest, nestedName, MODEL_FETCH,
+					() -> identifierFunction.apply(identifier))
+			)
+		).map(
+			CompletionStageUtil::flatten
+		).orElseGet(
+			() -> toCompletionStage(getNestedCollectionPageTry(id, nestedName))
+		);
+
+		_resume(
+			asyncResponse, completionStage,
+			pageTry -> pageTry.mapFailMatching(
+				NoSuchElementException.class, notFound(id, nestedName)));
+	}
+
 	@Override
 	public Try<Page<T>> getNestedCollectionPageTry(
 		String id, String nestedName) {
@@ -162,7 +291,9 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 			).map(
 				this::_getIdentifierFunction
 			).flatMap(
-				identifierFunction::apply
+				identifier -> _instrumentation.measure(
+					_httpServletRequest, nestedName, MODEL_FETCH,
+					() -> identifierFunction.apply(identifier))
 			)
 		).mapFailMatching(
 			NoSuchElementException.class, notFound(id, nestedName)
@@ -196,9 +327,44 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 		return representor.getIdentifier(singleModel.getModel());
 	}
 
+	private Page<T> _getItemsPage(
+		List<String> ids, List<SingleModel<T>> singleModels) {
+
+		List<T> models = new ArrayList<>(singleModels.size());
+
+		for (SingleModel<T> singleModel : singleModels) {
+			models.add(singleModel.getModel());
+		}
+
+		return new ItemsPageImpl<>(_name, models, ids);
+	}
+
+	private void _resume(
+		AsyncResponse asyncResponse, CompletionStage<Page<T>> completionStage) {
+
+		_resume(asyncResponse, completionStage, Function.identity());
+	}
+
+	private void _resume(
+		AsyncResponse asyncResponse, CompletionStage<Page<T>> completionStage,
+		Function<Try<Page<T>>, Try<Page<T>>> function) {
+
+		asyncResponse.setTimeout(_ASYNC_TIMEOUT, SECONDS);
+
+		completionStage.whenComplete(
+			(page, throwable) -> asyncResponse.resume(
+				new GenericEntity<Try<Page<T>>>(
+					function.apply(toTry(page, throwable))) {}));
+	}
+
+	private static final long _ASYNC_TIMEOUT = 30;
+
+	private static final int _IDS_MAX = 100;
+
 	private final ThrowableSupplier<CollectionRoutes<T, S>>
 		_collectionRoutesSupplier;
 	private final HttpServletRequest _httpServletRequest;
+	private final Instrumentation _instrumentation;
 	private final ThrowableSupplier<ItemRoutes<T, S>> _itemRoutesSupplier;
 	private final String _name;
 	private final ThrowableFunction
@@ -206,6 +372,10 @@ public class PageEndpointImpl<T, S> implements PageEndpoint<T> {
 			_nestedCollectionRoutesFunction;
 	private final IdentifierFunction<S> _pathToIdentifierFunction;
 	private final ThrowableSupplier<Representor<T>> _representorSupplier;
+	private final Function<String, CompletionStage<SingleModel<T>>>
+		_singleModelAsyncFunction;
 	private final Function<String, Try<SingleModel<T>>> _singleModelFunction;
+	private final Function<List<String>, Try<List<SingleModel<T>>>>
+		_singleModelsFunction;
 
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.liferay.apio.architect.impl.entrypoint.EntryPoint;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Response;
 
 /**
  * Declares the endpoint from which all of your APIs originate. There should
@@ -47,6 +48,23 @@ public interface RootEndpoint {
 	@Path("/b/")
 	public BinaryEndpoint binaryEndpoint();
 
+	/**
+	 * Returns the endpoint for subscribing to the changes of a collection.
+	 *
+	 * @return the endpoint
+	 */
+	@Path("/changes/{name}")
+	public ChangeFeedEndpoint changeFeedEndpoint(
+		@PathParam("name") String name);
+
+	/**
+	 * Returns the endpoint for the shared JSON-LD context documents.
+	 *
+	 * @return the endpoint
+	 */
+	@Path("/context/")
+	public ContextEndpoint contextEndpoint();
+
 	/**
 	 * Returns the application profile.
 	 *
@@ -81,4 +99,24 @@ public interface RootEndpoint {
 	@Path("/p/{name}")
 	public PageEndpoint pageEndpoint(@PathParam("name") String name);
 
+	/**
+	 * Returns an empty {@code 200} response if the application is ready to
+	 * serve requests, or a {@code 503} response with a {@code Retry-After}
+	 * header while its routes and representors are still being computed.
+	 * Load balancers can use it to hold traffic until then.
+	 *
+	 * @return the readiness response
+	 */
+	@GET
+	@Path("/ready")
+	public Response ready();
+
+	/**
+	 * Returns the endpoint for streaming whole collections.
+	 *
+	 * @return the endpoint
+	 */
+	@Path("/stream/{name}")
+	public StreamEndpoint streamEndpoint(@PathParam("name") String name);
+
 }
\ No newline at end of file
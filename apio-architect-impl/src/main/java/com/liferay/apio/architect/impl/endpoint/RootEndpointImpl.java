@@ -14,15 +14,30 @@
 
 package com.liferay.apio.architect.impl.endpoint;
 
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.flatten;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.toCompletionStage;
 import static com.liferay.apio.architect.impl.endpoint.ExceptionSupplierUtil.notFound;
+import static com.liferay.apio.architect.impl.metrics.Phase.MODEL_FETCH;
+import static com.liferay.apio.architect.impl.metrics.Phase.ROUTING;
 
+import static javax.ws.rs.core.HttpHeaders.RETRY_AFTER;
+import static javax.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+
+import com.liferay.apio.architect.alias.routes.GetItemAsyncFunction;
+import com.liferay.apio.architect.alias.routes.GetItemsFunction;
 import com.liferay.apio.architect.documentation.APIDescription;
 import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.batch.BatchExecutor;
+import com.liferay.apio.architect.impl.cache.ModelCache;
+import com.liferay.apio.architect.impl.changefeed.ChangeFeed;
 import com.liferay.apio.architect.impl.documentation.Documentation;
 import com.liferay.apio.architect.impl.entrypoint.EntryPoint;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
 import com.liferay.apio.architect.impl.url.ApplicationURL;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCacheWarmer;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.router.CollectionRouterManager;
@@ -36,11 +51,19 @@ import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -81,6 +104,14 @@ public class RootEndpointImpl implements RootEndpoint {
 			() -> _getCollectionRoutesOrFail(name)
 		).nestedCollectionRoutesFunction(
 			nestedName -> _getNestedCollectionRoutesOrFail(name, nestedName)
+		).itemRoutesSupplier(
+			() -> _getItemRoutesOrFail(name)
+		).pathToIdentifierFunction(
+			_pathIdentifierMapperManager::mapToIdentifierOrFail
+		).batchExecutor(
+			_batchExecutor
+		).apiErrorFunction(
+			_exceptionMapperManager::map
 		).build();
 	}
 
@@ -90,6 +121,22 @@ public class RootEndpointImpl implements RootEndpoint {
 			this::_getRepresentorOrFail, this::_getSingleModelTry);
 	}
 
+	@Override
+	public ChangeFeedEndpoint changeFeedEndpoint(String name) {
+		PageEndpointImpl pageEndpoint = pageEndpoint(name);
+
+		return new ChangeFeedEndpoint(
+			name, _changeFeed, pageEndpoint::getCollectionPageTry,
+			pageEndpoint::getNestedCollectionPageTry,
+			id -> _pathIdentifierMapperManager.mapToIdentifierOrFail(
+				new Path(name, id)));
+	}
+
+	@Override
+	public ContextEndpoint contextEndpoint() {
+		return new ContextEndpoint(this::_getRepresentorOrFail);
+	}
+
 	@Override
 	public Documentation documentation() {
 		return _documentation;
@@ -111,24 +158,52 @@ public class RootEndpointImpl implements RootEndpoint {
 	public PageEndpointImpl pageEndpoint(String name) {
 		return new PageEndpointImpl<>(
 			name, _httpServletRequest, id -> _getSingleModelTry(name, id),
+			id -> _getSingleModelCompletionStage(name, id),
+			ids -> _getSingleModelsTry(name, ids),
 			() -> _getCollectionRoutesOrFail(name),
 			() -> _getRepresentorOrFail(name), () -> _getItemRoutesOrFail(name),
 			nestedName -> _getNestedCollectionRoutesOrFail(name, nestedName),
-			_pathIdentifierMapperManager::mapToIdentifierOrFail);
+			_pathIdentifierMapperManager::mapToIdentifierOrFail,
+			_instrumentation);
+	}
+
+	@Override
+	public Response ready() {
+		if (_managerCacheWarmer.isReady()) {
+			return Response.ok().build();
+		}
+
+		return Response.status(
+			SERVICE_UNAVAILABLE
+		).header(
+			RETRY_AFTER, 1
+		).build();
+	}
+
+	@Override
+	public StreamEndpoint streamEndpoint(String name) {
+		return new StreamEndpoint<>(
+			name, _httpServletRequest, () -> _getCollectionRoutesOrFail(name),
+			_instrumentation);
 	}
 
 	private CollectionRoutes<Object, Object> _getCollectionRoutesOrFail(
 		String name) {
 
 		Optional<CollectionRoutes<Object, Object>> optional =
-			_collectionRouterManager.getCollectionRoutesOptional(name);
+			_instrumentation.measure(
+				_httpServletRequest, name, ROUTING,
+				() -> _collectionRouterManager.getCollectionRoutesOptional(
+					name));
 
 		return optional.orElseThrow(notFound(name));
 	}
 
 	private ItemRoutes<Object, Object> _getItemRoutesOrFail(String name) {
 		Optional<ItemRoutes<Object, Object>> optional =
-			_itemRouterManager.getItemRoutesOptional(name);
+			_instrumentation.measure(
+				_httpServletRequest, name, ROUTING,
+				() -> _itemRouterManager.getItemRoutesOptional(name));
 
 		return optional.orElseThrow(notFound(name));
 	}
@@ -137,8 +212,10 @@ public class RootEndpointImpl implements RootEndpoint {
 		_getNestedCollectionRoutesOrFail(String name, String nestedName) {
 
 		Optional<NestedCollectionRoutes<Object, Object, Object>> optional =
-			_nestedCollectionRouterManager.getNestedCollectionRoutesOptional(
-				name, nestedName);
+			_instrumentation.measure(
+				_httpServletRequest, nestedName, ROUTING,
+				() -> _nestedCollectionRouterManager.
+					getNestedCollectionRoutesOptional(name, nestedName));
 
 		return optional.orElseThrow(notFound(name, "{id}", nestedName));
 	}
@@ -150,6 +227,52 @@ public class RootEndpointImpl implements RootEndpoint {
 		return optional.orElseThrow(notFound(name));
 	}
 
+	private CompletionStage<SingleModel<Object>>
+		_getSingleModelCompletionStage(String name, String id) {
+
+		Optional<GetItemAsyncFunction<Object, Object>> optional =
+			Try.fromFallible(
+				() -> _getItemRoutesOrFail(name)
+			).toOptional(
+			).flatMap(
+				ItemRoutes::getItemAsyncFunctionOptional
+			);
+
+		if (!optional.isPresent()) {
+			return toCompletionStage(_getSingleModelTry(name, id));
+		}
+
+		GetItemAsyncFunction<Object, Object> getItemAsyncFunction =
+			optional.get();
+
+		return flatten(
+			Try.fromFallible(
+				() -> _pathIdentifierMapperManager.mapToIdentifierOrFail(
+					new Path(name, id))
+			).map(
+				identifier -> {
+					Consumer<SingleModel<Object>> singleModelConsumer =
+						_modelCache.getSingleModelConsumer(
+							_httpServletRequest, name, identifier);
+
+					return _instrumentation.measureAsync(
+						_httpServletRequest, name, MODEL_FETCH,
+						() -> getItemAsyncFunction.apply(
+							_httpServletRequest
+						).apply(
+							identifier
+						)
+					).thenApply(
+						singleModel -> {
+							singleModelConsumer.accept(singleModel);
+
+							return singleModel;
+						}
+					);
+				}
+			));
+	}
+
 	private Try<SingleModel<Object>> _getSingleModelTry(
 		String name, String id) {
 
@@ -159,12 +282,92 @@ public class RootEndpointImpl implements RootEndpoint {
 			ItemRoutes::getItemFunctionOptional, notFound(name, id)
 		).map(
 			requestFunction -> requestFunction.apply(_httpServletRequest)
-		).map(
-			identifierFunction -> identifierFunction.compose(
-				(Path path) ->
-					_pathIdentifierMapperManager.mapToIdentifierOrFail(path))
 		).flatMap(
-			pathFunction -> pathFunction.apply(new Path(name, id))
+			identifierFunction -> Try.fromFallible(
+				() -> _pathIdentifierMapperManager.mapToIdentifierOrFail(
+					new Path(name, id))
+			).flatMap(
+				identifier -> _modelCache.getSingleModelTry(
+					_httpServletRequest, name, identifier,
+					() -> _instrumentation.measure(
+						_httpServletRequest, name, MODEL_FETCH,
+						() -> identifierFunction.apply(identifier)))
+			)
+		);
+	}
+
+	private Try<List<SingleModel<Object>>> _getSingleModelsTry(
+		String name, List<String> ids) {
+
+		Optional<GetItemsFunction<Object, Object>> optional =
+			Try.fromFallible(
+				() -> _getItemRoutesOrFail(name)
+			).toOptional(
+			).flatMap(
+				ItemRoutes::getItemsFunctionOptional
+			);
+
+		if (!optional.isPresent()) {
+			return Try.fromFallible(
+				() -> {
+					List<SingleModel<Object>> singleModels = new ArrayList<>();
+
+					for (String id : ids) {
+						Optional<SingleModel<Object>> singleModelOptional =
+							_getSingleModelTry(
+								name, id
+							).map(
+								Optional::of
+							).recoverWith(
+								e -> (e instanceof NotFoundException) ?
+									Try.success(Optional.empty()) : Try.fail(e)
+							).get();
+
+						singleModelOptional.ifPresent(singleModels::add);
+					}
+
+					return singleModels;
+				});
+		}
+
+		GetItemsFunction<Object, Object> getItemsFunction = optional.get();
+
+		return Try.fromFallible(
+			() -> {
+				List<Object> identifiers = new ArrayList<>();
+
+				for (String id : ids) {
+					identifiers.add(
+						_pathIdentifierMapperManager.mapToIdentifierOrFail(
+							new Path(name, id)));
+				}
+
+				return identifiers;
+			}
+		).flatMap(
+			identifiers -> {
+				Map<Object, Consumer<SingleModel<Object>>> consumers =
+					new HashMap<>();
+
+				for (Object identifier : identifiers) {
+					consumers.put(
+						identifier,
+						_modelCache.getSingleModelConsumer(
+							_httpServletRequest, name, identifier));
+				}
+
+				return _instrumentation.measure(
+					_httpServletRequest, name, MODEL_FETCH,
+					() -> getItemsFunction.apply(
+						_httpServletRequest
+					).apply(
+						identifiers
+					)
+				).map(
+					singleModels -> _putSingleModels(
+						name, consumers, singleModels)
+				);
+			}
 		);
 	}
 
@@ -172,6 +375,30 @@ public class RootEndpointImpl implements RootEndpoint {
 		return _providerManager.provideOptional(_httpServletRequest, clazz);
 	}
 
+	private List<SingleModel<Object>> _putSingleModels(
+		String name, Map<Object, Consumer<SingleModel<Object>>> consumers,
+		List<SingleModel<Object>> singleModels) {
+
+		Representor<Object> representor = _getRepresentorOrFail(name);
+
+		for (SingleModel<Object> singleModel : singleModels) {
+			Consumer<SingleModel<Object>> consumer = consumers.computeIfAbsent(
+				representor.getIdentifier(singleModel.getModel()),
+				identifier -> _modelCache.getSingleModelConsumer(
+					_httpServletRequest, name, identifier));
+
+			consumer.accept(singleModel);
+		}
+
+		return singleModels;
+	}
+
+	@Reference
+	private BatchExecutor _batchExecutor;
+
+	@Reference
+	private ChangeFeed _changeFeed;
+
 	@Reference
 	private CollectionRouterManager _collectionRouterManager;
 
@@ -180,12 +407,24 @@ public class RootEndpointImpl implements RootEndpoint {
 
 	private Documentation _documentation;
 
+	@Reference
+	private ExceptionMapperManager _exceptionMapperManager;
+
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
+	@Reference
+	private Instrumentation _instrumentation;
+
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
+	@Reference
+	private ManagerCacheWarmer _managerCacheWarmer;
+
+	@Reference
+	private ModelCache _modelCache;
+
 	@Reference
 	private NestedCollectionRouterManager _nestedCollectionRouterManager;
 
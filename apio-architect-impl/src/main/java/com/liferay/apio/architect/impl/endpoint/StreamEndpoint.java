@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.endpoint;
+
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.await;
+import static com.liferay.apio.architect.impl.endpoint.ExceptionSupplierUtil.notFound;
+import static com.liferay.apio.architect.impl.metrics.Phase.MODEL_FETCH;
+
+import com.liferay.apio.architect.alias.routes.GetPageFunction;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.pagination.PageStream;
+import com.liferay.apio.architect.impl.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.request.PaginatedHttpServletRequest;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.routes.CollectionRoutes;
+import com.liferay.apio.architect.supplier.ThrowableSupplier;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+/**
+ * Declares the endpoint for streaming whole collections. Collections are
+ * written as newline delimited JSON, one item per line, fetching one page at
+ * a time. Collections with only an asynchronous getter are streamed by
+ * waiting for each page, since pages are fetched while the response is being
+ * written.
+ *
+ * @author Alejandro Hernández
+ */
+public class StreamEndpoint<T, S> {
+
+	public StreamEndpoint(
+		String name, HttpServletRequest httpServletRequest,
+		ThrowableSupplier<CollectionRoutes<T, S>> collectionRoutesSupplier,
+		Instrumentation instrumentation) {
+
+		_name = name;
+		_httpServletRequest = httpServletRequest;
+		_collectionRoutesSupplier = collectionRoutesSupplier;
+		_instrumentation = instrumentation;
+	}
+
+	/**
+	 * Returns the {@link PageStream} for the specified resource. The first
+	 * page is fetched before returning, so errors are reported with the
+	 * usual error responses; the rest of the pages are fetched while the
+	 * response is being written.
+	 *
+	 * @return the {@link PageStream} for the specified resource, or an
+	 *         exception if an error occurred
+	 */
+	@GET
+	@Path("/")
+	@Produces("application/x-ndjson")
+	public Try<PageStream<T>> getCollectionPageStreamTry() {
+		return Try.fromFallible(
+			_collectionRoutesSupplier
+		).mapOptional(
+			this::_getGetPageFunctionOptional, notFound(_name)
+		).flatMap(
+			getPageFunction -> _getPageTry(
+				getPageFunction,
+				new PaginationImpl(_getItemsPerPage(), 1)
+			).map(
+				page -> new PageStream<>(
+					page,
+					pagination -> _getPageTry(
+						getPageFunction, pagination
+					).get())
+			)
+		);
+	}
+
+	private Optional<GetPageFunction<T>> _getGetPageFunctionOptional(
+		CollectionRoutes<T, S> collectionRoutes) {
+
+		Optional<GetPageFunction<T>> optional =
+			collectionRoutes.getGetPageFunctionOptional();
+
+		if (optional.isPresent()) {
+			return optional;
+		}
+
+		return collectionRoutes.getGetPageAsyncFunctionOptional(
+		).map(
+			getPageAsyncFunction -> httpServletRequest -> await(
+				getPageAsyncFunction.apply(httpServletRequest))
+		);
+	}
+
+	private int _getItemsPerPage() {
+		return Try.success(
+			_httpServletRequest.getParameter("per_page")
+		).map(
+			Integer::parseInt
+		).filter(
+			integer -> (integer > 0) && (integer <= _ITEMS_PER_PAGE_MAX)
+		).orElse(
+			_ITEMS_PER_PAGE_DEFAULT
+		);
+	}
+
+	private Try<Page<T>> _getPageTry(
+		GetPageFunction<T> getPageFunction, Pagination pagination) {
+
+		return _instrumentation.measure(
+			_httpServletRequest, _name, MODEL_FETCH,
+			() -> getPageFunction.apply(
+				new PaginatedHttpServletRequest(
+					_httpServletRequest, pagination)));
+	}
+
+	private static final int _ITEMS_PER_PAGE_DEFAULT = 100;
+
+	private static final int _ITEMS_PER_PAGE_MAX = 500;
+
+	private final ThrowableSupplier<CollectionRoutes<T, S>>
+		_collectionRoutesSupplier;
+	private final HttpServletRequest _httpServletRequest;
+	private final Instrumentation _instrumentation;
+	private final String _name;
+
+}
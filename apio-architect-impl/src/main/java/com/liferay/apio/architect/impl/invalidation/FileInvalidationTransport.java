@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getLong;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getString;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.osgi.service.component.annotations.ConfigurationPolicy.REQUIRE;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+
+import org.slf4j.Logger;
+
+/**
+ * Sends invalidation messages between the JVMs of the same host through a
+ * shared file, so multi-node deployments can be tested locally.
+ *
+ * <p>
+ * Messages are appended to the {@link #FILE} as lines, holding the file's lock
+ * while writing. Every node polls the file each {@link #POLL_INTERVAL}
+ * milliseconds, and delivers the lines appended since it started. Truncating
+ * the file is safe: nodes start reading it again from the beginning.
+ * </p>
+ *
+ * <p>
+ * This transport is only active if it's configured, and it's then preferred
+ * over the {@link LoopbackInvalidationTransport}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	configurationPolicy = REQUIRE, property = "service.ranking:Integer=100"
+)
+public class FileInvalidationTransport implements InvalidationTransport {
+
+	/**
+	 * The property with the path of the shared file.
+	 */
+	public static final String FILE = "invalidation.transport.file";
+
+	/**
+	 * The property with the number of milliseconds between polls of the
+	 * shared file. It's {@code 100} by default.
+	 */
+	public static final String POLL_INTERVAL =
+		"invalidation.transport.file.poll.interval";
+
+	@Activate
+	public void activate(Map<String, Object> properties) throws IOException {
+		String file = getString(properties, FILE, null);
+
+		if ((file == null) || file.isEmpty()) {
+			throw new IllegalArgumentException(
+				"The property " + FILE + " is required");
+		}
+
+		_path = Paths.get(file);
+
+		Path parentPath = _path.toAbsolutePath().getParent();
+
+		if (parentPath != null) {
+			Files.createDirectories(parentPath);
+		}
+
+		try (FileChannel fileChannel = FileChannel.open(
+				_path, CREATE, WRITE)) {
+
+			_position = fileChannel.size();
+		}
+
+		long pollInterval = Math.max(
+			1, getLong(properties, POLL_INTERVAL, 100));
+
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			runnable -> {
+				Thread thread = new Thread(runnable, _THREAD_NAME);
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+		_scheduledExecutorService.scheduleWithFixedDelay(
+			this::_poll, pollInterval, pollInterval, MILLISECONDS);
+	}
+
+	@Deactivate
+	public void deactivate() {
+		_scheduledExecutorService.shutdownNow();
+	}
+
+	@Override
+	public void send(String message) {
+		byte[] bytes = (message + "\n").getBytes(UTF_8);
+
+		try (FileChannel fileChannel = FileChannel.open(
+				_path, CREATE, WRITE, APPEND);
+			FileLock fileLock = fileChannel.lock()) {
+
+			ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+
+			while (byteBuffer.hasRemaining()) {
+				fileChannel.write(byteBuffer);
+			}
+		}
+		catch (IOException ioe) {
+			_logger.warn("Unable to send invalidation message", ioe);
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<String> consumer) {
+		_consumers.add(consumer);
+	}
+
+	@Override
+	public void unsubscribe(Consumer<String> consumer) {
+		_consumers.remove(consumer);
+	}
+
+	private void _deliver(String message) {
+		for (Consumer<String> consumer : _consumers) {
+			try {
+				consumer.accept(message);
+			}
+			catch (RuntimeException re) {
+				_logger.warn("Unable to deliver invalidation message", re);
+			}
+		}
+	}
+
+	private void _poll() {
+		try (FileChannel fileChannel = FileChannel.open(_path, READ)) {
+			long size = fileChannel.size();
+
+			if (size < _position) {
+				_position = 0;
+
+				_byteArrayOutputStream.reset();
+			}
+
+			while (_position < size) {
+				ByteBuffer byteBuffer = ByteBuffer.allocate(
+					(int)Math.min(size - _position, _BUFFER_SIZE));
+
+				int read = fileChannel.read(byteBuffer, _position);
+
+				if (read <= 0) {
+					return;
+				}
+
+				_position += read;
+
+				_readLines(byteBuffer.array(), read);
+			}
+		}
+		catch (IOException ioe) {
+			_logger.warn("Unable to read invalidation messages", ioe);
+		}
+	}
+
+	private void _readLines(byte[] bytes, int length) {
+		for (int i = 0; i < length; i++) {
+			if (bytes[i] != '\n') {
+				_byteArrayOutputStream.write(bytes[i]);
+
+				continue;
+			}
+
+			byte[] line = _byteArrayOutputStream.toByteArray();
+
+			_byteArrayOutputStream.reset();
+
+			if (line.length > 0) {
+				_deliver(new String(line, UTF_8));
+			}
+		}
+	}
+
+	private static final int _BUFFER_SIZE = 65536;
+
+	private static final String _THREAD_NAME =
+		"Apio file invalidation transport";
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private final List<Consumer<String>> _consumers =
+		new CopyOnWriteArrayList<>();
+	private final Logger _logger = getLogger(getClass());
+	private Path _path;
+	private long _position;
+	private ScheduledExecutorService _scheduledExecutorService;
+
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Publishes the {@link InvalidationEvent} caused by successful writes to the
+ * cache layers of every node of the cluster.
+ *
+ * <p>
+ * Events are delivered synchronously to the local subscribers, with the
+ * request that caused them, and are sent to the rest of the nodes through the
+ * {@link InvalidationTransport}. Events received from other nodes are
+ * delivered without a request.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public interface InvalidationBus {
+
+	/**
+	 * Returns a consumer that publishes the invalidations caused by a request.
+	 * Subscribers read the request when this method is called, so the
+	 * consumer can publish invalidations from any thread.
+	 *
+	 * @param  httpServletRequest the current request, or {@code null}
+	 * @return the consumer that publishes the request's invalidations
+	 */
+	public Consumer<InvalidationEvent> getInvalidationEventConsumer(
+		HttpServletRequest httpServletRequest);
+
+	/**
+	 * Publishes an invalidation that didn't happen while processing a request.
+	 *
+	 * @param invalidationEvent the invalidation
+	 */
+	public void publish(InvalidationEvent invalidationEvent);
+
+	/**
+	 * Publishes an invalidation caused by a request.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param invalidationEvent the invalidation
+	 */
+	public void publish(
+		HttpServletRequest httpServletRequest,
+		InvalidationEvent invalidationEvent);
+
+	/**
+	 * Subscribes to the invalidations of every node. The function receives the
+	 * request that caused the invalidations, or {@code null} if they happened
+	 * on another node or outside a request, and returns the consumer of those
+	 * invalidations.
+	 *
+	 * @param function the subscriber
+	 */
+	public void subscribe(
+		Function<HttpServletRequest, Consumer<InvalidationEvent>> function);
+
+	/**
+	 * Removes a subscriber.
+	 *
+	 * @param function the subscriber
+	 */
+	public void unsubscribe(
+		Function<HttpServletRequest, Consumer<InvalidationEvent>> function);
+
+}
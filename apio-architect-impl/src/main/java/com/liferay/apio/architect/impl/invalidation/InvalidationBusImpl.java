@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Default {@link InvalidationBus} implementation.
+ *
+ * <p>
+ * Every bus has a random node identifier, sent with its messages so it can
+ * discard them when the transport delivers them back. Identifiers are sent as
+ * they appear in the resources' URLs; if a received identifier can't be
+ * mapped back, the resource's collections are still invalidated, and the
+ * model expires from the caches on its own.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class InvalidationBusImpl implements InvalidationBus {
+
+	@Activate
+	public void activate() {
+		_node = String.valueOf(UUID.randomUUID());
+
+		_invalidationTransport.subscribe(_messageConsumer);
+	}
+
+	@Deactivate
+	public void deactivate() {
+		_invalidationTransport.unsubscribe(_messageConsumer);
+	}
+
+	@Override
+	public Consumer<InvalidationEvent> getInvalidationEventConsumer(
+		HttpServletRequest httpServletRequest) {
+
+		List<Consumer<InvalidationEvent>> consumers = _getConsumers(
+			httpServletRequest);
+
+		return invalidationEvent -> {
+			consumers.forEach(consumer -> consumer.accept(invalidationEvent));
+
+			_send(invalidationEvent);
+		};
+	}
+
+	@Override
+	public void publish(InvalidationEvent invalidationEvent) {
+		publish(null, invalidationEvent);
+	}
+
+	@Override
+	public void publish(
+		HttpServletRequest httpServletRequest,
+		InvalidationEvent invalidationEvent) {
+
+		Consumer<InvalidationEvent> consumer = getInvalidationEventConsumer(
+			httpServletRequest);
+
+		consumer.accept(invalidationEvent);
+	}
+
+	@Override
+	public void subscribe(
+		Function<HttpServletRequest, Consumer<InvalidationEvent>> function) {
+
+		_functions.add(function);
+	}
+
+	@Override
+	public void unsubscribe(
+		Function<HttpServletRequest, Consumer<InvalidationEvent>> function) {
+
+		_functions.remove(function);
+	}
+
+	private List<Consumer<InvalidationEvent>> _getConsumers(
+		HttpServletRequest httpServletRequest) {
+
+		List<Consumer<InvalidationEvent>> consumers = new ArrayList<>();
+
+		for (Function<HttpServletRequest, Consumer<InvalidationEvent>>
+				function : _functions) {
+
+			consumers.add(function.apply(httpServletRequest));
+		}
+
+		return consumers;
+	}
+
+	private String _getId(String name, Optional<Object> identifierOptional) {
+		if (name == null) {
+			return null;
+		}
+
+		return identifierOptional.flatMap(
+			identifier -> _pathIdentifierMapperManager.mapToPath(
+				name, identifier)
+		).map(
+			Path::getId
+		).orElse(
+			null
+		);
+	}
+
+	private Object _getIdentifier(String name, Optional<String> idOptional) {
+		if ((name == null) || !idOptional.isPresent()) {
+			return null;
+		}
+
+		String id = idOptional.get();
+
+		Try<Object> identifierTry = Try.fromFallible(
+			() -> _pathIdentifierMapperManager.mapToIdentifierOrFail(
+				new Path(name, id)));
+
+		identifierTry.ifFailure(
+			exception -> _logger.warn(
+				"Unable to map identifier {} of resource {}", id, name,
+				exception));
+
+		return identifierTry.orElse(null);
+	}
+
+	private InvalidationEvent _getInvalidationEvent(
+		InvalidationMessage invalidationMessage) {
+
+		Optional<String> parentNameOptional =
+			invalidationMessage.getParentNameOptional();
+
+		String parentName = parentNameOptional.orElse(null);
+
+		return new InvalidationEvent(
+			invalidationMessage.getName(),
+			_getIdentifier(
+				invalidationMessage.getName(),
+				invalidationMessage.getIdOptional()),
+			parentName,
+			_getIdentifier(
+				parentName, invalidationMessage.getParentIdOptional()));
+	}
+
+	private void _receive(String message) {
+		Try<InvalidationMessage> invalidationMessageTry =
+			InvalidationMessage.fromJSON(message);
+
+		invalidationMessageTry.filter(
+			invalidationMessage -> !_node.equals(invalidationMessage.getNode())
+		).map(
+			this::_getInvalidationEvent
+		).ifSuccess(
+			invalidationEvent -> {
+				for (Consumer<InvalidationEvent> consumer :
+						_getConsumers(null)) {
+
+					consumer.accept(invalidationEvent);
+				}
+			}
+		);
+	}
+
+	private void _send(InvalidationEvent invalidationEvent) {
+		Optional<String> parentNameOptional =
+			invalidationEvent.getParentNameOptional();
+
+		String parentName = parentNameOptional.orElse(null);
+
+		InvalidationMessage invalidationMessage = new InvalidationMessage(
+			_node, invalidationEvent.getName(),
+			_getId(
+				invalidationEvent.getName(),
+				invalidationEvent.getIdentifierOptional()),
+			parentName,
+			_getId(
+				parentName, invalidationEvent.getParentIdentifierOptional()));
+
+		_invalidationTransport.send(invalidationMessage.toJSON());
+	}
+
+	private final List<Function<HttpServletRequest,
+		Consumer<InvalidationEvent>>> _functions = new CopyOnWriteArrayList<>();
+
+	@Reference(policyOption = GREEDY)
+	private InvalidationTransport _invalidationTransport;
+
+	private final Logger _logger = getLogger(getClass());
+	private final Consumer<String> _messageConsumer = this::_receive;
+	private volatile String _node;
+
+	@Reference
+	private PathIdentifierMapperManager _pathIdentifierMapperManager;
+
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import java.util.Optional;
+
+/**
+ * Represents the invalidation of the cached representations of a resource,
+ * caused by a successful write.
+ *
+ * <p>
+ * Invalidations with an identifier affect a single model and the collections
+ * containing it. Invalidations without one affect the resource's collections,
+ * like the ones caused by the creation of a new model.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class InvalidationEvent {
+
+	/**
+	 * Creates the invalidation of a resource's collections.
+	 *
+	 * @param name the resource's name
+	 */
+	public InvalidationEvent(String name) {
+		this(name, null, null, null);
+	}
+
+	/**
+	 * Creates the invalidation of a model.
+	 *
+	 * @param name the resource's name
+	 * @param identifier the model's identifier
+	 */
+	public InvalidationEvent(String name, Object identifier) {
+		this(name, identifier, null, null);
+	}
+
+	/**
+	 * Creates the invalidation of a model, or of a nested collection if the
+	 * identifier is {@code null}, inside a parent model.
+	 *
+	 * @param name the resource's name
+	 * @param identifier the model's identifier, or {@code null}
+	 * @param parentName the parent resource's name
+	 * @param parentIdentifier the parent model's identifier
+	 */
+	public InvalidationEvent(
+		String name, Object identifier, String parentName,
+		Object parentIdentifier) {
+
+		_name = name;
+		_identifier = identifier;
+		_parentName = parentName;
+		_parentIdentifier = parentIdentifier;
+	}
+
+	/**
+	 * Returns the invalidated model's identifier, if the invalidation affects
+	 * a single model; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the model's identifier, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<Object> getIdentifierOptional() {
+		return Optional.ofNullable(_identifier);
+	}
+
+	/**
+	 * Returns the invalidated resource's name.
+	 *
+	 * @return the resource's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns the parent model's identifier, if the invalidation happened
+	 * inside a nested collection; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the parent model's identifier, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Object> getParentIdentifierOptional() {
+		return Optional.ofNullable(_parentIdentifier);
+	}
+
+	/**
+	 * Returns the parent resource's name, if the invalidation happened inside
+	 * a nested collection; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the parent resource's name, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getParentNameOptional() {
+		return Optional.ofNullable(_parentName);
+	}
+
+	private final Object _identifier;
+	private final String _name;
+	private final Object _parentIdentifier;
+	private final String _parentName;
+
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Optional;
+
+/**
+ * Represents an {@link InvalidationEvent} as sent between nodes. Identifiers
+ * are written as they appear in the resources' URLs, so every node can map
+ * them back to its own identifiers.
+ *
+ * @author Alejandro Hernández
+ */
+public class InvalidationMessage {
+
+	/**
+	 * Reads a message from its JSON form.
+	 *
+	 * @param  json the message's JSON
+	 * @return the message, if the JSON is valid; a {@code Failure} otherwise
+	 */
+	public static Try<InvalidationMessage> fromJSON(String json) {
+		return Try.fromFallible(
+			() -> _OBJECT_MAPPER.readTree(json)
+		).filter(
+			jsonNode -> jsonNode.hasNonNull("node") &&
+				jsonNode.hasNonNull("name")
+		).map(
+			jsonNode -> new InvalidationMessage(
+				jsonNode.get("node").asText(), jsonNode.get("name").asText(),
+				_getText(jsonNode, "id"), _getText(jsonNode, "parentName"),
+				_getText(jsonNode, "parentId"))
+		);
+	}
+
+	public InvalidationMessage(
+		String node, String name, String id, String parentName,
+		String parentId) {
+
+		_node = node;
+		_name = name;
+		_id = id;
+		_parentName = parentName;
+		_parentId = parentId;
+	}
+
+	/**
+	 * Returns the invalidated model's identifier, as it appears in its URL,
+	 * if present.
+	 *
+	 * @return the model's identifier, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<String> getIdOptional() {
+		return Optional.ofNullable(_id);
+	}
+
+	/**
+	 * Returns the invalidated resource's name.
+	 *
+	 * @return the resource's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns the identifier of the node that sent the message.
+	 *
+	 * @return the node's identifier
+	 */
+	public String getNode() {
+		return _node;
+	}
+
+	/**
+	 * Returns the parent model's identifier, as it appears in its URL, if
+	 * present.
+	 *
+	 * @return the parent model's identifier, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getParentIdOptional() {
+		return Optional.ofNullable(_parentId);
+	}
+
+	/**
+	 * Returns the parent resource's name, if present.
+	 *
+	 * @return the parent resource's name, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getParentNameOptional() {
+		return Optional.ofNullable(_parentName);
+	}
+
+	/**
+	 * Returns the message's JSON form, written in a single line.
+	 *
+	 * @return the message's JSON
+	 */
+	public String toJSON() {
+		ObjectNode objectNode = _OBJECT_MAPPER.createObjectNode();
+
+		objectNode.put("node", _node);
+		objectNode.put("name", _name);
+
+		getIdOptional().ifPresent(id -> objectNode.put("id", id));
+		getParentNameOptional().ifPresent(
+			parentName -> objectNode.put("parentName", parentName));
+		getParentIdOptional().ifPresent(
+			parentId -> objectNode.put("parentId", parentId));
+
+		try {
+			return _OBJECT_MAPPER.writeValueAsString(objectNode);
+		}
+		catch (JsonProcessingException jpe) {
+			return objectNode.toString();
+		}
+	}
+
+	private static String _getText(JsonNode jsonNode, String fieldName) {
+		JsonNode fieldJsonNode = jsonNode.get(fieldName);
+
+		if ((fieldJsonNode == null) || fieldJsonNode.isNull()) {
+			return null;
+		}
+
+		return fieldJsonNode.asText();
+	}
+
+	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper();
+
+	private final String _id;
+	private final String _name;
+	private final String _node;
+	private final String _parentId;
+	private final String _parentName;
+
+}
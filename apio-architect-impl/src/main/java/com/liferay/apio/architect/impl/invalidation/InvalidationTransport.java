@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Sends invalidation messages between the nodes of a cluster.
+ *
+ * <p>
+ * Implementations deliver every sent message to the subscribers of every
+ * node, including the sender's. The {@link InvalidationBus} discards its own
+ * messages. Messages may be delivered from any thread, and delivery isn't
+ * guaranteed, so caches must still expire their entries.
+ * </p>
+ *
+ * <p>
+ * Transports are registered as OSGi services; the one with the highest
+ * service ranking is used.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public interface InvalidationTransport {
+
+	/**
+	 * Sends a message to every node.
+	 *
+	 * @param message the message
+	 */
+	public void send(String message);
+
+	/**
+	 * Subscribes to the messages sent by every node.
+	 *
+	 * @param consumer the subscriber
+	 */
+	public void subscribe(Consumer<String> consumer);
+
+	/**
+	 * Removes a subscriber.
+	 *
+	 * @param consumer the subscriber
+	 */
+	public void unsubscribe(Consumer<String> consumer);
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Delivers invalidation messages to the subscribers of the same JVM. It's the
+ * default {@link InvalidationTransport}, used by single-node deployments and
+ * by tests running several buses in one JVM.
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+	@Override
+	public void send(String message) {
+		_consumers.forEach(consumer -> consumer.accept(message));
+	}
+
+	@Override
+	public void subscribe(Consumer<String> consumer) {
+		_consumers.add(consumer);
+	}
+
+	@Override
+	public void unsubscribe(Consumer<String> consumer) {
+		_consumers.remove(consumer);
+	}
+
+	private final List<Consumer<String>> _consumers =
+		new CopyOnWriteArrayList<>();
+
+}
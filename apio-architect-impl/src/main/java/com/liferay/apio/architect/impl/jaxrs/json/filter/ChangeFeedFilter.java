@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type.DELETED;
+
+import static javax.ws.rs.core.Response.Status.Family.SUCCESSFUL;
+
+import com.liferay.apio.architect.impl.changefeed.ChangeEvent;
+import com.liferay.apio.architect.impl.changefeed.ChangeFeed;
+import com.liferay.apio.architect.impl.jaxrs.json.util.CapturingOutputStream;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response.StatusType;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Publishes the changes recorded in the {@link ChangeFeed} while processing a
+ * request.
+ *
+ * <p>
+ * If the change feed attaches representations and a single model was created
+ * or updated, the changes are published once the response has been written,
+ * with the representation written in it. Otherwise, they're published as soon
+ * as the response is ready.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	}
+)
+public class ChangeFeedFilter
+	implements ContainerResponseFilter, WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		if (writerInterceptorContext.getProperty(_CAPTURE_PROPERTY) == null) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		writerInterceptorContext.removeProperty(_CAPTURE_PROPERTY);
+
+		CapturingOutputStream capturingOutputStream = new CapturingOutputStream(
+			writerInterceptorContext.getOutputStream(),
+			_changeFeed.getRepresentationMaxSize());
+
+		writerInterceptorContext.setOutputStream(capturingOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		catch (IOException | RuntimeException e) {
+			_changeFeed.publish(_httpServletRequest);
+
+			throw e;
+		}
+
+		Optional<byte[]> optional = capturingOutputStream.getBytesOptional();
+
+		if (optional.isPresent()) {
+			_changeFeed.publish(_httpServletRequest, optional.get());
+		}
+		else {
+			_changeFeed.publish(_httpServletRequest);
+		}
+	}
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		List<ChangeEvent> changeEvents = _changeFeed.getChangeEvents(
+			_httpServletRequest);
+
+		if (changeEvents.isEmpty()) {
+			return;
+		}
+
+		if (_isRepresentable(changeEvents, containerResponseContext)) {
+			containerRequestContext.setProperty(
+				_CAPTURE_PROPERTY, Boolean.TRUE);
+
+			return;
+		}
+
+		_changeFeed.publish(_httpServletRequest);
+	}
+
+	private boolean _isRepresentable(
+		List<ChangeEvent> changeEvents,
+		ContainerResponseContext containerResponseContext) {
+
+		if ((_changeFeed.getRepresentationMaxSize() <= 0) ||
+			(changeEvents.size() != 1) ||
+			!containerResponseContext.hasEntity()) {
+
+			return false;
+		}
+
+		ChangeEvent changeEvent = changeEvents.get(0);
+
+		StatusType statusType = containerResponseContext.getStatusInfo();
+
+		if ((changeEvent.getType() == DELETED) ||
+			(statusType.getFamily() != SUCCESSFUL)) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private static final String _CAPTURE_PROPERTY =
+		ChangeFeedFilter.class.getName() + ".capture";
+
+	@Reference
+	private ChangeFeed _changeFeed;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.metrics.RequestDiagnostics;
+
+import java.io.IOException;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.Context;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Starts the {@link RequestDiagnostics} of requests sent by trusted clients,
+ * which must include the diagnostics token in the {@link #TOKEN_HEADER}
+ * header. Clients can also ask for a JSON breakdown of every phase by sending
+ * {@code json} in the {@link #FORMAT_HEADER} header.
+ *
+ * <p>
+ * Responses with an entity get the diagnostics headers from their {@code
+ * MessageBodyWriter}, right after the serialization phase. This filter adds
+ * them to responses without an entity.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	}
+)
+@PreMatching
+public class DiagnosticsFilter
+	implements ContainerRequestFilter, ContainerResponseFilter {
+
+	/**
+	 * The request header used to ask for a JSON breakdown of the phases.
+	 */
+	public static final String FORMAT_HEADER = "Apio-Diagnostics-Format";
+
+	/**
+	 * The request header that contains the trusted client's token.
+	 */
+	public static final String TOKEN_HEADER = "Apio-Diagnostics-Token";
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext)
+		throws IOException {
+
+		String token = containerRequestContext.getHeaderString(TOKEN_HEADER);
+
+		if (token == null) {
+			return;
+		}
+
+		Optional<RequestDiagnostics> optional =
+			_instrumentation.startDiagnosticsOptional(
+				_httpServletRequest, token);
+
+		optional.ifPresent(
+			requestDiagnostics -> requestDiagnostics.setBreakdownEnabled(
+				"json".equalsIgnoreCase(
+					containerRequestContext.getHeaderString(FORMAT_HEADER))));
+	}
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (containerResponseContext.hasEntity()) {
+			return;
+		}
+
+		Optional<RequestDiagnostics> optional =
+			RequestDiagnostics.getRequestDiagnosticsOptional(
+				_httpServletRequest);
+
+		optional.ifPresent(
+			requestDiagnostics -> requestDiagnostics.addHeaders(
+				containerResponseContext.getHeaders()));
+	}
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private Instrumentation _instrumentation;
+
+}
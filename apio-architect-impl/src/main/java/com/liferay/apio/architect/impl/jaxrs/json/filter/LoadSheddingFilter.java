@@ -0,0 +1,253 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.impl.admission.RequestPriority.LONG_LIVED;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static javax.ws.rs.HttpMethod.HEAD;
+import static javax.ws.rs.core.HttpHeaders.RETRY_AFTER;
+
+import com.liferay.apio.architect.impl.admission.LoadShedder;
+import com.liferay.apio.architect.impl.admission.RequestPriority;
+import com.liferay.apio.architect.impl.jaxrs.json.util.ErrorUtil;
+
+import java.io.IOException;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Admits or rejects requests before they reach the endpoints, by using a
+ * {@link LoadShedder}. Rejected requests get a {@code 503} response with a
+ * {@code Retry-After} header, built from a {@code
+ * ServiceUnavailableException}.
+ *
+ * <p>
+ * Load shedding is only performed if the {@link #ENABLED} property is {@code
+ * true}. The documentation and the entry point are never shed, while batch
+ * requests are shed first. The change feed and the streamed collections are
+ * left out, since their responses stay open.
+ * </p>
+ *
+ * <p>
+ * An admitted request is released once its entity has been written, even if
+ * writing it fails, so its latency includes serialization. Responses without
+ * an entity, and responses to {@code HEAD} requests, are released in the
+ * response filter.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	}
+)
+@PreMatching
+public class LoadSheddingFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	/**
+	 * The property that enables load shedding. It's disabled by default.
+	 */
+	public static final String ENABLED = "load.shedding.enabled";
+
+	/**
+	 * The property with the number of milliseconds the queueing delay must
+	 * stay above the target before requests are shed.
+	 */
+	public static final String INTERVAL = "load.shedding.interval";
+
+	/**
+	 * The property with the maximum number of requests in flight. It's {@code
+	 * 0} by default, which disables the limit.
+	 */
+	public static final String MAX_IN_FLIGHT = "load.shedding.max.in.flight";
+
+	/**
+	 * The property with the number of milliseconds during which the minimum
+	 * observed latency is used as the latency without queueing.
+	 */
+	public static final String MIN_LATENCY_WINDOW =
+		"load.shedding.min.latency.window";
+
+	/**
+	 * The property with the target queueing delay, in milliseconds.
+	 */
+	public static final String TARGET = "load.shedding.target";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		if (!getBoolean(properties, ENABLED, false)) {
+			_loadShedder = null;
+
+			return;
+		}
+
+		_loadShedder = new LoadShedder(
+			MILLISECONDS.toNanos(getLong(properties, TARGET, 100)),
+			MILLISECONDS.toNanos(getLong(properties, INTERVAL, 500)),
+			MILLISECONDS.toNanos(
+				getLong(properties, MIN_LATENCY_WINDOW, 60000)),
+			getInteger(properties, MAX_IN_FLIGHT, 0), System::nanoTime);
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			Object property = writerInterceptorContext.getProperty(
+				_ADMISSION_PROPERTY);
+
+			if (property != null) {
+				writerInterceptorContext.removeProperty(_ADMISSION_PROPERTY);
+
+				Admission admission = (Admission)property;
+
+				admission._release();
+			}
+		}
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext)
+		throws IOException {
+
+		LoadShedder loadShedder = _loadShedder;
+
+		if (loadShedder == null) {
+			return;
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		RequestPriority requestPriority = RequestPriority.fromPath(
+			uriInfo.getPath());
+
+		if (requestPriority == LONG_LIVED) {
+			return;
+		}
+
+		if (!loadShedder.tryAdmit(requestPriority)) {
+			containerRequestContext.abortWith(
+				_getRejectionResponse(loadShedder));
+
+			return;
+		}
+
+		containerRequestContext.setProperty(
+			_ADMISSION_PROPERTY, new Admission(loadShedder, System.nanoTime()));
+	}
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (containerResponseContext.hasEntity() &&
+			!HEAD.equals(containerRequestContext.getMethod())) {
+
+			return;
+		}
+
+		Object property = containerRequestContext.getProperty(
+			_ADMISSION_PROPERTY);
+
+		if (property == null) {
+			return;
+		}
+
+		containerRequestContext.removeProperty(_ADMISSION_PROPERTY);
+
+		Admission admission = (Admission)property;
+
+		admission._release();
+	}
+
+	private Response _getRejectionResponse(LoadShedder loadShedder) {
+		long retryAfterSeconds = loadShedder.getRetryAfterSeconds();
+
+		Response response = _errorUtil.getErrorResponse(
+			new ServiceUnavailableException(
+				"The server is overloaded, retry later", retryAfterSeconds),
+			_request);
+
+		return Response.fromResponse(
+			response
+		).header(
+			RETRY_AFTER, retryAfterSeconds
+		).build();
+	}
+
+	private static final String _ADMISSION_PROPERTY =
+		LoadSheddingFilter.class.getName() + ".admission";
+
+	@Reference
+	private ErrorUtil _errorUtil;
+
+	private volatile LoadShedder _loadShedder;
+
+	@Context
+	private Request _request;
+
+	private static class Admission {
+
+		private Admission(LoadShedder loadShedder, long start) {
+			_loadShedder = loadShedder;
+			_start = start;
+		}
+
+		private void _release() {
+			if (_released.compareAndSet(false, true)) {
+				_loadShedder.release(System.nanoTime() - _start);
+			}
+		}
+
+		private final LoadShedder _loadShedder;
+		private final AtomicBoolean _released = new AtomicBoolean();
+		private final long _start;
+
+	}
+
+}
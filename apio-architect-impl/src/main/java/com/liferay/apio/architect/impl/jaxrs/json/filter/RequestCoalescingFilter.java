@@ -0,0 +1,401 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static javax.ws.rs.HttpMethod.GET;
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+import static javax.ws.rs.core.Response.Status.Family.SUCCESSFUL;
+
+import com.liferay.apio.architect.impl.coalescing.CoalescedResponse;
+import com.liferay.apio.architect.impl.coalescing.RequestCoalescer;
+import com.liferay.apio.architect.impl.coalescing.RequestCoalescer.Flight;
+import com.liferay.apio.architect.impl.jaxrs.json.util.CapturingOutputStream;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.request.util.RequestKeyUtil;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.StatusType;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Coalesces identical concurrent reads of single models and pages by using a
+ * {@link RequestCoalescer}, so only one of them is computed and the rest get
+ * its serialized response.
+ *
+ * <p>
+ * Requests are identical if they have the same {@link
+ * RequestKeyUtil#getRequestKey(HttpServletRequest, ProviderManager, String,
+ * String, boolean)} key, computed from the request's path, its accepted media
+ * types and its credentials. The leader's response is captured while it's
+ * written and handed to the waiting requests, with its status and its
+ * representation headers ({@code Content-Type}, {@code Content-Language},
+ * {@code ETag}, {@code Vary} and {@code Cache-Control}), but isn't kept
+ * afterwards. Headers describing the leader's own request, like {@code
+ * Warning} or {@code Server-Timing}, are never shared. Responses larger than
+ * the {@link #MAX_SIZE} property, and unsuccessful responses, aren't shared:
+ * the waiting requests are computed on their own, as are the ones that wait
+ * longer than the {@link #WAIT} property. Requests with a {@link
+ * DiagnosticsFilter#TOKEN_HEADER} header are never coalesced, so their
+ * diagnostics describe their own computation.
+ * </p>
+ *
+ * <p>
+ * Waiting requests block their container thread while they wait, so the
+ * {@link #WAIT} property should be kept short.
+ * </p>
+ *
+ * <p>
+ * Coalescing is only performed if the {@link #ENABLED} property is {@code
+ * true}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	}
+)
+public class RequestCoalescingFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   WriterInterceptor {
+
+	/**
+	 * The property that enables request coalescing. It's disabled by default.
+	 */
+	public static final String ENABLED = "request.coalescing.enabled";
+
+	/**
+	 * The property with the maximum size, in bytes, of a shared response. It's
+	 * {@code 1048576} by default.
+	 */
+	public static final String MAX_SIZE = "request.coalescing.max.size";
+
+	/**
+	 * The property with the number of milliseconds after which an unfinished
+	 * request stops being coalesced, so the next identical request is computed
+	 * again. It's {@code 5000} by default.
+	 */
+	public static final String TIMEOUT = "request.coalescing.timeout";
+
+	/**
+	 * The property with the maximum number of milliseconds a request waits
+	 * for an identical request's response before being computed on its own.
+	 * The request's container thread is blocked while it waits. It's {@code
+	 * 200} by default.
+	 */
+	public static final String WAIT = "request.coalescing.wait";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		if (!getBoolean(properties, ENABLED, false)) {
+			_requestCoalescer = null;
+
+			return;
+		}
+
+		_maxSize = getInteger(properties, MAX_SIZE, 1048576);
+		_requestCoalescer = new RequestCoalescer<>(
+			MILLISECONDS.toNanos(getLong(properties, TIMEOUT, 5000)),
+			MILLISECONDS.toNanos(getLong(properties, WAIT, 200)),
+			System::nanoTime);
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		Object property = writerInterceptorContext.getProperty(
+			_FLIGHT_PROPERTY);
+
+		if (property == null) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		writerInterceptorContext.removeProperty(_FLIGHT_PROPERTY);
+
+		@SuppressWarnings("unchecked")
+		Flight flight = (Flight)property;
+
+		CapturingOutputStream capturingOutputStream = new CapturingOutputStream(
+			writerInterceptorContext.getOutputStream(), _maxSize);
+
+		writerInterceptorContext.setOutputStream(capturingOutputStream);
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		catch (IOException | RuntimeException e) {
+			flight.fail();
+
+			throw e;
+		}
+
+		Optional<byte[]> optional = capturingOutputStream.getBytesOptional();
+
+		if (!optional.isPresent()) {
+			flight.fail();
+
+			return;
+		}
+
+		Object status = writerInterceptorContext.getProperty(_STATUS_PROPERTY);
+
+		writerInterceptorContext.removeProperty(_STATUS_PROPERTY);
+
+		if (status == null) {
+			flight.fail();
+
+			return;
+		}
+
+		flight.complete(
+			new CoalescedResponse(
+				optional.get(), _getMediaType(writerInterceptorContext),
+				(Integer)status, _getHeaders(writerInterceptorContext)));
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext)
+		throws IOException {
+
+		RequestCoalescer<List<Object>, CoalescedResponse> requestCoalescer =
+			_requestCoalescer;
+
+		if ((requestCoalescer == null) ||
+			!GET.equals(containerRequestContext.getMethod()) ||
+			(containerRequestContext.getHeaderString(
+				DiagnosticsFilter.TOKEN_HEADER) != null)) {
+
+			return;
+		}
+
+		String path = containerRequestContext.getUriInfo().getPath();
+
+		if (!_isCoalescable(path)) {
+			return;
+		}
+
+		List<Object> key = RequestKeyUtil.getRequestKey(
+			_httpServletRequest, _providerManager, path,
+			_getAcceptableMediaTypes(containerRequestContext), true);
+
+		Flight flight = requestCoalescer.join(key);
+
+		if (flight.isLeader()) {
+			containerRequestContext.setProperty(_FLIGHT_PROPERTY, flight);
+
+			return;
+		}
+
+		Optional<CoalescedResponse> optional = flight.await();
+
+		_instrumentation.recordCacheAccess(
+			"coalescing", optional.isPresent());
+
+		optional.ifPresent(
+			coalescedResponse -> containerRequestContext.abortWith(
+				_toResponse(coalescedResponse)));
+	}
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		Object property = containerRequestContext.getProperty(
+			_FLIGHT_PROPERTY);
+
+		if (property == null) {
+			return;
+		}
+
+		StatusType statusType = containerResponseContext.getStatusInfo();
+
+		if ((statusType.getFamily() == SUCCESSFUL) &&
+			containerResponseContext.hasEntity()) {
+
+			containerRequestContext.setProperty(
+				_STATUS_PROPERTY, containerResponseContext.getStatus());
+
+			return;
+		}
+
+		containerRequestContext.removeProperty(_FLIGHT_PROPERTY);
+
+		Flight flight = (Flight)property;
+
+		flight.fail();
+	}
+
+	private static String _getAcceptableMediaTypes(
+		ContainerRequestContext containerRequestContext) {
+
+		List<MediaType> mediaTypes =
+			containerRequestContext.getAcceptableMediaTypes();
+
+		Stream<MediaType> stream = mediaTypes.stream();
+
+		return stream.map(
+			MediaType::toString
+		).collect(
+			Collectors.joining(",")
+		);
+	}
+
+	private static Map<String, List<Object>> _getHeaders(
+		WriterInterceptorContext writerInterceptorContext) {
+
+		Map<String, List<Object>> headers = new HashMap<>();
+
+		MultivaluedMap<String, Object> multivaluedMap =
+			writerInterceptorContext.getHeaders();
+
+		if (multivaluedMap == null) {
+			return headers;
+		}
+
+		multivaluedMap.forEach(
+			(name, values) -> {
+				if (_isShared(name)) {
+					headers.put(name, new ArrayList<>(values));
+				}
+			});
+
+		return headers;
+	}
+
+	private static String _getMediaType(
+		WriterInterceptorContext writerInterceptorContext) {
+
+		return Optional.ofNullable(
+			writerInterceptorContext.getHeaders()
+		).map(
+			headers -> headers.getFirst(CONTENT_TYPE)
+		).map(
+			String::valueOf
+		).orElseGet(
+			() -> String.valueOf(writerInterceptorContext.getMediaType())
+		);
+	}
+
+	private static boolean _isCoalescable(String path) {
+		List<String> segments = Stream.of(
+			_pattern.split(path)
+		).filter(
+			segment -> !segment.isEmpty()
+		).collect(
+			Collectors.toList()
+		);
+
+		if ((segments.size() < 2) || (segments.size() > 4) ||
+			!"p".equals(segments.get(0))) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private static boolean _isShared(String headerName) {
+		return Stream.of(
+			CACHE_CONTROL, CONTENT_LANGUAGE, ETAG, VARY
+		).anyMatch(
+			headerName::equalsIgnoreCase
+		);
+	}
+
+	private static Response _toResponse(CoalescedResponse coalescedResponse) {
+		ResponseBuilder responseBuilder = Response.status(
+			coalescedResponse.getStatus()
+		).entity(
+			coalescedResponse.getBody()
+		).type(
+			coalescedResponse.getMediaType()
+		);
+
+		Map<String, List<Object>> headers = coalescedResponse.getHeaders();
+
+		headers.forEach(
+			(name, values) -> values.forEach(
+				value -> responseBuilder.header(name, value)));
+
+		return responseBuilder.build();
+	}
+
+	private static final String _FLIGHT_PROPERTY =
+		RequestCoalescingFilter.class.getName() + ".flight";
+
+	private static final String _STATUS_PROPERTY =
+		RequestCoalescingFilter.class.getName() + ".status";
+
+	private static final Pattern _pattern = Pattern.compile("/");
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private Instrumentation _instrumentation;
+
+	private volatile int _maxSize;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private volatile RequestCoalescer<List<Object>, CoalescedResponse>
+		_requestCoalescer;
+
+}
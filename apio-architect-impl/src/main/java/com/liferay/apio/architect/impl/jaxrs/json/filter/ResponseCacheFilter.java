@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.impl.metrics.Phase.CACHE_LOOKUP;
+
+import static javax.ws.rs.HttpMethod.GET;
+import static javax.ws.rs.core.Response.Status.OK;
+
+import com.liferay.apio.architect.impl.cache.CachedResponse;
+import com.liferay.apio.architect.impl.cache.ResponseCache;
+import com.liferay.apio.architect.impl.cache.ResponseCachePolicy;
+import com.liferay.apio.architect.impl.message.json.MessageMapper;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.metrics.RequestDiagnostics;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.PageMessageMapperManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.router.CollectionRouterManager;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Answers collection page requests from the {@link ResponseCache}, for those
+ * resources whose router opted in through a {@link ResponseCachePolicy}.
+ *
+ * <p>
+ * When the response isn't cached yet, the request is marked so the page's
+ * {@code MessageBodyWriter} stores the serialized response once written.
+ * Responses with a status other than {@code 200 OK} are never stored.
+ * </p>
+ *
+ * <p>
+ * Cached responses aren't written by the page's {@code MessageBodyWriter}, so
+ * this filter adds the {@link RequestDiagnostics} headers to them, including
+ * the time spent in the cache lookup.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	}
+)
+public class ResponseCacheFilter
+	implements ContainerRequestFilter, ContainerResponseFilter {
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext)
+		throws IOException {
+
+		if (!GET.equals(containerRequestContext.getMethod())) {
+			return;
+		}
+
+		Optional<String> nameOptional = _getCollectionNameOptional(
+			containerRequestContext.getUriInfo());
+
+		if (!nameOptional.isPresent()) {
+			return;
+		}
+
+		String name = nameOptional.get();
+
+		Optional<ResponseCachePolicy> responseCachePolicyOptional =
+			_collectionRouterManager.getResponseCachePolicyOptional(name);
+
+		if (!responseCachePolicyOptional.isPresent()) {
+			return;
+		}
+
+		long start = System.nanoTime();
+
+		Optional<CachedResponse> cachedResponseOptional =
+			_pageMessageMapperManager.getPageMessageMapperOptional(
+				containerRequestContext.getRequest()
+			).map(
+				MessageMapper::getMediaType
+			).flatMap(
+				mediaType -> _responseCache.getCachedResponseOptional(
+					_httpServletRequest, name,
+					responseCachePolicyOptional.get(), mediaType)
+			);
+
+		_instrumentation.recordCacheAccess(
+			"response", cachedResponseOptional.isPresent());
+
+		if (!cachedResponseOptional.isPresent()) {
+			return;
+		}
+
+		_instrumentation.recordPhase(
+			_httpServletRequest, name, CACHE_LOOKUP,
+			System.nanoTime() - start);
+
+		_httpServletRequest.setAttribute(_ATTRIBUTE_NAME, Boolean.TRUE);
+
+		containerRequestContext.abortWith(
+			_toResponse(cachedResponseOptional.get()));
+	}
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (containerResponseContext.getStatus() != OK.getStatusCode()) {
+			_responseCache.discardCachedResponse(_httpServletRequest);
+		}
+
+		if (_httpServletRequest.getAttribute(_ATTRIBUTE_NAME) == null) {
+			return;
+		}
+
+		Optional<RequestDiagnostics> optional =
+			RequestDiagnostics.getRequestDiagnosticsOptional(
+				_httpServletRequest);
+
+		optional.ifPresent(
+			requestDiagnostics -> requestDiagnostics.addHeaders(
+				containerResponseContext.getHeaders()));
+	}
+
+	private static Optional<String> _getCollectionNameOptional(
+		UriInfo uriInfo) {
+
+		List<String> segments = Stream.of(
+			_pattern.split(uriInfo.getPath())
+		).filter(
+			segment -> !segment.isEmpty()
+		).collect(
+			Collectors.toList()
+		);
+
+		if ((segments.size() != 2) || !"p".equals(segments.get(0))) {
+			return Optional.empty();
+		}
+
+		return Optional.of(segments.get(1));
+	}
+
+	private static Response _toResponse(CachedResponse cachedResponse) {
+		return Response.ok(
+			cachedResponse.getEntity(), cachedResponse.getMediaType()
+		).build();
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		ResponseCacheFilter.class.getName() + "#hit";
+
+	private static final Pattern _pattern = Pattern.compile("/");
+
+	@Reference
+	private CollectionRouterManager _collectionRouterManager;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private Instrumentation _instrumentation;
+
+	@Reference
+	private PageMessageMapperManager _pageMessageMapperManager;
+
+	@Reference
+	private ResponseCache _responseCache;
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.reader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.message.json.binary.JSONBinaryFormat;
+
+import java.io.InputStream;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Reads binary JSON objects (CBOR and Smile) as a {@code Body}. Binary bodies
+ * must have the same shape as their plain JSON counterparts.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = MessageBodyReader.class
+)
+@Consumes({"application/cbor", "application/x-jackson-smile"})
+@Provider
+public class JSONBinaryBodyMessageBodyReader
+	extends JSONBodyMessageBodyReader {
+
+	@Override
+	protected Try<JsonNode> readJsonNodeTry(
+		MediaType mediaType, InputStream entityStream) {
+
+		return Try.success(
+			mediaType.getType() + "/" + mediaType.getSubtype()
+		).mapOptional(
+			JSONBinaryFormat::fromMediaType
+		).map(
+			JSONBinaryFormat::getObjectMapper
+		).map(
+			objectMapper -> objectMapper.readTree(entityStream)
+		);
+	}
+
+}
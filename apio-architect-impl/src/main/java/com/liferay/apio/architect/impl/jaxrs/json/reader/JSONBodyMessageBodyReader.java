@@ -78,15 +78,8 @@ public class JSONBodyMessageBodyReader implements MessageBodyReader<Body> {
 			InputStream entityStream)
 		throws IOException {
 
-		return _getBody(entityStream);
-	}
-
-	private static Body _getBody(InputStream entityStream) {
-		ObjectMapper objectMapper = new ObjectMapper();
-
-		JsonNode jsonNode = Try.fromFallibleWithResources(
-			() -> new InputStreamReader(entityStream, UTF_8),
-			objectMapper::readTree
+		JsonNode jsonNode = readJsonNodeTry(
+			mediaType, entityStream
 		).filter(
 			node -> node.isObject() || node.isArray()
 		).orElseThrow(
@@ -100,6 +93,24 @@ public class JSONBodyMessageBodyReader implements MessageBodyReader<Body> {
 		return _getListBody((ArrayNode)jsonNode);
 	}
 
+	/**
+	 * Reads the request's body as a JSON tree.
+	 *
+	 * @param  mediaType the body's media type
+	 * @param  entityStream the body's input stream
+	 * @return the body's JSON tree, if it could be read; a {@code Failure}
+	 *         otherwise
+	 */
+	protected Try<JsonNode> readJsonNodeTry(
+		MediaType mediaType, InputStream entityStream) {
+
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		return Try.fromFallibleWithResources(
+			() -> new InputStreamReader(entityStream, UTF_8),
+			objectMapper::readTree);
+	}
+
 	private static Body _getBody(ObjectNode objectNode) {
 		return Body.create(
 			key -> Optional.ofNullable(
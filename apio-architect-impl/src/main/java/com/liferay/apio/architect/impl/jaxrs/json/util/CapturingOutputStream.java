@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Optional;
+
+/**
+ * Writes to an output stream while keeping a copy of the written bytes, as
+ * long as they don't exceed a maximum size.
+ *
+ * @author Alejandro Hernández
+ */
+public class CapturingOutputStream extends FilterOutputStream {
+
+	public CapturingOutputStream(OutputStream outputStream, int maxSize) {
+		super(outputStream);
+
+		_maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the written bytes, if they didn't exceed the maximum size;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the written bytes, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<byte[]> getBytesOptional() {
+		return Optional.ofNullable(
+			_byteArrayOutputStream
+		).map(
+			ByteArrayOutputStream::toByteArray
+		);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		out.write(bytes, offset, length);
+
+		if (_byteArrayOutputStream == null) {
+			return;
+		}
+
+		if ((_byteArrayOutputStream.size() + length) > _maxSize) {
+			_byteArrayOutputStream = null;
+
+			return;
+		}
+
+		_byteArrayOutputStream.write(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] {(byte)b}, 0, 1);
+	}
+
+	private ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private final int _maxSize;
+
+}
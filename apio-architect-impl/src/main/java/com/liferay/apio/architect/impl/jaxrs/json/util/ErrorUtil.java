@@ -14,22 +14,35 @@
 
 package com.liferay.apio.architect.impl.jaxrs.json.util;
 
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getInteger;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getLong;
 import static com.liferay.apio.architect.impl.writer.ErrorWriter.writeError;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.impl.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.impl.message.json.binary.JSONBinaryFormat;
+import com.liferay.apio.architect.impl.wiring.osgi.alias.EmptyFunction;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 import org.slf4j.Logger;
@@ -37,11 +50,61 @@ import org.slf4j.Logger;
 /**
  * Provides utility methods for transforming exceptions into responses.
  *
+ * <p>
+ * Errors without a description only depend on their status code, title and
+ * type, so their bodies are rendered once per error message mapper and
+ * reused. The most recently used bodies are kept, and they're discarded
+ * whenever the manager cache is cleared, for example, when an error message
+ * mapper or an exception mapper is registered or unregistered. Mapped errors
+ * are logged at most {@link #LOG_MAX_PER_INTERVAL} times per {@link
+ * #LOG_INTERVAL} and status class. Server errors are logged with
+ * their stack trace; the rest only include it if debug logging is enabled.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component(service = ErrorUtil.class)
 public class ErrorUtil {
 
+	/**
+	 * The property with the number of milliseconds of each logging interval.
+	 */
+	public static final String LOG_INTERVAL = "error.log.interval";
+
+	/**
+	 * The property with the maximum number of errors of the same status class
+	 * logged per interval.
+	 */
+	public static final String LOG_MAX_PER_INTERVAL =
+		"error.log.max.per.interval";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		int maxPerInterval = getInteger(properties, LOG_MAX_PER_INTERVAL, 10);
+		long interval = MILLISECONDS.toNanos(
+			getLong(properties, LOG_INTERVAL, 60000));
+
+		LogRateLimiter[] logRateLimiters = new LogRateLimiter[6];
+
+		for (int i = 0; i < logRateLimiters.length; i++) {
+			logRateLimiters[i] = new LogRateLimiter(
+				maxPerInterval, interval, System::nanoTime);
+		}
+
+		_logRateLimiters = logRateLimiters;
+
+		_clearRenderedErrors();
+
+		INSTANCE.addClearListener(_clearListener);
+	}
+
+	@Deactivate
+	public void deactivate() {
+		INSTANCE.removeClearListener(_clearListener);
+
+		_clearRenderedErrors();
+	}
+
 	/**
 	 * Transforms an exception into a {@code Response}.
 	 *
@@ -70,7 +133,7 @@ public class ErrorUtil {
 
 		APIError apiError = apiErrorOptional.get();
 
-		_logger.error(apiError.getMessage(), apiError.getException());
+		_log(apiError);
 
 		int statusCode = apiError.getStatusCode();
 
@@ -83,7 +146,7 @@ public class ErrorUtil {
 			).type(
 				errorMessageMapper.getMediaType()
 			).entity(
-				writeError(errorMessageMapper, apiError)
+				_getEntity(errorMessageMapper, apiError)
 			).build()
 		).orElseGet(
 			() -> Response.status(
@@ -92,6 +155,96 @@ public class ErrorUtil {
 		);
 	}
 
+	private void _clearRenderedErrors() {
+		synchronized (_renderedErrors) {
+			_renderedErrors.clear();
+		}
+	}
+
+	private Object _getEntity(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
+		Optional<String> optional = apiError.getDescription();
+
+		if (optional.isPresent()) {
+			return _render(errorMessageMapper, apiError);
+		}
+
+		RenderedErrorKey renderedErrorKey = new RenderedErrorKey(
+			errorMessageMapper, apiError);
+
+		synchronized (_renderedErrors) {
+			Object entity = _renderedErrors.get(renderedErrorKey);
+
+			if (entity != null) {
+				return entity;
+			}
+		}
+
+		Object entity = _render(errorMessageMapper, apiError);
+
+		synchronized (_renderedErrors) {
+			_renderedErrors.put(renderedErrorKey, entity);
+		}
+
+		return entity;
+	}
+
+	private void _log(APIError apiError) {
+		int statusCode = apiError.getStatusCode();
+
+		int statusClass = statusCode / 100;
+
+		if ((statusClass < 0) || (statusClass >= _logRateLimiters.length)) {
+			statusClass = 0;
+		}
+
+		long suppressedCount = _logRateLimiters[statusClass].tryAcquire();
+
+		if (suppressedCount < 0) {
+			return;
+		}
+
+		String message = apiError.getMessage();
+
+		if (suppressedCount > 0) {
+			message = String.format(
+				"%s (%d errors with status %dxx were not logged)", message,
+				suppressedCount, statusClass);
+		}
+
+		if (statusCode >= 500) {
+			_logger.error(message, apiError.getException());
+		}
+		else if (_logger.isDebugEnabled()) {
+			_logger.warn(message, apiError.getException());
+		}
+		else {
+			_logger.warn(message);
+		}
+	}
+
+	private Object _render(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
+		Optional<JSONBinaryFormat> optional = JSONBinaryFormat.fromMediaType(
+			errorMessageMapper.getMediaType());
+
+		return optional.<Object>map(
+			jsonBinaryFormat -> Try.fromFallible(
+				() -> jsonBinaryFormat.toBytes(
+					jsonGenerator -> writeError(
+						errorMessageMapper, apiError, jsonGenerator))
+			).getUnchecked()
+		).orElseGet(
+			() -> writeError(errorMessageMapper, apiError)
+		);
+	}
+
+	private static final int _MAX_RENDERED_ERRORS = 256;
+
+	private final EmptyFunction _clearListener = this::_clearRenderedErrors;
+
 	@Reference
 	private ErrorMessageMapperManager _errorMessageMapperManager;
 
@@ -99,5 +252,71 @@ public class ErrorUtil {
 	private ExceptionMapperManager _exceptionMapperManager;
 
 	private final Logger _logger = getLogger(getClass());
+	private volatile LogRateLimiter[] _logRateLimiters;
+
+	private final Map<RenderedErrorKey, Object> _renderedErrors =
+		new LinkedHashMap<RenderedErrorKey, Object>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<RenderedErrorKey, Object> eldest) {
+
+				if (size() > _MAX_RENDERED_ERRORS) {
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+
+	private static class RenderedErrorKey {
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof RenderedErrorKey)) {
+				return false;
+			}
+
+			RenderedErrorKey renderedErrorKey = (RenderedErrorKey)object;
+
+			if ((_errorMessageMapper ==
+					renderedErrorKey._errorMessageMapper) &&
+				(_statusCode == renderedErrorKey._statusCode) &&
+				Objects.equals(_title, renderedErrorKey._title) &&
+				Objects.equals(_type, renderedErrorKey._type)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(
+				System.identityHashCode(_errorMessageMapper), _statusCode,
+				_title, _type);
+		}
+
+		private RenderedErrorKey(
+			ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
+			_errorMessageMapper = errorMessageMapper;
+			_statusCode = apiError.getStatusCode();
+			_title = apiError.getTitle();
+			_type = apiError.getType();
+		}
+
+		private final ErrorMessageMapper _errorMessageMapper;
+		private final int _statusCode;
+		private final String _title;
+		private final String _type;
+
+	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how many messages of a kind are logged per interval.
+ *
+ * <p>
+ * The first {@code maxPerInterval} messages of every interval are logged and
+ * the rest are suppressed. The number of suppressed messages is reported with
+ * the first message logged after them, so floods of similar errors are still
+ * visible without logging each of them. Time is read from the provided
+ * supplier, so the limiter can be tested with a simulated clock.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class LogRateLimiter {
+
+	public LogRateLimiter(
+		int maxPerInterval, long interval, LongSupplier nanoTimeSupplier) {
+
+		_maxPerInterval = maxPerInterval;
+		_interval = interval;
+		_nanoTimeSupplier = nanoTimeSupplier;
+	}
+
+	/**
+	 * Tries to log a new message. If the message can be logged, returns the
+	 * number of messages suppressed since the last logged one; returns {@code
+	 * -1} if the message must be suppressed.
+	 *
+	 * @return the number of messages suppressed since the last logged one, or
+	 *         {@code -1} if this message must be suppressed
+	 */
+	public synchronized long tryAcquire() {
+		long now = _nanoTimeSupplier.getAsLong();
+
+		if ((_intervalStart < 0) || ((now - _intervalStart) >= _interval)) {
+			_intervalStart = now;
+			_count = 0;
+		}
+
+		if (_count >= _maxPerInterval) {
+			_suppressedCount++;
+
+			return -1;
+		}
+
+		_count++;
+
+		long suppressedCount = _suppressedCount;
+
+		_suppressedCount = 0;
+
+		return suppressedCount;
+	}
+
+	private int _count;
+	private final long _interval;
+	private long _intervalStart = -1;
+	private final int _maxPerInterval;
+	private final LongSupplier _nanoTimeSupplier;
+	private long _suppressedCount;
+
+}
@@ -16,10 +16,12 @@ package com.liferay.apio.architect.impl.jaxrs.json.writer;
 
 import static com.liferay.apio.architect.impl.wiring.osgi.util.GenericUtil.getFirstGenericTypeArgumentFromTypeTry;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
-import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseBufferedMessageBodyWriter;
 import com.liferay.apio.architect.impl.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.BatchResultMessageMapperManager;
@@ -28,8 +30,11 @@ import com.liferay.apio.architect.impl.wiring.osgi.manager.uri.mapper.PathIdenti
 import com.liferay.apio.architect.impl.writer.BatchResultWriter;
 import com.liferay.apio.architect.impl.writer.BatchResultWriter.Builder;
 
+import java.io.IOException;
+
 import java.lang.reflect.Type;
 
+import java.util.List;
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
@@ -55,7 +60,7 @@ import org.osgi.service.component.annotations.Reference;
 )
 @Provider
 public class BatchResultMessageBodyWriter<T>
-	extends BaseMessageBodyWriter
+	extends BaseBufferedMessageBodyWriter
 		<Success<BatchResult<T>>, BatchResultMessageMapper<T>> {
 
 	@Override
@@ -76,13 +81,57 @@ public class BatchResultMessageBodyWriter<T>
 			getBatchResultMessageMapperOptional(request);
 	}
 
+	@Override
+	protected long getItemsCount(Success<BatchResult<T>> success) {
+		BatchResult<T> batchResult = success.getValue();
+
+		List<T> identifiers = batchResult.getIdentifiers();
+
+		return identifiers.size();
+	}
+
+	@Override
+	protected String getResourceName(Success<BatchResult<T>> success) {
+		BatchResult<T> batchResult = success.getValue();
+
+		return batchResult.resourceName;
+	}
+
 	@Override
 	protected String write(
 		Success<BatchResult<T>> success,
 		BatchResultMessageMapper<T> batchResultMessageMapper,
 		RequestInfo requestInfo) {
 
-		BatchResultWriter<T> batchResultWriter = Builder.batchResult(
+		BatchResultWriter<T> batchResultWriter = _createBatchResultWriter(
+			success, batchResultMessageMapper, requestInfo);
+
+		Optional<String> optional = batchResultWriter.write();
+
+		return optional.orElseThrow(NotFoundException::new);
+	}
+
+	@Override
+	protected void write(
+			Success<BatchResult<T>> success,
+			BatchResultMessageMapper<T> batchResultMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		BatchResultWriter<T> batchResultWriter = _createBatchResultWriter(
+			success, batchResultMessageMapper, requestInfo);
+
+		if (!batchResultWriter.write(jsonGenerator)) {
+			throw new NotFoundException();
+		}
+	}
+
+	private BatchResultWriter<T> _createBatchResultWriter(
+		Success<BatchResult<T>> success,
+		BatchResultMessageMapper<T> batchResultMessageMapper,
+		RequestInfo requestInfo) {
+
+		return Builder.batchResult(
 			success.getValue()
 		).batchResultMessageMapper(
 			batchResultMessageMapper
@@ -93,10 +142,6 @@ public class BatchResultMessageBodyWriter<T>
 		).requestInfo(
 			requestInfo
 		).build();
-
-		Optional<String> optional = batchResultWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
 	}
 
 	@Reference
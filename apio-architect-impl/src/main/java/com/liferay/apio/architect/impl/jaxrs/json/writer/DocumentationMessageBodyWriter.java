@@ -15,7 +15,7 @@
 package com.liferay.apio.architect.impl.jaxrs.json.writer;
 
 import com.liferay.apio.architect.impl.documentation.Documentation;
-import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseBufferedMessageBodyWriter;
 import com.liferay.apio.architect.impl.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
@@ -47,7 +47,8 @@ import org.osgi.service.component.annotations.Reference;
 )
 @Provider
 public class DocumentationMessageBodyWriter
-	extends BaseMessageBodyWriter<Documentation, DocumentationMessageMapper> {
+	extends BaseBufferedMessageBodyWriter
+		<Documentation, DocumentationMessageMapper> {
 
 	@Override
 	public boolean canWrite(Class<?> clazz, Type genericType) {
@@ -66,6 +67,11 @@ public class DocumentationMessageBodyWriter
 			getDocumentationMessageMapperOptional(request);
 	}
 
+	@Override
+	protected String getResourceName(Documentation documentation) {
+		return "documentation";
+	}
+
 	@Override
 	protected String write(
 		Documentation documentation,
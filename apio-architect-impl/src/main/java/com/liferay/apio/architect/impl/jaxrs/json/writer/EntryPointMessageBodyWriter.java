@@ -15,7 +15,7 @@
 package com.liferay.apio.architect.impl.jaxrs.json.writer;
 
 import com.liferay.apio.architect.impl.entrypoint.EntryPoint;
-import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseBufferedMessageBodyWriter;
 import com.liferay.apio.architect.impl.message.json.EntryPointMessageMapper;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.EntryPointMessageMapperManager;
@@ -51,7 +51,8 @@ import org.osgi.service.component.annotations.Reference;
 )
 @Provider
 public class EntryPointMessageBodyWriter
-	extends BaseMessageBodyWriter<EntryPoint, EntryPointMessageMapper> {
+	extends BaseBufferedMessageBodyWriter
+		<EntryPoint, EntryPointMessageMapper> {
 
 	@Override
 	public boolean canWrite(Class<?> clazz, Type genericType) {
@@ -70,6 +71,11 @@ public class EntryPointMessageBodyWriter
 			getEntryPointMessageMapperOptional(request);
 	}
 
+	@Override
+	protected String getResourceName(EntryPoint entryPoint) {
+		return "entrypoint";
+	}
+
 	@Override
 	protected String write(
 		EntryPoint entryPoint, EntryPointMessageMapper entryPointMessageMapper,
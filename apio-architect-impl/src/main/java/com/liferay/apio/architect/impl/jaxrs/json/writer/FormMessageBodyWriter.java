@@ -17,7 +17,7 @@ package com.liferay.apio.architect.impl.jaxrs.json.writer;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
-import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseBufferedMessageBodyWriter;
 import com.liferay.apio.architect.impl.message.json.FormMessageMapper;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.FormMessageMapperManager;
@@ -50,7 +50,7 @@ import org.osgi.service.component.annotations.Reference;
 )
 @Provider
 public class FormMessageBodyWriter
-	extends BaseMessageBodyWriter<Success<Form>, FormMessageMapper> {
+	extends BaseBufferedMessageBodyWriter<Success<Form>, FormMessageMapper> {
 
 	@Override
 	public boolean canWrite(Class<?> clazz, Type genericType) {
@@ -70,6 +70,11 @@ public class FormMessageBodyWriter
 		return _formMessageMapperManager.getFormMessageMapperOptional(request);
 	}
 
+	@Override
+	protected String getResourceName(Success<Form> success) {
+		return "form";
+	}
+
 	@Override
 	protected String write(
 		Success<Form> success, FormMessageMapper formMessageMapper,
@@ -16,9 +16,12 @@ package com.liferay.apio.architect.impl.jaxrs.json.writer;
 
 import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
-import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.impl.cache.ResponseCache;
+import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseBufferedMessageBodyWriter;
 import com.liferay.apio.architect.impl.message.json.PageMessageMapper;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.PageMessageMapperManager;
@@ -28,8 +31,11 @@ import com.liferay.apio.architect.impl.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.impl.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
 
+import java.io.IOException;
+
 import java.lang.reflect.Type;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import javax.ws.rs.core.Request;
@@ -56,7 +62,8 @@ import org.osgi.service.component.annotations.Reference;
 )
 @Provider
 public class PageMessageBodyWriter<T>
-	extends BaseMessageBodyWriter<Success<Page<T>>, PageMessageMapper<T>> {
+	extends BaseBufferedMessageBodyWriter
+		<Success<Page<T>>, PageMessageMapper<T>> {
 
 	@Override
 	public boolean canWrite(Class<?> clazz, Type genericType) {
@@ -76,12 +83,60 @@ public class PageMessageBodyWriter<T>
 		return _pageMessageMapperManager.getPageMessageMapperOptional(request);
 	}
 
+	@Override
+	protected long getItemsCount(Success<Page<T>> success) {
+		Page<T> page = success.getValue();
+
+		Collection<T> items = page.getItems();
+
+		return items.size();
+	}
+
+	@Override
+	protected String getResourceName(Success<Page<T>> success) {
+		Page<T> page = success.getValue();
+
+		return page.getResourceName();
+	}
+
 	@Override
 	protected String write(
 		Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
-		PageWriter<T> pageWriter = PageWriter.create(
+		PageWriter<T> pageWriter = _createPageWriter(
+			success, pageMessageMapper, requestInfo);
+
+		return pageWriter.write();
+	}
+
+	@Override
+	protected void write(
+			Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		PageWriter<T> pageWriter = _createPageWriter(
+			success, pageMessageMapper, requestInfo);
+
+		pageWriter.write(jsonGenerator);
+	}
+
+	@Override
+	protected void written(
+		Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo, Object entity) {
+
+		_responseCache.putCachedResponse(
+			requestInfo.getHttpServletRequest(),
+			pageMessageMapper.getMediaType(), entity);
+	}
+
+	private PageWriter<T> _createPageWriter(
+		Success<Page<T>> success, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo) {
+
+		return PageWriter.create(
 			builder -> builder.page(
 				success.getValue()
 			).pageMessageMapper(
@@ -97,9 +152,9 @@ public class PageMessageBodyWriter<T>
 				requestInfo
 			).singleModelFunction(
 				this::getSingleModelOptional
+			).nestedPagesFunction(
+				this::getNestedPages
 			).build());
-
-		return pageWriter.write();
 	}
 
 	@Reference
@@ -111,4 +166,7 @@ public class PageMessageBodyWriter<T>
 	@Reference
 	private RepresentableManager _representableManager;
 
+	@Reference
+	private ResponseCache _responseCache;
+
 }
\ No newline at end of file
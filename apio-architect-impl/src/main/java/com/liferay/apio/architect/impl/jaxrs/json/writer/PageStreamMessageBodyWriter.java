@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.writer;
+
+import static com.liferay.apio.architect.impl.metrics.Phase.SERIALIZATION;
+import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.functional.Try.Success;
+import com.liferay.apio.architect.impl.embedding.EmbeddingBudget;
+import com.liferay.apio.architect.impl.embedding.EmbeddingPolicy;
+import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.impl.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.impl.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.impl.metrics.RequestDiagnostics;
+import com.liferay.apio.architect.impl.pagination.PageStream;
+import com.liferay.apio.architect.impl.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.request.PaginatedHttpServletRequest;
+import com.liferay.apio.architect.impl.request.RequestInfo;
+import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.impl.wiring.osgi.util.GenericUtil;
+import com.liferay.apio.architect.impl.writer.SingleModelWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.lang.reflect.Type;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Writes a {@link PageStream} as newline delimited JSON, one compact plain
+ * JSON object per item. Each page is written and flushed before the next one
+ * is fetched, so a slow client slows down the fetching instead of making the
+ * server buffer the collection.
+ *
+ * <p>
+ * Related models are fetched with a {@link PaginatedHttpServletRequest} per
+ * page, so the models and contexts memoized for a page are released once
+ * it's written.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = MessageBodyWriter.class
+)
+@Provider
+public class PageStreamMessageBodyWriter<T> extends
+	BaseMessageBodyWriter
+		<Success<PageStream<T>>, SingleModelMessageMapper<T>> {
+
+	@Override
+	public boolean canWrite(Class<?> clazz, Type genericType) {
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentFromTypeTry(
+				genericType, Try.class);
+
+		return classTry.filter(
+			PageStream.class::equals
+		).isSuccess();
+	}
+
+	@Override
+	public Optional<SingleModelMessageMapper<T>> getMessageMapperOptional(
+		Request request) {
+
+		return Optional.of(_singleModelMessageMapper);
+	}
+
+	@Override
+	protected EmbeddingBudget createEmbeddingBudget(
+		Success<PageStream<T>> success) {
+
+		EmbeddingPolicy embeddingPolicy = embeddingGuard.getEmbeddingPolicy(
+			getResourceName(success));
+
+		return new EmbeddingBudget(embeddingPolicy.truncating());
+	}
+
+	@Override
+	protected String getResourceName(Success<PageStream<T>> success) {
+		PageStream<T> pageStream = success.getValue();
+
+		return pageStream.getResourceName();
+	}
+
+	@Override
+	protected void writeTo(
+			Success<PageStream<T>> success,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
+
+		httpHeaders.put(CONTENT_TYPE, singletonList(_MEDIA_TYPE));
+
+		Optional<RequestDiagnostics> requestDiagnosticsOptional =
+			RequestDiagnostics.getRequestDiagnosticsOptional(
+				requestInfo.getHttpServletRequest());
+
+		requestDiagnosticsOptional.ifPresent(
+			requestDiagnostics -> requestDiagnostics.addHeaders(httpHeaders));
+
+		_writeLines(
+			success.getValue(), singleModelMessageMapper, requestInfo,
+			new OutputStreamWriter(outputStream, UTF_8));
+	}
+
+	private void _writeLine(
+			T model, String resourceName,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, HttpServletRequest pageHttpServletRequest,
+			JsonGenerator jsonGenerator)
+		throws IOException {
+
+		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+			builder -> builder.singleModel(
+				new SingleModelImpl<>(
+					model, resourceName, Collections.emptyList())
+			).modelMessageMapper(
+				singleModelMessageMapper
+			).pathFunction(
+				_pathIdentifierMapperManager::mapToPath
+			).resourceNameFunction(
+				nameManager::getNameOptional
+			).representorFunction(
+				name -> unsafeCast(
+					_representableManager.getRepresentorOptional(name))
+			).requestInfo(
+				requestInfo
+			).singleModelFunction(
+				(identifier, identifierClass) -> getSingleModelOptional(
+					pageHttpServletRequest, identifier, identifierClass)
+			).nestedPagesFunction(
+				this::getNestedPages
+			).build());
+
+		if (singleModelWriter.write(jsonGenerator)) {
+			jsonGenerator.writeRaw('\n');
+		}
+	}
+
+	private void _writeLines(
+			PageStream<T> pageStream,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, Writer writer)
+		throws IOException {
+
+		HttpServletRequest httpServletRequest =
+			requestInfo.getHttpServletRequest();
+
+		String resourceName = pageStream.getResourceName();
+
+		try (JsonGenerator jsonGenerator = _jsonFactory.createGenerator(
+				writer)) {
+
+			jsonGenerator.setRootValueSeparator(null);
+
+			pageStream.forEachPage(
+				page -> {
+					long start = System.nanoTime();
+
+					HttpServletRequest pageHttpServletRequest =
+						new PaginatedHttpServletRequest(
+							httpServletRequest,
+							new PaginationImpl(
+								page.getItemsPerPage(), page.getPageNumber()));
+
+					Collection<T> items = page.getItems();
+
+					for (T item : items) {
+						_writeLine(
+							item, resourceName, singleModelMessageMapper,
+							requestInfo, pageHttpServletRequest,
+							jsonGenerator);
+					}
+
+					jsonGenerator.flush();
+
+					instrumentation.recordPhase(
+						httpServletRequest, resourceName, SERIALIZATION,
+						System.nanoTime() - start);
+					instrumentation.recordItemsRendered(
+						httpServletRequest, resourceName, items.size());
+				});
+		}
+		catch (IOException ioe) {
+			throw ioe;
+		}
+		catch (Exception e) {
+			throw new WebApplicationException(e);
+		}
+	}
+
+	private static final String _MEDIA_TYPE = "application/x-ndjson";
+
+	private final JsonFactory _jsonFactory = new JsonFactory();
+
+	@Reference
+	private PathIdentifierMapperManager _pathIdentifierMapperManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
+		new PlainJSONSingleModelMessageMapper<>();
+
+}
@@ -16,9 +16,11 @@ package com.liferay.apio.architect.impl.jaxrs.json.writer;
 
 import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.functional.Try.Success;
-import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.impl.jaxrs.json.writer.base.BaseBufferedMessageBodyWriter;
 import com.liferay.apio.architect.impl.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
@@ -28,6 +30,8 @@ import com.liferay.apio.architect.impl.wiring.osgi.util.GenericUtil;
 import com.liferay.apio.architect.impl.writer.SingleModelWriter;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.IOException;
+
 import java.lang.reflect.Type;
 
 import java.util.Optional;
@@ -57,7 +61,7 @@ import org.osgi.service.component.annotations.Reference;
 )
 @Provider
 public class SingleModelMessageBodyWriter<T> extends
-	BaseMessageBodyWriter
+	BaseBufferedMessageBodyWriter
 		<Success<SingleModel<T>>, SingleModelMessageMapper<T>> {
 
 	@Override
@@ -79,13 +83,48 @@ public class SingleModelMessageBodyWriter<T> extends
 			getSingleModelMessageMapperOptional(request);
 	}
 
+	@Override
+	protected String getResourceName(Success<SingleModel<T>> success) {
+		SingleModel<T> singleModel = success.getValue();
+
+		return singleModel.getResourceName();
+	}
+
 	@Override
 	protected String write(
 		Success<SingleModel<T>> success,
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
 
-		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+		SingleModelWriter<T> singleModelWriter = _createSingleModelWriter(
+			success, singleModelMessageMapper, requestInfo);
+
+		Optional<String> optional = singleModelWriter.write();
+
+		return optional.orElseThrow(NotFoundException::new);
+	}
+
+	@Override
+	protected void write(
+			Success<SingleModel<T>> success,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		SingleModelWriter<T> singleModelWriter = _createSingleModelWriter(
+			success, singleModelMessageMapper, requestInfo);
+
+		if (!singleModelWriter.write(jsonGenerator)) {
+			throw new NotFoundException();
+		}
+	}
+
+	private SingleModelWriter<T> _createSingleModelWriter(
+		Success<SingleModel<T>> success,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo) {
+
+		return SingleModelWriter.create(
 			builder -> builder.singleModel(
 				success.getValue()
 			).modelMessageMapper(
@@ -101,11 +140,9 @@ public class SingleModelMessageBodyWriter<T> extends
 				requestInfo
 			).singleModelFunction(
 				this::getSingleModelOptional
+			).nestedPagesFunction(
+				this::getNestedPages
 			).build());
-
-		Optional<String> optional = singleModelWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
 	}
 
 	@Reference
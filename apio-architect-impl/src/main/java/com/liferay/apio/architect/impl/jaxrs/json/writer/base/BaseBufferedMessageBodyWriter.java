@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.writer.base;
+
+import static com.liferay.apio.architect.impl.metrics.Phase.OUTPUT;
+import static com.liferay.apio.architect.impl.metrics.Phase.SERIALIZATION;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.embedding.EmbeddingBudget;
+import com.liferay.apio.architect.impl.message.json.MessageMapper;
+import com.liferay.apio.architect.impl.message.json.binary.JSONBinaryFormat;
+import com.liferay.apio.architect.impl.metrics.RequestDiagnostics;
+import com.liferay.apio.architect.impl.request.RequestInfo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.NotAcceptableException;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Defines the base {@code MessageBodyWriter} for those who write the whole
+ * element to a {@code String} with a {@link MessageMapper} and then send it
+ * in one go. Binary JSON media types are written to a {@code byte[]} instead,
+ * by generating the element directly in the binary format.
+ *
+ * @author Alejandro Hernández
+ */
+public abstract class BaseBufferedMessageBodyWriter
+	<T, S extends MessageMapper> extends BaseMessageBodyWriter<T, S> {
+
+	/**
+	 * Returns the number of items contained in the element being written, used
+	 * to record metrics.
+	 *
+	 * @param  t the element being written
+	 * @return the number of items
+	 */
+	protected long getItemsCount(T t) {
+		return 1;
+	}
+
+	/**
+	 * Writes the element to a {@code String} by using the supplied message
+	 * mapper and the current {@link RequestInfo}.
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @return the {@code String} containing the element's representation
+	 */
+	protected abstract String write(T t, S s, RequestInfo requestInfo);
+
+	/**
+	 * Writes the element to a {@code JsonGenerator} for a binary JSON media
+	 * type, by using the supplied message mapper and the current {@link
+	 * RequestInfo}. Writers whose elements have binary message mappers must
+	 * override this method; by default, the element isn't acceptable in a
+	 * binary format.
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @param  jsonGenerator the JSON generator for the binary format
+	 * @throws IOException if the element couldn't be written
+	 */
+	protected void write(
+			T t, S s, RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		throw new NotAcceptableException();
+	}
+
+	/**
+	 * Writes the element to a {@code String} with {@link #write(Object,
+	 * MessageMapper, RequestInfo)}, or to a {@code byte[]} with {@link
+	 * #write(Object, MessageMapper, RequestInfo, JsonGenerator)} for binary
+	 * JSON media types, and then sends it to the response's output stream in
+	 * one go.
+	 *
+	 * @param t the element being written
+	 * @param s the message mapper
+	 * @param requestInfo the current request info
+	 * @param httpHeaders the response's headers
+	 * @param outputStream the response's output stream
+	 */
+	@Override
+	protected void writeTo(
+			T t, S s, RequestInfo requestInfo,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
+
+		HttpServletRequest httpServletRequest =
+			requestInfo.getHttpServletRequest();
+
+		String name = getResourceName(t);
+
+		Optional<JSONBinaryFormat> jsonBinaryFormatOptional =
+			JSONBinaryFormat.fromMediaType(s.getMediaType());
+
+		Object entity = instrumentation.measure(
+			httpServletRequest, name, SERIALIZATION,
+			() -> jsonBinaryFormatOptional.<Object>map(
+				jsonBinaryFormat -> _toBytes(
+					t, s, requestInfo, jsonBinaryFormat)
+			).orElseGet(
+				() -> write(t, s, requestInfo)
+			));
+
+		EmbeddingBudget embeddingBudget = requestInfo.getEmbeddingBudget();
+
+		Optional<String> warningOptional =
+			embeddingBudget.getWarningOptional();
+
+		warningOptional.ifPresent(
+			warning -> httpHeaders.add(_WARNING, warning));
+
+		boolean enabled = instrumentation.isEnabled(httpServletRequest);
+
+		long start = 0;
+
+		if (enabled) {
+			Optional<RequestDiagnostics> requestDiagnosticsOptional =
+				RequestDiagnostics.getRequestDiagnosticsOptional(
+					httpServletRequest);
+
+			requestDiagnosticsOptional.ifPresent(
+				requestDiagnostics -> requestDiagnostics.addHeaders(
+					httpHeaders));
+
+			start = System.nanoTime();
+		}
+
+		if (entity instanceof byte[]) {
+			outputStream.write((byte[])entity);
+		}
+		else {
+			OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
+				outputStream, StandardCharsets.UTF_8);
+
+			PrintWriter printWriter = new PrintWriter(
+				outputStreamWriter, true);
+
+			printWriter.println(entity);
+
+			printWriter.close();
+		}
+
+		written(t, s, requestInfo, entity);
+
+		if (!enabled) {
+			return;
+		}
+
+		instrumentation.recordPhase(
+			httpServletRequest, name, OUTPUT, System.nanoTime() - start);
+		instrumentation.recordItemsRendered(
+			httpServletRequest, name, getItemsCount(t));
+	}
+
+	/**
+	 * Called once the element has been written to the response's output
+	 * stream, with the entity that was sent. The entity is the JSON document
+	 * as a {@code String}, or the encoded document as a {@code byte[]} for
+	 * binary JSON media types. Does nothing by default.
+	 *
+	 * @param t the element being written
+	 * @param s the message mapper
+	 * @param requestInfo the current request info
+	 * @param entity the entity sent in the response
+	 */
+	protected void written(T t, S s, RequestInfo requestInfo, Object entity) {
+	}
+
+	private byte[] _toBytes(
+		T t, S s, RequestInfo requestInfo, JSONBinaryFormat jsonBinaryFormat) {
+
+		return Try.fromFallible(
+			() -> jsonBinaryFormat.toBytes(
+				jsonGenerator -> write(t, s, requestInfo, jsonGenerator))
+		).getUnchecked();
+	}
+
+	private static final String _WARNING = "Warning";
+
+}
@@ -14,13 +14,21 @@
 
 package com.liferay.apio.architect.impl.jaxrs.json.writer.base;
 
+import static com.liferay.apio.architect.impl.metrics.Phase.EMBEDDED_FETCH;
+
 import static java.util.Collections.singletonList;
 
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.impl.cache.ModelCache;
+import com.liferay.apio.architect.impl.embedding.EmbeddingBudget;
+import com.liferay.apio.architect.impl.embedding.EmbeddingGuard;
 import com.liferay.apio.architect.impl.message.json.MessageMapper;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.request.PaginatedHttpServletRequest;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.response.control.Embedded;
 import com.liferay.apio.architect.impl.response.control.Fields;
@@ -30,21 +38,26 @@ import com.liferay.apio.architect.impl.url.ServerURL;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.router.ItemRouterManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.router.NestedCollectionRouterManager;
 import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
-import java.nio.charset.StandardCharsets;
-
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
@@ -110,10 +123,15 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			OutputStream outputStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
+		boolean enabled = instrumentation.isEnabled(_httpServletRequest);
+
+		CountingOutputStream countingOutputStream = null;
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		if (enabled) {
+			countingOutputStream = new CountingOutputStream(outputStream);
+
+			outputStream = countingOutputStream;
+		}
 
 		Optional<S> optional = getMessageMapperOptional(_request);
 
@@ -146,15 +164,81 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 				).orElse(
 					Locale::getDefault
 				)
+			).embeddingBudget(
+				createEmbeddingBudget(t)
 			).build());
 
-		String result = write(t, s, requestInfo);
-
 		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
 
-		printWriter.println(result);
+		writeTo(t, s, requestInfo, httpHeaders, outputStream);
+
+		if (!enabled) {
+			return;
+		}
+
+		instrumentation.recordBytesWritten(
+			_httpServletRequest, getResourceName(t),
+			countingOutputStream.getCount());
+	}
+
+	/**
+	 * Returns the budget that limits the resources embedded while writing the
+	 * element. Writers that start sending the response before the whole
+	 * element is written should override this method to return a budget that
+	 * doesn't reject the request.
+	 *
+	 * @param  t the element being written
+	 * @return the embedding budget
+	 */
+	protected EmbeddingBudget createEmbeddingBudget(T t) {
+		return embeddingGuard.createEmbeddingBudget(getResourceName(t));
+	}
+
+	/**
+	 * Returns the name of the resource being written, used to record metrics.
+	 *
+	 * @param  t the element being written
+	 * @return the resource's name
+	 */
+	protected abstract String getResourceName(T t);
+
+	/**
+	 * Returns the first page of a nested collection for several parent models,
+	 * keyed by the parent model's identifier. The nested collection's batch
+	 * getter is used if it exists; otherwise, each page is obtained with its
+	 * regular getter. Parents whose page can't be obtained are left out.
+	 *
+	 * @param  name the parent resource's name
+	 * @param  nestedName the nested collection resource's name
+	 * @param  paths the parent models' paths, keyed by their identifiers
+	 * @return the first page of each parent model's nested collection
+	 */
+	protected Map<Object, Page> getNestedPages(
+		String name, String nestedName, Map<Object, Path> paths) {
+
+		if (paths.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Optional<NestedCollectionRoutes<Object, Object, Object>> optional =
+			nestedCollectionRouterManager.getNestedCollectionRoutesOptional(
+				name, nestedName);
+
+		if (!optional.isPresent()) {
+			return Collections.emptyMap();
+		}
+
+		NestedCollectionRoutes<Object, Object, Object> nestedCollectionRoutes =
+			optional.get();
 
-		printWriter.close();
+		HttpServletRequest httpServletRequest = new PaginatedHttpServletRequest(
+			_httpServletRequest,
+			new PaginationImpl(_NESTED_ITEMS_PER_PAGE, 1));
+
+		return instrumentation.measure(
+			_httpServletRequest, nestedName, EMBEDDED_FETCH,
+			() -> _getNestedPages(
+				nestedCollectionRoutes, httpServletRequest, paths));
 	}
 
 	/**
@@ -169,18 +253,37 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	protected Optional<SingleModel> getSingleModelOptional(
 		Object identifier, Class<? extends Identifier> identifierClass) {
 
+		return getSingleModelOptional(
+			_httpServletRequest, identifier, identifierClass);
+	}
+
+	/**
+	 * Returns a {@link SingleModel} identified by the supplied identifier, if
+	 * present; returns {@code Optional#empty()} otherwise. The model is fetched
+	 * and memoized with the provided request, so writers can scope the memo to
+	 * a part of the response.
+	 *
+	 * @param  httpServletRequest the request used to fetch the model
+	 * @param  identifier the single model identifier
+	 * @param  identifierClass the resource identifier class
+	 * @return the {@code SingleModel}, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	protected Optional<SingleModel> getSingleModelOptional(
+		HttpServletRequest httpServletRequest, Object identifier,
+		Class<? extends Identifier> identifierClass) {
+
 		return Try.success(
 			identifierClass.getName()
 		).mapOptional(
 			nameManager::getNameOptional
-		).mapOptional(
-			itemRouterManager::getItemRoutesOptional
-		).mapOptional(
-			ItemRoutes::getItemFunctionOptional
-		).map(
-			function -> function.apply(_httpServletRequest)
 		).flatMap(
-			function -> function.apply(identifier)
+			name -> instrumentation.measure(
+				httpServletRequest, name, EMBEDDED_FETCH,
+				() -> modelCache.getSingleModelTry(
+					httpServletRequest, name, identifier,
+					() -> _getSingleModelTry(
+						httpServletRequest, name, identifier)))
 		).<SingleModel>map(
 			Unsafe::unsafeCast
 		).map(
@@ -191,29 +294,134 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	}
 
 	/**
-	 * Writes the element to a {@code String} by using the supplied message
-	 * mapper and the current {@link RequestInfo}.
+	 * Writes the element to the response's output stream by using the
+	 * supplied message mapper and the current {@link RequestInfo}.
 	 *
-	 * @param  t the element being written
-	 * @param  s the message mapper
-	 * @param  requestInfo the current request info
-	 * @return the {@code String} containing the element's representation
+	 * @param t the element being written
+	 * @param s the message mapper
+	 * @param requestInfo the current request info
+	 * @param httpHeaders the response's headers
+	 * @param outputStream the response's output stream
 	 */
-	protected abstract String write(T t, S s, RequestInfo requestInfo);
+	protected abstract void writeTo(
+			T t, S s, RequestInfo requestInfo,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException;
+
+	private Map<Object, Page> _getNestedPages(
+		NestedCollectionRoutes<Object, Object, Object> nestedCollectionRoutes,
+		HttpServletRequest httpServletRequest, Map<Object, Path> paths) {
+
+		Optional<Map<Object, Page>> optional =
+			nestedCollectionRoutes.getNestedGetPagesFunctionOptional(
+			).map(
+				function -> function.apply(httpServletRequest)
+			).flatMap(
+				function -> function.apply(
+					new ArrayList<>(paths.keySet())
+				).<Map<Object, Page>>map(
+					Unsafe::unsafeCast
+				).toOptional()
+			);
+
+		if (optional.isPresent()) {
+			return optional.get();
+		}
+
+		Map<Object, Page> pages = new LinkedHashMap<>();
+
+		nestedCollectionRoutes.getNestedGetPageFunctionOptional(
+		).map(
+			function -> function.apply(httpServletRequest)
+		).ifPresent(
+			pathFunction -> paths.forEach(
+				(identifier, path) -> pathFunction.apply(
+					path
+				).apply(
+					identifier
+				).ifSuccess(
+					page -> pages.put(identifier, page)
+				))
+		);
+
+		return pages;
+	}
+
+	private Try<SingleModel<Object>> _getSingleModelTry(
+		HttpServletRequest httpServletRequest, String name,
+		Object identifier) {
+
+		return Try.success(
+			name
+		).mapOptional(
+			itemRouterManager::getItemRoutesOptional
+		).mapOptional(
+			ItemRoutes::getItemFunctionOptional
+		).map(
+			function -> function.apply(httpServletRequest)
+		).flatMap(
+			function -> function.apply(identifier)
+		);
+	}
+
+	@Reference
+	protected EmbeddingGuard embeddingGuard;
+
+	@Reference
+	protected Instrumentation instrumentation;
 
 	@Reference
 	protected ItemRouterManager itemRouterManager;
 
+	@Reference
+	protected ModelCache modelCache;
+
 	@Reference
 	protected NameManager nameManager;
 
+	@Reference
+	protected NestedCollectionRouterManager nestedCollectionRouterManager;
+
 	@Reference
 	protected ProviderManager providerManager;
 
+	private static final int _NESTED_ITEMS_PER_PAGE = 30;
+
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
 	@Context
 	private Request _request;
 
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		public long getCount() {
+			return _count;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			out.write(bytes, offset, length);
+
+			_count += length;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+
+			_count++;
+		}
+
+		private CountingOutputStream(OutputStream outputStream) {
+			super(outputStream);
+		}
+
+		private long _count;
+
+	}
+
 }
\ No newline at end of file
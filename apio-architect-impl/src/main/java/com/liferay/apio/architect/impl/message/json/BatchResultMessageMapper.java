@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.impl.message.json;
 
+import com.liferay.apio.architect.batch.BatchItemFailure;
 import com.liferay.apio.architect.batch.BatchResult;
 
 import java.util.List;
@@ -67,6 +68,20 @@ public interface BatchResultMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 	}
 
+	/**
+	 * Maps a resource that couldn't be processed in the batch operation, and
+	 * the reason why, to its JSON object representation.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the batch result
+	 * @param url the resource's URL
+	 * @param batchItemFailure the resource's failure
+	 * @review
+	 */
+	public default void mapFailedItem(
+		JSONObjectBuilder jsonObjectBuilder, String url,
+		BatchItemFailure<T> batchItemFailure) {
+	}
+
 	/**
 	 * Maps a resource URL to its JSON object representation.
 	 *
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.message.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder.FieldStep;
+
+import java.util.function.Consumer;
+
+/**
+ * Represents a precomputed JSON value that can be written into any number of
+ * JSON objects with {@link FieldStep#fragmentValue(JSONFragment)}. Message
+ * mappers create fragments once for the parts of a representation that are
+ * identical for every resource of the same type (for example, its types or
+ * its JSON-LD context) and reuse them for every resource they write.
+ *
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ * {@link JSONObjectBuilder} never modifies the value of a fragment: a field
+ * created from a fragment is copied before it's modified.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class JSONFragment {
+
+	/**
+	 * Creates a fragment with the value written by the provided consumer.
+	 *
+	 * <p>
+	 * For example, this fragment contains a JSON array with two strings:
+	 * </p>
+	 *
+	 * <p>
+	 * <pre>
+	 * {@code
+	 * new JSONFragment(
+	 * 	fieldStep -> fieldStep.arrayValue(
+	 * 	).addAllStrings(
+	 * 		Arrays.asList("Person", "Thing")
+	 * 	));
+	 * }
+	 * </pre></p>
+	 *
+	 * @param consumer the consumer that writes the fragment's value
+	 * @review
+	 */
+	public JSONFragment(Consumer<FieldStep> consumer) {
+		ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+
+		consumer.accept(new FieldStep(_FIELD_NAME, objectNode));
+
+		_jsonNode = objectNode.get(_FIELD_NAME);
+
+		if (_jsonNode == null) {
+			throw new IllegalArgumentException(
+				"The consumer must write the fragment's value");
+		}
+	}
+
+	/**
+	 * Returns the fragment's value. The returned node must not be modified.
+	 *
+	 * @return the fragment's value
+	 */
+	JsonNode getJsonNode() {
+		return _jsonNode;
+	}
+
+	private static final String _FIELD_NAME = "fragment";
+
+	private final JsonNode _jsonNode;
+
+}
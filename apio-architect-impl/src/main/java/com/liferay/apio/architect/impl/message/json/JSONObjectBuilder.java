@@ -15,16 +15,26 @@
 package com.liferay.apio.architect.impl.message.json;
 
 import static com.fasterxml.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY;
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -110,7 +120,7 @@ public class JSONObjectBuilder {
 	 * @return the builder's next step
 	 */
 	public FieldStep field(String name) {
-		return new FieldStep(name, _objectNode);
+		return new FieldStep(name, _objectNode, this);
 	}
 
 	/**
@@ -243,6 +253,19 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to a
+	 * {@code JsonGenerator}, without indentation and without serializing it
+	 * to a {@code String} first. The generator isn't flushed.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void write(JsonGenerator jsonGenerator) throws IOException {
+		_COMPACT_OBJECT_WRITER.writeValue(jsonGenerator, _objectNode);
+	}
+
 	public static class ArrayValueStep {
 
 		public ArrayValueStep(ArrayNode arrayNode) {
@@ -365,8 +388,7 @@ public class JSONObjectBuilder {
 	public static class FieldStep {
 
 		public FieldStep(String name, ObjectNode objectNode) {
-			_name = name;
-			_objectNode = objectNode;
+			this(name, objectNode, null);
 		}
 
 		/**
@@ -379,6 +401,8 @@ public class JSONObjectBuilder {
 				_objectNode.get(_name)
 			).filter(
 				JsonNode::isArray
+			).map(
+				this::_getModifiableJsonNode
 			).map(
 				ArrayNode.class::cast
 			).orElseGet(
@@ -433,6 +457,8 @@ public class JSONObjectBuilder {
 				_objectNode.get(_name)
 			).filter(
 				JsonNode::isObject
+			).map(
+				this::_getModifiableJsonNode
 			).map(
 				ObjectNode.class::cast
 			).orElseGet(
@@ -441,7 +467,7 @@ public class JSONObjectBuilder {
 
 			_objectNode.set(_name, objectNode);
 
-			return new FieldStep(name, objectNode);
+			return new FieldStep(name, objectNode, _jsonObjectBuilder);
 		}
 
 		/**
@@ -463,6 +489,26 @@ public class JSONObjectBuilder {
 			}
 		}
 
+		/**
+		 * Adds the value of a {@link JSONFragment} to the JSON object. If the
+		 * field already contains a JSON array or a JSON object, and the
+		 * fragment's value has the same type, the fragment's elements or
+		 * fields are added to it, like successive calls to the other methods
+		 * of this step do. Otherwise, the fragment's value replaces the
+		 * field's value.
+		 *
+		 * <p>
+		 * The fragment's value isn't copied. It's only copied if the field is
+		 * modified afterwards.
+		 * </p>
+		 *
+		 * @param jsonFragment the fragment to add to the JSON object
+		 * @review
+		 */
+		public void fragmentValue(JSONFragment jsonFragment) {
+			_merge(jsonFragment.getJsonNode());
+		}
+
 		/**
 		 * Begins creating a new JSON object field, only if a condition is met.
 		 * If the condition is met, this method returns the field step created
@@ -588,6 +634,11 @@ public class JSONObjectBuilder {
 			ObjectNode objectNode = jsonObjectBuilder._objectNode;
 
 			_objectNode.set(_name, objectNode);
+
+			if (_jsonObjectBuilder != null) {
+				_jsonObjectBuilder._addFragmentJsonNodes(
+					jsonObjectBuilder._fragmentJsonNodes);
+			}
 		}
 
 		/**
@@ -599,11 +650,102 @@ public class JSONObjectBuilder {
 			_objectNode.put(_name, value);
 		}
 
+		private FieldStep(
+			String name, ObjectNode objectNode,
+			JSONObjectBuilder jsonObjectBuilder) {
+
+			_name = name;
+			_objectNode = objectNode;
+			_jsonObjectBuilder = jsonObjectBuilder;
+		}
+
+		private JsonNode _getModifiableJsonNode(JsonNode jsonNode) {
+			if ((_jsonObjectBuilder == null) ||
+				!_jsonObjectBuilder._isFragmentJsonNode(jsonNode)) {
+
+				return jsonNode;
+			}
+
+			return jsonNode.deepCopy();
+		}
+
+		private void _merge(JsonNode fragmentJsonNode) {
+			JsonNode jsonNode = _objectNode.get(_name);
+
+			if ((jsonNode != null) && jsonNode.isArray() &&
+				fragmentJsonNode.isArray()) {
+
+				ArrayValueStep arrayValueStep = arrayValue();
+
+				arrayValueStep._arrayNode.addAll((ArrayNode)fragmentJsonNode);
+
+				return;
+			}
+
+			if ((jsonNode != null) && jsonNode.isObject() &&
+				fragmentJsonNode.isObject()) {
+
+				Iterator<Map.Entry<String, JsonNode>> iterator =
+					fragmentJsonNode.fields();
+
+				while (iterator.hasNext()) {
+					Map.Entry<String, JsonNode> entry = iterator.next();
+
+					FieldStep fieldStep = field(entry.getKey());
+
+					fieldStep._merge(entry.getValue());
+				}
+
+				return;
+			}
+
+			if (fragmentJsonNode.isValueNode()) {
+				_objectNode.set(_name, fragmentJsonNode);
+
+				return;
+			}
+
+			if (_jsonObjectBuilder == null) {
+				_objectNode.set(_name, fragmentJsonNode.deepCopy());
+
+				return;
+			}
+
+			_jsonObjectBuilder._addFragmentJsonNodes(
+				Collections.singleton(fragmentJsonNode));
+
+			_objectNode.set(_name, fragmentJsonNode);
+		}
+
+		private final JSONObjectBuilder _jsonObjectBuilder;
 		private final String _name;
 		private final ObjectNode _objectNode;
 
 	}
 
+	private void _addFragmentJsonNodes(Set<JsonNode> jsonNodes) {
+		if ((jsonNodes == null) || jsonNodes.isEmpty()) {
+			return;
+		}
+
+		if (_fragmentJsonNodes == null) {
+			_fragmentJsonNodes = Collections.newSetFromMap(
+				new IdentityHashMap<>());
+		}
+
+		_fragmentJsonNodes.addAll(jsonNodes);
+	}
+
+	private boolean _isFragmentJsonNode(JsonNode jsonNode) {
+		if (_fragmentJsonNodes == null) {
+			return false;
+		}
+
+		return _fragmentJsonNodes.contains(jsonNode);
+	}
+
+	private static final ObjectWriter _COMPACT_OBJECT_WRITER;
+
 	private static final ObjectMapper _OBJECT_MAPPER;
 
 	static {
@@ -611,8 +753,16 @@ public class JSONObjectBuilder {
 
 		_OBJECT_MAPPER.configure(SORT_PROPERTIES_ALPHABETICALLY, true);
 		_OBJECT_MAPPER.enable(INDENT_OUTPUT);
+
+		_COMPACT_OBJECT_WRITER = _OBJECT_MAPPER.writer(
+		).without(
+			FLUSH_AFTER_WRITE_VALUE
+		).without(
+			INDENT_OUTPUT
+		);
 	}
 
+	private Set<JsonNode> _fragmentJsonNodes;
 	private final ObjectNode _objectNode;
 
 }
\ No newline at end of file
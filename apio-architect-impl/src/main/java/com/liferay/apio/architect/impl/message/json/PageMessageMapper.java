@@ -72,6 +72,18 @@ public interface PageMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 	}
 
+	/**
+	 * Maps the URL of the document that describes the vocabulary shared by
+	 * every item of the page. Mappers that write that vocabulary inline can
+	 * ignore it.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the page
+	 * @param url the shared document's URL
+	 */
+	public default void mapContextURL(
+		JSONObjectBuilder jsonObjectBuilder, String url) {
+	}
+
 	/**
 	 * Maps the current page's URL to its JSON object representation.
 	 *
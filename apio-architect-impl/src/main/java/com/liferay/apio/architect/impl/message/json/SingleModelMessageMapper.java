@@ -66,6 +66,18 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps the URL of the document that describes the vocabulary shared by
+	 * every resource of the model's type. Mappers that write that vocabulary
+	 * inline can ignore it.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the model
+	 * @param url the shared document's URL
+	 */
+	public default void mapContextURL(
+		JSONObjectBuilder jsonObjectBuilder, String url) {
+	}
+
 	/**
 	 * Maps an embedded resource operation form's URL to its JSON object
 	 * representation.
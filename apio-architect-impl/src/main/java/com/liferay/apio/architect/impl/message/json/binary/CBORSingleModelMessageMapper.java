@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.message.json.binary;
+
+import com.liferay.apio.architect.impl.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.impl.message.json.plain.PlainJSONSingleModelMessageMapper;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents single models in CBOR, with the same shape as the {@link
+ * PlainJSONSingleModelMessageMapper}.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(service = SingleModelMessageMapper.class)
+public class CBORSingleModelMessageMapper<T>
+	extends PlainJSONSingleModelMessageMapper<T> {
+
+	@Override
+	public String getMediaType() {
+		return JSONBinaryFormat.CBOR.getMediaType();
+	}
+
+}
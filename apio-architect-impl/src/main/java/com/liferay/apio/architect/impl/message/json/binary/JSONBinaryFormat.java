@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.message.json.binary;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
+
+import java.io.ByteArrayOutputStream;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Defines the binary JSON formats supported by the binary message mappers.
+ * Binary documents have the same shape as their plain JSON counterparts.
+ *
+ * @author Alejandro Hernández
+ */
+public enum JSONBinaryFormat {
+
+	CBOR("application/cbor", new CBORFactory()),
+	SMILE("application/x-jackson-smile", new SmileFactory());
+
+	/**
+	 * Returns the binary format of a media type, if it's a binary JSON media
+	 * type; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  mediaType the media type, without parameters
+	 * @return the binary format, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<JSONBinaryFormat> fromMediaType(String mediaType) {
+		return Stream.of(
+			values()
+		).filter(
+			jsonBinaryFormat -> jsonBinaryFormat._mediaType.equalsIgnoreCase(
+				mediaType)
+		).findFirst();
+	}
+
+	/**
+	 * Returns the format's media type.
+	 *
+	 * @return the format's media type
+	 */
+	public String getMediaType() {
+		return _mediaType;
+	}
+
+	/**
+	 * Returns an {@code ObjectMapper} that reads and writes this format.
+	 *
+	 * @return the format's object mapper
+	 */
+	public ObjectMapper getObjectMapper() {
+		return _objectMapper;
+	}
+
+	/**
+	 * Generates a document in this format, by writing it with the provided
+	 * consumer to a {@code JsonGenerator} for this format. The document is
+	 * generated directly in this format, without being written as JSON text
+	 * first.
+	 *
+	 * @param  throwableConsumer the consumer that writes the document
+	 * @return the document in this format
+	 * @throws Exception if the document couldn't be written
+	 */
+	public byte[] toBytes(ThrowableConsumer<JsonGenerator> throwableConsumer)
+		throws Exception {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		JsonFactory jsonFactory = _objectMapper.getFactory();
+
+		try (JsonGenerator jsonGenerator = jsonFactory.createGenerator(
+				byteArrayOutputStream)) {
+
+			throwableConsumer.accept(jsonGenerator);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private JSONBinaryFormat(String mediaType, JsonFactory jsonFactory) {
+		_mediaType = mediaType;
+		_objectMapper = new ObjectMapper(jsonFactory);
+	}
+
+	private final String _mediaType;
+	private final ObjectMapper _objectMapper;
+
+}
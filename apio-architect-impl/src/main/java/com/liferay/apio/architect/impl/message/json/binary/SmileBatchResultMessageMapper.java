@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.message.json.binary;
+
+import com.liferay.apio.architect.impl.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.impl.message.json.plain.PlainJSONBatchResultMessageMapper;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents batch results in Smile, with the same shape as the {@link
+ * PlainJSONBatchResultMessageMapper}.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(service = BatchResultMessageMapper.class)
+public class SmileBatchResultMessageMapper<T>
+	extends PlainJSONBatchResultMessageMapper<T> {
+
+	@Override
+	public String getMediaType() {
+		return JSONBinaryFormat.SMILE.getMediaType();
+	}
+
+}
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.impl.message.json.ld;
 
+import com.liferay.apio.architect.batch.BatchItemFailure;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.impl.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
@@ -56,6 +57,33 @@ public class JSONLDBatchResultMessageMapper<T>
 		_singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
 	}
 
+	@Override
+	public void mapFailedItem(
+		JSONObjectBuilder jsonObjectBuilder, String url,
+		BatchItemFailure<T> batchItemFailure) {
+
+		jsonObjectBuilder.field(
+			"failedMember"
+		).arrayValue(
+		).add(
+			builder -> {
+				_singleModelMessageMapper.mapSelfURL(builder, url);
+
+				builder.field(
+					"statusCode"
+				).numberValue(
+					batchItemFailure.getStatusCode()
+				);
+
+				builder.field(
+					"title"
+				).stringValue(
+					batchItemFailure.getReason()
+				);
+			}
+		);
+	}
+
 	@Override
 	public void mapItemTotalCount(
 		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
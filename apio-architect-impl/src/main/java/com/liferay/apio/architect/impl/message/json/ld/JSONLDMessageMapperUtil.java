@@ -17,13 +17,22 @@ package com.liferay.apio.architect.impl.message.json.ld;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.impl.message.json.JSONFragment;
+import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.impl.operation.BatchCreateOperation;
 import com.liferay.apio.architect.impl.operation.CreateOperation;
 import com.liferay.apio.architect.impl.operation.DeleteOperation;
 import com.liferay.apio.architect.impl.operation.UpdateOperation;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.Representor;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Provides utility functions for JSON-LD message mappers.
@@ -36,6 +45,24 @@ import java.util.List;
  */
 public class JSONLDMessageMapperUtil {
 
+	/**
+	 * The configuration PID shared by the JSON-LD message mappers.
+	 */
+	public static final String CONFIGURATION_PID =
+		"com.liferay.apio.architect.impl.message.json.ld";
+
+	/**
+	 * Returns the {@link JSONFragment} with the inline {@code @context} of a
+	 * resource: the Schema.org vocabulary and the Hydra namespace. The
+	 * fragment is created once and shared by every message mapper.
+	 *
+	 * @return the inline context fragment
+	 * @review
+	 */
+	public static JSONFragment getContextJSONFragment() {
+		return _CONTEXT_JSON_FRAGMENT;
+	}
+
 	/**
 	 * Return the list of {@link Operation} types.
 	 *
@@ -62,8 +89,80 @@ public class JSONLDMessageMapperUtil {
 		return singletonList("Operation");
 	}
 
+	/**
+	 * Returns the JSON-LD document with the {@code @context} shared by every
+	 * resource of a representor's type. Besides the Schema.org vocabulary and
+	 * the Hydra namespace, the context declares every linked field of the
+	 * representor as an {@code @id}, so resources can reference the document
+	 * instead of writing those entries inline.
+	 *
+	 * @param  representor the resource's representor
+	 * @return the shared context document
+	 */
+	public static String getSharedContext(Representor<?> representor) {
+		Set<String> keys = new LinkedHashSet<>();
+
+		List<? extends RelatedModel<?, ?>> relatedModels =
+			representor.getRelatedModels();
+
+		relatedModels.forEach(relatedModel -> keys.add(relatedModel.getKey()));
+
+		Stream<RelatedCollection<? extends Identifier>> stream =
+			representor.getRelatedCollections();
+
+		stream.map(
+			RelatedCollection::getKey
+		).forEach(
+			keys::add
+		);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"@context"
+		).arrayValue(
+			arrayBuilder -> arrayBuilder.add(
+				builder -> builder.field(
+					"@vocab"
+				).stringValue(
+					"http://schema.org/"
+				)),
+			arrayBuilder -> arrayBuilder.addString(
+				"https://www.w3.org/ns/hydra/core#"),
+			arrayBuilder -> {
+				if (keys.isEmpty()) {
+					return;
+				}
+
+				arrayBuilder.add(
+					builder -> keys.forEach(
+						key -> builder.field(
+							key
+						).field(
+							"@type"
+						).stringValue(
+							"@id"
+						)));
+			}
+		);
+
+		return jsonObjectBuilder.build();
+	}
+
 	private JSONLDMessageMapperUtil() {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final JSONFragment _CONTEXT_JSON_FRAGMENT =
+		new JSONFragment(
+			fieldStep -> fieldStep.arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")));
+
 }
\ No newline at end of file
@@ -14,7 +14,12 @@
 
 package com.liferay.apio.architect.impl.message.json.ld;
 
+import static com.liferay.apio.architect.impl.message.json.ld.JSONLDMessageMapperUtil.getContextJSONFragment;
+import static com.liferay.apio.architect.impl.message.json.ld.JSONLDSingleModelMessageMapper.SHARED_CONTEXT_ENABLED;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+
 import com.liferay.apio.architect.impl.list.FunctionalList;
+import com.liferay.apio.architect.impl.message.json.JSONFragment;
 import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.impl.message.json.PageMessageMapper;
 import com.liferay.apio.architect.impl.message.json.SingleModelMessageMapper;
@@ -22,9 +27,11 @@ import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -35,13 +42,27 @@ import org.osgi.service.component.annotations.Component;
  * href="https://www.hydra-cg.com/">Hydra </a> .
  * </p>
  *
+ * <p>
+ * Pages reference the shared context document of their items' type when the
+ * {@link JSONLDSingleModelMessageMapper#SHARED_CONTEXT_ENABLED} property is
+ * {@code true}.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
  */
-@Component
+@Component(configurationPid = JSONLDMessageMapperUtil.CONFIGURATION_PID)
 public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_sharedContextEnabled = getBoolean(
+			properties, SHARED_CONTEXT_ENABLED, false);
+
+		_singleModelMessageMapper.activate(properties);
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/ld+json";
@@ -61,6 +82,19 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		_singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
 	}
 
+	@Override
+	public void mapContextURL(JSONObjectBuilder jsonObjectBuilder, String url) {
+		if (!_sharedContextEnabled) {
+			return;
+		}
+
+		jsonObjectBuilder.field(
+			"@context"
+		).stringValue(
+			url
+		);
+	}
+
 	@Override
 	public void mapCurrentPageURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
@@ -154,18 +188,13 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
 	@Override
 	public void onFinish(JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!_sharedContextEnabled) {
+			jsonObjectBuilder.field(
+				"@context"
+			).fragmentValue(
+				getContextJSONFragment()
+			);
+		}
 
 		jsonObjectBuilder.nestedField(
 			"view", "@type"
@@ -203,9 +232,8 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
 		collectionJsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addString(
-			"Collection"
+		).fragmentValue(
+			_COLLECTION_TYPES_JSON_FRAGMENT
 		);
 
 		singleModelJSONObjectBuilder.nestedField(
@@ -234,7 +262,15 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		return stream.toArray(String[]::new);
 	}
 
-	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
+	private static final JSONFragment _COLLECTION_TYPES_JSON_FRAGMENT =
+		new JSONFragment(
+			fieldStep -> fieldStep.arrayValue(
+			).addString(
+				"Collection"
+			));
+
+	private boolean _sharedContextEnabled;
+	private final JSONLDSingleModelMessageMapper<T> _singleModelMessageMapper =
 		new JSONLDSingleModelMessageMapper<>();
 
 }
\ No newline at end of file
@@ -14,9 +14,12 @@
 
 package com.liferay.apio.architect.impl.message.json.ld;
 
+import static com.liferay.apio.architect.impl.message.json.ld.JSONLDMessageMapperUtil.getContextJSONFragment;
 import static com.liferay.apio.architect.impl.message.json.ld.JSONLDMessageMapperUtil.getOperationTypes;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
 
 import com.liferay.apio.architect.impl.list.FunctionalList;
+import com.liferay.apio.architect.impl.message.json.JSONFragment;
 import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.impl.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.operation.HTTPMethod;
@@ -24,9 +27,12 @@ import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -37,14 +43,41 @@ import org.osgi.service.component.annotations.Component;
  * href="https://www.hydra-cg.com/">Hydra </a> .
  * </p>
  *
+ * <p>
+ * If the {@link #SHARED_CONTEXT_ENABLED} property is {@code true}, the
+ * {@code @context} of a resource and of its linked fields isn't written
+ * inline. Instead, the resource references the context document shared by
+ * every resource of its type. Linked fields of embedded resources keep their
+ * inline context.
+ * </p>
+ *
+ * <p>
+ * The parts of a resource that are identical for every resource of the same
+ * type (its types, the types of its operations and its context entries) are
+ * created once, as {@link JSONFragment} instances, and reused.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
  */
-@Component
+@Component(configurationPid = JSONLDMessageMapperUtil.CONFIGURATION_PID)
 public class JSONLDSingleModelMessageMapper<T>
 	implements SingleModelMessageMapper<T> {
 
+	/**
+	 * The property that makes resources reference a shared context document
+	 * instead of writing their context inline. It's disabled by default.
+	 */
+	public static final String SHARED_CONTEXT_ENABLED =
+		"jsonld.shared.context.enabled";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_sharedContextEnabled = getBoolean(
+			properties, SHARED_CONTEXT_ENABLED, false);
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/ld+json";
@@ -74,6 +107,19 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapContextURL(JSONObjectBuilder jsonObjectBuilder, String url) {
+		if (!_sharedContextEnabled) {
+			return;
+		}
+
+		jsonObjectBuilder.field(
+			"@context"
+		).stringValue(
+			url
+		);
+	}
+
 	@Override
 	public void mapEmbeddedOperationFormURL(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
@@ -217,9 +263,8 @@ public class JSONLDSingleModelMessageMapper<T>
 			embeddedPathElements.head(), _getTail(embeddedPathElements)
 		).field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			types
+		).fragmentValue(
+			_getTypesJSONFragment(types)
 		);
 	}
 
@@ -283,6 +328,10 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
+		if (_sharedContextEnabled && !optional.isPresent()) {
+			return;
+		}
+
 		jsonObjectBuilder.ifElseCondition(
 			optional.isPresent(),
 			builder -> builder.nestedField(
@@ -291,15 +340,8 @@ public class JSONLDSingleModelMessageMapper<T>
 				"@context"
 			),
 			builder -> builder.field("@context")
-		).arrayValue(
-		).add(
-			builder -> builder.field(
-				optional.orElse(head)
-			).field(
-				"@type"
-			).stringValue(
-				"@id"
-			)
+		).fragmentValue(
+			_getLinkedResourceContextJSONFragment(optional.orElse(head))
 		);
 	}
 
@@ -404,9 +446,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		jsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			types
+		).fragmentValue(
+			_getTypesJSONFragment(types)
 		);
 	}
 
@@ -423,9 +464,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		operationJSONObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			getOperationTypes(operation)
+		).fragmentValue(
+			_getTypesJSONFragment(getOperationTypes(operation))
 		);
 
 		resourceJSONObjectBuilder.field(
@@ -440,17 +480,14 @@ public class JSONLDSingleModelMessageMapper<T>
 	public void onFinish(
 		JSONObjectBuilder jsonObjectBuilder, SingleModel<T> singleModel) {
 
+		if (_sharedContextEnabled) {
+			return;
+		}
+
 		jsonObjectBuilder.field(
 			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
+		).fragmentValue(
+			getContextJSONFragment()
 		);
 	}
 
@@ -471,9 +508,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		operationJSONObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addAllStrings(
-			getOperationTypes(operation)
+		).fragmentValue(
+			_getTypesJSONFragment(getOperationTypes(operation))
 		);
 
 		singleModelJSONObjectBuilder.nestedField(
@@ -494,9 +530,8 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		collectionJsonObjectBuilder.field(
 			"@type"
-		).arrayValue(
-		).addString(
-			"Collection"
+		).fragmentValue(
+			_COLLECTION_TYPES_JSON_FRAGMENT
 		);
 
 		singleModelJSONObjectBuilder.nestedField(
@@ -519,6 +554,24 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	private JSONFragment _getLinkedResourceContextJSONFragment(
+		String fieldName) {
+
+		return _linkedResourceContextJSONFragments.computeIfAbsent(
+			fieldName,
+			key -> new JSONFragment(
+				fieldStep -> fieldStep.arrayValue(
+				).add(
+					builder -> builder.field(
+						key
+					).field(
+						"@type"
+					).stringValue(
+						"@id"
+					)
+				)));
+	}
+
 	private String[] _getMiddle(FunctionalList<String> embeddedPathElements) {
 		Stream<String> stream = embeddedPathElements.middleStream();
 
@@ -531,4 +584,27 @@ public class JSONLDSingleModelMessageMapper<T>
 		return stream.toArray(String[]::new);
 	}
 
+	private JSONFragment _getTypesJSONFragment(List<String> types) {
+		return _typesJSONFragments.computeIfAbsent(
+			types,
+			key -> new JSONFragment(
+				fieldStep -> fieldStep.arrayValue(
+				).addAllStrings(
+					key
+				)));
+	}
+
+	private static final JSONFragment _COLLECTION_TYPES_JSON_FRAGMENT =
+		new JSONFragment(
+			fieldStep -> fieldStep.arrayValue(
+			).addString(
+				"Collection"
+			));
+
+	private final Map<String, JSONFragment>
+		_linkedResourceContextJSONFragments = new ConcurrentHashMap<>();
+	private boolean _sharedContextEnabled;
+	private final Map<List<String>, JSONFragment> _typesJSONFragments =
+		new ConcurrentHashMap<>();
+
 }
\ No newline at end of file
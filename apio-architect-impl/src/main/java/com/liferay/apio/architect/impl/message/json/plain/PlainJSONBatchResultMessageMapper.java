@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.message.json.plain;
+
+import com.liferay.apio.architect.impl.message.json.BatchResultMessageMapper;
+import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.impl.message.json.SingleModelMessageMapper;
+
+import java.util.Optional;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents batch results in plain JSON.
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class PlainJSONBatchResultMessageMapper<T>
+	implements BatchResultMessageMapper<T> {
+
+	@Override
+	public String getMediaType() {
+		return "application/json";
+	}
+
+	@Override
+	public Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional() {
+
+		return Optional.of(_singleModelMessageMapper);
+	}
+
+	@Override
+	public void mapCollectionURL(
+		JSONObjectBuilder jsonObjectBuilder, String url) {
+
+		jsonObjectBuilder.field(
+			"collection"
+		).stringValue(
+			url
+		);
+	}
+
+	@Override
+	public void mapItemTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int totalCount) {
+
+		jsonObjectBuilder.field(
+			"totalNumberOfItems"
+		).numberValue(
+			totalCount
+		);
+	}
+
+	@Override
+	public void onFinishItem(
+		JSONObjectBuilder batchResultJSONObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder) {
+
+		batchResultJSONObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).add(
+			itemJSONObjectBuilder
+		);
+	}
+
+	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
+		new PlainJSONSingleModelMessageMapper<>();
+
+}
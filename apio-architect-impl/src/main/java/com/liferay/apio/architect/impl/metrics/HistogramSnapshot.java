@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+/**
+ * Represents an immutable snapshot of a {@link LatencyHistogram}. Every latency
+ * is expressed in microseconds.
+ *
+ * @author Alejandro Hernández
+ */
+public class HistogramSnapshot {
+
+	public HistogramSnapshot(
+		long count, long max, long mean, long median, long percentile90,
+		long percentile99) {
+
+		_count = count;
+		_max = max;
+		_mean = mean;
+		_median = median;
+		_percentile90 = percentile90;
+		_percentile99 = percentile99;
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 *
+	 * @return the number of recorded latencies
+	 */
+	public long getCount() {
+		return _count;
+	}
+
+	/**
+	 * Returns the maximum recorded latency.
+	 *
+	 * @return the maximum latency
+	 */
+	public long getMax() {
+		return _max;
+	}
+
+	/**
+	 * Returns the mean of the recorded latencies.
+	 *
+	 * @return the mean latency
+	 */
+	public long getMean() {
+		return _mean;
+	}
+
+	/**
+	 * Returns the median of the recorded latencies.
+	 *
+	 * @return the median latency
+	 */
+	public long getMedian() {
+		return _median;
+	}
+
+	/**
+	 * Returns the 90th percentile of the recorded latencies.
+	 *
+	 * @return the 90th percentile latency
+	 */
+	public long getPercentile90() {
+		return _percentile90;
+	}
+
+	/**
+	 * Returns the 99th percentile of the recorded latencies.
+	 *
+	 * @return the 99th percentile latency
+	 */
+	public long getPercentile99() {
+		return _percentile99;
+	}
+
+	private final long _count;
+	private final long _max;
+	private final long _mean;
+	private final long _median;
+	private final long _percentile90;
+	private final long _percentile99;
+
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Records metrics about the phases of the request pipeline.
+ *
+ * <p>
+ * Endpoints and writers call this SPI on every request, so implementations
+ * must be cheap. Callers should check {@link #isEnabled(HttpServletRequest)}
+ * before computing any value that's only needed for recording.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public interface Instrumentation {
+
+	/**
+	 * Returns a consumer that records the number of nanoseconds spent in a
+	 * phase of the request. The request is only read when this method is
+	 * called, so the consumer can be called from any thread.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the resource's name
+	 * @param  phase the phase
+	 * @return the consumer that records the phase's duration
+	 * @review
+	 */
+	public LongConsumer getPhaseRecorder(
+		HttpServletRequest httpServletRequest, String name, Phase phase);
+
+	/**
+	 * Returns a snapshot of the metrics recorded so far.
+	 *
+	 * @return the metrics snapshot
+	 */
+	public MetricsSnapshot getSnapshot();
+
+	/**
+	 * Returns {@code true} if metrics are being recorded for a request, either
+	 * because they're globally enabled or because diagnostics were started for
+	 * the request.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return {@code true} if metrics are being recorded; {@code false}
+	 *         otherwise
+	 */
+	public boolean isEnabled(HttpServletRequest httpServletRequest);
+
+	/**
+	 * Measures the time spent by a supplier in a phase of the request, if
+	 * metrics are enabled. Returns the supplier's result.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the resource's name
+	 * @param  phase the measured phase
+	 * @param  supplier the supplier being measured
+	 * @return the supplier's result
+	 */
+	public default <T> T measure(
+		HttpServletRequest httpServletRequest, String name, Phase phase,
+		Supplier<T> supplier) {
+
+		if (!isEnabled(httpServletRequest)) {
+			return supplier.get();
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return supplier.get();
+		}
+		finally {
+			recordPhase(
+				httpServletRequest, name, phase, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Measures the time spent until the completion stage returned by a
+	 * supplier completes, if metrics are enabled. Returns a stage that
+	 * completes after the time has been recorded. The request isn't read once
+	 * this method returns, so the stage can complete in any thread.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the resource's name
+	 * @param  phase the measured phase
+	 * @param  supplier the supplier of the measured completion stage
+	 * @return the measured completion stage
+	 */
+	public default <T> CompletionStage<T> measureAsync(
+		HttpServletRequest httpServletRequest, String name, Phase phase,
+		Supplier<CompletionStage<T>> supplier) {
+
+		if (!isEnabled(httpServletRequest)) {
+			return supplier.get();
+		}
+
+		LongConsumer phaseRecorder = getPhaseRecorder(
+			httpServletRequest, name, phase);
+
+		long start = System.nanoTime();
+
+		CompletionStage<T> completionStage = supplier.get();
+
+		return completionStage.whenComplete(
+			(t, throwable) -> phaseRecorder.accept(System.nanoTime() - start));
+	}
+
+	/**
+	 * Records the number of bytes written in a response.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param name the resource's name
+	 * @param bytes the number of bytes written
+	 */
+	public void recordBytesWritten(
+		HttpServletRequest httpServletRequest, String name, long bytes);
+
+	/**
+	 * Records an access to a cache.
+	 *
+	 * @param cacheName the cache's name
+	 * @param hit {@code true} if the access was a hit; {@code false} otherwise
+	 */
+	public void recordCacheAccess(String cacheName, boolean hit);
+
+	/**
+	 * Records the number of items rendered in a response.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param name the resource's name
+	 * @param items the number of items rendered
+	 */
+	public void recordItemsRendered(
+		HttpServletRequest httpServletRequest, String name, long items);
+
+	/**
+	 * Records the time spent in a phase of the request.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param name the resource's name
+	 * @param phase the phase
+	 * @param nanos the number of nanoseconds spent in the phase
+	 */
+	public void recordPhase(
+		HttpServletRequest httpServletRequest, String name, Phase phase,
+		long nanos);
+
+	/**
+	 * Starts recording diagnostics for a request, if the token belongs to a
+	 * trusted client. Returns the request's diagnostics in that case; returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  token the token sent by the client
+	 * @return the request's diagnostics, if the client is trusted; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<RequestDiagnostics> startDiagnosticsOptional(
+		HttpServletRequest httpServletRequest, String token);
+
+}
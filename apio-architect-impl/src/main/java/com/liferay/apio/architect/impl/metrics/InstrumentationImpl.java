@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getString;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Default {@link Instrumentation} implementation, based on {@code LongAdder}
+ * counters and {@link LatencyHistogram} instances.
+ *
+ * <p>
+ * Metrics are only recorded if the {@link #ENABLED} property is {@code true}.
+ * Otherwise, every method returns immediately. The snapshot is available to
+ * other components through the {@link Instrumentation} service.
+ * </p>
+ *
+ * <p>
+ * Clients sending the {@link #DIAGNOSTICS_TOKEN} value can also ask for the
+ * diagnostics of their own request. If the property is empty, diagnostics are
+ * disabled.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component
+public class InstrumentationImpl implements Instrumentation {
+
+	/**
+	 * The property with the token trusted clients send to obtain their
+	 * request's diagnostics. It's empty by default, which disables diagnostics.
+	 */
+	public static final String DIAGNOSTICS_TOKEN =
+		"instrumentation.diagnostics.token";
+
+	/**
+	 * The property that enables recording metrics. It's disabled by default.
+	 */
+	public static final String ENABLED = "instrumentation.enabled";
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_enabled = getBoolean(properties, ENABLED, false);
+
+		String diagnosticsToken = getString(properties, DIAGNOSTICS_TOKEN, "");
+
+		if (diagnosticsToken.isEmpty()) {
+			_diagnosticsToken = null;
+		}
+		else {
+			_diagnosticsToken = diagnosticsToken.getBytes(
+				StandardCharsets.UTF_8);
+		}
+
+		_counters.clear();
+		_latencyHistograms.clear();
+	}
+
+	@Override
+	public LongConsumer getPhaseRecorder(
+		HttpServletRequest httpServletRequest, String name, Phase phase) {
+
+		Optional<RequestDiagnostics> optional = _getRequestDiagnosticsOptional(
+			httpServletRequest);
+
+		return nanos -> {
+			optional.ifPresent(
+				requestDiagnostics -> requestDiagnostics.record(
+					name, phase, nanos));
+
+			if (!_enabled) {
+				return;
+			}
+
+			LatencyHistogram latencyHistogram =
+				_latencyHistograms.computeIfAbsent(
+					name + "." + phase.getName(), __ -> new LatencyHistogram());
+
+			latencyHistogram.record(nanos);
+		};
+	}
+
+	@Override
+	public MetricsSnapshot getSnapshot() {
+		Map<String, Long> counters = new TreeMap<>();
+
+		_counters.forEach(
+			(key, longAdder) -> counters.put(key, longAdder.sum()));
+
+		Map<String, HistogramSnapshot> histogramSnapshots = new TreeMap<>();
+
+		_latencyHistograms.forEach(
+			(key, latencyHistogram) -> histogramSnapshots.put(
+				key, latencyHistogram.getSnapshot()));
+
+		return new MetricsSnapshot(counters, histogramSnapshots);
+	}
+
+	@Override
+	public boolean isEnabled(HttpServletRequest httpServletRequest) {
+		if (_enabled) {
+			return true;
+		}
+
+		Optional<RequestDiagnostics> optional = _getRequestDiagnosticsOptional(
+			httpServletRequest);
+
+		return optional.isPresent();
+	}
+
+	@Override
+	public void recordBytesWritten(
+		HttpServletRequest httpServletRequest, String name, long bytes) {
+
+		if (_enabled) {
+			_add(name + ".bytes", bytes);
+		}
+	}
+
+	@Override
+	public void recordCacheAccess(String cacheName, boolean hit) {
+		if (!_enabled) {
+			return;
+		}
+
+		if (hit) {
+			_add("cache." + cacheName + ".hits", 1);
+		}
+		else {
+			_add("cache." + cacheName + ".misses", 1);
+		}
+	}
+
+	@Override
+	public void recordItemsRendered(
+		HttpServletRequest httpServletRequest, String name, long items) {
+
+		if (_enabled) {
+			_add(name + ".items", items);
+		}
+	}
+
+	@Override
+	public void recordPhase(
+		HttpServletRequest httpServletRequest, String name, Phase phase,
+		long nanos) {
+
+		LongConsumer phaseRecorder = getPhaseRecorder(
+			httpServletRequest, name, phase);
+
+		phaseRecorder.accept(nanos);
+	}
+
+	@Override
+	public Optional<RequestDiagnostics> startDiagnosticsOptional(
+		HttpServletRequest httpServletRequest, String token) {
+
+		byte[] diagnosticsToken = _diagnosticsToken;
+
+		if ((diagnosticsToken == null) || (token == null) ||
+			!MessageDigest.isEqual(
+				diagnosticsToken, token.getBytes(StandardCharsets.UTF_8))) {
+
+			return Optional.empty();
+		}
+
+		return Optional.of(RequestDiagnostics.start(httpServletRequest));
+	}
+
+	private void _add(String key, long value) {
+		LongAdder longAdder = _counters.computeIfAbsent(
+			key, __ -> new LongAdder());
+
+		longAdder.add(value);
+	}
+
+	private Optional<RequestDiagnostics> _getRequestDiagnosticsOptional(
+		HttpServletRequest httpServletRequest) {
+
+		if (_diagnosticsToken == null) {
+			return Optional.empty();
+		}
+
+		return RequestDiagnostics.getRequestDiagnosticsOptional(
+			httpServletRequest);
+	}
+
+	private final Map<String, LongAdder> _counters = new ConcurrentHashMap<>();
+	private volatile byte[] _diagnosticsToken;
+	private volatile boolean _enabled;
+	private final Map<String, LatencyHistogram> _latencyHistograms =
+		new ConcurrentHashMap<>();
+
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies in a fixed set of log-linear buckets, in the style of an
+ * HDR histogram.
+ *
+ * <p>
+ * Values are stored in microseconds. Each power of two is split into eight
+ * buckets, so percentiles are reported with a relative error below 12.5%,
+ * while recording a value never allocates or locks.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Returns a snapshot of the latencies recorded so far.
+	 *
+	 * @return the histogram's snapshot
+	 */
+	public HistogramSnapshot getSnapshot() {
+		long[] counts = new long[_BUCKETS_COUNT];
+
+		long total = 0;
+
+		for (int i = 0; i < _BUCKETS_COUNT; i++) {
+			counts[i] = _counts.get(i);
+
+			total += counts[i];
+		}
+
+		long max = _max.get();
+
+		long mean = 0;
+
+		if (total > 0) {
+			mean = _sum.sum() / total;
+		}
+
+		return new HistogramSnapshot(
+			total, max, mean, _getValueAtPercentile(counts, total, max, 50),
+			_getValueAtPercentile(counts, total, max, 90),
+			_getValueAtPercentile(counts, total, max, 99));
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long micros = Math.max(0, nanos / 1000);
+
+		_counts.incrementAndGet(_getBucketIndex(micros));
+		_max.accumulate(micros);
+		_sum.add(micros);
+	}
+
+	private static int _getBucketIndex(long value) {
+		if (value < _LINEAR_LIMIT) {
+			return (int)value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+		int subBucket = (int)(value >>> (exponent - _SUB_BUCKET_BITS)) &
+			(_SUB_BUCKETS_COUNT - 1);
+
+		return _LINEAR_LIMIT +
+			(exponent - _SUB_BUCKET_BITS - 1) * _SUB_BUCKETS_COUNT + subBucket;
+	}
+
+	private static long _getBucketUpperBound(int index) {
+		if (index < _LINEAR_LIMIT) {
+			return index;
+		}
+
+		int exponent =
+			(index - _LINEAR_LIMIT) / _SUB_BUCKETS_COUNT + _SUB_BUCKET_BITS + 1;
+
+		int subBucket = (index - _LINEAR_LIMIT) % _SUB_BUCKETS_COUNT;
+
+		int shift = exponent - _SUB_BUCKET_BITS;
+
+		return ((_SUB_BUCKETS_COUNT + subBucket + 1L) << shift) - 1;
+	}
+
+	private static long _getValueAtPercentile(
+		long[] counts, long total, long max, int percentile) {
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long threshold = Math.max(1, (total * percentile + 99) / 100);
+
+		long accumulated = 0;
+
+		for (int i = 0; i < counts.length; i++) {
+			accumulated += counts[i];
+
+			if (accumulated >= threshold) {
+				return Math.min(_getBucketUpperBound(i), max);
+			}
+		}
+
+		return max;
+	}
+
+	private static final int _SUB_BUCKET_BITS = 3;
+
+	private static final int _SUB_BUCKETS_COUNT = 1 << _SUB_BUCKET_BITS;
+
+	private static final int _LINEAR_LIMIT = _SUB_BUCKETS_COUNT * 2;
+
+	private static final int _BUCKETS_COUNT =
+		_LINEAR_LIMIT + (63 - _SUB_BUCKET_BITS - 1) * _SUB_BUCKETS_COUNT;
+
+	private final AtomicLongArray _counts = new AtomicLongArray(
+		_BUCKETS_COUNT);
+	private final LongAccumulator _max = new LongAccumulator(Math::max, 0);
+	private final LongAdder _sum = new LongAdder();
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Represents an immutable snapshot of the metrics recorded by an {@link
+ * Instrumentation}.
+ *
+ * <p>
+ * Latencies are keyed by {@code <resource>.<phase>} (e.g., {@code
+ * people.fetch}). Counters are keyed by {@code <resource>.bytes}, {@code
+ * <resource>.items}, {@code cache.<cache>.hits} and {@code
+ * cache.<cache>.misses}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class MetricsSnapshot {
+
+	public MetricsSnapshot(
+		Map<String, Long> counters,
+		Map<String, HistogramSnapshot> histogramSnapshots) {
+
+		_counters = Collections.unmodifiableMap(counters);
+		_histogramSnapshots = Collections.unmodifiableMap(histogramSnapshots);
+	}
+
+	/**
+	 * Returns the ratio of hits of a cache, or {@code 0} if it hasn't been
+	 * accessed yet.
+	 *
+	 * @param  cacheName the cache's name
+	 * @return the cache's hit ratio
+	 */
+	public double getCacheHitRatio(String cacheName) {
+		long hits = _counters.getOrDefault("cache." + cacheName + ".hits", 0L);
+		long misses = _counters.getOrDefault(
+			"cache." + cacheName + ".misses", 0L);
+
+		if ((hits + misses) == 0) {
+			return 0;
+		}
+
+		return (double)hits / (hits + misses);
+	}
+
+	/**
+	 * Returns the counters, keyed by name.
+	 *
+	 * @return the counters
+	 */
+	public Map<String, Long> getCounters() {
+		return _counters;
+	}
+
+	/**
+	 * Returns the latency histograms' snapshots, keyed by name.
+	 *
+	 * @return the histograms' snapshots
+	 */
+	public Map<String, HistogramSnapshot> getHistogramSnapshots() {
+		return _histogramSnapshots;
+	}
+
+	private final Map<String, Long> _counters;
+	private final Map<String, HistogramSnapshot> _histogramSnapshots;
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+/**
+ * Defines the phases of a request's pipeline measured by the {@link
+ * Instrumentation}.
+ *
+ * @author Alejandro Hernández
+ */
+public enum Phase {
+
+	/**
+	 * The lookup of a serialized response in the response cache.
+	 */
+	CACHE_LOOKUP("cache"),
+
+	/**
+	 * The lookup of a related model needed to embed or link it.
+	 */
+	EMBEDDED_FETCH("embedded"),
+
+	/**
+	 * The call to the resource's {@code GetItemFunction} or {@code
+	 * GetPageFunction}.
+	 */
+	MODEL_FETCH("fetch"),
+
+	/**
+	 * The write of the serialized response to the output stream.
+	 */
+	OUTPUT("output"),
+
+	/**
+	 * The creation of a context object by its {@code Provider}.
+	 */
+	PROVIDER_RESOLUTION("provider"),
+
+	/**
+	 * The lookup of the resource's routes.
+	 */
+	ROUTING("routing"),
+
+	/**
+	 * The serialization of the response by its message mapper.
+	 */
+	SERIALIZATION("serialization");
+
+	/**
+	 * Returns the phase's short name, used to build metric names.
+	 *
+	 * @return the phase's short name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	private Phase(String name) {
+		_name = name;
+	}
+
+	private final String _name;
+
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Records the phases of a single request, so they can be returned to a trusted
+ * client as a {@code Server-Timing} header and, optionally, as a JSON breakdown
+ * in the {@link #DIAGNOSTICS_HEADER} header.
+ *
+ * <p>
+ * Instances are stored as a request attribute by {@link
+ * Instrumentation#startDiagnosticsOptional(HttpServletRequest, String)}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestDiagnostics {
+
+	/**
+	 * The header that contains the JSON breakdown of the request's phases.
+	 */
+	public static final String DIAGNOSTICS_HEADER = "Apio-Diagnostics";
+
+	/**
+	 * The header that contains the request's phase timings.
+	 */
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	/**
+	 * Returns the diagnostics started for a request, if present; returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's diagnostics, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<RequestDiagnostics> getRequestDiagnosticsOptional(
+		HttpServletRequest httpServletRequest) {
+
+		return Optional.ofNullable(
+			httpServletRequest.getAttribute(_ATTRIBUTE_NAME)
+		).filter(
+			RequestDiagnostics.class::isInstance
+		).map(
+			RequestDiagnostics.class::cast
+		);
+	}
+
+	/**
+	 * Starts recording diagnostics for a request, and returns them.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's diagnostics
+	 */
+	public static RequestDiagnostics start(
+		HttpServletRequest httpServletRequest) {
+
+		RequestDiagnostics requestDiagnostics = new RequestDiagnostics();
+
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, requestDiagnostics);
+
+		return requestDiagnostics;
+	}
+
+	/**
+	 * Adds the diagnostics headers to a response. This method does nothing if
+	 * the headers have already been added. Phases recorded afterwards are
+	 * discarded, since they can no longer be reported; this keeps streamed
+	 * responses from accumulating an entry per page.
+	 *
+	 * @param headers the response's headers
+	 */
+	public synchronized void addHeaders(
+		MultivaluedMap<String, Object> headers) {
+
+		if (headers.containsKey(SERVER_TIMING_HEADER)) {
+			return;
+		}
+
+		_headersAdded = true;
+
+		long total = System.nanoTime() - _start;
+
+		headers.add(SERVER_TIMING_HEADER, _toServerTiming(total));
+
+		if (_breakdownEnabled) {
+			headers.add(DIAGNOSTICS_HEADER, _toJSON(total));
+		}
+	}
+
+	/**
+	 * Records the time spent in a phase of the request.
+	 *
+	 * @param name the resource's name
+	 * @param phase the phase
+	 * @param nanos the number of nanoseconds spent in the phase
+	 */
+	public synchronized void record(String name, Phase phase, long nanos) {
+		if (_headersAdded) {
+			return;
+		}
+
+		_entries.add(new Entry(name, phase, nanos));
+	}
+
+	/**
+	 * Sets whether the JSON breakdown of every recorded phase must be added to
+	 * the response.
+	 *
+	 * @param breakdownEnabled {@code true} if the JSON breakdown must be added
+	 */
+	public void setBreakdownEnabled(boolean breakdownEnabled) {
+		_breakdownEnabled = breakdownEnabled;
+	}
+
+	private static String _quote(String value) {
+		String escaped = value.replace(
+			"\\", "\\\\"
+		).replace(
+			"\"", "\\\""
+		);
+
+		return "\"" + escaped + "\"";
+	}
+
+	private static String _toMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1000000D);
+	}
+
+	private RequestDiagnostics() {
+		_start = System.nanoTime();
+	}
+
+	private String _toJSON(long total) {
+		JsonStringEncoder jsonStringEncoder = JsonStringEncoder.getInstance();
+
+		StringBuilder sb = new StringBuilder("{\"phases\":[");
+
+		for (int i = 0; i < _entries.size(); i++) {
+			Entry entry = _entries.get(i);
+
+			if (i > 0) {
+				sb.append(',');
+			}
+
+			sb.append("{\"duration\":");
+			sb.append(_toMillis(entry._nanos));
+			sb.append(",\"phase\":\"");
+			sb.append(entry._phase.getName());
+			sb.append("\",\"resource\":\"");
+			sb.append(jsonStringEncoder.quoteAsString(entry._name));
+			sb.append("\"}");
+		}
+
+		sb.append("],\"total\":");
+		sb.append(_toMillis(total));
+		sb.append('}');
+
+		return sb.toString();
+	}
+
+	private String _toServerTiming(long total) {
+		Map<List<Object>, long[]> aggregates = new LinkedHashMap<>();
+
+		for (Entry entry : _entries) {
+			long[] aggregate = aggregates.computeIfAbsent(
+				Arrays.asList(entry._phase, entry._name), __ -> new long[2]);
+
+			aggregate[0]++;
+			aggregate[1] += entry._nanos;
+		}
+
+		StringJoiner stringJoiner = new StringJoiner(", ");
+
+		aggregates.forEach(
+			(key, aggregate) -> {
+				Phase phase = (Phase)key.get(0);
+				String description = String.valueOf(key.get(1));
+
+				if (aggregate[0] > 1) {
+					description = description + " x" + aggregate[0];
+				}
+
+				stringJoiner.add(
+					phase.getName() + ";desc=" + _quote(description) +
+						";dur=" + _toMillis(aggregate[1]));
+			});
+
+		stringJoiner.add("total;dur=" + _toMillis(total));
+
+		return stringJoiner.toString();
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		RequestDiagnostics.class.getName();
+
+	private volatile boolean _breakdownEnabled;
+	private final List<Entry> _entries = new ArrayList<>();
+	private boolean _headersAdded;
+	private final long _start;
+
+	private static class Entry {
+
+		private Entry(String name, Phase phase, long nanos) {
+			_name = name;
+			_phase = phase;
+			_nanos = nanos;
+		}
+
+		private final String _name;
+		private final long _nanos;
+		private final Phase _phase;
+
+	}
+
+}
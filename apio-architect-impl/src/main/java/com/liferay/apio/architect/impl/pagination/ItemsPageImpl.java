@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.pagination;
+
+import com.liferay.apio.architect.pagination.PageItems;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the page returned when several items of a collection are
+ * requested by their IDs. It's always the only page of its collection, so it
+ * has no pagination URLs, and its URL contains the requested IDs.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ */
+public class ItemsPageImpl<T> extends PageImpl<T> {
+
+	public ItemsPageImpl(String resourceName, List<T> items, List<String> ids) {
+		super(
+			resourceName, new PageItems<>(items, items.size()),
+			new PaginationImpl(Math.max(items.size(), 1), 1),
+			Collections.emptyList());
+
+		_ids = ids;
+	}
+
+	/**
+	 * Returns the requested IDs, as they appear in the items' URLs.
+	 *
+	 * @return the requested IDs
+	 */
+	public List<String> getIds() {
+		return _ids;
+	}
+
+	private final List<String> _ids;
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.pagination;
+
+import com.liferay.apio.architect.consumer.throwable.ThrowableConsumer;
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.Pagination;
+
+import java.util.Collection;
+
+/**
+ * Represents a whole collection that is read page by page. Only one page is
+ * fetched and held in memory at any time, so writers can export collections
+ * of any size using constant memory.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ */
+public class PageStream<T> {
+
+	public PageStream(
+		Page<T> firstPage,
+		ThrowableFunction<Pagination, Page<T>> pageFunction) {
+
+		_firstPage = firstPage;
+		_pageFunction = pageFunction;
+	}
+
+	/**
+	 * Fetches the collection's pages in order, handing each one to the
+	 * consumer before fetching the next one. Stops after the last page or
+	 * after the first empty page.
+	 *
+	 * @param throwableConsumer the consumer that receives each page
+	 */
+	public void forEachPage(ThrowableConsumer<Page<T>> throwableConsumer)
+		throws Exception {
+
+		Page<T> page = _firstPage;
+
+		while (true) {
+			Collection<T> items = page.getItems();
+
+			if (items.isEmpty()) {
+				return;
+			}
+
+			throwableConsumer.accept(page);
+
+			if (!page.hasNext()) {
+				return;
+			}
+
+			page = _pageFunction.apply(
+				new PaginationImpl(
+					page.getItemsPerPage(), page.getPageNumber() + 1));
+		}
+	}
+
+	/**
+	 * Returns the collection's resource name.
+	 *
+	 * @return the collection's resource name
+	 */
+	public String getResourceName() {
+		return _firstPage.getResourceName();
+	}
+
+	private final Page<T> _firstPage;
+	private final ThrowableFunction<Pagination, Page<T>> _pageFunction;
+
+}
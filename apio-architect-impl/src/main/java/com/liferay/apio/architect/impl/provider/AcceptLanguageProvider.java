@@ -41,7 +41,7 @@ import org.osgi.service.component.annotations.Component;
  *
  * @author Alejandro Hernández
  */
-@Component
+@Component(property = "apio.architect.provider.scope=request")
 public class AcceptLanguageProvider implements Provider<AcceptLanguage> {
 
 	@Override
@@ -17,6 +17,7 @@ package com.liferay.apio.architect.impl.provider;
 import static com.liferay.apio.architect.impl.provider.util.URLProviderUtil.getServerURL;
 
 import com.liferay.apio.architect.impl.url.ApplicationURL;
+import com.liferay.apio.architect.impl.url.ApplicationURLImpl;
 import com.liferay.apio.architect.provider.Provider;
 
 import javax.servlet.http.HttpServletRequest;
@@ -25,20 +26,20 @@ import org.osgi.service.component.annotations.Component;
 
 /**
  * Creates the application's URL based on the HTTP request and the forwarded
- * header, to account for proxies.
+ * header, to account for proxies. The URL is resolved once, when the context
+ * is created, so it isn't rebuilt for every link written in the response.
  *
  * @author Javier Gamarra
  */
-@Component
+@Component(property = "apio.architect.provider.scope=request")
 public class ApplicationURLProvider implements Provider<ApplicationURL> {
 
 	@Override
 	public ApplicationURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> {
-			String serverURL = getServerURL(httpServletRequest);
+		String serverURL = getServerURL(httpServletRequest);
 
-			return serverURL + httpServletRequest.getContextPath();
-		};
+		return new ApplicationURLImpl(
+			serverURL + httpServletRequest.getContextPath());
 	}
 
 }
\ No newline at end of file
@@ -38,7 +38,7 @@ import org.osgi.service.component.annotations.Component;
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
  */
-@Component
+@Component(property = "apio.architect.provider.scope=request")
 public class FieldsProvider implements Provider<Fields> {
 
 	public Fields createContext(HttpServletRequest httpServletRequest) {
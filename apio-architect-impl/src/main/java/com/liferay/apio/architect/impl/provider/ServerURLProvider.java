@@ -29,12 +29,14 @@ import org.osgi.service.component.annotations.Component;
  *
  * @author Javier Gamarra
  */
-@Component
+@Component(property = "apio.architect.provider.scope=request")
 public class ServerURLProvider implements Provider<ServerURL> {
 
 	@Override
 	public ServerURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> getServerURL(httpServletRequest);
+		String serverURL = getServerURL(httpServletRequest);
+
+		return () -> serverURL;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.request;
+
+import com.liferay.apio.architect.pagination.Pagination;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Wraps a request, replacing its pagination parameters ({@code page} and
+ * {@code per_page}) with the ones of a {@link Pagination}. This lets the same
+ * request fetch several pages of a collection.
+ *
+ * <p>
+ * Attributes set on this request are kept in the wrapper, so they only live
+ * while its page is processed. Attributes named with {@link
+ * #getPageAttributeName(String)}, like the ones that memoize contexts or
+ * models, are never read from the wrapped request, so every page starts
+ * without them.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class PaginatedHttpServletRequest extends HttpServletRequestWrapper {
+
+	public PaginatedHttpServletRequest(
+		HttpServletRequest httpServletRequest, Pagination pagination) {
+
+		super(httpServletRequest);
+
+		_paginationParameters.put(
+			_PAGE, String.valueOf(pagination.getPageNumber()));
+		_paginationParameters.put(
+			_PER_PAGE, String.valueOf(pagination.getItemsPerPage()));
+	}
+
+	/**
+	 * Returns the name of an attribute that holds state of the page being
+	 * processed. {@code PaginatedHttpServletRequest} never reads these
+	 * attributes from the wrapped request.
+	 *
+	 * @param  name the attribute's base name
+	 * @return the page attribute's name
+	 * @review
+	 */
+	public static String getPageAttributeName(String name) {
+		return _PAGE_ATTRIBUTE_PREFIX + name;
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		Object value = _attributes.get(name);
+
+		if ((value != null) || name.startsWith(_PAGE_ATTRIBUTE_PREFIX)) {
+			return value;
+		}
+
+		return super.getAttribute(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		Set<String> names = new LinkedHashSet<>();
+
+		Enumeration<String> enumeration = super.getAttributeNames();
+
+		while (enumeration.hasMoreElements()) {
+			String name = enumeration.nextElement();
+
+			if (!name.startsWith(_PAGE_ATTRIBUTE_PREFIX)) {
+				names.add(name);
+			}
+		}
+
+		names.addAll(_attributes.keySet());
+
+		return Collections.enumeration(names);
+	}
+
+	@Override
+	public String getParameter(String name) {
+		if (_paginationParameters.containsKey(name)) {
+			return _paginationParameters.get(name);
+		}
+
+		return super.getParameter(name);
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		Map<String, String[]> parameterMap = new HashMap<>(
+			super.getParameterMap());
+
+		_paginationParameters.forEach(
+			(name, value) -> parameterMap.put(name, new String[] {value}));
+
+		return parameterMap;
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		if (_paginationParameters.containsKey(name)) {
+			return new String[] {_paginationParameters.get(name)};
+		}
+
+		return super.getParameterValues(name);
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		_attributes.remove(name);
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		if (value == null) {
+			_attributes.remove(name);
+		}
+		else {
+			_attributes.put(name, value);
+		}
+	}
+
+	private static final String _PAGE = "page";
+
+	private static final String _PAGE_ATTRIBUTE_PREFIX =
+		PaginatedHttpServletRequest.class.getName() + "#";
+
+	private static final String _PER_PAGE = "per_page";
+
+	private final Map<String, Object> _attributes = new ConcurrentHashMap<>();
+	private final Map<String, String> _paginationParameters = new HashMap<>();
+
+}
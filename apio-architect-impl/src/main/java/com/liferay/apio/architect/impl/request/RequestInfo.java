@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.impl.request;
 
+import com.liferay.apio.architect.impl.embedding.EmbeddingBudget;
 import com.liferay.apio.architect.impl.response.control.Embedded;
 import com.liferay.apio.architect.impl.response.control.Fields;
 import com.liferay.apio.architect.impl.url.ApplicationURL;
@@ -69,6 +70,16 @@ public class RequestInfo {
 		return _embedded;
 	}
 
+	/**
+	 * Returns the budget that limits the resources embedded in the response.
+	 *
+	 * @return the embedding budget
+	 * @review
+	 */
+	public EmbeddingBudget getEmbeddingBudget() {
+		return _embeddingBudget;
+	}
+
 	/**
 	 * Returns the information about selected fields.
 	 *
@@ -138,6 +149,20 @@ public class RequestInfo {
 				return new RequestInfo(Builder.this);
 			}
 
+			/**
+			 * Adds the budget that limits the resources embedded in the
+			 * response. If it isn't provided, embedding is unlimited.
+			 *
+			 * @param  embeddingBudget the embedding budget
+			 * @return the builder's current step
+			 * @review
+			 */
+			public BuildStep embeddingBudget(EmbeddingBudget embeddingBudget) {
+				_embeddingBudget = embeddingBudget;
+
+				return this;
+			}
+
 		}
 
 		public class EmbeddedStep {
@@ -207,6 +232,8 @@ public class RequestInfo {
 		private AcceptLanguage _acceptLanguage;
 		private ApplicationURL _applicationURL;
 		private Embedded _embedded;
+		private EmbeddingBudget _embeddingBudget =
+			EmbeddingBudget.unlimited();
 		private Fields _fields;
 		private HttpServletRequest _httpServletRequest;
 		private ServerURL _serverURL;
@@ -219,12 +246,14 @@ public class RequestInfo {
 		_serverURL = builder._serverURL;
 		_applicationURL = builder._applicationURL;
 		_embedded = builder._embedded;
+		_embeddingBudget = builder._embeddingBudget;
 		_httpServletRequest = builder._httpServletRequest;
 	}
 
 	private final AcceptLanguage _acceptLanguage;
 	private final ApplicationURL _applicationURL;
 	private final Embedded _embedded;
+	private final EmbeddingBudget _embeddingBudget;
 	private final Fields _fields;
 	private final HttpServletRequest _httpServletRequest;
 	private final ServerURL _serverURL;
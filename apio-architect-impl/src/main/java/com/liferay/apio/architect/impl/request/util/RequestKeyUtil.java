@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.request.util;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.pagination.Pagination;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Provides utility functions for identifying requests whose responses are
+ * equivalent.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestKeyUtil {
+
+	/**
+	 * Returns the key that identifies the request's response. Two requests
+	 * with the same key get the same response.
+	 *
+	 * <p>
+	 * The key contains the provided name, the normalized pagination, the
+	 * {@code fields[...]} and {@code embedded} parameters (sorted), any other
+	 * request parameter, the media type, the accepted languages, and
+	 * (optionally) the request's credentials.
+	 * </p>
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  providerManager the manager used to provide the pagination, the
+	 *         accepted languages and the credentials
+	 * @param  name the name of the requested resource
+	 * @param  mediaType the response's media type
+	 * @param  partitionByCredentials whether the credentials are part of the
+	 *         key
+	 * @return the request's key
+	 */
+	public static List<Object> getRequestKey(
+		HttpServletRequest httpServletRequest, ProviderManager providerManager,
+		String name, String mediaType, boolean partitionByCredentials) {
+
+		Map<String, String> parameters = new TreeMap<>();
+
+		Map<String, String[]> parameterMap =
+			httpServletRequest.getParameterMap();
+
+		parameterMap.forEach(
+			(key, values) -> parameters.put(key, _normalize(key, values)));
+
+		Optional<Pagination> paginationOptional =
+			providerManager.provideOptional(
+				httpServletRequest, Pagination.class);
+
+		paginationOptional.ifPresent(
+			pagination -> {
+				parameters.put(
+					"page", String.valueOf(pagination.getPageNumber()));
+				parameters.put(
+					"per_page", String.valueOf(pagination.getItemsPerPage()));
+			});
+
+		Optional<AcceptLanguage> acceptLanguageOptional =
+			providerManager.provideOptional(
+				httpServletRequest, AcceptLanguage.class);
+
+		String languages = acceptLanguageOptional.map(
+			AcceptLanguage::getLocales
+		).orElseGet(
+			Stream::empty
+		).map(
+			Locale::toLanguageTag
+		).collect(
+			Collectors.joining(",")
+		);
+
+		Object credentials = null;
+
+		if (partitionByCredentials) {
+			credentials = providerManager.provideOptional(
+				httpServletRequest, Credentials.class
+			).map(
+				Credentials::get
+			).orElse(
+				""
+			);
+		}
+
+		return Arrays.asList(
+			name, parameters, mediaType, languages, credentials);
+	}
+
+	private static String _normalize(String key, String[] values) {
+		if (key.equals("embedded") || key.startsWith("fields[")) {
+			return Stream.of(
+				values
+			).map(
+				_pattern::split
+			).flatMap(
+				Stream::of
+			).filter(
+				value -> !value.isEmpty()
+			).sorted(
+			).distinct(
+			).collect(
+				Collectors.joining(",")
+			);
+		}
+
+		return String.join(",", values);
+	}
+
+	private RequestKeyUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
+
+}
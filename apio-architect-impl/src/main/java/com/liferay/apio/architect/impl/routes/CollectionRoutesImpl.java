@@ -14,12 +14,16 @@
 
 package com.liferay.apio.architect.impl.routes;
 
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.await;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.flatten;
 import static com.liferay.apio.architect.impl.routes.RoutesBuilderUtil.provide;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
+import com.liferay.apio.architect.alias.RequestFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
+import com.liferay.apio.architect.alias.routes.GetPageAsyncFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasAddingPermissionFunction;
 import com.liferay.apio.architect.batch.BatchResult;
@@ -38,6 +42,7 @@ import com.liferay.apio.architect.impl.operation.CreateOperation;
 import com.liferay.apio.architect.impl.pagination.PageImpl;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.CollectionRoutes;
@@ -48,6 +53,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -60,6 +66,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 		_batchCreateItemFunction = builderImpl._batchCreateItemFunction;
 		_createItemFunction = builderImpl._createItemFunction;
 		_form = builderImpl._form;
+		_getPageAsyncFunction = builderImpl._getPageAsyncFunction;
 		_getPageFunction = builderImpl._getPageFunction;
 	}
 
@@ -80,6 +87,11 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 		return Optional.ofNullable(_form);
 	}
 
+	@Override
+	public Optional<GetPageAsyncFunction<T>> getGetPageAsyncFunctionOptional() {
+		return Optional.ofNullable(_getPageAsyncFunction);
+	}
+
 	@Override
 	public Optional<GetPageFunction<T>> getGetPageFunctionOptional() {
 		return Optional.ofNullable(_getPageFunction);
@@ -509,11 +521,152 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public <A> Builder<T, S> addGetterAsync(
+			ThrowableBiFunction<Pagination, A, CompletionStage<PageItems<T>>>
+				getterThrowableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			return _addGetPageAsyncFunction(
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, Credentials.class,
+					(pagination, a, credentials) ->
+						getterThrowableBiFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, credentials))
+						).apply(
+							pagination, a
+						)));
+		}
+
+		@Override
+		public Builder<T, S> addGetterAsync(
+			ThrowableFunction<Pagination, CompletionStage<PageItems<T>>>
+				getterThrowableFunction) {
+
+			return _addGetPageAsyncFunction(
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, Credentials.class,
+					(pagination, credentials) ->
+						getterThrowableFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, credentials))
+						).apply(
+							pagination
+						)));
+		}
+
+		@Override
+		public <A, B, C, D> Builder<T, S> addGetterAsync(
+			ThrowablePentaFunction
+				<Pagination, A, B, C, D, CompletionStage<PageItems<T>>>
+					getterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			return _addGetPageAsyncFunction(
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass, dClass,
+					Credentials.class,
+					(pagination, a, b, c, d, credentials) ->
+						getterThrowablePentaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, credentials))
+						).apply(
+							pagination, a, b, c, d
+						)));
+		}
+
+		@Override
+		public <A, B, C> Builder<T, S> addGetterAsync(
+			ThrowableTetraFunction
+				<Pagination, A, B, C, CompletionStage<PageItems<T>>>
+					getterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			return _addGetPageAsyncFunction(
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass,
+					Credentials.class,
+					(pagination, a, b, c, credentials) ->
+						getterThrowableTetraFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, credentials))
+						).apply(
+							pagination, a, b, c
+						)));
+		}
+
+		@Override
+		public <A, B> Builder<T, S> addGetterAsync(
+			ThrowableTriFunction
+				<Pagination, A, B, CompletionStage<PageItems<T>>>
+					getterThrowableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			return _addGetPageAsyncFunction(
+				httpServletRequest -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, Credentials.class,
+					(pagination, a, b, credentials) ->
+						getterThrowableTriFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, credentials))
+						).apply(
+							pagination, a, b
+						)));
+		}
+
 		@Override
 		public CollectionRoutes<T, S> build() {
 			return new CollectionRoutesImpl<>(this);
 		}
 
+		private Builder<T, S> _addGetPageAsyncFunction(
+			RequestFunction<Try<CompletionStage<Page<T>>>> requestFunction) {
+
+			GetPageAsyncFunction<T> getPageAsyncFunction =
+				httpServletRequest -> flatten(
+					requestFunction.apply(httpServletRequest));
+
+			_getPageAsyncFunction = getPageAsyncFunction;
+			_getPageFunction = httpServletRequest -> await(
+				getPageAsyncFunction.apply(httpServletRequest));
+
+			return this;
+		}
+
+		private Page<T> _createPage(
+			PageItems<T> pageItems, Pagination pagination,
+			Credentials credentials) {
+
+			return new PageImpl<>(
+				_name, pageItems, pagination, _getOperations(credentials));
+		}
+
 		private List<Operation> _getOperations(Credentials credentials) {
 			Boolean canAdd = Try.fromFallible(
 				() -> _hasAddingPermissionFunction.apply(credentials)
@@ -557,6 +710,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 		private BatchCreateItemFunction<S> _batchCreateItemFunction;
 		private CreateItemFunction<T> _createItemFunction;
 		private Form _form;
+		private GetPageAsyncFunction<T> _getPageAsyncFunction;
 		private GetPageFunction<T> _getPageFunction;
 		private HasAddingPermissionFunction _hasAddingPermissionFunction;
 		private final Function<T, S> _modelToIdentifierFunction;
@@ -570,6 +724,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 	private final BatchCreateItemFunction<S> _batchCreateItemFunction;
 	private final CreateItemFunction<T> _createItemFunction;
 	private final Form _form;
+	private final GetPageAsyncFunction<T> _getPageAsyncFunction;
 	private final GetPageFunction<T> _getPageFunction;
 
 }
\ No newline at end of file
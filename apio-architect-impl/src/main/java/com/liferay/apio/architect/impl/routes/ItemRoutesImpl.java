@@ -14,13 +14,18 @@
 
 package com.liferay.apio.architect.impl.routes;
 
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.await;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.flatten;
 import static com.liferay.apio.architect.impl.routes.RoutesBuilderUtil.provide;
 import static com.liferay.apio.architect.impl.routes.RoutesBuilderUtil.provideConsumer;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
+import com.liferay.apio.architect.alias.RequestFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
+import com.liferay.apio.architect.alias.routes.GetItemAsyncFunction;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
+import com.liferay.apio.architect.alias.routes.GetItemsFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasRemovePermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasUpdatePermissionFunction;
@@ -45,16 +50,22 @@ import com.liferay.apio.architect.impl.operation.UpdateOperation;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * @author Alejandro Hernández
  */
@@ -63,7 +74,9 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 	public ItemRoutesImpl(BuilderImpl<T, S> builderImpl) {
 		_deleteItemConsumer = builderImpl._deleteItemConsumer;
 		_form = builderImpl._form;
+		_singleModelAsyncFunction = builderImpl._singleModelAsyncFunction;
 		_singleModelFunction = builderImpl._singleModelFunction;
+		_singleModelsFunction = builderImpl._singleModelsFunction;
 		_updateItemFunction = builderImpl._updateItemFunction;
 	}
 
@@ -77,11 +90,21 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 		return Optional.ofNullable(_form);
 	}
 
+	@Override
+	public Optional<GetItemAsyncFunction<T, S>> getItemAsyncFunctionOptional() {
+		return Optional.ofNullable(_singleModelAsyncFunction);
+	}
+
 	@Override
 	public Optional<GetItemFunction<T, S>> getItemFunctionOptional() {
 		return Optional.ofNullable(_singleModelFunction);
 	}
 
+	@Override
+	public Optional<GetItemsFunction<T, S>> getItemsFunctionOptional() {
+		return Optional.ofNullable(_singleModelsFunction);
+	}
+
 	@Override
 	public Optional<UpdateItemFunction<T, S>> getUpdateItemFunctionOptional() {
 		return Optional.ofNullable(_updateItemFunction);
@@ -112,6 +135,111 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_identifierToPathFunction = identifierToPathFunction;
 		}
 
+		@Override
+		public <A> Builder<T, S> addBatchGetter(
+			ThrowableBiFunction<List<S>, A, Map<S, T>>
+				batchGetterThrowableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_singleModelsFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass,
+				Credentials.class,
+				(a, credentials) -> batchGetterThrowableBiFunction.andThen(
+					map -> _createSingleModels(map, credentials, list)
+				).apply(
+					list, a
+				));
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S> addBatchGetter(
+			ThrowableFunction<List<S>, Map<S, T>>
+				batchGetterThrowableFunction) {
+
+			_singleModelsFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), Credentials.class,
+				credentials -> batchGetterThrowableFunction.andThen(
+					map -> _createSingleModels(map, credentials, list)
+				).apply(
+					list
+				));
+
+			return this;
+		}
+
+		@Override
+		public <A, B, C, D> Builder<T, S> addBatchGetter(
+			ThrowablePentaFunction<List<S>, A, B, C, D, Map<S, T>>
+				batchGetterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_singleModelsFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, dClass, Credentials.class,
+				(a, b, c, d, credentials) ->
+					batchGetterThrowablePentaFunction.andThen(
+						map -> _createSingleModels(map, credentials, list)
+					).apply(
+						list, a, b, c, d
+					));
+
+			return this;
+		}
+
+		@Override
+		public <A, B, C> Builder<T, S> addBatchGetter(
+			ThrowableTetraFunction<List<S>, A, B, C, Map<S, T>>
+				batchGetterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_singleModelsFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				cClass, Credentials.class,
+				(a, b, c, credentials) ->
+					batchGetterThrowableTetraFunction.andThen(
+						map -> _createSingleModels(map, credentials, list)
+					).apply(
+						list, a, b, c
+					));
+
+			return this;
+		}
+
+		@Override
+		public <A, B> Builder<T, S> addBatchGetter(
+			ThrowableTriFunction<List<S>, A, B, Map<S, T>>
+				batchGetterThrowableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_singleModelsFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), aClass, bClass,
+				Credentials.class,
+				(a, b, credentials) -> batchGetterThrowableTriFunction.andThen(
+					map -> _createSingleModels(map, credentials, list)
+				).apply(
+					list, a, b
+				));
+
+			return this;
+		}
+
 		@Override
 		public <A> Builder<T, S> addGetter(
 			ThrowableBiFunction<S, A, T> getterThrowableBiFunction,
@@ -217,6 +345,111 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return this;
 		}
 
+		@Override
+		public <A> Builder<T, S> addGetterAsync(
+			ThrowableBiFunction<S, A, CompletionStage<T>>
+				getterThrowableBiFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			return _addSingleModelAsyncFunction(
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass,
+					Credentials.class,
+					(a, credentials) -> getterThrowableBiFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							t -> _createSingleModel(t, credentials, s))
+					).apply(
+						s, a
+					)));
+		}
+
+		@Override
+		public Builder<T, S> addGetterAsync(
+			ThrowableFunction<S, CompletionStage<T>> getterThrowableFunction) {
+
+			return _addSingleModelAsyncFunction(
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Credentials.class,
+					credentials -> getterThrowableFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							t -> _createSingleModel(t, credentials, s))
+					).apply(
+						s
+					)));
+		}
+
+		@Override
+		public <A, B, C, D> Builder<T, S> addGetterAsync(
+			ThrowablePentaFunction<S, A, B, C, D, CompletionStage<T>>
+				getterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			return _addSingleModelAsyncFunction(
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, dClass, Credentials.class,
+					(a, b, c, d, credentials) ->
+						getterThrowablePentaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								t -> _createSingleModel(t, credentials, s))
+						).apply(
+							s, a, b, c, d
+						)));
+		}
+
+		@Override
+		public <A, B, C> Builder<T, S> addGetterAsync(
+			ThrowableTetraFunction<S, A, B, C, CompletionStage<T>>
+				getterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			return _addSingleModelAsyncFunction(
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					cClass, Credentials.class,
+					(a, b, c, credentials) ->
+						getterThrowableTetraFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								t -> _createSingleModel(t, credentials, s))
+						).apply(
+							s, a, b, c
+						)));
+		}
+
+		@Override
+		public <A, B> Builder<T, S> addGetterAsync(
+			ThrowableTriFunction<S, A, B, CompletionStage<T>>
+				getterThrowableTriFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			return _addSingleModelAsyncFunction(
+				httpServletRequest -> s -> provide(
+					_provideFunction.apply(httpServletRequest), aClass, bClass,
+					Credentials.class,
+					(a, b, credentials) -> getterThrowableTriFunction.andThen(
+						completionStage -> completionStage.thenApply(
+							t -> _createSingleModel(t, credentials, s))
+					).apply(
+						s, a, b
+					)));
+		}
+
 		@Override
 		public <A> Builder<T, S> addRemover(
 			ThrowableBiConsumer<S, A> removerThrowableBiConsumer,
@@ -227,9 +460,14 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_hasRemovePermissionFunction = hasRemovePermissionFunction;
 
-			_deleteItemConsumer = httpServletRequest -> s -> provideConsumer(
-				_provideFunction.apply(httpServletRequest), aClass,
-				a -> removerThrowableBiConsumer.accept(s, a));
+			_deleteItemConsumer = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass);
+
+				return s -> provideConsumer(
+					provideFunction, aClass,
+					a -> removerThrowableBiConsumer.accept(s, a));
+			};
 
 			return this;
 		}
@@ -259,11 +497,15 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_hasRemovePermissionFunction = hasRemovePermissionFunction;
 
-			_deleteItemConsumer = httpServletRequest -> s -> provideConsumer(
-				_provideFunction.apply(httpServletRequest), aClass, bClass,
-				cClass, dClass,
-				(a, b, c, d) -> removerThrowablePentaConsumer.accept(
-					s, a, b, c, d));
+			_deleteItemConsumer = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass, bClass, cClass, dClass);
+
+				return s -> provideConsumer(
+					provideFunction, aClass, bClass, cClass, dClass,
+					(a, b, c, d) -> removerThrowablePentaConsumer.accept(
+						s, a, b, c, d));
+			};
 
 			return this;
 		}
@@ -280,10 +522,15 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_hasRemovePermissionFunction = hasRemovePermissionFunction;
 
-			_deleteItemConsumer = httpServletRequest -> s -> provideConsumer(
-				_provideFunction.apply(httpServletRequest), aClass, bClass,
-				cClass,
-				(a, b, c) -> removerThrowableTetraConsumer.accept(s, a, b, c));
+			_deleteItemConsumer = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass, bClass, cClass);
+
+				return s -> provideConsumer(
+					provideFunction, aClass, bClass, cClass,
+					(a, b, c) -> removerThrowableTetraConsumer.accept(
+						s, a, b, c));
+			};
 
 			return this;
 		}
@@ -299,9 +546,14 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_hasRemovePermissionFunction = hasRemovePermissionFunction;
 
-			_deleteItemConsumer = httpServletRequest -> s -> provideConsumer(
-				_provideFunction.apply(httpServletRequest), aClass, bClass,
-				(a, b) -> removerThrowableTriConsumer.accept(s, a, b));
+			_deleteItemConsumer = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass, bClass);
+
+				return s -> provideConsumer(
+					provideFunction, aClass, bClass,
+					(a, b) -> removerThrowableTriConsumer.accept(s, a, b));
+			};
 
 			return this;
 		}
@@ -320,14 +572,19 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_form = form;
 
-			_updateItemFunction = httpServletRequest -> s -> body -> provide(
-				_provideFunction.apply(httpServletRequest), Credentials.class,
-				credentials -> updaterThrowableBiFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s, form.get(body)
-				));
+			_updateItemFunction = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, Credentials.class);
+
+				return s -> body -> provide(
+					provideFunction, Credentials.class,
+					credentials -> updaterThrowableBiFunction.andThen(
+						t -> new SingleModelImpl<>(
+							t, _name, _getOperations(credentials, s))
+					).apply(
+						s, form.get(body)
+					));
+			};
 
 			return this;
 		}
@@ -353,16 +610,22 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_form = form;
 
-			_updateItemFunction = httpServletRequest -> s -> body -> provide(
-				_provideFunction.apply(httpServletRequest), aClass, bClass,
-				cClass, dClass, Credentials.class,
-				(a, b, c, d, credentials) ->
-					updaterThrowableHexaFunction.andThen(
-						t -> new SingleModelImpl<>(
-							t, _name, _getOperations(credentials, s))
-					).apply(
-						s, form.get(body), a, b, c, d
-					));
+			_updateItemFunction = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass, bClass, cClass, dClass,
+					Credentials.class);
+
+				return s -> body -> provide(
+					provideFunction, aClass, bClass, cClass, dClass,
+					Credentials.class,
+					(a, b, c, d, credentials) ->
+						updaterThrowableHexaFunction.andThen(
+							t -> new SingleModelImpl<>(
+								t, _name, _getOperations(credentials, s))
+						).apply(
+							s, form.get(body), a, b, c, d
+						));
+			};
 
 			return this;
 		}
@@ -387,15 +650,21 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_form = form;
 
-			_updateItemFunction = httpServletRequest -> s -> body -> provide(
-				_provideFunction.apply(httpServletRequest), aClass, bClass,
-				cClass, Credentials.class,
-				(a, b, c, credentials) -> updaterThrowablePentaFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s, form.get(body), a, b, c
-				));
+			_updateItemFunction = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass, bClass, cClass,
+					Credentials.class);
+
+				return s -> body -> provide(
+					provideFunction, aClass, bClass, cClass, Credentials.class,
+					(a, b, c, credentials) ->
+						updaterThrowablePentaFunction.andThen(
+							t -> new SingleModelImpl<>(
+								t, _name, _getOperations(credentials, s))
+						).apply(
+							s, form.get(body), a, b, c
+						));
+			};
 
 			return this;
 		}
@@ -418,15 +687,20 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_form = form;
 
-			_updateItemFunction = httpServletRequest -> s -> body -> provide(
-				_provideFunction.apply(httpServletRequest), aClass, bClass,
-				Credentials.class,
-				(a, b, credentials) -> updaterThrowableTetraFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s, form.get(body), a, b
-				));
+			_updateItemFunction = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass, bClass, Credentials.class);
+
+				return s -> body -> provide(
+					provideFunction, aClass, bClass, Credentials.class,
+					(a, b, credentials) ->
+						updaterThrowableTetraFunction.andThen(
+							t -> new SingleModelImpl<>(
+								t, _name, _getOperations(credentials, s))
+						).apply(
+							s, form.get(body), a, b
+						));
+			};
 
 			return this;
 		}
@@ -448,15 +722,19 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 			_form = form;
 
-			_updateItemFunction = httpServletRequest -> s -> body -> provide(
-				_provideFunction.apply(httpServletRequest), aClass,
-				Credentials.class,
-				(a, credentials) -> updaterThrowableTriFunction.andThen(
-					t -> new SingleModelImpl<>(
-						t, _name, _getOperations(credentials, s))
-				).apply(
-					s, form.get(body), a
-				));
+			_updateItemFunction = httpServletRequest -> {
+				Function<Class<?>, ?> provideFunction = _provideAll(
+					httpServletRequest, aClass, Credentials.class);
+
+				return s -> body -> provide(
+					provideFunction, aClass, Credentials.class,
+					(a, credentials) -> updaterThrowableTriFunction.andThen(
+						t -> new SingleModelImpl<>(
+							t, _name, _getOperations(credentials, s))
+					).apply(
+						s, form.get(body), a
+					));
+			};
 
 			return this;
 		}
@@ -466,6 +744,53 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return new ItemRoutesImpl<>(this);
 		}
 
+		private Builder<T, S> _addSingleModelAsyncFunction(
+			RequestFunction<Function<S, Try<CompletionStage<SingleModel<T>>>>>
+				requestFunction) {
+
+			GetItemAsyncFunction<T, S> getItemAsyncFunction =
+				httpServletRequest -> s -> flatten(
+					requestFunction.apply(
+						httpServletRequest
+					).apply(
+						s
+					));
+
+			_singleModelAsyncFunction = getItemAsyncFunction;
+			_singleModelFunction = httpServletRequest -> s -> await(
+				getItemAsyncFunction.apply(
+					httpServletRequest
+				).apply(
+					s
+				));
+
+			return this;
+		}
+
+		private SingleModel<T> _createSingleModel(
+			T t, Credentials credentials, S identifier) {
+
+			return new SingleModelImpl<>(
+				t, _name, _getOperations(credentials, identifier));
+		}
+
+		private List<SingleModel<T>> _createSingleModels(
+			Map<S, T> map, Credentials credentials, List<S> identifiers) {
+
+			List<SingleModel<T>> singleModels = new ArrayList<>();
+
+			for (S identifier : identifiers) {
+				T t = map.get(identifier);
+
+				if (t != null) {
+					singleModels.add(
+						_createSingleModel(t, credentials, identifier));
+				}
+			}
+
+			return singleModels;
+		}
+
 		private List<Operation> _getOperations(
 			Credentials credentials, S identifier) {
 
@@ -515,6 +840,21 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			return operations;
 		}
 
+		private Function<Class<?>, ?> _provideAll(
+			HttpServletRequest httpServletRequest, Class<?>... classes) {
+
+			Function<Class<?>, ?> provideFunction = _provideFunction.apply(
+				httpServletRequest);
+
+			Map<Class<?>, Object> instances = new HashMap<>();
+
+			for (Class<?> clazz : classes) {
+				instances.put(clazz, provideFunction.apply(clazz));
+			}
+
+			return instances::get;
+		}
+
 		private DeleteItemConsumer<S> _deleteItemConsumer;
 		private Form _form;
 		private HasRemovePermissionFunction<S> _hasRemovePermissionFunction;
@@ -524,14 +864,18 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 		private final Consumer<String> _neededProviderConsumer;
 		private final IdentifierFunction<?> _pathToIdentifierFunction;
 		private final ProvideFunction _provideFunction;
+		private GetItemAsyncFunction<T, S> _singleModelAsyncFunction;
 		private GetItemFunction<T, S> _singleModelFunction;
+		private GetItemsFunction<T, S> _singleModelsFunction;
 		private UpdateItemFunction<T, S> _updateItemFunction;
 
 	}
 
 	private final DeleteItemConsumer<S> _deleteItemConsumer;
 	private final Form _form;
+	private final GetItemAsyncFunction<T, S> _singleModelAsyncFunction;
 	private final GetItemFunction<T, S> _singleModelFunction;
+	private final GetItemsFunction<T, S> _singleModelsFunction;
 	private final UpdateItemFunction<T, S> _updateItemFunction;
 
 }
\ No newline at end of file
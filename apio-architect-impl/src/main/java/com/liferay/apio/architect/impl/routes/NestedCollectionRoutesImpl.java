@@ -14,13 +14,18 @@
 
 package com.liferay.apio.architect.impl.routes;
 
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.await;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.flatten;
 import static com.liferay.apio.architect.impl.routes.RoutesBuilderUtil.provide;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
+import com.liferay.apio.architect.alias.RequestFunction;
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
 import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPageAsyncFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPagesFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasNestedAddingPermissionFunction;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.credentials.Credentials;
@@ -39,6 +44,7 @@ import com.liferay.apio.architect.impl.operation.CreateOperation;
 import com.liferay.apio.architect.impl.pagination.PageImpl;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
@@ -47,8 +53,11 @@ import com.liferay.apio.architect.uri.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -63,7 +72,9 @@ public class NestedCollectionRoutesImpl<T, S, U>
 		_nestedCreateItemFunction = builderImpl._nestedCreateItemFunction;
 		_nestedBatchCreateItemFunction =
 			builderImpl._nestedBatchCreateItemFunction;
+		_nestedGetPageAsyncFunction = builderImpl._nestedGetPageAsyncFunction;
 		_nestedGetPageFunction = builderImpl._nestedGetPageFunction;
+		_nestedGetPagesFunction = builderImpl._nestedGetPagesFunction;
 	}
 
 	@Override
@@ -85,6 +96,13 @@ public class NestedCollectionRoutesImpl<T, S, U>
 		return Optional.ofNullable(_nestedCreateItemFunction);
 	}
 
+	@Override
+	public Optional<NestedGetPageAsyncFunction<T, U>>
+		getNestedGetPageAsyncFunctionOptional() {
+
+		return Optional.ofNullable(_nestedGetPageAsyncFunction);
+	}
+
 	@Override
 	public Optional<NestedGetPageFunction<T, U>>
 		getNestedGetPageFunctionOptional() {
@@ -92,6 +110,13 @@ public class NestedCollectionRoutesImpl<T, S, U>
 		return Optional.ofNullable(_nestedGetPageFunction);
 	}
 
+	@Override
+	public Optional<NestedGetPagesFunction<T, U>>
+		getNestedGetPagesFunctionOptional() {
+
+		return Optional.ofNullable(_nestedGetPagesFunction);
+	}
+
 	public static class BuilderImpl<T, S, U> implements Builder<T, S, U> {
 
 		public BuilderImpl(
@@ -112,6 +137,118 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			_modelToIdentifierFunction = modelToIdentifierFunction;
 		}
 
+		@Override
+		public Builder<T, S, U> addBatchGetter(
+			ThrowableBiFunction<Pagination, List<U>, Map<U, PageItems<T>>>
+				batchGetterThrowableBiFunction) {
+
+			_nestedGetPagesFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), Pagination.class,
+				Credentials.class,
+				(pagination, credentials) ->
+					batchGetterThrowableBiFunction.andThen(
+						map -> _createPages(map, pagination, credentials, list)
+					).apply(
+						pagination, list
+					));
+
+			return this;
+		}
+
+		@Override
+		public <A, B, C, D> Builder<T, S, U> addBatchGetter(
+			ThrowableHexaFunction
+				<Pagination, List<U>, A, B, C, D, Map<U, PageItems<T>>>
+					batchGetterThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			_nestedGetPagesFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), Pagination.class,
+				aClass, bClass, cClass, dClass, Credentials.class,
+				(pagination, a, b, c, d, credentials) ->
+					batchGetterThrowableHexaFunction.andThen(
+						map -> _createPages(map, pagination, credentials, list)
+					).apply(
+						pagination, list, a, b, c, d
+					));
+
+			return this;
+		}
+
+		@Override
+		public <A, B, C> Builder<T, S, U> addBatchGetter(
+			ThrowablePentaFunction
+				<Pagination, List<U>, A, B, C, Map<U, PageItems<T>>>
+					batchGetterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			_nestedGetPagesFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), Pagination.class,
+				aClass, bClass, cClass, Credentials.class,
+				(pagination, a, b, c, credentials) ->
+					batchGetterThrowablePentaFunction.andThen(
+						map -> _createPages(map, pagination, credentials, list)
+					).apply(
+						pagination, list, a, b, c
+					));
+
+			return this;
+		}
+
+		@Override
+		public <A, B> Builder<T, S, U> addBatchGetter(
+			ThrowableTetraFunction
+				<Pagination, List<U>, A, B, Map<U, PageItems<T>>>
+					batchGetterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			_nestedGetPagesFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), Pagination.class,
+				aClass, bClass, Credentials.class,
+				(pagination, a, b, credentials) ->
+					batchGetterThrowableTetraFunction.andThen(
+						map -> _createPages(map, pagination, credentials, list)
+					).apply(
+						pagination, list, a, b
+					));
+
+			return this;
+		}
+
+		@Override
+		public <A> Builder<T, S, U> addBatchGetter(
+			ThrowableTriFunction<Pagination, List<U>, A, Map<U, PageItems<T>>>
+				batchGetterThrowableTriFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			_nestedGetPagesFunction = httpServletRequest -> list -> provide(
+				_provideFunction.apply(httpServletRequest), Pagination.class,
+				aClass, Credentials.class,
+				(pagination, a, credentials) ->
+					batchGetterThrowableTriFunction.andThen(
+						map -> _createPages(map, pagination, credentials, list)
+					).apply(
+						pagination, list, a
+					));
+
+			return this;
+		}
+
 		@Override
 		public <R> Builder<T, S, U> addCreator(
 			ThrowableBiFunction<U, R, T> creatorThrowableBiFunction,
@@ -564,11 +701,200 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			return this;
 		}
 
+		@Override
+		public Builder<T, S, U> addGetterAsync(
+			ThrowableBiFunction<Pagination, U, CompletionStage<PageItems<T>>>
+				getterThrowableBiFunction) {
+
+			return _addNestedGetPageAsyncFunction(
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, Credentials.class,
+					(pagination, credentials) ->
+						getterThrowableBiFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, path, credentials,
+									identifier))
+						).apply(
+							pagination, identifier
+						)));
+		}
+
+		@Override
+		public <A, B, C, D> Builder<T, S, U> addGetterAsync(
+			ThrowableHexaFunction
+				<Pagination, U, A, B, C, D, CompletionStage<PageItems<T>>>
+					getterThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+			_neededProviderConsumer.accept(dClass.getName());
+
+			return _addNestedGetPageAsyncFunction(
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass, dClass,
+					Credentials.class,
+					(pagination, a, b, c, d, credentials) ->
+						getterThrowableHexaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, path, credentials,
+									identifier))
+						).apply(
+							pagination, identifier, a, b, c, d
+						)));
+		}
+
+		@Override
+		public <A, B, C> Builder<T, S, U> addGetterAsync(
+			ThrowablePentaFunction
+				<Pagination, U, A, B, C, CompletionStage<PageItems<T>>>
+					getterThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+			_neededProviderConsumer.accept(cClass.getName());
+
+			return _addNestedGetPageAsyncFunction(
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, cClass, Credentials.class,
+					(pagination, a, b, c, credentials) ->
+						getterThrowablePentaFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, path, credentials,
+									identifier))
+						).apply(
+							pagination, identifier, a, b, c
+						)));
+		}
+
+		@Override
+		public <A, B> Builder<T, S, U> addGetterAsync(
+			ThrowableTetraFunction
+				<Pagination, U, A, B, CompletionStage<PageItems<T>>>
+					getterThrowableTetraFunction,
+			Class<A> aClass, Class<B> bClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+			_neededProviderConsumer.accept(bClass.getName());
+
+			return _addNestedGetPageAsyncFunction(
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, bClass, Credentials.class,
+					(pagination, a, b, credentials) ->
+						getterThrowableTetraFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, path, credentials,
+									identifier))
+						).apply(
+							pagination, identifier, a, b
+						)));
+		}
+
+		@Override
+		public <A> Builder<T, S, U> addGetterAsync(
+			ThrowableTriFunction
+				<Pagination, U, A, CompletionStage<PageItems<T>>>
+					getterThrowableTriFunction,
+			Class<A> aClass) {
+
+			_neededProviderConsumer.accept(aClass.getName());
+
+			return _addNestedGetPageAsyncFunction(
+				httpServletRequest -> path -> identifier -> provide(
+					_provideFunction.apply(httpServletRequest),
+					Pagination.class, aClass, Credentials.class,
+					(pagination, a, credentials) ->
+						getterThrowableTriFunction.andThen(
+							completionStage -> completionStage.thenApply(
+								items -> _createPage(
+									items, pagination, path, credentials,
+									identifier))
+						).apply(
+							pagination, identifier, a
+						)));
+		}
+
 		@Override
 		public NestedCollectionRoutes<T, S, U> build() {
 			return new NestedCollectionRoutesImpl<>(this);
 		}
 
+		private Builder<T, S, U> _addNestedGetPageAsyncFunction(
+			RequestFunction
+				<IdentifierFunction<Function<U, Try<CompletionStage<Page<T>>>>>>
+					requestFunction) {
+
+			NestedGetPageAsyncFunction<T, U> nestedGetPageAsyncFunction =
+				httpServletRequest -> path -> identifier -> flatten(
+					requestFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					));
+
+			_nestedGetPageAsyncFunction = nestedGetPageAsyncFunction;
+			_nestedGetPageFunction =
+				httpServletRequest -> path -> identifier -> await(
+					nestedGetPageAsyncFunction.apply(
+						httpServletRequest
+					).apply(
+						path
+					).apply(
+						identifier
+					));
+
+			return this;
+		}
+
+		private Page<T> _createPage(
+			PageItems<T> pageItems, Pagination pagination, Path path,
+			Credentials credentials, U identifier) {
+
+			return new PageImpl<>(
+				_nestedName, pageItems, pagination, path,
+				_getOperations(credentials, identifier));
+		}
+
+		private Map<U, Page<T>> _createPages(
+			Map<U, PageItems<T>> map, Pagination pagination,
+			Credentials credentials, List<U> identifiers) {
+
+			Map<U, Page<T>> pages = new LinkedHashMap<>();
+
+			for (U identifier : identifiers) {
+				Optional<Path> optional = _identifierToPathFunction.apply(
+					identifier);
+
+				if (!optional.isPresent()) {
+					continue;
+				}
+
+				PageItems<T> pageItems = map.getOrDefault(
+					identifier, new PageItems<>(Collections.emptyList(), 0));
+
+				pages.put(
+					identifier,
+					_createPage(
+						pageItems, pagination, optional.get(), credentials,
+						identifier));
+			}
+
+			return pages;
+		}
+
 		private List<Operation> _getOperations(
 			Credentials credentials, U identifier) {
 
@@ -634,7 +960,9 @@ public class NestedCollectionRoutesImpl<T, S, U>
 		private NestedBatchCreateItemFunction<S, U>
 			_nestedBatchCreateItemFunction;
 		private NestedCreateItemFunction<T, U> _nestedCreateItemFunction;
+		private NestedGetPageAsyncFunction<T, U> _nestedGetPageAsyncFunction;
 		private NestedGetPageFunction<T, U> _nestedGetPageFunction;
+		private NestedGetPagesFunction<T, U> _nestedGetPagesFunction;
 		private final String _nestedName;
 		private final IdentifierFunction<?> _pathToIdentifierFunction;
 		private final ProvideFunction _provideFunction;
@@ -645,6 +973,9 @@ public class NestedCollectionRoutesImpl<T, S, U>
 	private final NestedBatchCreateItemFunction<S, U>
 		_nestedBatchCreateItemFunction;
 	private final NestedCreateItemFunction<T, U> _nestedCreateItemFunction;
+	private final NestedGetPageAsyncFunction<T, U>
+		_nestedGetPageAsyncFunction;
 	private final NestedGetPageFunction<T, U> _nestedGetPageFunction;
+	private final NestedGetPagesFunction<T, U> _nestedGetPagesFunction;
 
 }
\ No newline at end of file
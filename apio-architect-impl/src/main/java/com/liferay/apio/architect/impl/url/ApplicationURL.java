@@ -24,4 +24,25 @@ import java.util.function.Supplier;
  */
 @FunctionalInterface
 public interface ApplicationURL extends Supplier<String> {
-}
\ No newline at end of file
+
+	/**
+	 * Returns the prefix shared by the application's URLs of a type and
+	 * resource (e.g., {@code http://localhost:8080/p/people/}). The prefix
+	 * always ends with a slash, and never contains a double slash between the
+	 * application URL and the type. If the resource's name is empty, the
+	 * prefix only contains the type.
+	 *
+	 * <p>
+	 * Implementations can cache the prefixes, since the application URL doesn't
+	 * change during a request.
+	 * </p>
+	 *
+	 * @param  type the URL's type (e.g., {@code p}, {@code b}, {@code f})
+	 * @param  name the resource's name
+	 * @return the URL prefix
+	 */
+	public default String getURLPrefix(String type, String name) {
+		return URLCreator.createURLPrefix(get(), type, name);
+	}
+
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.url;
+
+import static com.liferay.apio.architect.impl.url.URLCreator.createURLPrefix;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link ApplicationURL} whose URL has already been resolved. Instances
+ * also cache the URL prefixes they return, so that every link of a request
+ * only needs to append the resource's ID to a precomputed prefix.
+ *
+ * @author Alejandro Hernández
+ */
+public final class ApplicationURLImpl implements ApplicationURL {
+
+	public ApplicationURLImpl(String url) {
+		_url = url;
+	}
+
+	@Override
+	public String get() {
+		return _url;
+	}
+
+	@Override
+	public String getURLPrefix(String type, String name) {
+		Map<String, String> prefixes = _prefixes.computeIfAbsent(
+			type, __ -> new ConcurrentHashMap<>());
+
+		return prefixes.computeIfAbsent(
+			String.valueOf(name), key -> createURLPrefix(_url, type, key));
+	}
+
+	private final Map<String, Map<String, String>> _prefixes =
+		new ConcurrentHashMap<>();
+	private final String _url;
+
+}
@@ -27,6 +27,7 @@ import com.liferay.apio.architect.operation.Operation;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.List;
 import java.util.Optional;
 
 import javax.ws.rs.core.UriBuilder;
@@ -79,8 +80,29 @@ public final class URLCreator {
 	public static String createBinaryURL(
 		ApplicationURL applicationURL, String binaryId, Path path) {
 
-		return createAbsoluteURL(
-			applicationURL, join("/", "b", path.asURI(), binaryId));
+		String prefix = applicationURL.getURLPrefix("b", path.getName());
+
+		return _join(prefix, path.getId(), binaryId);
+	}
+
+	/**
+	 * Returns the URL for several items of a collection, requested by their
+	 * IDs.
+	 *
+	 * @param  applicationURL the application URL
+	 * @param  name the resource's name
+	 * @param  ids the items' IDs
+	 * @return the URL for the collection's items
+	 */
+	public static String createCollectionItemsURL(
+		ApplicationURL applicationURL, String name, List<String> ids) {
+
+		return UriBuilder.fromUri(
+			createCollectionURL(applicationURL, name)
+		).queryParam(
+			"id", ids.toArray()
+		).build(
+		).toString();
 	}
 
 	/**
@@ -93,6 +115,29 @@ public final class URLCreator {
 	public static String createCollectionPageURL(
 		String collectionURL, Page page, PageType pageType) {
 
+		if ((collectionURL.indexOf('?') == -1) &&
+			(collectionURL.indexOf('#') == -1)) {
+
+			String pageNumber = String.valueOf(pageType.getPageNumber(page));
+			String itemsPerPage = String.valueOf(page.getItemsPerPage());
+
+			StringBuilder sb = new StringBuilder(
+				collectionURL.length() + pageNumber.length() +
+					itemsPerPage.length() + 16);
+
+			return sb.append(
+				collectionURL
+			).append(
+				"?page="
+			).append(
+				pageNumber
+			).append(
+				"&per_page="
+			).append(
+				itemsPerPage
+			).toString();
+		}
+
 		return UriBuilder.fromUri(
 			collectionURL
 		).queryParam(
@@ -113,7 +158,25 @@ public final class URLCreator {
 	public static String createCollectionURL(
 		ApplicationURL applicationURL, String name) {
 
-		return createAbsoluteURL(applicationURL, "/p/" + name);
+		String prefix = applicationURL.getURLPrefix("p", name);
+
+		return prefix.substring(0, prefix.length() - 1);
+	}
+
+	/**
+	 * Returns the URL of the document that describes the vocabulary shared by
+	 * every resource of a type.
+	 *
+	 * @param  applicationURL the application URL
+	 * @param  name the resource's name
+	 * @return the shared document's URL
+	 */
+	public static String createContextURL(
+		ApplicationURL applicationURL, String name) {
+
+		String prefix = applicationURL.getURLPrefix("context", name);
+
+		return prefix.substring(0, prefix.length() - 1);
 	}
 
 	/**
@@ -126,7 +189,9 @@ public final class URLCreator {
 	public static String createFormURL(
 		ApplicationURL applicationURL, Form form) {
 
-		return createAbsoluteURL(applicationURL, join("/", "f", form.getId()));
+		String prefix = applicationURL.getURLPrefix("f", "");
+
+		return _join(prefix, form.getId());
 	}
 
 	/**
@@ -140,8 +205,9 @@ public final class URLCreator {
 	public static String createNestedCollectionURL(
 		ApplicationURL applicationURL, Path path, String name) {
 
-		return createAbsoluteURL(
-			applicationURL, join("/", "p", path.asURI(), name));
+		String prefix = applicationURL.getURLPrefix("p", path.getName());
+
+		return _join(prefix, path.getId(), name);
 	}
 
 	/**
@@ -159,29 +225,19 @@ public final class URLCreator {
 		return optional.map(
 			uri -> {
 				if (operation instanceof BatchCreateOperation) {
-					return "batch/" + uri;
-				}
-
-				if (operation instanceof CreateOperation) {
-					return "p/" + uri;
-				}
-
-				if (operation instanceof DeleteOperation) {
-					return "p/" + uri;
+					return _join(applicationURL.getURLPrefix("batch", ""), uri);
 				}
 
-				if (operation instanceof RetrieveOperation) {
-					return "p/" + uri;
-				}
+				if ((operation instanceof CreateOperation) ||
+					(operation instanceof DeleteOperation) ||
+					(operation instanceof RetrieveOperation) ||
+					(operation instanceof UpdateOperation)) {
 
-				if (operation instanceof UpdateOperation) {
-					return "p/" + uri;
+					return _join(applicationURL.getURLPrefix("p", ""), uri);
 				}
 
 				return null;
 			}
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri)
 		);
 	}
 
@@ -196,7 +252,44 @@ public final class URLCreator {
 	public static String createSingleURL(
 		ApplicationURL applicationURL, Path path) {
 
-		return createAbsoluteURL(applicationURL, "/p/" + path.asURI());
+		String prefix = applicationURL.getURLPrefix("p", path.getName());
+
+		return _join(prefix, path.getId());
+	}
+
+	/**
+	 * Returns the prefix shared by the URLs of a type and resource. The prefix
+	 * is the server or application URL, without its trailing slash, followed by
+	 * the type, the resource's name (if not empty), and a slash.
+	 *
+	 * @param  url the server or application URL
+	 * @param  type the URL's type (e.g., {@code p}, {@code b}, {@code f})
+	 * @param  name the resource's name
+	 * @return the URL prefix
+	 */
+	public static String createURLPrefix(String url, String type, String name) {
+		int urlLength = url.length();
+
+		if (url.endsWith("/")) {
+			urlLength--;
+		}
+
+		String resourceName = String.valueOf(name);
+
+		StringBuilder sb = new StringBuilder(
+			urlLength + type.length() + resourceName.length() + 3);
+
+		sb.append(url, 0, urlLength);
+		sb.append('/');
+		sb.append(type);
+		sb.append('/');
+
+		if (!resourceName.isEmpty()) {
+			sb.append(resourceName);
+			sb.append('/');
+		}
+
+		return sb.toString();
 	}
 
 	/**
@@ -236,6 +329,32 @@ public final class URLCreator {
 		return join("/", baseUrl, relativeURL);
 	}
 
+	private static String _join(String prefix, String suffix) {
+		String value = String.valueOf(suffix);
+
+		StringBuilder sb = new StringBuilder(prefix.length() + value.length());
+
+		sb.append(prefix);
+		sb.append(value);
+
+		return sb.toString();
+	}
+
+	private static String _join(String prefix, String first, String second) {
+		String firstValue = String.valueOf(first);
+		String secondValue = String.valueOf(second);
+
+		StringBuilder sb = new StringBuilder(
+			prefix.length() + firstValue.length() + secondValue.length() + 1);
+
+		sb.append(prefix);
+		sb.append(firstValue);
+		sb.append('/');
+		sb.append(secondValue);
+
+		return sb.toString();
+	}
+
 	private URLCreator() {
 		throw new UnsupportedOperationException();
 	}
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.impl.wiring.osgi.manager.base;
 
 import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
+import com.liferay.apio.architect.impl.wiring.osgi.alias.EmptyFunction;
 import com.liferay.apio.architect.impl.wiring.osgi.tracker.map.listener.ClearCacheServiceTrackerMapListener;
 import com.liferay.osgi.service.tracker.collections.internal.DefaultServiceTrackerCustomizer;
 import com.liferay.osgi.service.tracker.collections.internal.map.ServiceTrackerMapImpl;
@@ -50,13 +51,29 @@ public abstract class BaseManager<T, U> {
 			bundleContext, _managedClass, null, this::emit,
 			new DefaultServiceTrackerCustomizer<>(bundleContext),
 			new SingleValueServiceTrackerBucketFactory<>(),
-			new ClearCacheServiceTrackerMapListener<>());
+			new ClearCacheServiceTrackerMapListener<T, U>() {
+
+				@Override
+				public void keyRemoved(
+					ServiceTrackerMap<U, T> serviceTrackerMap, U key,
+					T service, T content) {
+
+					super.keyRemoved(serviceTrackerMap, key, service, content);
+
+					serviceRemoved(key, service);
+				}
+
+			});
+
+		INSTANCE.addWarmUpFunction(_warmUpFunction);
 
 		INSTANCE.clear();
 	}
 
 	@Deactivate
 	public void deactivate() {
+		INSTANCE.removeWarmUpFunction(_warmUpFunction);
+
 		serviceTrackerMap.close();
 		INSTANCE.clear();
 	}
@@ -77,9 +94,29 @@ public abstract class BaseManager<T, U> {
 	protected abstract void emit(
 		ServiceReference<T> serviceReference, Emitter<U> emitter);
 
+	/**
+	 * Called when a service is unregistered, so managers can forget any data
+	 * they stored for it. Does nothing by default.
+	 *
+	 * @param key the service's key
+	 * @param service the unregistered service
+	 */
+	protected void serviceRemoved(U key, T service) {
+	}
+
+	/**
+	 * Computes the data this manager stores in the {@link
+	 * com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache},
+	 * so it's ready before the first request needs it. Does nothing by
+	 * default.
+	 */
+	protected void warmUp() {
+	}
+
 	protected BundleContext bundleContext;
 	protected ServiceTrackerMap<U, T> serviceTrackerMap;
 
 	private final Class<T> _managedClass;
+	private final EmptyFunction _warmUpFunction = this::warmUp;
 
 }
\ No newline at end of file
@@ -73,6 +73,11 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 		emitter.emit(t.getMediaType());
 	}
 
+	@Override
+	protected void warmUp() {
+		computeMessageMappers();
+	}
+
 	private Logger _logger = getLogger(getClass());
 	private final BiConsumer<MediaType, T> _storeBiConsumer;
 
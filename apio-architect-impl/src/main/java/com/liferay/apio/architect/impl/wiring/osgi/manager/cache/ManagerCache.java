@@ -16,8 +16,12 @@ package com.liferay.apio.architect.impl.wiring.osgi.manager.cache;
 
 import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.impl.cache.ResponseCachePolicy;
+import com.liferay.apio.architect.impl.embedding.EmbeddingPolicy;
 import com.liferay.apio.architect.impl.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.impl.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.impl.message.json.EntryPointMessageMapper;
@@ -32,20 +36,22 @@ import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Variant;
 import javax.ws.rs.core.Variant.VariantListBuilder;
 
+import org.slf4j.Logger;
+
 /**
  * Acts as a central cache for most managers.
  *
@@ -54,6 +60,13 @@ import javax.ws.rs.core.Variant.VariantListBuilder;
  * #INSTANCE}.
  * </p>
  *
+ * <p>
+ * The cache is filled by the {@link ManagerCacheWarmer}'s background thread
+ * while requests read it, so every map is concurrent and published through a
+ * volatile field. Writes are synchronized, so a map created by one thread is
+ * never replaced by another one's.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ManagerCache {
@@ -64,23 +77,51 @@ public class ManagerCache {
 	public static final ManagerCache INSTANCE = new ManagerCache();
 
 	/**
-	 * Clears the cache.
+	 * Adds a listener that is invoked every time the cache is cleared.
+	 *
+	 * @param clearListener the listener
+	 */
+	public void addClearListener(EmptyFunction clearListener) {
+		_clearListeners.add(clearListener);
+	}
+
+	/**
+	 * Adds a function that fills part of the cache, so it can be computed
+	 * ahead of the first request that needs it. The function must not fail
+	 * if that part of the cache has already been computed.
+	 *
+	 * @param warmUpFunction the function
+	 * @see   #warmUp()
+	 */
+	public void addWarmUpFunction(EmptyFunction warmUpFunction) {
+		_warmUpFunctions.add(warmUpFunction);
+	}
+
+	/**
+	 * Clears the cache and notifies the clear listeners.
 	 */
 	public void clear() {
-		_collectionRoutes = null;
-		_documentationMessageMappers = null;
-		_entryPointMessageMappers = null;
-		_errorMessageMappers = null;
-		_formMessageMappers = null;
-		_identifierClasses = null;
-		_itemRoutes = null;
-		_names = null;
-		_nestedCollectionRoutes = null;
-		_pageMessageMappers = null;
-		_batchResultMessageMappers = null;
-		_representors = null;
-		_rootResourceNames = null;
-		_singleModelMessageMappers = null;
+		synchronized (this) {
+			_classNames = null;
+			_collectionRoutes = null;
+			_documentationMessageMappers = null;
+			_embeddingPolicies = null;
+			_entryPointMessageMappers = null;
+			_errorMessageMappers = null;
+			_formMessageMappers = null;
+			_identifierClasses = null;
+			_itemRoutes = null;
+			_names = null;
+			_nestedCollectionRoutes = null;
+			_pageMessageMappers = null;
+			_batchResultMessageMappers = null;
+			_representors = null;
+			_responseCachePolicies = null;
+			_rootResourceNames = null;
+			_singleModelMessageMappers = null;
+		}
+
+		_clearListeners.forEach(EmptyFunction::invoke);
 	}
 
 	/**
@@ -107,6 +148,22 @@ public class ManagerCache {
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Returns the class name registered for a resource's name, if present;
+	 * returns {@code Optional#empty()} otherwise. This method never computes
+	 * the data, so it can be used while the names are being computed.
+	 *
+	 * @param  name the resource's name
+	 * @return the class name, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<String> getClassNameOptional(String name) {
+		return Optional.ofNullable(
+			_classNames
+		).map(
+			map -> map.get(name)
+		);
+	}
+
 	public Map<String, CollectionRoutes> getCollectionRoutes(
 		EmptyFunction computeEmptyFunction) {
 
@@ -175,6 +232,30 @@ public class ManagerCache {
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Returns the embedding policy of a collection resource, if present;
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @param  name the collection resource's name
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @return the embedding policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<EmbeddingPolicy> getEmbeddingPolicyOptional(
+		String name, EmptyFunction computeEmptyFunction) {
+
+		if (_collectionRoutes == null) {
+			computeEmptyFunction.invoke();
+		}
+
+		return Optional.ofNullable(
+			_embeddingPolicies
+		).map(
+			map -> map.get(name)
+		);
+	}
+
 	/**
 	 * Returns the entry point message mapper, if present, for the current
 	 * request; {@code Optional#empty()} otherwise.
@@ -432,6 +513,30 @@ public class ManagerCache {
 		);
 	}
 
+	/**
+	 * Returns the response cache policy of a collection resource, if it opted
+	 * in for response caching; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  name the collection resource's name
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @return the response cache policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<ResponseCachePolicy> getResponseCachePolicyOptional(
+		String name, EmptyFunction computeEmptyFunction) {
+
+		if (_collectionRoutes == null) {
+			computeEmptyFunction.invoke();
+		}
+
+		return Optional.ofNullable(
+			_responseCachePolicies
+		).map(
+			map -> map.get(name)
+		);
+	}
+
 	/**
 	 * Returns a list containing the names of the root resources with routes.
 	 *
@@ -483,12 +588,12 @@ public class ManagerCache {
 	 * @param mediaType the media type
 	 * @param batchResultMessageMapper the batch result message mapper
 	 */
-	public void putBatchResultMessageMapper(
+	public synchronized void putBatchResultMessageMapper(
 		MediaType mediaType,
 		BatchResultMessageMapper batchResultMessageMapper) {
 
 		if (_batchResultMessageMappers == null) {
-			_batchResultMessageMappers = new HashMap<>();
+			_batchResultMessageMappers = new ConcurrentHashMap<>();
 		}
 
 		_batchResultMessageMappers.put(mediaType, batchResultMessageMapper);
@@ -500,17 +605,17 @@ public class ManagerCache {
 	 * @param key the key
 	 * @param collectionRoutes the collection routes
 	 */
-	public void putCollectionRoutes(
+	public synchronized void putCollectionRoutes(
 		String key, CollectionRoutes collectionRoutes) {
 
 		if (_collectionRoutes == null) {
-			_collectionRoutes = new HashMap<>();
+			_collectionRoutes = new ConcurrentHashMap<>();
 		}
 
 		_collectionRoutes.put(key, collectionRoutes);
 	}
 
-	public void putDocumentationContribution(
+	public synchronized void putDocumentationContribution(
 		CustomDocumentation customDocumentation) {
 
 		_customDocumentation = customDocumentation;
@@ -522,28 +627,44 @@ public class ManagerCache {
 	 * @param mediaType the media type
 	 * @param documentationMessageMapper the documentation message mapper
 	 */
-	public void putDocumentationMessageMapper(
+	public synchronized void putDocumentationMessageMapper(
 		MediaType mediaType,
 		DocumentationMessageMapper documentationMessageMapper) {
 
 		if (_documentationMessageMappers == null) {
-			_documentationMessageMappers = new HashMap<>();
+			_documentationMessageMappers = new ConcurrentHashMap<>();
 		}
 
 		_documentationMessageMappers.put(mediaType, documentationMessageMapper);
 	}
 
+	/**
+	 * Adds the embedding policy of a collection resource.
+	 *
+	 * @param key the key
+	 * @param embeddingPolicy the embedding policy
+	 */
+	public synchronized void putEmbeddingPolicy(
+		String key, EmbeddingPolicy embeddingPolicy) {
+
+		if (_embeddingPolicies == null) {
+			_embeddingPolicies = new ConcurrentHashMap<>();
+		}
+
+		_embeddingPolicies.put(key, embeddingPolicy);
+	}
+
 	/**
 	 * Adds a entry point message mapper.
 	 *
 	 * @param mediaType the media type
 	 * @param entryPointMessageMapper the entry point message mapper
 	 */
-	public void putEntryPointMessageMapper(
+	public synchronized void putEntryPointMessageMapper(
 		MediaType mediaType, EntryPointMessageMapper entryPointMessageMapper) {
 
 		if (_entryPointMessageMappers == null) {
-			_entryPointMessageMappers = new HashMap<>();
+			_entryPointMessageMappers = new ConcurrentHashMap<>();
 		}
 
 		_entryPointMessageMappers.put(mediaType, entryPointMessageMapper);
@@ -555,11 +676,11 @@ public class ManagerCache {
 	 * @param mediaType the media type
 	 * @param errorMessageMapper the error message mapper
 	 */
-	public void putErrorMessageMapper(
+	public synchronized void putErrorMessageMapper(
 		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
 
 		if (_errorMessageMappers == null) {
-			_errorMessageMappers = new HashMap<>();
+			_errorMessageMappers = new ConcurrentHashMap<>();
 		}
 
 		_errorMessageMappers.put(mediaType, errorMessageMapper);
@@ -571,11 +692,11 @@ public class ManagerCache {
 	 * @param mediaType the media type
 	 * @param formMessageMapper the form message mapper
 	 */
-	public void putFormMessageMapper(
+	public synchronized void putFormMessageMapper(
 		MediaType mediaType, FormMessageMapper formMessageMapper) {
 
 		if (_formMessageMappers == null) {
-			_formMessageMappers = new HashMap<>();
+			_formMessageMappers = new ConcurrentHashMap<>();
 		}
 
 		_formMessageMappers.put(mediaType, formMessageMapper);
@@ -587,11 +708,11 @@ public class ManagerCache {
 	 * @param key the key
 	 * @param identifierClass the identifier class
 	 */
-	public void putIdentifierClass(
+	public synchronized void putIdentifierClass(
 		String key, Class<Identifier> identifierClass) {
 
 		if (_identifierClasses == null) {
-			_identifierClasses = new HashMap<>();
+			_identifierClasses = new ConcurrentHashMap<>();
 		}
 
 		_identifierClasses.put(key, identifierClass);
@@ -603,25 +724,33 @@ public class ManagerCache {
 	 * @param key the key
 	 * @param itemRoutes the item routes
 	 */
-	public void putItemRoutes(String key, ItemRoutes itemRoutes) {
+	public synchronized void putItemRoutes(
+		String key, ItemRoutes itemRoutes) {
+
 		if (_itemRoutes == null) {
-			_itemRoutes = new HashMap<>();
+			_itemRoutes = new ConcurrentHashMap<>();
 		}
 
 		_itemRoutes.put(key, itemRoutes);
 	}
 
 	/**
-	 * Adds a resource name.
+	 * Adds a resource name. The key is also indexed by the resource name, so
+	 * it can be retrieved with {@link #getClassNameOptional(String)}.
 	 *
 	 * @param key the key
 	 * @param name the resource name
 	 */
-	public void putName(String key, String name) {
+	public synchronized void putName(String key, String name) {
+		if (_classNames == null) {
+			_classNames = new ConcurrentHashMap<>();
+		}
+
 		if (_names == null) {
-			_names = new HashMap<>();
+			_names = new ConcurrentHashMap<>();
 		}
 
+		_classNames.put(name, key);
 		_names.put(key, name);
 	}
 
@@ -631,11 +760,11 @@ public class ManagerCache {
 	 * @param key the key
 	 * @param nestedCollectionRoutes the nested collection routes
 	 */
-	public void putNestedCollectionRoutes(
+	public synchronized void putNestedCollectionRoutes(
 		String key, NestedCollectionRoutes nestedCollectionRoutes) {
 
 		if (_nestedCollectionRoutes == null) {
-			_nestedCollectionRoutes = new HashMap<>();
+			_nestedCollectionRoutes = new ConcurrentHashMap<>();
 		}
 
 		_nestedCollectionRoutes.put(key, nestedCollectionRoutes);
@@ -647,11 +776,11 @@ public class ManagerCache {
 	 * @param mediaType the media type
 	 * @param pageMessageMapper the page message mapper
 	 */
-	public void putPageMessageMapper(
+	public synchronized void putPageMessageMapper(
 		MediaType mediaType, PageMessageMapper pageMessageMapper) {
 
 		if (_pageMessageMappers == null) {
-			_pageMessageMappers = new HashMap<>();
+			_pageMessageMappers = new ConcurrentHashMap<>();
 		}
 
 		_pageMessageMappers.put(mediaType, pageMessageMapper);
@@ -663,22 +792,40 @@ public class ManagerCache {
 	 * @param key the key
 	 * @param representor the representor
 	 */
-	public void putRepresentor(String key, Representor representor) {
+	public synchronized void putRepresentor(
+		String key, Representor representor) {
+
 		if (_representors == null) {
-			_representors = new HashMap<>();
+			_representors = new ConcurrentHashMap<>();
 		}
 
 		_representors.put(key, representor);
 	}
 
+	/**
+	 * Adds the response cache policy of a collection resource.
+	 *
+	 * @param key the key
+	 * @param responseCachePolicy the response cache policy
+	 */
+	public synchronized void putResponseCachePolicy(
+		String key, ResponseCachePolicy responseCachePolicy) {
+
+		if (_responseCachePolicies == null) {
+			_responseCachePolicies = new ConcurrentHashMap<>();
+		}
+
+		_responseCachePolicies.put(key, responseCachePolicy);
+	}
+
 	/**
 	 * Adds a root resource name.
 	 *
 	 * @param rootResourceName the root resource name
 	 */
-	public void putRootResourceName(String rootResourceName) {
+	public synchronized void putRootResourceName(String rootResourceName) {
 		if (_rootResourceNames == null) {
-			_rootResourceNames = new ArrayList<>();
+			_rootResourceNames = new CopyOnWriteArrayList<>();
 		}
 
 		_rootResourceNames.add(rootResourceName);
@@ -690,17 +837,61 @@ public class ManagerCache {
 	 * @param mediaType the media type
 	 * @param singleModelMessageMapper the single model message mapper
 	 */
-	public void putSingleModelMessageMapper(
+	public synchronized void putSingleModelMessageMapper(
 		MediaType mediaType,
 		SingleModelMessageMapper singleModelMessageMapper) {
 
 		if (_singleModelMessageMappers == null) {
-			_singleModelMessageMappers = new HashMap<>();
+			_singleModelMessageMappers = new ConcurrentHashMap<>();
 		}
 
 		_singleModelMessageMappers.put(mediaType, singleModelMessageMapper);
 	}
 
+	/**
+	 * Removes a listener previously added with {@link
+	 * #addClearListener(EmptyFunction)}.
+	 *
+	 * @param clearListener the listener
+	 */
+	public void removeClearListener(EmptyFunction clearListener) {
+		_clearListeners.remove(clearListener);
+	}
+
+	/**
+	 * Removes a function previously added with {@link
+	 * #addWarmUpFunction(EmptyFunction)}.
+	 *
+	 * @param warmUpFunction the function
+	 */
+	public void removeWarmUpFunction(EmptyFunction warmUpFunction) {
+		_warmUpFunctions.remove(warmUpFunction);
+	}
+
+	/**
+	 * Invokes every warm-up function, so the cache is filled before a request
+	 * needs it. A failing function doesn't prevent the rest from being
+	 * invoked.
+	 *
+	 * @return the number of warm-up functions that failed
+	 */
+	public int warmUp() {
+		int failures = 0;
+
+		for (EmptyFunction warmUpFunction : _warmUpFunctions) {
+			try {
+				warmUpFunction.invoke();
+			}
+			catch (RuntimeException re) {
+				_logger.error("Unable to warm up the manager cache", re);
+
+				failures++;
+			}
+		}
+
+		return failures;
+	}
+
 	private ManagerCache() {
 	}
 
@@ -751,22 +942,34 @@ public class ManagerCache {
 
 	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
 		"application/ld+json");
-
-	private Map<MediaType, BatchResultMessageMapper> _batchResultMessageMappers;
-	private Map<String, CollectionRoutes> _collectionRoutes;
-	private CustomDocumentation _customDocumentation;
-	private Map<MediaType, DocumentationMessageMapper>
+	private static final Logger _logger = getLogger(ManagerCache.class);
+
+	private volatile Map<MediaType, BatchResultMessageMapper>
+		_batchResultMessageMappers;
+	private volatile Map<String, String> _classNames;
+	private final List<EmptyFunction> _clearListeners =
+		new CopyOnWriteArrayList<>();
+	private volatile Map<String, CollectionRoutes> _collectionRoutes;
+	private volatile CustomDocumentation _customDocumentation;
+	private volatile Map<MediaType, DocumentationMessageMapper>
 		_documentationMessageMappers;
-	private Map<MediaType, EntryPointMessageMapper> _entryPointMessageMappers;
-	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
-	private Map<MediaType, FormMessageMapper> _formMessageMappers;
-	private Map<String, Class<Identifier>> _identifierClasses;
-	private Map<String, ItemRoutes> _itemRoutes;
-	private Map<String, String> _names;
-	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
-	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
-	private Map<String, Representor> _representors;
-	private List<String> _rootResourceNames;
-	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+	private volatile Map<String, EmbeddingPolicy> _embeddingPolicies;
+	private volatile Map<MediaType, EntryPointMessageMapper>
+		_entryPointMessageMappers;
+	private volatile Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
+	private volatile Map<MediaType, FormMessageMapper> _formMessageMappers;
+	private volatile Map<String, Class<Identifier>> _identifierClasses;
+	private volatile Map<String, ItemRoutes> _itemRoutes;
+	private volatile Map<String, String> _names;
+	private volatile Map<String, NestedCollectionRoutes>
+		_nestedCollectionRoutes;
+	private volatile Map<MediaType, PageMessageMapper> _pageMessageMappers;
+	private volatile Map<String, Representor> _representors;
+	private volatile Map<String, ResponseCachePolicy> _responseCachePolicies;
+	private volatile List<String> _rootResourceNames;
+	private volatile Map<MediaType, SingleModelMessageMapper>
+		_singleModelMessageMappers;
+	private final List<EmptyFunction> _warmUpFunctions =
+		new CopyOnWriteArrayList<>();
 
 }
\ No newline at end of file
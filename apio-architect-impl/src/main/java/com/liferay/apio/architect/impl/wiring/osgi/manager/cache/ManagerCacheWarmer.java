@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.cache;
+
+/**
+ * Computes the {@link ManagerCache} in the background every time it's
+ * cleared, so requests don't have to.
+ *
+ * @author Alejandro Hernández
+ */
+public interface ManagerCacheWarmer {
+
+	/**
+	 * Returns {@code true} if the last computation of the {@link ManagerCache}
+	 * finished without failures.
+	 *
+	 * @return {@code true} if the cache has been computed; {@code false}
+	 *         otherwise
+	 */
+	public boolean isReady();
+
+}
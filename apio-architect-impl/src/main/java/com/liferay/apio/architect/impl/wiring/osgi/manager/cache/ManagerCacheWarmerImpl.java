@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getBoolean;
+import static com.liferay.apio.architect.impl.wiring.osgi.util.PropertiesUtil.getLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.impl.wiring.osgi.alias.EmptyFunction;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+
+import org.slf4j.Logger;
+
+/**
+ * Default {@link ManagerCacheWarmer} implementation.
+ *
+ * <p>
+ * Every time the {@link ManagerCache} is cleared, a warm-up is scheduled
+ * {@link #DELAY} milliseconds later. Clears that happen before it runs
+ * reschedule it, so a burst of service changes only causes one warm-up. A
+ * warm-up is never postponed more than {@link #MAX_DELAY} milliseconds since
+ * the first clear of the burst. Warm-ups run in a single background thread.
+ * </p>
+ *
+ * <p>
+ * The application is only reported as ready if the last warm-up had no
+ * failures. A failed warm-up is retried after the next clear.
+ * </p>
+ *
+ * <p>
+ * If the {@link #ENABLED} property is {@code false}, the cache is computed
+ * lazily by the first request that needs it, and the application is always
+ * reported as ready.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class ManagerCacheWarmerImpl implements ManagerCacheWarmer {
+
+	/**
+	 * The property with the number of milliseconds without clears the warm-up
+	 * waits for.
+	 */
+	public static final String DELAY = "manager.cache.warm.up.delay";
+
+	/**
+	 * The property that enables the background warm-up. It's enabled by
+	 * default.
+	 */
+	public static final String ENABLED = "manager.cache.warm.up.enabled";
+
+	/**
+	 * The property with the maximum number of milliseconds a warm-up can be
+	 * postponed by consecutive clears.
+	 */
+	public static final String MAX_DELAY = "manager.cache.warm.up.max.delay";
+
+	@Activate
+	public synchronized void activate(Map<String, Object> properties) {
+		if (!getBoolean(properties, ENABLED, true)) {
+			_ready = true;
+
+			return;
+		}
+
+		_delay = MILLISECONDS.toNanos(getLong(properties, DELAY, 500));
+		_maxDelay = MILLISECONDS.toNanos(getLong(properties, MAX_DELAY, 5000));
+
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			runnable -> {
+				Thread thread = new Thread(runnable, _THREAD_NAME);
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+		INSTANCE.addClearListener(_clearListener);
+
+		_schedule();
+	}
+
+	@Deactivate
+	public synchronized void deactivate() {
+		INSTANCE.removeClearListener(_clearListener);
+
+		if (_scheduledExecutorService != null) {
+			_scheduledExecutorService.shutdownNow();
+
+			_scheduledExecutorService = null;
+		}
+
+		_burstStart = -1;
+		_scheduledFuture = null;
+	}
+
+	@Override
+	public boolean isReady() {
+		return _ready;
+	}
+
+	private synchronized void _schedule() {
+		if (_scheduledExecutorService == null) {
+			return;
+		}
+
+		long now = System.nanoTime();
+
+		if (_burstStart < 0) {
+			_burstStart = now;
+		}
+
+		if (_scheduledFuture != null) {
+			_scheduledFuture.cancel(false);
+		}
+
+		long delay = Math.min(_delay, _burstStart + _maxDelay - now);
+
+		_scheduledFuture = _scheduledExecutorService.schedule(
+			this::_warmUp, Math.max(0, delay), NANOSECONDS);
+	}
+
+	private void _warmUp() {
+		synchronized (this) {
+			_burstStart = -1;
+			_scheduledFuture = null;
+		}
+
+		long start = System.nanoTime();
+
+		int failures = INSTANCE.warmUp();
+
+		if (failures > 0) {
+			_logger.warn(
+				"Manager cache warm-up failed {} times; the application will " +
+					"be reported as not ready until the next warm-up",
+				failures);
+		}
+		else if (_logger.isDebugEnabled()) {
+			_logger.debug(
+				"Manager cache warmed up in {} ms",
+				NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+
+		_ready = failures == 0;
+	}
+
+	private static final String _THREAD_NAME = "Apio manager cache warm-up";
+	private static final Logger _logger = getLogger(
+		ManagerCacheWarmerImpl.class);
+
+	private long _burstStart = -1;
+	private final EmptyFunction _clearListener = this::_schedule;
+	private long _delay;
+	private long _maxDelay;
+	private volatile boolean _ready;
+	private ScheduledExecutorService _scheduledExecutorService;
+	private ScheduledFuture<?> _scheduledFuture;
+
+}
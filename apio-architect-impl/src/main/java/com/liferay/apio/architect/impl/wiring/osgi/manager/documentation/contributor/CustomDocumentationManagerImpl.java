@@ -20,6 +20,7 @@ import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerC
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentationContributor;
 import com.liferay.apio.architect.impl.documentation.contributor.CustomDocumentationImpl.BuilderImpl;
+import com.liferay.apio.architect.impl.wiring.osgi.alias.EmptyFunction;
 import com.liferay.osgi.service.tracker.collections.internal.DefaultServiceTrackerCustomizer;
 import com.liferay.osgi.service.tracker.collections.list.ServiceTrackerList;
 import com.liferay.osgi.service.tracker.collections.list.ServiceTrackerListFactory;
@@ -44,11 +45,15 @@ public class CustomDocumentationManagerImpl
 	public void activate(BundleContext bundleContext) {
 		_serviceTrackerList = _openServiceTrackerList(bundleContext);
 
+		INSTANCE.addWarmUpFunction(_warmUpFunction);
+
 		INSTANCE.clear();
 	}
 
 	@Deactivate
 	public void deactivate() {
+		INSTANCE.removeWarmUpFunction(_warmUpFunction);
+
 		_serviceTrackerList.close();
 
 		INSTANCE.clear();
@@ -112,5 +117,6 @@ public class CustomDocumentationManagerImpl
 
 	private ServiceTrackerList<CustomDocumentationContributor,
 		CustomDocumentationContributor> _serviceTrackerList;
+	private final EmptyFunction _warmUpFunction = this::getCustomDocumentation;
 
 }
\ No newline at end of file
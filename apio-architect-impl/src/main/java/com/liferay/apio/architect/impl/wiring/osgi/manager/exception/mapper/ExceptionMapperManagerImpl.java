@@ -15,16 +15,32 @@
 package com.liferay.apio.architect.impl.wiring.osgi.manager.exception.mapper;
 
 import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.exception.mapper.ExceptionMapper;
+import com.liferay.apio.architect.impl.wiring.osgi.alias.EmptyFunction;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.base.ClassNameBaseManager;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import org.osgi.framework.BundleContext;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 
 /**
+ * Maps exceptions by using the {@link ExceptionMapper} registered for the
+ * exception's class or, if there's none, for its closest superclass.
+ *
+ * <p>
+ * The mappers that apply to each exception class are resolved once and kept
+ * in a {@code ClassValue}, which is discarded every time the manager cache is
+ * cleared, for example, when a mapper is registered or unregistered.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component
@@ -36,30 +52,72 @@ public class ExceptionMapperManagerImpl
 		super(ExceptionMapper.class, 0);
 	}
 
+	@Activate
+	@Override
+	public void activate(BundleContext bundleContext) {
+		INSTANCE.addClearListener(_clearListener);
+
+		super.activate(bundleContext);
+	}
+
+	@Deactivate
+	@Override
+	public void deactivate() {
+		INSTANCE.removeClearListener(_clearListener);
+
+		super.deactivate();
+	}
+
 	@Override
 	public <T extends Exception> Optional<APIError> map(T exception) {
-		return _convert(exception, unsafeCast(exception.getClass()));
+		List<ExceptionMapper<Exception>> exceptionMappers =
+			_exceptionMappers.get(exception.getClass());
+
+		for (ExceptionMapper<Exception> exceptionMapper : exceptionMappers) {
+			APIError apiError = exceptionMapper.map(exception);
+
+			if (apiError != null) {
+				return Optional.of(apiError);
+			}
+		}
+
+		return Optional.empty();
 	}
 
-	private <T extends Exception> Optional<APIError> _convert(
-		T exception, Class<T> exceptionClass) {
-
-		Optional<ExceptionMapper<T>> optional = unsafeCast(
-			getServiceOptional(exceptionClass));
-
-		return optional.map(
-			exceptionConverter -> exceptionConverter.map(exception)
-		).map(
-			Optional::of
-		).orElseGet(
-			() -> Optional.ofNullable(
-				exceptionClass.getSuperclass()
-			).filter(
-				Exception.class::isAssignableFrom
-			).flatMap(
-				clazz -> _convert(exception, unsafeCast(clazz))
-			)
-		);
+	private ClassValue<List<ExceptionMapper<Exception>>> _createClassValue() {
+		return new ClassValue<List<ExceptionMapper<Exception>>>() {
+
+			@Override
+			protected List<ExceptionMapper<Exception>> computeValue(
+				Class<?> clazz) {
+
+				List<ExceptionMapper<Exception>> exceptionMappers =
+					new ArrayList<>();
+
+				Class<?> currentClass = clazz;
+
+				while ((currentClass != null) &&
+					   Exception.class.isAssignableFrom(currentClass)) {
+
+					Optional<ExceptionMapper> optional = getServiceOptional(
+						currentClass);
+
+					optional.ifPresent(
+						exceptionMapper -> exceptionMappers.add(
+							unsafeCast(exceptionMapper)));
+
+					currentClass = currentClass.getSuperclass();
+				}
+
+				return exceptionMappers;
+			}
+
+		};
 	}
 
-}
\ No newline at end of file
+	private final EmptyFunction _clearListener =
+		() -> _exceptionMappers = _createClassValue();
+	private volatile ClassValue<List<ExceptionMapper<Exception>>>
+		_exceptionMappers = _createClassValue();
+
+}
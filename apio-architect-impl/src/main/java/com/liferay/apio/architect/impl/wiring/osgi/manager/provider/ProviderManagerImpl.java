@@ -14,29 +14,49 @@
 
 package com.liferay.apio.architect.impl.wiring.osgi.manager.provider;
 
+import static com.liferay.apio.architect.impl.metrics.Phase.PROVIDER_RESOLUTION;
+import static com.liferay.apio.architect.impl.request.PaginatedHttpServletRequest.getPageAttributeName;
 import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.provider.Provider;
+import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper.Emitter;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.NotFoundException;
 
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 import org.slf4j.Logger;
 
 /**
+ * Provides the contexts created by the registered {@link Provider} services.
+ *
+ * <p>
+ * Contexts are reused according to each provider's {@link ProviderScope}.
+ * Request scoped contexts are stored in a request attribute, so each provided
+ * class is created at most once per request. Scopes are stored per provider,
+ * so a class uses the scope of the highest ranked provider currently
+ * registered for it. The scope and the singleton context of a provider are
+ * forgotten once it's unregistered.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -95,10 +115,115 @@ public class ProviderManagerImpl
 
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
-		return optional.map(
-			provider -> provider.createContext(httpServletRequest));
+		return optional.flatMap(
+			provider -> _provideOptional(httpServletRequest, clazz, provider));
 	}
 
+	@Override
+	protected void emit(
+		ServiceReference<Provider> serviceReference, Emitter<String> emitter) {
+
+		super.emit(
+			serviceReference,
+			className -> {
+				Provider provider = bundleContext.getService(serviceReference);
+
+				if (provider != null) {
+					_providerScopes.put(
+						provider,
+						ProviderScope.fromProperties(
+							serviceReference::getProperty));
+
+					bundleContext.ungetService(serviceReference);
+				}
+
+				emitter.emit(className);
+			});
+	}
+
+	@Override
+	protected void serviceRemoved(String className, Provider provider) {
+		_providerScopes.remove(provider);
+		_singletonContexts.remove(provider);
+	}
+
+	private <T> Optional<T> _createContextOptional(
+		HttpServletRequest httpServletRequest, Class<T> clazz,
+		Provider<T> provider) {
+
+		return Optional.ofNullable(
+			_instrumentation.measure(
+				httpServletRequest, clazz.getSimpleName(), PROVIDER_RESOLUTION,
+				() -> provider.createContext(httpServletRequest)));
+	}
+
+	private Map<String, Optional<?>> _getRequestContexts(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (attribute != null) {
+			return unsafeCast(attribute);
+		}
+
+		Map<String, Optional<?>> requestContexts = new ConcurrentHashMap<>();
+
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, requestContexts);
+
+		return requestContexts;
+	}
+
+	private <T> Optional<T> _provideOptional(
+		HttpServletRequest httpServletRequest, Class<T> clazz,
+		Provider<T> provider) {
+
+		ProviderScope providerScope = _providerScopes.getOrDefault(
+			provider, ProviderScope.CALL);
+
+		if (providerScope == ProviderScope.CALL) {
+			return _createContextOptional(httpServletRequest, clazz, provider);
+		}
+
+		if (providerScope == ProviderScope.SINGLETON) {
+			return unsafeCast(
+				_reuseContextOptional(
+					_singletonContexts, provider,
+					() -> _createContextOptional(
+						httpServletRequest, clazz, provider)));
+		}
+
+		return unsafeCast(
+			_reuseContextOptional(
+				_getRequestContexts(httpServletRequest), clazz.getName(),
+				() -> _createContextOptional(
+					httpServletRequest, clazz, provider)));
+	}
+
+	private <K> Optional<?> _reuseContextOptional(
+		Map<K, Optional<?>> contexts, K key,
+		Supplier<Optional<?>> supplier) {
+
+		Optional<?> optional = contexts.get(key);
+
+		if (optional == null) {
+			optional = supplier.get();
+
+			contexts.put(key, optional);
+		}
+
+		return optional;
+	}
+
+	private static final String _ATTRIBUTE_NAME = getPageAttributeName(
+		ProviderManagerImpl.class.getName() + "#contexts");
+
+	@Reference
+	private Instrumentation _instrumentation;
+
 	private Logger _logger = getLogger(getClass());
+	private final Map<Provider<?>, ProviderScope> _providerScopes =
+		new ConcurrentHashMap<>();
+	private final Map<Provider<?>, Optional<?>> _singletonContexts =
+		new ConcurrentHashMap<>();
 
 }
\ No newline at end of file
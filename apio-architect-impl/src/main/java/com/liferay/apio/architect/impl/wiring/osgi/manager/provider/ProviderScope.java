@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.provider;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Defines how long the context created by a {@code Provider} is reused by the
+ * {@link ProviderManager}.
+ *
+ * <p>
+ * Providers declare their scope by adding the {@link #KEY_SCOPE} property to
+ * their OSGi component (e.g., {@code
+ * apio.architect.provider.scope=singleton}). Providers without the property
+ * are {@link #CALL} scoped, since their contexts may depend on request state
+ * that changes while the request is processed.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public enum ProviderScope {
+
+	/**
+	 * The context is created every time it's needed.
+	 */
+	CALL("call"),
+
+	/**
+	 * The context is created at most once per request, and stored as a request
+	 * attribute.
+	 */
+	REQUEST("request"),
+
+	/**
+	 * The context is created once, and reused for every request.
+	 */
+	SINGLETON("singleton");
+
+	/**
+	 * The provider's property that contains its scope.
+	 */
+	public static final String KEY_SCOPE = "apio.architect.provider.scope";
+
+	/**
+	 * Returns the scope declared in a provider's properties. Returns {@link
+	 * #CALL} if the provider doesn't declare a valid scope.
+	 *
+	 * @param  propertyFunction the function that returns a provider's property
+	 * @return the provider's scope
+	 */
+	public static ProviderScope fromProperties(
+		Function<String, Object> propertyFunction) {
+
+		return Optional.ofNullable(
+			propertyFunction.apply(KEY_SCOPE)
+		).map(
+			String::valueOf
+		).flatMap(
+			value -> Stream.of(
+				values()
+			).filter(
+				providerScope -> providerScope._name.equalsIgnoreCase(value)
+			).findFirst()
+		).orElse(
+			CALL
+		);
+	}
+
+	private ProviderScope(String name) {
+		_name = name;
+	}
+
+	private final String _name;
+
+}
@@ -35,16 +35,12 @@ import com.liferay.apio.architect.representor.Representor.Builder;
 import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper.Emitter;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
@@ -116,6 +112,11 @@ public class RepresentableManagerImpl
 		);
 	}
 
+	@Override
+	protected void warmUp() {
+		getRepresentors();
+	}
+
 	private void _computeRepresentables() {
 		Map<String, List<RelatedCollection<?>>> relatedCollections =
 			new HashMap<>();
@@ -132,20 +133,8 @@ public class RepresentableManagerImpl
 					return;
 				}
 
-				Optional<Map<String, String>> optional =
-					INSTANCE.getNamesOptional();
-
-				Optional<String> classNameOptional = optional.map(
-					Map::entrySet
-				).map(
-					Collection::stream
-				).orElseGet(
-					Stream::empty
-				).filter(
-					entry -> Objects.equals(entry.getValue(), name)
-				).map(
-					Entry::getKey
-				).findFirst();
+				Optional<String> classNameOptional =
+					INSTANCE.getClassNameOptional(name);
 
 				if (classNameOptional.isPresent()) {
 					String className = classNameOptional.get();
@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.impl.wiring.osgi.manager.router;
 
+import com.liferay.apio.architect.impl.cache.ResponseCachePolicy;
+import com.liferay.apio.architect.impl.embedding.EmbeddingPolicy;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 
 import java.util.List;
@@ -40,6 +42,16 @@ public interface CollectionRouterManager {
 	public <T, S> Optional<CollectionRoutes<T, S>> getCollectionRoutesOptional(
 		String name);
 
+	/**
+	 * Returns the embedding policy of the collection resource, if its router
+	 * defines one; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  name the collection resource's name
+	 * @return the embedding policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<EmbeddingPolicy> getEmbeddingPolicyOptional(String name);
+
 	/**
 	 * Returns a list containing the names of the resources with routes in this
 	 * manager.
@@ -49,4 +61,16 @@ public interface CollectionRouterManager {
 	 */
 	public List<String> getResourceNames();
 
+	/**
+	 * Returns the response cache policy of the collection resource, if its
+	 * router opted in for response caching; returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  name the collection resource's name
+	 * @return the response cache policy, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<ResponseCachePolicy> getResponseCachePolicyOptional(
+		String name);
+
 }
\ No newline at end of file
@@ -20,6 +20,16 @@ import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerC
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadCollectionRoutes;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadPolicy;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadRegistry;
+import com.liferay.apio.architect.impl.cache.InvalidatingCollectionRoutes;
+import com.liferay.apio.architect.impl.cache.ResponseCachePolicy;
+import com.liferay.apio.architect.impl.changefeed.ChangeFeed;
+import com.liferay.apio.architect.impl.changefeed.NotifyingCollectionRoutes;
+import com.liferay.apio.architect.impl.embedding.EmbeddingPolicy;
+import com.liferay.apio.architect.impl.invalidation.InvalidationBus;
+import com.liferay.apio.architect.impl.invalidation.InvalidationEvent;
 import com.liferay.apio.architect.impl.routes.CollectionRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.impl.url.ApplicationURL;
 import com.liferay.apio.architect.impl.url.ServerURL;
@@ -34,6 +44,7 @@ import com.liferay.apio.architect.router.CollectionRouter;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.CollectionRoutes.Builder;
 import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper.Emitter;
 
 import java.util.Arrays;
 import java.util.List;
@@ -41,7 +52,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -72,11 +85,77 @@ public class CollectionRouterManagerImpl
 			name, this::_computeCollectionRoutes);
 	}
 
+	@Override
+	public Optional<EmbeddingPolicy> getEmbeddingPolicyOptional(String name) {
+		return INSTANCE.getEmbeddingPolicyOptional(
+			name, this::_computeCollectionRoutes);
+	}
+
 	@Override
 	public List<String> getResourceNames() {
 		return INSTANCE.getRootResourceNames(this::_computeCollectionRoutes);
 	}
 
+	@Override
+	public Optional<ResponseCachePolicy> getResponseCachePolicyOptional(
+		String name) {
+
+		return INSTANCE.getResponseCachePolicyOptional(
+			name, this::_computeCollectionRoutes);
+	}
+
+	@Override
+	protected void emit(
+		ServiceReference<CollectionRouter> serviceReference,
+		Emitter<String> emitter) {
+
+		super.emit(
+			serviceReference,
+			className -> {
+				Optional<ResponseCachePolicy> optional =
+					ResponseCachePolicy.fromProperties(
+						serviceReference::getProperty);
+
+				if (optional.isPresent()) {
+					_responseCachePolicies.put(className, optional.get());
+				}
+				else {
+					_responseCachePolicies.remove(className);
+				}
+
+				Optional<BulkheadPolicy> bulkheadPolicyOptional =
+					BulkheadPolicy.fromProperties(
+						serviceReference::getProperty);
+
+				if (bulkheadPolicyOptional.isPresent()) {
+					_bulkheadPolicies.put(
+						className, bulkheadPolicyOptional.get());
+				}
+				else {
+					_bulkheadPolicies.remove(className);
+				}
+
+				Optional<EmbeddingPolicy> embeddingPolicyOptional =
+					EmbeddingPolicy.fromProperties(
+						serviceReference::getProperty);
+
+				if (embeddingPolicyOptional.isPresent()) {
+					_embeddingPolicies.put(
+						className, embeddingPolicyOptional.get());
+				}
+				else {
+					_embeddingPolicies.remove(className);
+				}
+
+				emitter.emit(className);
+			});
+	}
+
+	@Override
+	protected void warmUp() {
+		getCollectionRoutes();
+	}
+
 	private void _computeCollectionRoutes() {
 		List<String> list = _providerManager.getMissingProviders(
 			_mandatoryClassNames);
@@ -148,14 +227,68 @@ public class CollectionRouterManagerImpl
 				}
 
 				INSTANCE.putRootResourceName(name);
-				INSTANCE.putCollectionRoutes(name, collectionRoutes);
+				INSTANCE.putCollectionRoutes(
+					name,
+					new InvalidatingCollectionRoutes<>(
+						new NotifyingCollectionRoutes<>(
+							_getBulkheadCollectionRoutes(
+								className, name, collectionRoutes),
+							representor::getIdentifier, _changeFeed::record),
+						() -> _invalidationBus.publish(
+							new InvalidationEvent(name))));
+
+				ResponseCachePolicy responseCachePolicy =
+					_responseCachePolicies.get(className);
+
+				if (responseCachePolicy != null) {
+					INSTANCE.putResponseCachePolicy(name, responseCachePolicy);
+				}
+
+				EmbeddingPolicy embeddingPolicy = _embeddingPolicies.get(
+					className);
+
+				if (embeddingPolicy != null) {
+					INSTANCE.putEmbeddingPolicy(name, embeddingPolicy);
+				}
 			});
 	}
 
+	private CollectionRoutes<Object, Object> _getBulkheadCollectionRoutes(
+		String className, String name,
+		CollectionRoutes<Object, Object> collectionRoutes) {
+
+		BulkheadPolicy bulkheadPolicy = _bulkheadPolicies.get(className);
+
+		if (bulkheadPolicy == null) {
+			_bulkheadRegistry.remove(name);
+
+			return collectionRoutes;
+		}
+
+		return new BulkheadCollectionRoutes<>(
+			collectionRoutes,
+			_bulkheadRegistry.getBulkhead(name, bulkheadPolicy));
+	}
+
 	private static final List<String> _mandatoryClassNames = Arrays.asList(
 		ApplicationURL.class.getName(), Credentials.class.getName(),
 		Pagination.class.getName(), ServerURL.class.getName());
 
+	private final Map<String, BulkheadPolicy> _bulkheadPolicies =
+		new ConcurrentHashMap<>();
+
+	@Reference
+	private BulkheadRegistry _bulkheadRegistry;
+
+	@Reference
+	private ChangeFeed _changeFeed;
+
+	private final Map<String, EmbeddingPolicy> _embeddingPolicies =
+		new ConcurrentHashMap<>();
+
+	@Reference
+	private InvalidationBus _invalidationBus;
+
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
@@ -173,4 +306,7 @@ public class CollectionRouterManagerImpl
 	@Reference
 	private RepresentableManager _representableManager;
 
+	private final Map<String, ResponseCachePolicy> _responseCachePolicies =
+		new ConcurrentHashMap<>();
+
 }
\ No newline at end of file
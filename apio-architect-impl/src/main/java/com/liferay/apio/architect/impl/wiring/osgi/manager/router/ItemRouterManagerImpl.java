@@ -19,6 +19,14 @@ import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerC
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.liferay.apio.architect.impl.bulkhead.BulkheadItemRoutes;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadPolicy;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadRegistry;
+import com.liferay.apio.architect.impl.cache.InvalidatingItemRoutes;
+import com.liferay.apio.architect.impl.changefeed.ChangeFeed;
+import com.liferay.apio.architect.impl.changefeed.NotifyingItemRoutes;
+import com.liferay.apio.architect.impl.invalidation.InvalidationBus;
+import com.liferay.apio.architect.impl.invalidation.InvalidationEvent;
 import com.liferay.apio.architect.impl.routes.ItemRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
@@ -27,13 +35,19 @@ import com.liferay.apio.architect.impl.wiring.osgi.manager.uri.mapper.PathIdenti
 import com.liferay.apio.architect.router.ItemRouter;
 import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes.Builder;
+import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper.Emitter;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -62,6 +76,34 @@ public class ItemRouterManagerImpl
 		return INSTANCE.getItemRoutesOptional(name, this::_computeItemRoutes);
 	}
 
+	@Override
+	protected void emit(
+		ServiceReference<ItemRouter> serviceReference,
+		Emitter<String> emitter) {
+
+		super.emit(
+			serviceReference,
+			className -> {
+				Optional<BulkheadPolicy> optional =
+					BulkheadPolicy.fromProperties(
+						serviceReference::getProperty);
+
+				if (optional.isPresent()) {
+					_bulkheadPolicies.put(className, optional.get());
+				}
+				else {
+					_bulkheadPolicies.remove(className);
+				}
+
+				emitter.emit(className);
+			});
+	}
+
+	@Override
+	protected void warmUp() {
+		getItemRoutes();
+	}
+
 	private void _computeItemRoutes() {
 		forEachService(
 			(className, itemRouter) -> {
@@ -112,10 +154,56 @@ public class ItemRouterManagerImpl
 					return;
 				}
 
-				INSTANCE.putItemRoutes(name, itemRoutes);
+				INSTANCE.putItemRoutes(
+					name,
+					new InvalidatingItemRoutes<>(
+						new NotifyingItemRoutes<>(
+							_getBulkheadItemRoutes(className, name, itemRoutes),
+							name, _changeFeed::getChangeEventConsumer),
+						httpServletRequest -> _getInvalidationConsumer(
+							httpServletRequest, name)));
 			});
 	}
 
+	private ItemRoutes<Object, Object> _getBulkheadItemRoutes(
+		String className, String name, ItemRoutes<Object, Object> itemRoutes) {
+
+		String key = name + "/{id}";
+
+		BulkheadPolicy bulkheadPolicy = _bulkheadPolicies.get(className);
+
+		if (bulkheadPolicy == null) {
+			_bulkheadRegistry.remove(key);
+
+			return itemRoutes;
+		}
+
+		return new BulkheadItemRoutes<>(
+			itemRoutes, _bulkheadRegistry.getBulkhead(key, bulkheadPolicy));
+	}
+
+	private Consumer<Object> _getInvalidationConsumer(
+		HttpServletRequest httpServletRequest, String name) {
+
+		Consumer<InvalidationEvent> consumer =
+			_invalidationBus.getInvalidationEventConsumer(httpServletRequest);
+
+		return identifier -> consumer.accept(
+			new InvalidationEvent(name, identifier));
+	}
+
+	private final Map<String, BulkheadPolicy> _bulkheadPolicies =
+		new ConcurrentHashMap<>();
+
+	@Reference
+	private BulkheadRegistry _bulkheadRegistry;
+
+	@Reference
+	private ChangeFeed _changeFeed;
+
+	@Reference
+	private InvalidationBus _invalidationBus;
+
 	private Logger _logger = getLogger(getClass());
 
 	@Reference
@@ -24,6 +24,14 @@ import static com.liferay.apio.architect.impl.wiring.osgi.manager.util.ManagerUt
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadNestedCollectionRoutes;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadPolicy;
+import com.liferay.apio.architect.impl.bulkhead.BulkheadRegistry;
+import com.liferay.apio.architect.impl.cache.InvalidatingNestedCollectionRoutes;
+import com.liferay.apio.architect.impl.changefeed.ChangeFeed;
+import com.liferay.apio.architect.impl.changefeed.NotifyingNestedCollectionRoutes;
+import com.liferay.apio.architect.impl.invalidation.InvalidationBus;
+import com.liferay.apio.architect.impl.invalidation.InvalidationEvent;
 import com.liferay.apio.architect.impl.routes.NestedCollectionRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
@@ -42,6 +50,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
@@ -109,10 +118,28 @@ public class NestedCollectionRouterManagerImpl
 			__ -> _logger.warn(
 				"Unable to get generic information from {}",
 				nestedCollectionRouter.getClass()),
-			emitter::emit
+			key -> {
+				Optional<BulkheadPolicy> optional =
+					BulkheadPolicy.fromProperties(
+						serviceReference::getProperty);
+
+				if (optional.isPresent()) {
+					_bulkheadPolicies.put(key, optional.get());
+				}
+				else {
+					_bulkheadPolicies.remove(key);
+				}
+
+				emitter.emit(key);
+			}
 		);
 	}
 
+	@Override
+	protected void warmUp() {
+		getNestedCollectionRoutes();
+	}
+
 	private void _computeNestedCollectionRoutes() {
 		forEachService(
 			(key, nestedCollectionRouter) -> {
@@ -212,10 +239,55 @@ public class NestedCollectionRouterManagerImpl
 				}
 
 				INSTANCE.putNestedCollectionRoutes(
-					name + "-" + nestedName, nestedCollectionRoutes);
+					name + "-" + nestedName,
+					new InvalidatingNestedCollectionRoutes<>(
+						new NotifyingNestedCollectionRoutes<>(
+							_getBulkheadNestedCollectionRoutes(
+								key, name, nestedName, nestedCollectionRoutes),
+							name, representor::getIdentifier,
+							_changeFeed::record),
+						(httpServletRequest, parentIdentifier) ->
+							_invalidationBus.publish(
+								httpServletRequest,
+								new InvalidationEvent(
+									nestedName, null, name,
+									parentIdentifier))));
 			});
 	}
 
+	private NestedCollectionRoutes<Object, Object, Object>
+		_getBulkheadNestedCollectionRoutes(
+			String key, String name, String nestedName,
+			NestedCollectionRoutes<Object, Object, Object>
+				nestedCollectionRoutes) {
+
+		String bulkheadKey = name + "/{id}/" + nestedName;
+
+		BulkheadPolicy bulkheadPolicy = _bulkheadPolicies.get(key);
+
+		if (bulkheadPolicy == null) {
+			_bulkheadRegistry.remove(bulkheadKey);
+
+			return nestedCollectionRoutes;
+		}
+
+		return new BulkheadNestedCollectionRoutes<>(
+			nestedCollectionRoutes,
+			_bulkheadRegistry.getBulkhead(bulkheadKey, bulkheadPolicy));
+	}
+
+	private final Map<String, BulkheadPolicy> _bulkheadPolicies =
+		new ConcurrentHashMap<>();
+
+	@Reference
+	private BulkheadRegistry _bulkheadRegistry;
+
+	@Reference
+	private ChangeFeed _changeFeed;
+
+	@Reference
+	private InvalidationBus _invalidationBus;
+
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.util;
+
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Provides utility functions for reading typed values from an OSGi component's
+ * configuration properties.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class PropertiesUtil {
+
+	/**
+	 * Returns the {@code boolean} value of a property, or the default value if
+	 * the property is missing.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value to return if the property is missing
+	 * @return the property's value, if present; the default value otherwise
+	 */
+	public static boolean getBoolean(
+		Map<String, Object> properties, String key, boolean defaultValue) {
+
+		return _getValue(properties, key, Boolean::parseBoolean, defaultValue);
+	}
+
+	/**
+	 * Returns the {@code int} value of a property, or the default value if the
+	 * property is missing or isn't a valid number.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value to return if the property is missing
+	 * @return the property's value, if valid; the default value otherwise
+	 */
+	public static int getInteger(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		return _getValue(properties, key, Integer::parseInt, defaultValue);
+	}
+
+	/**
+	 * Returns the {@code long} value of a property, or the default value if the
+	 * property is missing or isn't a valid number.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value to return if the property is missing
+	 * @return the property's value, if valid; the default value otherwise
+	 */
+	public static long getLong(
+		Map<String, Object> properties, String key, long defaultValue) {
+
+		return _getValue(properties, key, Long::parseLong, defaultValue);
+	}
+
+	/**
+	 * Returns the {@code String} value of a property, or the default value if
+	 * the property is missing.
+	 *
+	 * @param  properties the component's properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value to return if the property is missing
+	 * @return the property's value, if present; the default value otherwise
+	 */
+	public static String getString(
+		Map<String, Object> properties, String key, String defaultValue) {
+
+		return _getValue(properties, key, String::trim, defaultValue);
+	}
+
+	private static <T> T _getValue(
+		Map<String, Object> properties, String key,
+		ThrowableFunction<String, T> throwableFunction, T defaultValue) {
+
+		return Optional.ofNullable(
+			properties
+		).map(
+			map -> map.get(key)
+		).map(
+			String::valueOf
+		).flatMap(
+			value -> Try.fromFallible(
+				() -> throwableFunction.apply(value)
+			).toOptional()
+		).orElse(
+			defaultValue
+		);
+	}
+
+	private PropertiesUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
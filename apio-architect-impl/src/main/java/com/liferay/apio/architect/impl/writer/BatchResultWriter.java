@@ -16,6 +16,9 @@ package com.liferay.apio.architect.impl.writer;
 
 import static com.liferay.apio.architect.impl.url.URLCreator.createSingleURL;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.batch.BatchItemFailure;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.impl.alias.PathFunction;
 import com.liferay.apio.architect.impl.message.json.BatchResultMessageMapper;
@@ -24,6 +27,8 @@ import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.url.ApplicationURL;
 import com.liferay.apio.architect.representor.Representor;
 
+import java.io.IOException;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -47,51 +52,35 @@ public class BatchResultWriter<T> {
 	 *         otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Representor<Object>> optional = _representorFunction.apply(
-			_batchResult.resourceName);
-
-		if (!optional.isPresent()) {
-			return Optional.empty();
-		}
-
-		Representor<Object> representor = optional.get();
-
-		Collection<T> identifiers = _batchResult.getIdentifiers();
-
-		_batchResultMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, identifiers.size());
-
-		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
-
-		List<String> types = representor.getTypes();
-
-		for (T identifier : identifiers) {
-			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
-
-			_pathFunction.apply(
-				_batchResult.resourceName, identifier
-			).ifPresent(
-				path -> {
-					_batchResultMessageMapper.onStartItem(
-						_jsonObjectBuilder, itemJsonObjectBuilder);
+		Optional<JSONObjectBuilder> optional = _writeJSONObjectBuilder();
 
-					String url = createSingleURL(applicationURL, path);
-
-					_batchResultMessageMapper.mapItemSelfURL(
-						_jsonObjectBuilder, itemJsonObjectBuilder, url);
+		return optional.map(JSONObjectBuilder::build);
+	}
 
-					_batchResultMessageMapper.mapItemTypes(
-						_jsonObjectBuilder, itemJsonObjectBuilder, types);
+	/**
+	 * Writes the handled batch result to a {@code JsonGenerator}. Unlike
+	 * {@link #write()}, the batch result isn't serialized to a string first,
+	 * so it can be generated directly in a binary JSON format. If no {@code
+	 * Representor} exists for the resource, nothing is written.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @return {@code true} if the batch result was written; {@code false}
+	 *         otherwise
+	 * @throws IOException if the batch result couldn't be written
+	 * @review
+	 */
+	public boolean write(JsonGenerator jsonGenerator) throws IOException {
+		Optional<JSONObjectBuilder> optional = _writeJSONObjectBuilder();
 
-					_batchResultMessageMapper.onFinishItem(
-						_jsonObjectBuilder, itemJsonObjectBuilder);
-				}
-			);
+		if (!optional.isPresent()) {
+			return false;
 		}
 
-		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
+
+		jsonObjectBuilder.write(jsonGenerator);
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return true;
 	}
 
 	/**
@@ -204,6 +193,67 @@ public class BatchResultWriter<T> {
 		_jsonObjectBuilder = new JSONObjectBuilder();
 	}
 
+	private Optional<JSONObjectBuilder> _writeJSONObjectBuilder() {
+		Optional<Representor<Object>> optional = _representorFunction.apply(
+			_batchResult.resourceName);
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Representor<Object> representor = optional.get();
+
+		Collection<T> identifiers = _batchResult.getIdentifiers();
+
+		_batchResultMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, identifiers.size());
+
+		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
+
+		List<String> types = representor.getTypes();
+
+		for (T identifier : identifiers) {
+			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+			_pathFunction.apply(
+				_batchResult.resourceName, identifier
+			).ifPresent(
+				path -> {
+					_batchResultMessageMapper.onStartItem(
+						_jsonObjectBuilder, itemJsonObjectBuilder);
+
+					String url = createSingleURL(applicationURL, path);
+
+					_batchResultMessageMapper.mapItemSelfURL(
+						_jsonObjectBuilder, itemJsonObjectBuilder, url);
+
+					_batchResultMessageMapper.mapItemTypes(
+						_jsonObjectBuilder, itemJsonObjectBuilder, types);
+
+					_batchResultMessageMapper.onFinishItem(
+						_jsonObjectBuilder, itemJsonObjectBuilder);
+				}
+			);
+		}
+
+		for (BatchItemFailure<T> batchItemFailure :
+				_batchResult.getBatchItemFailures()) {
+
+			_pathFunction.apply(
+				_batchResult.resourceName, batchItemFailure.getIdentifier()
+			).map(
+				path -> createSingleURL(applicationURL, path)
+			).ifPresent(
+				url -> _batchResultMessageMapper.mapFailedItem(
+					_jsonObjectBuilder, url, batchItemFailure)
+			);
+		}
+
+		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private final BatchResult<T> _batchResult;
 	private final BatchResultMessageMapper<T> _batchResultMessageMapper;
 	private final JSONObjectBuilder _jsonObjectBuilder;
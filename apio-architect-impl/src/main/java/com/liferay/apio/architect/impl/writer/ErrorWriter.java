@@ -14,10 +14,14 @@
 
 package com.liferay.apio.architect.impl.writer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.impl.message.json.ErrorMessageMapper;
 import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
 
+import java.io.IOException;
+
 import java.util.Optional;
 
 /**
@@ -41,6 +45,36 @@ public final class ErrorWriter {
 	public static String writeError(
 		ErrorMessageMapper errorMessageMapper, APIError apiError) {
 
+		JSONObjectBuilder jsonObjectBuilder = _writeJSONObjectBuilder(
+			errorMessageMapper, apiError);
+
+		return jsonObjectBuilder.build();
+	}
+
+	/**
+	 * Writes an {@link APIError} to a {@code JsonGenerator}, without
+	 * serializing it to a string first.
+	 *
+	 * @param  errorMessageMapper the {@link ErrorMessageMapper}
+	 * @param  apiError the API error
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the API error couldn't be written
+	 * @review
+	 */
+	public static void writeError(
+			ErrorMessageMapper errorMessageMapper, APIError apiError,
+			JsonGenerator jsonGenerator)
+		throws IOException {
+
+		JSONObjectBuilder jsonObjectBuilder = _writeJSONObjectBuilder(
+			errorMessageMapper, apiError);
+
+		jsonObjectBuilder.write(jsonGenerator);
+	}
+
+	private static JSONObjectBuilder _writeJSONObjectBuilder(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
 		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
 
 		Optional<String> optional = apiError.getDescription();
@@ -55,7 +89,7 @@ public final class ErrorWriter {
 		errorMessageMapper.mapType(jsonObjectBuilder, apiError.getType());
 		errorMessageMapper.onFinish(jsonObjectBuilder, apiError);
 
-		return jsonObjectBuilder.build();
+		return jsonObjectBuilder;
 	}
 
 	private ErrorWriter() {
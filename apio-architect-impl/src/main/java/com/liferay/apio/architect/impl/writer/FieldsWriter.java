@@ -28,11 +28,13 @@ import com.liferay.apio.architect.consumer.TriConsumer;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.impl.alias.BaseRepresentorFunction;
 import com.liferay.apio.architect.impl.alias.SingleModelFunction;
+import com.liferay.apio.architect.impl.embedding.EmbeddingBudget;
 import com.liferay.apio.architect.impl.list.FunctionalList;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.response.control.Fields;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
 import com.liferay.apio.architect.impl.unsafe.Unsafe;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
@@ -40,16 +42,20 @@ import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.BadRequestException;
+
 import org.slf4j.Logger;
 
 /**
@@ -410,6 +416,37 @@ public class FieldsWriter<T> {
 		FunctionalList<String> parentEmbeddedPathElements,
 		BiConsumer<String, FunctionalList<String>> biConsumer) {
 
+		writeRelatedCollection(
+			relatedCollection, resourceName, parentEmbeddedPathElements,
+			(nestedName, identifier) -> Optional.empty(), biConsumer,
+			(url, page, embeddedPathElements) -> biConsumer.accept(
+				url, embeddedPathElements));
+	}
+
+	/**
+	 * Writes a related collection. If the collection is embedded and the page
+	 * function returns its first page, the page is written with the {@code
+	 * TriConsumer}. Otherwise, the collection's URL is written with the {@code
+	 * BiConsumer}.
+	 *
+	 * @param relatedCollection the related collection
+	 * @param parentEmbeddedPathElements the list of embedded path elements
+	 * @param pageFunction the function that returns the first page of a nested
+	 *        collection, from its name and the parent model's identifier
+	 * @param biConsumer the {@code BiConsumer} that writes the related
+	 *        collection URL
+	 * @param embeddedTriConsumer the {@code TriConsumer} that writes the
+	 *        embedded related collection's URL and first page
+	 * @review
+	 */
+	public <U extends Identifier> void writeRelatedCollection(
+		RelatedCollection<U> relatedCollection, String resourceName,
+		FunctionalList<String> parentEmbeddedPathElements,
+		BiFunction<String, Object, Optional<Page>> pageFunction,
+		BiConsumer<String, FunctionalList<String>> biConsumer,
+		TriConsumer<String, Page, FunctionalList<String>>
+			embeddedTriConsumer) {
+
 		Predicate<String> fieldsPredicate = getFieldsPredicate();
 
 		String key = relatedCollection.getKey();
@@ -425,7 +462,19 @@ public class FieldsWriter<T> {
 			parentEmbeddedPathElements, key);
 
 		_tryToWriteField(
-			key, __ -> biConsumer.accept(url, embeddedPathElements));
+			key,
+			__ -> {
+				Optional<Page> optional = _getEmbeddedPageOptional(
+					resourceName, embeddedPathElements, pageFunction);
+
+				if (optional.isPresent()) {
+					embeddedTriConsumer.accept(
+						url, optional.get(), embeddedPathElements);
+				}
+				else {
+					biConsumer.accept(url, embeddedPathElements);
+				}
+			});
 	}
 
 	/**
@@ -442,6 +491,38 @@ public class FieldsWriter<T> {
 		Function<String, Optional<String>> nameFunction,
 		BiConsumer<String, FunctionalList<String>> biConsumer) {
 
+		writeRelatedCollections(
+			nameFunction, (nestedName, identifier) -> Optional.empty(),
+			biConsumer,
+			(url, page, embeddedPathElements) -> biConsumer.accept(
+				url, embeddedPathElements));
+	}
+
+	/**
+	 * Writes the related collections contained in the {@link Representor} this
+	 * writer handles. Embedded related collections whose first page is
+	 * returned by the page function are written with the {@code TriConsumer};
+	 * the rest are written as URLs with the {@code BiConsumer}. Therefore,
+	 * each {@code javax.ws.rs.ext.MessageBodyWriter} can write the related
+	 * collections differently.
+	 *
+	 * @param nameFunction the function that gets a class's {@code
+	 *        com.liferay.apio.architect.resource.CollectionResource} name
+	 * @param pageFunction the function that returns the first page of a nested
+	 *        collection, from its name and the parent model's identifier
+	 * @param biConsumer the consumer that writes a linked related collection's
+	 *        URL
+	 * @param embeddedTriConsumer the consumer that writes an embedded related
+	 *        collection's URL and first page
+	 * @review
+	 */
+	public void writeRelatedCollections(
+		Function<String, Optional<String>> nameFunction,
+		BiFunction<String, Object, Optional<Page>> pageFunction,
+		BiConsumer<String, FunctionalList<String>> biConsumer,
+		TriConsumer<String, Page, FunctionalList<String>>
+			embeddedTriConsumer) {
+
 		if (_baseRepresentor.isNested()) {
 			return;
 		}
@@ -462,7 +543,7 @@ public class FieldsWriter<T> {
 				optional.ifPresent(
 					name -> writeRelatedCollection(
 						relatedCollection, name, _embeddedPathElements,
-						biConsumer));
+						pageFunction, biConsumer, embeddedTriConsumer));
 			});
 	}
 
@@ -500,18 +581,11 @@ public class FieldsWriter<T> {
 					return;
 				}
 
-				Predicate<String> embedded = _requestInfo.getEmbedded();
-
 				SingleModel<U> singleModel = singleModelOptional.get();
 
-				Stream<String> stream = Stream.concat(
-					Stream.of(embeddedPathElements.head()),
-					embeddedPathElements.tailStream());
+				if (_isEmbedded(embeddedPathElements) &&
+					_tryEmbed(embeddedPathElements, 1)) {
 
-				String embeddedPath = String.join(
-					".", stream.collect(Collectors.toList()));
-
-				if (embedded.test(embeddedPath)) {
 					embeddedURLBiConsumer.accept(url, embeddedPathElements);
 					modelBiConsumer.accept(singleModel, embeddedPathElements);
 				}
@@ -657,10 +731,68 @@ public class FieldsWriter<T> {
 		consumer.accept(_baseRepresentor.getTypes());
 	}
 
+	private boolean _canFetch(FunctionalList<String> embeddedPathElements) {
+		EmbeddingBudget embeddingBudget = _requestInfo.getEmbeddingBudget();
+
+		return embeddingBudget.canFetch(_getEmbeddedPath(embeddedPathElements));
+	}
+
+	private Optional<Page> _getEmbeddedPageOptional(
+		String resourceName, FunctionalList<String> embeddedPathElements,
+		BiFunction<String, Object, Optional<Page>> pageFunction) {
+
+		if (_baseRepresentor.isNested() ||
+			!_isEmbedded(embeddedPathElements) ||
+			!_canFetch(embeddedPathElements)) {
+
+			return Optional.empty();
+		}
+
+		Representor<T> representor = (Representor<T>)_baseRepresentor;
+
+		Optional<Page> optional = pageFunction.apply(
+			resourceName, representor.getIdentifier(_singleModel.getModel()));
+
+		return optional.filter(
+			page -> {
+				Collection<?> items = page.getItems();
+
+				return _tryEmbed(embeddedPathElements, items.size());
+			});
+	}
+
+	private String _getEmbeddedPath(
+		FunctionalList<String> embeddedPathElements) {
+
+		Stream<String> stream = Stream.concat(
+			Stream.of(embeddedPathElements.head()),
+			embeddedPathElements.tailStream());
+
+		return String.join(".", stream.collect(Collectors.toList()));
+	}
+
+	private boolean _isEmbedded(FunctionalList<String> embeddedPathElements) {
+		Predicate<String> embedded = _requestInfo.getEmbedded();
+
+		return embedded.test(_getEmbeddedPath(embeddedPathElements));
+	}
+
+	private boolean _tryEmbed(
+		FunctionalList<String> embeddedPathElements, int items) {
+
+		EmbeddingBudget embeddingBudget = _requestInfo.getEmbeddingBudget();
+
+		return embeddingBudget.tryEmbed(
+			_getEmbeddedPath(embeddedPathElements), items);
+	}
+
 	private void _tryToWriteField(String key, Consumer<String> consumer) {
 		try {
 			consumer.accept(key);
 		}
+		catch (BadRequestException bre) {
+			throw bre;
+		}
 		catch (Exception e) {
 			if (_logger.isDebugEnabled()) {
 				_logger.debug("Unable to write field" + key, e);
@@ -14,21 +14,29 @@
 
 package com.liferay.apio.architect.impl.writer;
 
+import static com.liferay.apio.architect.impl.url.URLCreator.createCollectionItemsURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createCollectionURL;
+import static com.liferay.apio.architect.impl.url.URLCreator.createContextURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createNestedCollectionURL;
 import static com.liferay.apio.architect.impl.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.impl.writer.util.WriterUtil.getPathOptional;
+import static com.liferay.apio.architect.impl.writer.util.WriterUtil.getPaths;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.impl.alias.BaseRepresentorFunction;
+import com.liferay.apio.architect.impl.alias.NestedPagesFunction;
 import com.liferay.apio.architect.impl.alias.PathFunction;
 import com.liferay.apio.architect.impl.alias.RepresentorFunction;
 import com.liferay.apio.architect.impl.alias.ResourceNameFunction;
 import com.liferay.apio.architect.impl.alias.SingleModelFunction;
+import com.liferay.apio.architect.impl.embedding.EmbeddingBudget;
 import com.liferay.apio.architect.impl.list.FunctionalList;
 import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.impl.message.json.PageMessageMapper;
+import com.liferay.apio.architect.impl.pagination.ItemsPageImpl;
 import com.liferay.apio.architect.impl.pagination.PageType;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
@@ -38,9 +46,15 @@ import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -67,6 +81,7 @@ public class PageWriter<T> {
 	}
 
 	public PageWriter(Builder<T> builder) {
+		_nestedPagesFunction = builder._nestedPagesFunction;
 		_page = builder._page;
 		_pageMessageMapper = builder._pageMessageMapper;
 		_pathFunction = builder._pathFunction;
@@ -76,6 +91,7 @@ public class PageWriter<T> {
 		_singleModelFunction = builder._singleModelFunction;
 
 		_jsonObjectBuilder = new JSONObjectBuilder();
+		_nestedPages = new HashMap<>();
 	}
 
 	/**
@@ -90,42 +106,24 @@ public class PageWriter<T> {
 	 *         Optional#empty()} otherwise
 	 */
 	public String write() {
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
-
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
-
-		String url = _getCollectionURL();
-
-		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
+		JSONObjectBuilder jsonObjectBuilder = _writeJSONObjectBuilder();
 
-		String resourceName = _page.getResourceName();
-
-		items.forEach(
-			model -> _writeItem(
-				new SingleModelImpl<>(
-					model, resourceName, Collections.emptyList())));
-
-		List<Operation> operations = _page.getOperations();
-
-		_representorFunction.apply(
-			resourceName
-		).ifPresent(
-			_mapPageSemantics(_jsonObjectBuilder)
-		);
-
-		OperationWriter operationWriter = new OperationWriter(
-			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		operations.forEach(operationWriter::write);
+		return jsonObjectBuilder.build();
+	}
 
-		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+	/**
+	 * Writes the handled {@link Page} to a {@code JsonGenerator}. Unlike {@link
+	 * #write()}, the page isn't serialized to a string first, so it can be
+	 * generated directly in a binary JSON format.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the page couldn't be written
+	 * @review
+	 */
+	public void write(JsonGenerator jsonGenerator) throws IOException {
+		JSONObjectBuilder jsonObjectBuilder = _writeJSONObjectBuilder();
 
-		return _jsonObjectBuilder.build();
+		jsonObjectBuilder.write(jsonGenerator);
 	}
 
 	/**
@@ -159,6 +157,25 @@ public class PageWriter<T> {
 				return new PageWriter<>(Builder.this);
 			}
 
+			/**
+			 * Adds information to the builder about the function that gets
+			 * the first page of a nested collection for several parent
+			 * models. If this function isn't provided, embedded related
+			 * collections are written as links.
+			 *
+			 * @param  nestedPagesFunction the function that gets the first
+			 *         page of a nested collection
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep nestedPagesFunction(
+				NestedPagesFunction nestedPagesFunction) {
+
+				_nestedPagesFunction = nestedPagesFunction;
+
+				return this;
+			}
+
 		}
 
 		public class PageMessageMapperStep {
@@ -282,6 +299,8 @@ public class PageWriter<T> {
 
 		}
 
+		private NestedPagesFunction _nestedPagesFunction =
+			(name, nestedName, paths) -> Collections.emptyMap();
 		private Page<T> _page;
 		private PageMessageMapper<T> _pageMessageMapper;
 		private PathFunction _pathFunction;
@@ -293,6 +312,14 @@ public class PageWriter<T> {
 	}
 
 	private String _getCollectionURL() {
+		if (_page instanceof ItemsPageImpl) {
+			ItemsPageImpl<T> itemsPageImpl = (ItemsPageImpl<T>)_page;
+
+			return createCollectionItemsURL(
+				_requestInfo.getApplicationURL(), _page.getResourceName(),
+				itemsPageImpl.getIds());
+		}
+
 		Optional<Path> optional = _page.getPathOptional();
 
 		return optional.map(
@@ -304,6 +331,57 @@ public class PageWriter<T> {
 		);
 	}
 
+	private Optional<Page> _getNestedPageOptional(
+		String nestedName, Object identifier) {
+
+		Map<Object, Optional<Page>> pages = _nestedPages.computeIfAbsent(
+			nestedName, __ -> new HashMap<>());
+
+		if (!pages.containsKey(identifier)) {
+			_loadNestedPages(nestedName, identifier, pages);
+		}
+
+		return pages.getOrDefault(identifier, Optional.empty());
+	}
+
+	private void _loadNestedPages(
+		String nestedName, Object identifier,
+		Map<Object, Optional<Page>> pages) {
+
+		EmbeddingBudget embeddingBudget = _requestInfo.getEmbeddingBudget();
+
+		int remainingFetches = embeddingBudget.getRemainingFetches();
+
+		Map<Object, Path> paths = new LinkedHashMap<>();
+
+		Map<Object, Path> pagePaths = getPaths(
+			_page.getResourceName(), _page.getItems(), _pathFunction,
+			_representorFunction);
+
+		pagePaths.forEach(
+			(pathIdentifier, path) -> {
+				if ((paths.size() < remainingFetches) &&
+					(!paths.isEmpty() || pathIdentifier.equals(identifier)) &&
+					!pages.containsKey(pathIdentifier)) {
+
+					paths.put(pathIdentifier, path);
+				}
+			});
+
+		if (paths.isEmpty()) {
+			return;
+		}
+
+		Map<Object, Page> nestedPages = _nestedPagesFunction.apply(
+			_page.getResourceName(), nestedName, paths);
+
+		for (Object pathIdentifier : paths.keySet()) {
+			pages.put(
+				pathIdentifier,
+				Optional.ofNullable(nestedPages.get(pathIdentifier)));
+		}
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -366,6 +444,48 @@ public class PageWriter<T> {
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
 	}
 
+	private void _writeEmbeddedCollection(
+		String url, Page page, JSONObjectBuilder itemJsonObjectBuilder,
+		FunctionalList<String> embeddedPathElements) {
+
+		JSONObjectBuilder nestedPageJSONObjectBuilder = new JSONObjectBuilder();
+
+		_pageMessageMapper.mapCollectionURL(nestedPageJSONObjectBuilder, url);
+
+		_pageMessageMapper.mapItemTotalCount(
+			nestedPageJSONObjectBuilder, page.getTotalCount());
+
+		String resourceName = page.getResourceName();
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(nestedPageJSONObjectBuilder)
+		);
+
+		Collection<?> items = page.getItems();
+
+		items.forEach(
+			model -> {
+				SingleModel<?> singleModel = new SingleModelImpl<>(
+					model, resourceName, Collections.emptyList());
+
+				_writeItem(
+					nestedPageJSONObjectBuilder, singleModel,
+					embeddedPathElements, _representorFunction::apply,
+					singleModel);
+			});
+
+		String key = embeddedPathElements.lastOptional(
+		).orElseGet(
+			embeddedPathElements::head
+		);
+
+		_pageMessageMapper.onFinishNestedCollection(
+			itemJsonObjectBuilder, nestedPageJSONObjectBuilder, key,
+			new ArrayList<>(items), embeddedPathElements);
+	}
+
 	private <U> void _writeItem(
 		JSONObjectBuilder collectionJSONObjectBuilder,
 		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
@@ -394,6 +514,16 @@ public class PageWriter<T> {
 
 		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
 
+		baseRepresentorFunction.apply(
+			singleModel.getResourceName()
+		).filter(
+			baseRepresentor -> !baseRepresentor.isNested()
+		).ifPresent(
+			__ -> fieldsWriter.writeSingleURL(
+				url -> _pageMessageMapper.mapItemSelfURL(
+					collectionJSONObjectBuilder, itemJsonObjectBuilder, url))
+		);
+
 		Optional<FieldsWriter<U>> relatedModelsFieldsWriterOptional =
 			getFieldsWriter(
 				singleModel, null, _requestInfo, baseRepresentorFunction,
@@ -480,11 +610,13 @@ public class PageWriter<T> {
 					embeddedPathElements, resourceURL));
 
 		fieldsWriter.writeRelatedCollections(
-			_resourceNameFunction,
+			_resourceNameFunction, this::_getNestedPageOptional,
 			(url, embeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
 					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, url));
+					embeddedPathElements, url),
+			(url, page, embeddedPathElements) -> _writeEmbeddedCollection(
+				url, page, itemJsonObjectBuilder, embeddedPathElements));
 
 		fieldsWriter.writeNestedResources(
 			_representorFunction::apply, singleModel, null,
@@ -649,6 +781,49 @@ public class PageWriter<T> {
 				rootSingleModel, embeddedPathElements));
 	}
 
+	private JSONObjectBuilder _writeJSONObjectBuilder() {
+		_pageMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, _page.getTotalCount());
+
+		Collection<T> items = _page.getItems();
+
+		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
+
+		_writePageURLs();
+
+		String url = _getCollectionURL();
+
+		_pageMessageMapper.mapCollectionURL(_jsonObjectBuilder, url);
+
+		String resourceName = _page.getResourceName();
+
+		items.forEach(
+			model -> _writeItem(
+				new SingleModelImpl<>(
+					model, resourceName, Collections.emptyList())));
+
+		List<Operation> operations = _page.getOperations();
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(_jsonObjectBuilder)
+		);
+
+		OperationWriter operationWriter = new OperationWriter(
+			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		operations.forEach(operationWriter::write);
+
+		_pageMessageMapper.mapContextURL(
+			_jsonObjectBuilder,
+			createContextURL(_requestInfo.getApplicationURL(), resourceName));
+
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+
+		return _jsonObjectBuilder;
+	}
+
 	private <U> void _writeNestedList(
 		String fieldName, List<U> nestedList,
 		JSONObjectBuilder jsonObjectBuilder,
@@ -698,6 +873,10 @@ public class PageWriter<T> {
 	}
 
 	private void _writePageURLs() {
+		if (_page instanceof ItemsPageImpl) {
+			return;
+		}
+
 		String url = _getCollectionURL();
 
 		_pageMessageMapper.mapCurrentPageURL(
@@ -726,6 +905,8 @@ public class PageWriter<T> {
 	}
 
 	private final JSONObjectBuilder _jsonObjectBuilder;
+	private final Map<String, Map<Object, Optional<Page>>> _nestedPages;
+	private final NestedPagesFunction _nestedPagesFunction;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
 	private final PathFunction _pathFunction;
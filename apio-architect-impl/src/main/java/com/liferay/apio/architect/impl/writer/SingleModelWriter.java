@@ -14,13 +14,18 @@
 
 package com.liferay.apio.architect.impl.writer;
 
+import static com.liferay.apio.architect.impl.url.URLCreator.createContextURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createFormURL;
 import static com.liferay.apio.architect.impl.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.impl.writer.util.WriterUtil.getPathOptional;
+import static com.liferay.apio.architect.impl.writer.util.WriterUtil.getPaths;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.impl.alias.BaseRepresentorFunction;
+import com.liferay.apio.architect.impl.alias.NestedPagesFunction;
 import com.liferay.apio.architect.impl.alias.PathFunction;
 import com.liferay.apio.architect.impl.alias.RepresentorFunction;
 import com.liferay.apio.architect.impl.alias.ResourceNameFunction;
@@ -32,12 +37,19 @@ import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
 import com.liferay.apio.architect.impl.unsafe.Unsafe;
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -66,6 +78,7 @@ public class SingleModelWriter<T> {
 	}
 
 	public SingleModelWriter(Builder<T> builder) {
+		_nestedPagesFunction = builder._nestedPagesFunction;
 		_pathFunction = builder._pathFunction;
 		_representorFunction = builder._representorFunction;
 		_requestInfo = builder._requestInfo;
@@ -75,6 +88,7 @@ public class SingleModelWriter<T> {
 		_singleModelFunction = builder._singleModelFunction;
 
 		_jsonObjectBuilder = new JSONObjectBuilder();
+		_nestedPages = new HashMap<>();
 	}
 
 	/**
@@ -89,69 +103,34 @@ public class SingleModelWriter<T> {
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
+		Optional<JSONObjectBuilder> optional = _writeJSONObjectBuilder();
 
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
+		return optional.map(JSONObjectBuilder::build);
+	}
 
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
+	/**
+	 * Writes the handled {@link SingleModel} to a {@code JsonGenerator}, as a
+	 * compact JSON object. Unlike {@link #write()}, the model isn't serialized
+	 * to a string first. If no {@code Representor} or {@code Path} exists for
+	 * the model, nothing is written.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @return {@code true} if the model was written; {@code false} otherwise
+	 * @throws IOException if the model couldn't be written
+	 * @review
+	 */
+	public boolean write(JsonGenerator jsonGenerator) throws IOException {
+		Optional<JSONObjectBuilder> optional = _writeJSONObjectBuilder();
 
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
+		if (!optional.isPresent()) {
+			return false;
 		}
 
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
-
-		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
 
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		List<Operation> operations = _singleModel.getOperations();
-
-		OperationWriter operationWriter = new OperationWriter(
-			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		operations.forEach(operationWriter::write);
-
-		fieldsWriter.writeRelatedModels(
-			singleModel -> getPathOptional(
-				singleModel, _pathFunction, _representorFunction::apply),
-			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
-				singleModel, _jsonObjectBuilder, embeddedPathElements),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+		jsonObjectBuilder.write(jsonGenerator);
 
-		fieldsWriter.writeRelatedCollections(
-			_resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
-
-		fieldsWriter.writeNestedResources(
-			_representorFunction::apply, _singleModel, null,
-			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
-				-> writeEmbeddedModelFields(
-				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
-				nestedRepresentorFunction));
-
-		fieldsWriter.writeNestedLists(
-			_representorFunction::apply, _singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, _jsonObjectBuilder, null));
-
-		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
-
-		return Optional.of(_jsonObjectBuilder.build());
+		return true;
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -296,6 +275,25 @@ public class SingleModelWriter<T> {
 				return new SingleModelWriter<>(Builder.this);
 			}
 
+			/**
+			 * Adds information to the builder about the function that gets
+			 * the first page of a nested collection for several parent
+			 * models. If this function isn't provided, embedded related
+			 * collections are written as links.
+			 *
+			 * @param  nestedPagesFunction the function that gets the first
+			 *         page of a nested collection
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep nestedPagesFunction(
+				NestedPagesFunction nestedPagesFunction) {
+
+				_nestedPagesFunction = nestedPagesFunction;
+
+				return this;
+			}
+
 		}
 
 		public class PathFunctionStep {
@@ -419,6 +417,8 @@ public class SingleModelWriter<T> {
 
 		}
 
+		private NestedPagesFunction _nestedPagesFunction =
+			(name, nestedName, paths) -> Collections.emptyMap();
 		private PathFunction _pathFunction;
 		private RepresentorFunction _representorFunction;
 		private RequestInfo _requestInfo;
@@ -429,6 +429,21 @@ public class SingleModelWriter<T> {
 
 	}
 
+	private Optional<Page> _getNestedPageOptional(
+		String nestedName, Object identifier) {
+
+		Map<Object, Page> pages = _nestedPages.computeIfAbsent(
+			nestedName,
+			__ -> _nestedPagesFunction.apply(
+				_singleModel.getResourceName(), nestedName,
+				getPaths(
+					_singleModel.getResourceName(),
+					Collections.singletonList(_singleModel.getModel()),
+					_pathFunction, _representorFunction)));
+
+		return Optional.ofNullable(pages.get(identifier));
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -555,6 +570,43 @@ public class SingleModelWriter<T> {
 				jsonObjectBuilder, embeddedPathElements, field, value));
 	}
 
+	private void _writeEmbeddedCollection(
+		String url, Page page, FunctionalList<String> embeddedPathElements) {
+
+		JSONObjectBuilder pageJSONObjectBuilder = new JSONObjectBuilder();
+
+		_singleModelMessageMapper.mapSelfURL(pageJSONObjectBuilder, url);
+
+		_singleModelMessageMapper.mapNestedPageItemTotalCount(
+			pageJSONObjectBuilder, page.getTotalCount());
+
+		String resourceName = page.getResourceName();
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(pageJSONObjectBuilder)
+		);
+
+		Collection<?> items = page.getItems();
+
+		items.forEach(
+			model -> _writeItem(
+				pageJSONObjectBuilder,
+				new SingleModelImpl<>(
+					model, resourceName, Collections.emptyList()),
+				embeddedPathElements, _representorFunction::apply));
+
+		String key = embeddedPathElements.lastOptional(
+		).orElseGet(
+			embeddedPathElements::head
+		);
+
+		_singleModelMessageMapper.onFinishNestedCollection(
+			_jsonObjectBuilder, pageJSONObjectBuilder, key,
+			new ArrayList<>(items), embeddedPathElements);
+	}
+
 	private <U> void _writeItem(
 		JSONObjectBuilder collectionJSONObjectBuilder,
 		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
@@ -582,6 +634,16 @@ public class SingleModelWriter<T> {
 
 		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
 
+		baseRepresentorFunction.apply(
+			singleModel.getResourceName()
+		).filter(
+			baseRepresentor -> !baseRepresentor.isNested()
+		).ifPresent(
+			__ -> fieldsWriter.writeSingleURL(
+				url -> _singleModelMessageMapper.mapSelfURL(
+					itemJsonObjectBuilder, url))
+		);
+
 		Optional<FieldsWriter<U>> relatedModelsFieldsWriterOptional =
 			getFieldsWriter(
 				singleModel, null, _requestInfo, baseRepresentorFunction,
@@ -675,6 +737,79 @@ public class SingleModelWriter<T> {
 				embeddedPathElements));
 	}
 
+	private Optional<JSONObjectBuilder> _writeJSONObjectBuilder() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		List<Operation> operations = _singleModel.getOperations();
+
+		OperationWriter operationWriter = new OperationWriter(
+			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		operations.forEach(operationWriter::write);
+
+		fieldsWriter.writeRelatedModels(
+			singleModel -> getPathOptional(
+				singleModel, _pathFunction, _representorFunction::apply),
+			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
+				singleModel, _jsonObjectBuilder, embeddedPathElements),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_resourceNameFunction, this::_getNestedPageOptional,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url),
+			this::_writeEmbeddedCollection);
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, _singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> writeEmbeddedModelFields(
+				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
+				nestedRepresentorFunction));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, _singleModel,
+			(nestedListFieldFunction, list) -> _writeNestedList(
+				nestedListFieldFunction, list, _jsonObjectBuilder, null));
+
+		_singleModelMessageMapper.mapContextURL(
+			_jsonObjectBuilder,
+			createContextURL(
+				_requestInfo.getApplicationURL(),
+				_singleModel.getResourceName()));
+
+		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private <U> void _writeNestedList(
 		NestedListFieldFunction nestedListFieldFunction, List<U> list,
 		JSONObjectBuilder jsonObjectBuilder,
@@ -748,6 +883,8 @@ public class SingleModelWriter<T> {
 	}
 
 	private final JSONObjectBuilder _jsonObjectBuilder;
+	private final Map<String, Map<Object, Page>> _nestedPages;
+	private final NestedPagesFunction _nestedPagesFunction;
 	private final PathFunction _pathFunction;
 	private final RepresentorFunction _representorFunction;
 	private final RequestInfo _requestInfo;
@@ -27,6 +27,9 @@ import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -141,6 +144,42 @@ public class WriterUtil {
 		);
 	}
 
+	/**
+	 * Returns the {@link Path} of each model, keyed by the model's identifier.
+	 * Models without a {@code Path} are left out.
+	 *
+	 * @param  resourceName the models' resource name
+	 * @param  models the models
+	 * @param  pathFunction the function that gets the {@code Path}
+	 * @param  representorFunction the function that gets the {@code
+	 *         Representor}
+	 * @return the models' paths, keyed by their identifiers
+	 */
+	public static <T> Map<Object, Path> getPaths(
+		String resourceName, Collection<T> models, PathFunction pathFunction,
+		RepresentorFunction representorFunction) {
+
+		Map<Object, Path> paths = new LinkedHashMap<>();
+
+		representorFunction.apply(
+			resourceName
+		).<Representor<T>>map(
+			Unsafe::unsafeCast
+		).ifPresent(
+			representor -> models.forEach(
+				model -> {
+					Object identifier = representor.getIdentifier(model);
+
+					Optional<Path> optional = pathFunction.apply(
+						resourceName, identifier);
+
+					optional.ifPresent(path -> paths.put(identifier, path));
+				})
+		);
+
+		return paths;
+	}
+
 	private WriterUtil() {
 		throw new UnsupportedOperationException();
 	}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.admission;
+
+import static com.liferay.apio.architect.impl.admission.RequestPriority.CRITICAL;
+import static com.liferay.apio.architect.impl.admission.RequestPriority.NORMAL;
+import static com.liferay.apio.architect.impl.admission.RequestPriority.SHEDDABLE;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LoadShedderTest {
+
+	@Before
+	public void setUp() {
+		_clock = new AtomicLong();
+
+		_loadShedder = new LoadShedder(
+			MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(500),
+			MILLISECONDS.toNanos(60000), 0, _clock::get);
+	}
+
+	@Test
+	public void testCriticalRequestsAreNeverShed() {
+		_overload(MILLISECONDS.toNanos(1000));
+
+		assertThat(_loadShedder.tryAdmit(CRITICAL), is(true));
+		assertThat(_loadShedder.tryAdmit(NORMAL), is(false));
+		assertThat(_loadShedder.tryAdmit(SHEDDABLE), is(false));
+	}
+
+	@Test
+	public void testDelayAboveTargetForLessThanIntervalAdmitsRequests() {
+		_serve(MILLISECONDS.toNanos(10), 5);
+
+		_advance(100);
+
+		_serve(MILLISECONDS.toNanos(400), 10);
+
+		assertThat(_loadShedder.tryAdmit(SHEDDABLE), is(true));
+	}
+
+	@Test
+	public void testInFlightLimitRejectsNonCriticalRequests() {
+		LoadShedder loadShedder = new LoadShedder(
+			MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(500),
+			MILLISECONDS.toNanos(60000), 1, _clock::get);
+
+		assertThat(loadShedder.tryAdmit(NORMAL), is(true));
+		assertThat(loadShedder.tryAdmit(NORMAL), is(false));
+		assertThat(loadShedder.tryAdmit(CRITICAL), is(true));
+		assertThat(loadShedder.getInFlightCount(), is(2));
+		assertThat(loadShedder.getRejectedCount(), is(1L));
+	}
+
+	@Test
+	public void testLoadSheddingStopsWhenNoRequestCompletes() {
+		_overload(MILLISECONDS.toNanos(1000));
+
+		assertThat(_loadShedder.tryAdmit(SHEDDABLE), is(false));
+
+		_advance(600);
+
+		assertThat(_loadShedder.tryAdmit(SHEDDABLE), is(true));
+	}
+
+	@Test
+	public void testLowLatencyAdmitsEveryRequest() {
+		_serve(MILLISECONDS.toNanos(10), 100);
+
+		assertThat(_loadShedder.getQueueingDelay(), is(0L));
+		assertThat(_loadShedder.tryAdmit(NORMAL), is(true));
+		assertThat(_loadShedder.tryAdmit(SHEDDABLE), is(true));
+		assertThat(_loadShedder.getRejectedCount(), is(0L));
+	}
+
+	@Test
+	public void testModerateDelayShedsOnlySheddableRequests() {
+		_overload(MILLISECONDS.toNanos(160));
+
+		assertThat(_loadShedder.tryAdmit(NORMAL), is(true));
+		assertThat(_loadShedder.tryAdmit(SHEDDABLE), is(false));
+		assertThat(_loadShedder.getRetryAfterSeconds(), is(1L));
+	}
+
+	private void _advance(long millis) {
+		_clock.addAndGet(MILLISECONDS.toNanos(millis));
+	}
+
+	private void _overload(long latency) {
+		_serve(MILLISECONDS.toNanos(10), 5);
+
+		for (int i = 0; i < 60; i++) {
+			_advance(10);
+
+			_serve(latency, 1);
+		}
+	}
+
+	private void _serve(long latency, int count) {
+		for (int i = 0; i < count; i++) {
+			_loadShedder.tryAdmit(CRITICAL);
+
+			_loadShedder.release(latency);
+		}
+	}
+
+	private AtomicLong _clock;
+	private LoadShedder _loadShedder;
+
+}
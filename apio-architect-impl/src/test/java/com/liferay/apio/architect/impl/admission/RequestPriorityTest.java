@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.admission;
+
+import static com.liferay.apio.architect.impl.admission.RequestPriority.CRITICAL;
+import static com.liferay.apio.architect.impl.admission.RequestPriority.LONG_LIVED;
+import static com.liferay.apio.architect.impl.admission.RequestPriority.NORMAL;
+import static com.liferay.apio.architect.impl.admission.RequestPriority.SHEDDABLE;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestPriorityTest {
+
+	@Test
+	public void testBatchRequestsAreSheddable() {
+		assertThat(RequestPriority.fromPath("batch/people"), is(SHEDDABLE));
+		assertThat(RequestPriority.fromPath("/batch/people"), is(SHEDDABLE));
+	}
+
+	@Test
+	public void testDocumentationAndEntryPointAreCritical() {
+		assertThat(RequestPriority.fromPath(""), is(CRITICAL));
+		assertThat(RequestPriority.fromPath("/"), is(CRITICAL));
+		assertThat(RequestPriority.fromPath("doc"), is(CRITICAL));
+	}
+
+	@Test
+	public void testOpenEndedResponsesAreLongLived() {
+		assertThat(RequestPriority.fromPath("changes/people"), is(LONG_LIVED));
+		assertThat(RequestPriority.fromPath("/stream/people"), is(LONG_LIVED));
+	}
+
+	@Test
+	public void testReadinessCheckIsCritical() {
+		assertThat(RequestPriority.fromPath("ready"), is(CRITICAL));
+		assertThat(RequestPriority.fromPath("/ready"), is(CRITICAL));
+	}
+
+	@Test
+	public void testResourceRequestsAreNormal() {
+		assertThat(RequestPriority.fromPath("p/people"), is(NORMAL));
+		assertThat(RequestPriority.fromPath("p/people/1"), is(NORMAL));
+	}
+
+}
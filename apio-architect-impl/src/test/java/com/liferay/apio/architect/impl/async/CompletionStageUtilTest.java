@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.async;
+
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.await;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.flatten;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.toCompletionStage;
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.toTry;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CompletionStageUtilTest {
+
+	@Test
+	public void testAwaitReturnsFailureWithUnwrappedCause() {
+		IllegalStateException illegalStateException =
+			new IllegalStateException();
+
+		CompletableFuture<String> completableFuture =
+			CompletableFuture.supplyAsync(
+				() -> {
+					throw illegalStateException;
+				});
+
+		Try<String> stringTry = await(completableFuture);
+
+		assertThat(stringTry.isFailure(), is(true));
+		assertThat(_getException(stringTry), is(illegalStateException));
+	}
+
+	@Test
+	public void testAwaitReturnsSuccessWithValue() {
+		Try<String> stringTry = await(
+			CompletableFuture.supplyAsync(() -> "Apio"));
+
+		assertThat(stringTry.getUnchecked(), is("Apio"));
+	}
+
+	@Test
+	public void testFlattenFailureCompletesExceptionally() {
+		IllegalArgumentException illegalArgumentException =
+			new IllegalArgumentException();
+
+		CompletionStage<String> completionStage = flatten(
+			Try.fail(illegalArgumentException));
+
+		Try<String> stringTry = await(completionStage);
+
+		assertThat(_getException(stringTry), is(illegalArgumentException));
+	}
+
+	@Test
+	public void testFlattenSuccessReturnsSameStage() {
+		CompletionStage<String> completionStage =
+			CompletableFuture.completedFuture("Apio");
+
+		assertThat(flatten(Try.success(completionStage)), is(completionStage));
+	}
+
+	@Test
+	public void testToCompletionStageFromSuccessCompletesWithValue() {
+		CompletionStage<String> completionStage = toCompletionStage(
+			Try.success("Apio"));
+
+		CompletableFuture<String> completableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(completableFuture.isDone(), is(true));
+		assertThat(completableFuture.join(), is("Apio"));
+	}
+
+	@Test
+	public void testToTryWrapsErrorsInCompletionException() {
+		Try<String> stringTry = toTry(null, new AssertionError());
+
+		assertThat(
+			_getException(stringTry),
+			is(instanceOf(CompletionException.class)));
+	}
+
+	@Test
+	public void testToTryWithoutThrowableReturnsSuccess() {
+		Try<String> stringTry = toTry("Apio", null);
+
+		assertThat(stringTry.getUnchecked(), is("Apio"));
+	}
+
+	private static Exception _getException(Try<?> tTry) {
+		return tTry.fold(exception -> exception, __ -> null);
+	}
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import static com.liferay.apio.architect.impl.bulkhead.BulkheadPolicy.KEY_MAX_CONCURRENT;
+import static com.liferay.apio.architect.impl.bulkhead.BulkheadPolicy.KEY_MAX_QUEUED;
+import static com.liferay.apio.architect.impl.bulkhead.BulkheadPolicy.KEY_QUEUE_TIMEOUT;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BulkheadPolicyTest {
+
+	@Test
+	public void testFromPropertiesReturnsEmptyWithNonPositiveLimit() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_MAX_CONCURRENT, "0");
+
+		Optional<BulkheadPolicy> optional = BulkheadPolicy.fromProperties(
+			properties::get);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsEmptyWithoutLimit() {
+		Optional<BulkheadPolicy> optional = BulkheadPolicy.fromProperties(
+			new HashMap<>()::get);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsPolicyWithDefaults() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_MAX_CONCURRENT, 10);
+
+		Optional<BulkheadPolicy> optional = BulkheadPolicy.fromProperties(
+			properties::get);
+
+		BulkheadPolicy bulkheadPolicy = optional.get();
+
+		assertThat(bulkheadPolicy.getMaxConcurrent(), is(10));
+		assertThat(bulkheadPolicy.getMaxQueued(), is(0));
+		assertThat(bulkheadPolicy.getQueueTimeout(), is(1000L));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsPolicyWithQueue() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_MAX_CONCURRENT, "10");
+		properties.put(KEY_MAX_QUEUED, "20");
+		properties.put(KEY_QUEUE_TIMEOUT, "500");
+
+		Optional<BulkheadPolicy> optional = BulkheadPolicy.fromProperties(
+			properties::get);
+
+		assertThat(optional.get(), is(new BulkheadPolicy(10, 20, 500)));
+	}
+
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.bulkhead;
+
+import static com.liferay.apio.architect.impl.async.CompletionStageUtil.await;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.ServiceUnavailableException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BulkheadTest {
+
+	@Test
+	public void testExecuteAsyncHoldsSlotUntilCompletion() {
+		Bulkhead bulkhead = new Bulkhead("name", new BulkheadPolicy(1, 0, 0));
+
+		CompletableFuture<String> completableFuture = new CompletableFuture<>();
+
+		bulkhead.executeAsync(() -> completableFuture);
+
+		BulkheadStats bulkheadStats = bulkhead.getStats();
+
+		assertThat(bulkheadStats.getActiveCount(), is(1));
+
+		Try<String> stringTry = bulkhead.execute(() -> Try.success("Apio"));
+
+		assertThat(stringTry.isFailure(), is(true));
+
+		completableFuture.complete("Apio");
+
+		assertThat(bulkhead.getStats().getActiveCount(), is(0));
+		assertThat(
+			bulkhead.execute(() -> Try.success("Apio")).getUnchecked(),
+			is("Apio"));
+	}
+
+	@Test
+	public void testExecuteAsyncRejectsCallsOverTheLimit() {
+		Bulkhead bulkhead = new Bulkhead("name", new BulkheadPolicy(1, 0, 0));
+
+		bulkhead.acquire();
+
+		Try<String> stringTry = await(
+			bulkhead.executeAsync(
+				() -> CompletableFuture.completedFuture("Apio")));
+
+		Exception exception = stringTry.fold(e -> e, __ -> null);
+
+		assertThat(
+			exception, is(instanceOf(ServiceUnavailableException.class)));
+	}
+
+	@Test
+	public void testExecuteRejectsCallsOverTheLimit() {
+		Bulkhead bulkhead = new Bulkhead("name", new BulkheadPolicy(1, 0, 0));
+
+		Try<String> stringTry = bulkhead.execute(
+			() -> bulkhead.execute(() -> Try.success("Apio")));
+
+		Exception exception = stringTry.fold(e -> e, __ -> null);
+
+		assertThat(
+			exception, is(instanceOf(ServiceUnavailableException.class)));
+
+		BulkheadStats bulkheadStats = bulkhead.getStats();
+
+		assertThat(bulkheadStats.getActiveCount(), is(0));
+		assertThat(bulkheadStats.getQueuedCount(), is(0));
+		assertThat(bulkheadStats.getRejectedCount(), is(1L));
+	}
+
+	@Test
+	public void testExecuteReturnsSupplierResultUnderTheLimit() {
+		Bulkhead bulkhead = new Bulkhead("name", new BulkheadPolicy(2, 0, 0));
+
+		Try<String> stringTry = bulkhead.execute(
+			() -> bulkhead.execute(() -> Try.success("Apio")));
+
+		assertThat(stringTry.getUnchecked(), is("Apio"));
+		assertThat(bulkhead.getStats().getRejectedCount(), is(0L));
+	}
+
+	@Test
+	public void testQueuedCallRunsWhenSlotIsReleased() throws Exception {
+		Bulkhead bulkhead = new Bulkhead(
+			"name", new BulkheadPolicy(1, 1, 10000));
+
+		bulkhead.acquire();
+
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		CompletableFuture<Try<String>> completableFuture =
+			CompletableFuture.supplyAsync(
+				() -> {
+					countDownLatch.countDown();
+
+					return bulkhead.execute(() -> Try.success("Apio"));
+				});
+
+		countDownLatch.await();
+
+		while (bulkhead.getStats().getQueuedCount() == 0) {
+			Thread.sleep(1);
+		}
+
+		Try<String> rejectedTry = bulkhead.execute(() -> Try.success("Apio"));
+
+		assertThat(rejectedTry.isFailure(), is(true));
+
+		bulkhead.release();
+
+		Try<String> stringTry = completableFuture.get(10, TimeUnit.SECONDS);
+
+		assertThat(stringTry.getUnchecked(), is("Apio"));
+	}
+
+	@Test
+	public void testQueuedCallTimesOut() {
+		Bulkhead bulkhead = new Bulkhead("name", new BulkheadPolicy(1, 1, 10));
+
+		bulkhead.acquire();
+
+		Try<String> stringTry = bulkhead.execute(() -> Try.success("Apio"));
+
+		assertThat(stringTry.isFailure(), is(true));
+		assertThat(bulkhead.getStats().getQueuedCount(), is(0));
+		assertThat(bulkhead.getStats().getRejectedCount(), is(1L));
+	}
+
+}
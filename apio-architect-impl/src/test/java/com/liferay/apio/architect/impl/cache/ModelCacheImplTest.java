@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.lang.reflect.Field;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ModelCacheImplTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_modelCache = new ModelCacheImpl();
+
+		ProviderManager providerManager = Mockito.mock(ProviderManager.class);
+
+		Mockito.when(
+			providerManager.provideOptional(
+				Mockito.any(HttpServletRequest.class),
+				Mockito.eq(Credentials.class))
+		).thenAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				HttpServletRequest httpServletRequest =
+					(HttpServletRequest)arguments[0];
+
+				Object credentials = httpServletRequest.getAttribute(
+					"credentials");
+
+				return Optional.ofNullable(
+					credentials
+				).map(
+					value -> (Credentials)() -> value
+				);
+			}
+		);
+
+		Field field = ModelCacheImpl.class.getDeclaredField(
+			"_providerManager");
+
+		field.setAccessible(true);
+
+		field.set(_modelCache, providerManager);
+
+		_modelCache.activate(emptyMap());
+	}
+
+	@Test
+	public void testInvalidateRemovesModelFromRequest() {
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		_getSingleModelTry(httpServletRequest, 42L);
+
+		_modelCache.invalidate(httpServletRequest, "name", 42L);
+
+		_getSingleModelTry(httpServletRequest, 42L);
+
+		assertThat(_count.get(), is(2));
+	}
+
+	@Test
+	public void testInvalidatingItemRoutesRemovesModelFromSharedCache() {
+		_activateSharedCache(10, 60000);
+
+		ItemRoutes<String, Long> itemRoutes = Mockito.mock(ItemRoutes.class);
+
+		UpdateItemFunction<String, Long> updateItemFunction =
+			httpServletRequest -> identifier -> body -> Try.success(
+				new SingleModelImpl<>(
+					"Updated " + identifier, "name", emptyList()));
+
+		Mockito.when(
+			itemRoutes.getUpdateItemFunctionOptional()
+		).thenReturn(
+			Optional.of(updateItemFunction)
+		);
+
+		ItemRoutes<String, Long> invalidatingItemRoutes =
+			new InvalidatingItemRoutes<>(
+				itemRoutes,
+				httpServletRequest -> identifier -> _modelCache.invalidate(
+					httpServletRequest, "name", identifier));
+
+		_getSingleModelTry(createHttpServletRequest(), 42L);
+
+		Optional<UpdateItemFunction<String, Long>> optional =
+			invalidatingItemRoutes.getUpdateItemFunctionOptional();
+
+		optional.get(
+		).apply(
+			createHttpServletRequest()
+		).apply(
+			42L
+		).apply(
+			null
+		);
+
+		_getSingleModelTry(createHttpServletRequest(), 42L);
+
+		assertThat(_count.get(), is(2));
+		assertThat(_modelCache.getStats().getInvalidationCount(), is(1L));
+	}
+
+	@Test
+	public void testModelFetchedDuringInvalidationIsNotShared()
+		throws InterruptedException {
+
+		_activateSharedCache(10, 60000);
+
+		CountDownLatch fetchingCountDownLatch = new CountDownLatch(1);
+		CountDownLatch invalidatedCountDownLatch = new CountDownLatch(1);
+
+		Thread thread = new Thread(
+			() -> _modelCache.getSingleModelTry(
+				createHttpServletRequest(), "name", 42L,
+				() -> {
+					fetchingCountDownLatch.countDown();
+
+					try {
+						invalidatedCountDownLatch.await();
+					}
+					catch (InterruptedException ie) {
+						return Try.fail(ie);
+					}
+
+					return Try.success(
+						new SingleModelImpl<>("Stale 42", "name", emptyList()));
+				}));
+
+		thread.start();
+
+		fetchingCountDownLatch.await();
+
+		_modelCache.invalidate(createHttpServletRequest(), "name", 42L);
+
+		invalidatedCountDownLatch.countDown();
+
+		thread.join();
+
+		Try<SingleModel<String>> singleModelTry = _getSingleModelTry(
+			createHttpServletRequest(), 42L);
+
+		SingleModel<String> singleModel = singleModelTry.getUnchecked();
+
+		assertThat(singleModel.getModel(), is("Apio 42"));
+		assertThat(_count.get(), is(1));
+	}
+
+	@Test
+	public void testModelIsOnlyFetchedOncePerRequest() {
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		Try<SingleModel<String>> firstTry = _getSingleModelTry(
+			httpServletRequest, 42L);
+		Try<SingleModel<String>> secondTry = _getSingleModelTry(
+			httpServletRequest, 42L);
+
+		assertThat(_count.get(), is(1));
+		assertThat(secondTry.getUnchecked(), is(firstTry.getUnchecked()));
+
+		ModelCacheStats modelCacheStats = _modelCache.getStats();
+
+		assertThat(modelCacheStats.getMissCount(), is(1L));
+		assertThat(modelCacheStats.getRequestHitCount(), is(1L));
+		assertThat(modelCacheStats.getSharedHitCount(), is(0L));
+		assertThat(modelCacheStats.getHitRate(), is(0.5));
+	}
+
+	@Test
+	public void testModelIsRetrievedAgainInDifferentRequests() {
+		_getSingleModelTry(createHttpServletRequest(), 42L);
+		_getSingleModelTry(createHttpServletRequest(), 42L);
+
+		assertThat(_count.get(), is(2));
+	}
+
+	@Test
+	public void testModelsWithDifferentCredentialsAreNotShared() {
+		_activateSharedCache(10, 60000);
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		httpServletRequest.setAttribute("credentials", "first");
+
+		_getSingleModelTry(httpServletRequest, 42L);
+
+		HttpServletRequest sameCredentialsHttpServletRequest =
+			createHttpServletRequest();
+
+		sameCredentialsHttpServletRequest.setAttribute("credentials", "first");
+
+		_getSingleModelTry(sameCredentialsHttpServletRequest, 42L);
+
+		assertThat(_count.get(), is(1));
+
+		HttpServletRequest otherCredentialsHttpServletRequest =
+			createHttpServletRequest();
+
+		otherCredentialsHttpServletRequest.setAttribute(
+			"credentials", "second");
+
+		_getSingleModelTry(otherCredentialsHttpServletRequest, 42L);
+
+		assertThat(_count.get(), is(2));
+	}
+
+	@Test
+	public void testModelsWithDifferentIdentifierAreNotShared() {
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		_getSingleModelTry(httpServletRequest, 42L);
+		_getSingleModelTry(httpServletRequest, 43L);
+
+		assertThat(_count.get(), is(2));
+	}
+
+	@Test
+	public void testSharedCacheEvictsLeastRecentlyUsedModels() {
+		_activateSharedCache(2, 60000);
+
+		_getSingleModelTry(createHttpServletRequest(), 1L);
+		_getSingleModelTry(createHttpServletRequest(), 2L);
+		_getSingleModelTry(createHttpServletRequest(), 1L);
+		_getSingleModelTry(createHttpServletRequest(), 3L);
+
+		assertThat(_count.get(), is(3));
+
+		_getSingleModelTry(createHttpServletRequest(), 1L);
+
+		assertThat(_count.get(), is(3));
+
+		_getSingleModelTry(createHttpServletRequest(), 2L);
+
+		assertThat(_count.get(), is(4));
+
+		ModelCacheStats modelCacheStats = _modelCache.getStats();
+
+		assertThat(modelCacheStats.getSize(), is(2));
+	}
+
+	@Test
+	public void testSharedCacheReturnsModelInDifferentRequests() {
+		_activateSharedCache(10, 60000);
+
+		Try<SingleModel<String>> firstTry = _getSingleModelTry(
+			createHttpServletRequest(), 42L);
+		Try<SingleModel<String>> secondTry = _getSingleModelTry(
+			createHttpServletRequest(), 42L);
+
+		assertThat(_count.get(), is(1));
+		assertThat(secondTry.getUnchecked(), is(firstTry.getUnchecked()));
+		assertThat(_modelCache.getStats().getSharedHitCount(), is(1L));
+	}
+
+	@Test
+	public void testSharedEntriesExpireAfterTTL() throws InterruptedException {
+		_activateSharedCache(10, 20);
+
+		_getSingleModelTry(createHttpServletRequest(), 42L);
+		_getSingleModelTry(createHttpServletRequest(), 42L);
+
+		assertThat(_count.get(), is(1));
+
+		Thread.sleep(50);
+
+		_getSingleModelTry(createHttpServletRequest(), 42L);
+
+		assertThat(_count.get(), is(2));
+	}
+
+	@Test
+	public void testSingleModelConsumerReplacesCachedModelFromAnyThread()
+		throws InterruptedException {
+
+		_activateSharedCache(10, 60000);
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		httpServletRequest.setAttribute("credentials", "first");
+
+		_getSingleModelTry(httpServletRequest, 42L);
+
+		Consumer<SingleModel<String>> singleModelConsumer =
+			_modelCache.getSingleModelConsumer(httpServletRequest, "name", 42L);
+
+		httpServletRequest.setAttribute("credentials", "second");
+
+		SingleModel<String> singleModel = new SingleModelImpl<>(
+			"Updated 42", "name", emptyList());
+
+		Thread thread = new Thread(
+			() -> singleModelConsumer.accept(singleModel));
+
+		thread.start();
+
+		thread.join();
+
+		Try<SingleModel<String>> requestTry = _getSingleModelTry(
+			httpServletRequest, 42L);
+
+		assertThat(requestTry.getUnchecked(), is(singleModel));
+
+		HttpServletRequest sameCredentialsHttpServletRequest =
+			createHttpServletRequest();
+
+		sameCredentialsHttpServletRequest.setAttribute("credentials", "first");
+
+		Try<SingleModel<String>> sharedTry = _getSingleModelTry(
+			sameCredentialsHttpServletRequest, 42L);
+
+		assertThat(sharedTry.getUnchecked(), is(singleModel));
+		assertThat(_count.get(), is(1));
+	}
+
+	private void _activateSharedCache(int maxSize, long ttl) {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(ModelCacheImpl.SHARED_ENABLED, true);
+		properties.put(ModelCacheImpl.SHARED_MAX_SIZE, maxSize);
+		properties.put(ModelCacheImpl.SHARED_TTL, ttl);
+
+		_modelCache.activate(properties);
+	}
+
+	private Try<SingleModel<String>> _getSingleModelTry(
+		HttpServletRequest httpServletRequest, Long identifier) {
+
+		return _modelCache.getSingleModelTry(
+			httpServletRequest, "name", identifier,
+			() -> {
+				_count.incrementAndGet();
+
+				return Try.success(
+					new SingleModelImpl<>(
+						"Apio " + identifier, "name", emptyList()));
+			});
+	}
+
+	private final AtomicInteger _count = new AtomicInteger();
+	private ModelCacheImpl _modelCache;
+
+}
@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static java.util.Collections.emptyMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.language.AcceptLanguage;
+
+import java.lang.reflect.Field;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResponseCacheImplTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_responseCache = new ResponseCacheImpl();
+
+		ProviderManager providerManager = Mockito.mock(ProviderManager.class);
+
+		Mockito.when(
+			providerManager.provideOptional(
+				Mockito.any(HttpServletRequest.class), Mockito.any())
+		).thenAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				HttpServletRequest httpServletRequest =
+					(HttpServletRequest)arguments[0];
+
+				if (arguments[1].equals(AcceptLanguage.class)) {
+					return Optional.ofNullable(
+						(String)httpServletRequest.getAttribute("language")
+					).map(
+						Locale::forLanguageTag
+					).map(
+						locale -> (AcceptLanguage)() -> locale
+					);
+				}
+
+				if (arguments[1].equals(Credentials.class)) {
+					return Optional.ofNullable(
+						httpServletRequest.getAttribute("credentials")
+					).map(
+						credentials -> (Credentials)() -> credentials
+					);
+				}
+
+				return Optional.empty();
+			}
+		);
+
+		Field field = ResponseCacheImpl.class.getDeclaredField(
+			"_providerManager");
+
+		field.setAccessible(true);
+
+		field.set(_responseCache, providerManager);
+
+		_responseCache.activate(emptyMap());
+	}
+
+	@Test
+	public void testBinaryEntityIsReturnedWithoutTranscoding() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"en", "first");
+
+		byte[] bytes = {(byte)0xA0};
+
+		_responseCache.getCachedResponseOptional(
+			httpServletRequest, "name", _responseCachePolicy,
+			"application/cbor");
+
+		_responseCache.putCachedResponse(
+			httpServletRequest, "application/cbor", bytes);
+
+		Optional<CachedResponse> optional =
+			_responseCache.getCachedResponseOptional(
+				_createHttpServletRequest("en", "first"), "name",
+				_responseCachePolicy, "application/cbor");
+
+		CachedResponse cachedResponse = optional.get();
+
+		assertThat(cachedResponse.getEntity(), is(sameInstance(bytes)));
+
+		Optional<CachedResponse> jsonOptional = _getCachedResponseOptional(
+			_createHttpServletRequest("en", "first"));
+
+		assertThat(jsonOptional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testDiscardedResponseIsNotStored() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"en", "first");
+
+		_getCachedResponseOptional(httpServletRequest);
+
+		_responseCache.discardCachedResponse(httpServletRequest);
+
+		_responseCache.putCachedResponse(
+			httpServletRequest, _MEDIA_TYPE, "{}");
+
+		Optional<CachedResponse> optional = _getCachedResponseOptional(
+			_createHttpServletRequest("en", "first"));
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testInvalidateRemovesStoredResponses() {
+		_storeResponse(_createHttpServletRequest("en", "first"), "{}");
+
+		_responseCache.invalidate("name");
+
+		Optional<CachedResponse> optional = _getCachedResponseOptional(
+			_createHttpServletRequest("en", "first"));
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testInvalidateWhileWritingPreventsStoringTheResponse() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"en", "first");
+
+		_getCachedResponseOptional(httpServletRequest);
+
+		_responseCache.invalidate("name");
+
+		_responseCache.putCachedResponse(
+			httpServletRequest, _MEDIA_TYPE, "{}");
+
+		Optional<CachedResponse> optional = _getCachedResponseOptional(
+			_createHttpServletRequest("en", "first"));
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testMissMarksTheRequestAndStoresTheResponse() {
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"en", "first");
+
+		Optional<CachedResponse> missOptional = _getCachedResponseOptional(
+			httpServletRequest);
+
+		assertThat(missOptional.isPresent(), is(false));
+
+		_responseCache.putCachedResponse(
+			httpServletRequest, _MEDIA_TYPE, "{\"solution\": 42}");
+
+		Optional<CachedResponse> hitOptional = _getCachedResponseOptional(
+			_createHttpServletRequest("en", "first"));
+
+		assertThat(hitOptional.isPresent(), is(true));
+
+		CachedResponse cachedResponse = hitOptional.get();
+
+		assertThat(cachedResponse.getEntity(), is("{\"solution\": 42}"));
+		assertThat(cachedResponse.getMediaType(), is(_MEDIA_TYPE));
+	}
+
+	@Test
+	public void testResponseIsNotStoredWithoutAPreviousMiss() {
+		_responseCache.putCachedResponse(
+			_createHttpServletRequest("en", "first"), _MEDIA_TYPE, "{}");
+
+		Optional<CachedResponse> optional = _getCachedResponseOptional(
+			_createHttpServletRequest("en", "first"));
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testResponsesArePartitionedByCredentials() {
+		_storeResponse(_createHttpServletRequest("en", "first"), "{}");
+
+		Optional<CachedResponse> optional = _getCachedResponseOptional(
+			_createHttpServletRequest("en", "second"));
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testResponsesArePartitionedByLanguage() {
+		_storeResponse(_createHttpServletRequest("en", "first"), "{}");
+
+		Optional<CachedResponse> optional = _getCachedResponseOptional(
+			_createHttpServletRequest("es", "first"));
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testResponsesAreSharedIfNotPartitionedByCredentials() {
+		ResponseCachePolicy responseCachePolicy = new ResponseCachePolicy(
+			60000, false);
+
+		HttpServletRequest httpServletRequest = _createHttpServletRequest(
+			"en", "first");
+
+		_responseCache.getCachedResponseOptional(
+			httpServletRequest, "name", responseCachePolicy, _MEDIA_TYPE);
+
+		_responseCache.putCachedResponse(
+			httpServletRequest, _MEDIA_TYPE, "{}");
+
+		Optional<CachedResponse> optional =
+			_responseCache.getCachedResponseOptional(
+				_createHttpServletRequest("en", "second"), "name",
+				responseCachePolicy, _MEDIA_TYPE);
+
+		assertThat(optional.isPresent(), is(true));
+	}
+
+	private HttpServletRequest _createHttpServletRequest(
+		String language, String credentials) {
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		httpServletRequest.setAttribute("credentials", credentials);
+		httpServletRequest.setAttribute("language", language);
+
+		return httpServletRequest;
+	}
+
+	private Optional<CachedResponse> _getCachedResponseOptional(
+		HttpServletRequest httpServletRequest) {
+
+		return _responseCache.getCachedResponseOptional(
+			httpServletRequest, "name", _responseCachePolicy, _MEDIA_TYPE);
+	}
+
+	private void _storeResponse(
+		HttpServletRequest httpServletRequest, String body) {
+
+		_getCachedResponseOptional(httpServletRequest);
+
+		_responseCache.putCachedResponse(
+			httpServletRequest, _MEDIA_TYPE, body);
+	}
+
+	private static final String _MEDIA_TYPE = "application/ld+json";
+
+	private ResponseCacheImpl _responseCache;
+	private final ResponseCachePolicy _responseCachePolicy =
+		new ResponseCachePolicy(60000, true);
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.cache;
+
+import static com.liferay.apio.architect.impl.cache.ResponseCachePolicy.KEY_PARTITION_BY_CREDENTIALS;
+import static com.liferay.apio.architect.impl.cache.ResponseCachePolicy.KEY_TTL;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResponseCachePolicyTest {
+
+	@Test
+	public void testFromPropertiesReturnsEmptyWithInvalidTTL() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_TTL, "invalid");
+
+		Optional<ResponseCachePolicy> optional =
+			ResponseCachePolicy.fromProperties(properties::get);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsEmptyWithNonPositiveTTL() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_TTL, "0");
+
+		Optional<ResponseCachePolicy> optional =
+			ResponseCachePolicy.fromProperties(properties::get);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsEmptyWithoutTTL() {
+		Optional<ResponseCachePolicy> optional =
+			ResponseCachePolicy.fromProperties(new HashMap<>()::get);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsPolicyWithValidTTL() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_TTL, 30000L);
+
+		Optional<ResponseCachePolicy> optional =
+			ResponseCachePolicy.fromProperties(properties::get);
+
+		ResponseCachePolicy responseCachePolicy = optional.get();
+
+		assertThat(responseCachePolicy.getTTL(), is(30000L));
+		assertThat(responseCachePolicy.isPartitionByCredentials(), is(true));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsPolicyWithoutPartition() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_PARTITION_BY_CREDENTIALS, "false");
+		properties.put(KEY_TTL, "30000");
+
+		Optional<ResponseCachePolicy> optional =
+			ResponseCachePolicy.fromProperties(properties::get);
+
+		ResponseCachePolicy responseCachePolicy = optional.get();
+
+		assertThat(responseCachePolicy.isPartitionByCredentials(), is(false));
+	}
+
+}
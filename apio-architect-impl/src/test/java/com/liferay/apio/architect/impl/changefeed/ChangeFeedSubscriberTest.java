@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.changefeed;
+
+import static com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type.CREATED;
+import static com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type.DELETED;
+import static com.liferay.apio.architect.impl.changefeed.ChangeEvent.Type.UPDATED;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ChangeFeedSubscriberTest {
+
+	@Before
+	public void setUp() {
+		_completableFutures = new ArrayList<>();
+		_sentChangeNotifications = new ArrayList<>();
+
+		_closeCount = new AtomicInteger();
+
+		_changeFeedSubscriber = new ChangeFeedSubscriber(
+			"name", 2, this::_send, _closeCount::incrementAndGet);
+	}
+
+	@Test
+	public void testCollectionSubscriberAcceptsEveryChangeOfItsResource() {
+		assertThat(
+			_changeFeedSubscriber.accepts(new ChangeEvent(CREATED, "name", 1)),
+			is(true));
+		assertThat(
+			_changeFeedSubscriber.accepts(
+				new ChangeEvent(CREATED, "name", 1, "parent", 2)),
+			is(true));
+		assertThat(
+			_changeFeedSubscriber.accepts(new ChangeEvent(DELETED, "name", 1)),
+			is(true));
+		assertThat(
+			_changeFeedSubscriber.accepts(new ChangeEvent(CREATED, "other", 1)),
+			is(false));
+	}
+
+	@Test
+	public void testCloseClosesTheConnectionOnce() {
+		_changeFeedSubscriber.offer(new ChangeNotification(1, "created", "1"));
+
+		_changeFeedSubscriber.close();
+		_changeFeedSubscriber.close();
+
+		_completeAll();
+
+		assertThat(_changeFeedSubscriber.isClosed(), is(true));
+		assertThat(_closeCount.get(), is(1));
+		assertThat(_sentChangeNotifications.size(), is(1));
+	}
+
+	@Test
+	public void testFailedSendClosesTheSubscriber() {
+		_changeFeedSubscriber.offer(new ChangeNotification(1, "created", "1"));
+
+		_completableFutures.get(0).completeExceptionally(
+			new IllegalStateException());
+
+		assertThat(_changeFeedSubscriber.isClosed(), is(true));
+		assertThat(_closeCount.get(), is(1));
+
+		_changeFeedSubscriber.offer(new ChangeNotification(2, "created", "2"));
+
+		assertThat(_sentChangeNotifications.size(), is(1));
+	}
+
+	@Test
+	public void testFullBufferIsReplacedByOverflowNotification() {
+		_changeFeedSubscriber.offer(new ChangeNotification(1, "created", "1"));
+		_changeFeedSubscriber.offer(new ChangeNotification(2, "created", "2"));
+		_changeFeedSubscriber.offer(new ChangeNotification(3, "created", "3"));
+		_changeFeedSubscriber.offer(new ChangeNotification(4, "created", "4"));
+
+		_completeAll();
+
+		assertThat(_getNames(), is("created,overflow"));
+		assertThat(_sentChangeNotifications.get(1).getId(), is(4L));
+		assertThat(_changeFeedSubscriber.getDroppedCount(), is(3L));
+	}
+
+	@Test
+	public void testNestedSubscriberAcceptsCreationsInsideItsParent() {
+		ChangeFeedSubscriber changeFeedSubscriber = new ChangeFeedSubscriber(
+			"name", "parent", 2, 2, this::_send, _closeCount::incrementAndGet);
+
+		assertThat(
+			changeFeedSubscriber.accepts(
+				new ChangeEvent(CREATED, "name", 1, "parent", 2)),
+			is(true));
+		assertThat(
+			changeFeedSubscriber.accepts(
+				new ChangeEvent(CREATED, "name", 1, "parent", 3)),
+			is(false));
+		assertThat(
+			changeFeedSubscriber.accepts(new ChangeEvent(CREATED, "name", 1)),
+			is(false));
+		assertThat(
+			changeFeedSubscriber.accepts(new ChangeEvent(UPDATED, "name", 1)),
+			is(true));
+	}
+
+	@Test
+	public void testNotificationsAreSentOneAtATimeInOrder() {
+		_changeFeedSubscriber.offer(new ChangeNotification(1, "created", "1"));
+		_changeFeedSubscriber.offer(new ChangeNotification(2, "updated", "1"));
+
+		assertThat(_sentChangeNotifications.size(), is(1));
+
+		_completeAll();
+
+		assertThat(_getNames(), is("created,updated"));
+		assertThat(_changeFeedSubscriber.getDroppedCount(), is(0L));
+	}
+
+	private void _completeAll() {
+		for (int i = 0; i < _completableFutures.size(); i++) {
+			_completableFutures.get(i).complete(null);
+		}
+	}
+
+	private String _getNames() {
+		Stream<ChangeNotification> stream = _sentChangeNotifications.stream();
+
+		return stream.map(
+			ChangeNotification::getName
+		).collect(
+			Collectors.joining(",")
+		);
+	}
+
+	private CompletableFuture<Void> _send(
+		ChangeNotification changeNotification) {
+
+		CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+
+		_completableFutures.add(completableFuture);
+		_sentChangeNotifications.add(changeNotification);
+
+		return completableFuture;
+	}
+
+	private ChangeFeedSubscriber _changeFeedSubscriber;
+	private AtomicInteger _closeCount;
+	private List<CompletableFuture<Void>> _completableFutures;
+	private List<ChangeNotification> _sentChangeNotifications;
+
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.coalescing;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.impl.coalescing.RequestCoalescer.Flight;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCoalescerTest {
+
+	@Before
+	public void setUp() {
+		_clock = new AtomicLong();
+
+		_requestCoalescer = new RequestCoalescer<>(
+			MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(100), _clock::get);
+	}
+
+	@Test
+	public void testCompletedFlightIsNotKept() {
+		Flight flight = _requestCoalescer.join("key");
+
+		flight.complete("value");
+
+		assertThat(_requestCoalescer.getInFlightCount(), is(0));
+		assertThat(_requestCoalescer.join("key").isLeader(), is(true));
+	}
+
+	@Test
+	public void testDifferentKeysStartDifferentFlights() {
+		assertThat(_requestCoalescer.join("first").isLeader(), is(true));
+		assertThat(_requestCoalescer.join("second").isLeader(), is(true));
+		assertThat(_requestCoalescer.getInFlightCount(), is(2));
+	}
+
+	@Test
+	public void testFirstCallerIsTheLeader() {
+		Flight leader = _requestCoalescer.join("key");
+		Flight follower = _requestCoalescer.join("key");
+
+		assertThat(leader.isLeader(), is(true));
+		assertThat(follower.isLeader(), is(false));
+		assertThat(_requestCoalescer.getInFlightCount(), is(1));
+	}
+
+	@Test
+	public void testFollowerCannotCompleteTheFlight() {
+		Flight leader = _requestCoalescer.join("key");
+		Flight follower = _requestCoalescer.join("key");
+
+		follower.complete("value");
+
+		assertThat(_requestCoalescer.getInFlightCount(), is(1));
+
+		leader.complete("leader");
+
+		assertThat(follower.await(), is(Optional.of("leader")));
+	}
+
+	@Test
+	public void testFollowerGetsEmptyIfLeaderFails() {
+		Flight leader = _requestCoalescer.join("key");
+		Flight follower = _requestCoalescer.join("key");
+
+		leader.fail();
+
+		assertThat(follower.await(), is(Optional.empty()));
+		assertThat(_requestCoalescer.getCoalescedCount(), is(0L));
+		assertThat(_requestCoalescer.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void testFollowerGetsEmptyIfLeaderTimesOut() {
+		_requestCoalescer.join("key");
+
+		Flight follower = _requestCoalescer.join("key");
+
+		_clock.addAndGet(MILLISECONDS.toNanos(150));
+
+		assertThat(follower.await(), is(Optional.empty()));
+	}
+
+	@Test
+	public void testFollowerGetsEmptyIfLeaderExceedsMaxWait() {
+		RequestCoalescer<String, String> requestCoalescer =
+			new RequestCoalescer<>(MILLISECONDS.toNanos(100), 0, _clock::get);
+
+		Flight leader = requestCoalescer.join("key");
+		Flight follower = requestCoalescer.join("key");
+
+		assertThat(follower.await(), is(Optional.empty()));
+
+		leader.complete("value");
+
+		assertThat(requestCoalescer.getCoalescedCount(), is(0L));
+		assertThat(requestCoalescer.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void testFollowerGetsLeaderValue() {
+		Flight leader = _requestCoalescer.join("key");
+		Flight follower = _requestCoalescer.join("key");
+
+		leader.complete("value");
+
+		assertThat(follower.await(), is(Optional.of("value")));
+		assertThat(_requestCoalescer.getCoalescedCount(), is(1L));
+	}
+
+	@Test
+	public void testStaleFlightIsReplacedAfterTimeout() {
+		Flight staleLeader = _requestCoalescer.join("key");
+		Flight staleFollower = _requestCoalescer.join("key");
+
+		_clock.addAndGet(MILLISECONDS.toNanos(150));
+
+		Flight leader = _requestCoalescer.join("key");
+
+		assertThat(leader.isLeader(), is(true));
+		assertThat(staleFollower.await(), is(Optional.empty()));
+
+		staleLeader.complete("stale");
+
+		assertThat(_requestCoalescer.getInFlightCount(), is(1));
+
+		Flight follower = _requestCoalescer.join("key");
+
+		leader.complete("value");
+
+		assertThat(follower.await(), is(Optional.of("value")));
+	}
+
+	private AtomicLong _clock;
+	private RequestCoalescer<String, String> _requestCoalescer;
+
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.embedding;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Optional;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddingBudgetTest {
+
+	@Test
+	public void testCanFetchDoesNotReserveBudget() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(2, 2, 10, false));
+
+		assertThat(embeddingBudget.canFetch("creator"), is(true));
+		assertThat(embeddingBudget.canFetch("creator"), is(true));
+		assertThat(embeddingBudget.getFetches(), is(0));
+		assertThat(embeddingBudget.getRemainingFetches(), is(2));
+		assertThat(embeddingBudget.isExceeded(), is(false));
+	}
+
+	@Test
+	public void testCanFetchRefusesResourcesBeforeFetching() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(1, 1, 1000, false));
+
+		assertThat(embeddingBudget.canFetch("creator.address"), is(false));
+		assertThat(embeddingBudget.tryEmbed("creator", 1), is(true));
+		assertThat(embeddingBudget.getRemainingFetches(), is(0));
+		assertThat(embeddingBudget.canFetch("aggregateRating"), is(false));
+		assertThat(embeddingBudget.isExceeded(), is(true));
+	}
+
+	@Test
+	public void testTryEmbedAllowsResourcesWithinLimits() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(2, 2, 10, false));
+
+		assertThat(embeddingBudget.tryEmbed("creator", 1), is(true));
+		assertThat(embeddingBudget.tryEmbed("creator.address", 9), is(true));
+		assertThat(embeddingBudget.getFetches(), is(2));
+		assertThat(embeddingBudget.getItems(), is(10));
+		assertThat(embeddingBudget.isExceeded(), is(false));
+		assertThat(embeddingBudget.getWarningOptional(), is(emptyOptional()));
+	}
+
+	@Test
+	public void testTryEmbedRefusesResourcesTooDeep() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(2, 100, 1000, false));
+
+		assertThat(
+			embeddingBudget.tryEmbed("creator.address.country", 1), is(false));
+		assertThat(embeddingBudget.getFetches(), is(0));
+		assertThat(embeddingBudget.isExceeded(), is(true));
+
+		Optional<String> warningOptional =
+			embeddingBudget.getWarningOptional();
+
+		assertThat(
+			warningOptional.get(),
+			is(
+				"199 - \"Embedded resources exceeding the maximum embedding " +
+					"depth (2) were replaced by links\""));
+	}
+
+	@Test
+	public void testTryEmbedRefusesResourcesWhenFetchesAreExhausted() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(3, 1, 1000, false));
+
+		assertThat(embeddingBudget.tryEmbed("creator", 1), is(true));
+		assertThat(embeddingBudget.tryEmbed("aggregateRating", 1), is(false));
+		assertThat(embeddingBudget.getFetches(), is(1));
+		assertThat(embeddingBudget.isExceeded(), is(true));
+	}
+
+	@Test
+	public void testTryEmbedRefusesResourcesWithTooManyItems() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(3, 100, 10, false));
+
+		assertThat(embeddingBudget.tryEmbed("comment", 30), is(false));
+		assertThat(embeddingBudget.tryEmbed("creator", 1), is(true));
+		assertThat(embeddingBudget.getItems(), is(1));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testTryEmbedThrowsExceptionIfPolicyRejects() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(1, 100, 1000, true));
+
+		embeddingBudget.tryEmbed("creator.address", 1);
+	}
+
+	@Test
+	public void testUnlimitedBudgetNeverRefusesResources() {
+		EmbeddingBudget embeddingBudget = EmbeddingBudget.unlimited();
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(embeddingBudget.tryEmbed("a.b.c.d.e.f", 1000), is(true));
+		}
+
+		assertThat(embeddingBudget.isExceeded(), is(false));
+	}
+
+}
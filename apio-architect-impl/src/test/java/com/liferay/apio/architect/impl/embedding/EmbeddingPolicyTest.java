@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.embedding;
+
+import static com.liferay.apio.architect.impl.embedding.EmbeddingPolicy.KEY_MAX_DEPTH;
+import static com.liferay.apio.architect.impl.embedding.EmbeddingPolicy.KEY_MAX_FETCHES;
+import static com.liferay.apio.architect.impl.embedding.EmbeddingPolicy.KEY_MAX_ITEMS;
+import static com.liferay.apio.architect.impl.embedding.EmbeddingPolicy.KEY_REJECT;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddingPolicyTest {
+
+	@Test
+	public void testFromPropertiesReturnsEmptyWithInvalidLimits() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_MAX_DEPTH, "-1");
+		properties.put(KEY_MAX_FETCHES, "many");
+
+		Optional<EmbeddingPolicy> optional = EmbeddingPolicy.fromProperties(
+			properties::get);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsEmptyWithoutLimits() {
+		Optional<EmbeddingPolicy> optional = EmbeddingPolicy.fromProperties(
+			new HashMap<>()::get);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsPolicyWithAllLimits() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_MAX_DEPTH, "2");
+		properties.put(KEY_MAX_FETCHES, "10");
+		properties.put(KEY_MAX_ITEMS, "50");
+		properties.put(KEY_REJECT, "true");
+
+		Optional<EmbeddingPolicy> optional = EmbeddingPolicy.fromProperties(
+			properties::get);
+
+		assertThat(optional.get(), is(new EmbeddingPolicy(2, 10, 50, true)));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsPolicyWithMissingLimitsUnbounded() {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(KEY_MAX_DEPTH, 1);
+
+		Optional<EmbeddingPolicy> optional = EmbeddingPolicy.fromProperties(
+			properties::get);
+
+		EmbeddingPolicy embeddingPolicy = optional.get();
+
+		assertThat(embeddingPolicy.getMaxDepth(), is(1));
+		assertThat(embeddingPolicy.getMaxFetches(), is(Integer.MAX_VALUE));
+		assertThat(embeddingPolicy.getMaxItems(), is(Integer.MAX_VALUE));
+		assertThat(embeddingPolicy.isReject(), is(false));
+	}
+
+	@Test
+	public void testRestrictKeepsLowestLimits() {
+		EmbeddingPolicy embeddingPolicy = new EmbeddingPolicy(
+			3, 100, 1000, false);
+
+		EmbeddingPolicy restrictedEmbeddingPolicy = embeddingPolicy.restrict(
+			new EmbeddingPolicy(5, 10, Integer.MAX_VALUE, true));
+
+		assertThat(
+			restrictedEmbeddingPolicy,
+			is(new EmbeddingPolicy(3, 10, 1000, true)));
+	}
+
+	@Test
+	public void testTruncatingKeepsLimitsWithoutRejecting() {
+		EmbeddingPolicy embeddingPolicy = new EmbeddingPolicy(
+			3, 100, 1000, true);
+
+		assertThat(
+			embeddingPolicy.truncating(),
+			is(new EmbeddingPolicy(3, 100, 1000, false)));
+	}
+
+}
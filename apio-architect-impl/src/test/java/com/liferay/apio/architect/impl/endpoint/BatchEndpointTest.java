@@ -16,6 +16,11 @@ package com.liferay.apio.architect.impl.endpoint;
 
 import static com.liferay.apio.architect.impl.endpoint.EndpointsTestUtil.emptyNestedCollectionRoutes;
 import static com.liferay.apio.architect.impl.endpoint.EndpointsTestUtil.nestedCollectionRoutes;
+import static com.liferay.apio.architect.impl.routes.RoutesTestUtil.FORM_BUILDER_FUNCTION;
+import static com.liferay.apio.architect.impl.routes.RoutesTestUtil.HAS_REMOVE_PERMISSION_FUNCTION;
+import static com.liferay.apio.architect.impl.routes.RoutesTestUtil.HAS_UPDATE_PERMISSION_FUNCTION;
+import static com.liferay.apio.architect.impl.routes.RoutesTestUtil.PROVIDE_FUNCTION;
+import static com.liferay.apio.architect.impl.routes.RoutesTestUtil.REQUEST_PROVIDE_FUNCTION;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -24,17 +29,32 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.batch.BatchItemFailure;
 import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.alias.ProvideFunction;
+import com.liferay.apio.architect.impl.batch.BatchExecutorImpl;
 import com.liferay.apio.architect.impl.representor.RepresentorImpl;
+import com.liferay.apio.architect.impl.routes.ItemRoutesImpl;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
 import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.routes.ItemRoutes;
+import com.liferay.apio.architect.supplier.ThrowableSupplier;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
 
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 /**
@@ -42,6 +62,127 @@ import org.junit.Test;
  */
 public class BatchEndpointTest {
 
+	@Before
+	public void setUp() {
+		_batchExecutorImpl = new BatchExecutorImpl();
+
+		_batchExecutorImpl.activate(Collections.emptyMap());
+	}
+
+	@After
+	public void tearDown() {
+		_batchExecutorImpl.deactivate();
+	}
+
+	@Test
+	public void testBatchDeleteReportsFailedItems() {
+		BatchEndpoint<Long> batchEndpoint = _batchEndpoint();
+
+		Try<BatchResult<Long>> batchResultTry =
+			batchEndpoint.deleteBatchCollectionItems(
+				asList("1", "2", "3", "1", "4"));
+
+		BatchResult<Long> batchResult = batchResultTry.getUnchecked();
+
+		assertThat(batchResult.resourceName, is("name"));
+		assertThat(batchResult.getIdentifiers(), contains(1L, 3L));
+		assertThat(batchResult.getFailedIdentifiers(), contains(2L, 4L));
+
+		List<BatchItemFailure<Long>> batchItemFailures =
+			batchResult.getBatchItemFailures();
+
+		BatchItemFailure<Long> mappedBatchItemFailure = batchItemFailures.get(
+			0);
+
+		assertThat(mappedBatchItemFailure.getStatusCode(), is(400));
+		assertThat(mappedBatchItemFailure.getReason(), is("Invalid item"));
+
+		BatchItemFailure<Long> unmappedBatchItemFailure =
+			batchItemFailures.get(1);
+
+		assertThat(unmappedBatchItemFailure.getStatusCode(), is(404));
+		assertThat(unmappedBatchItemFailure.getReason(), is("Not Found"));
+	}
+
+	@Test
+	public void testBatchOperationsProvideClassesOnRequestThread() {
+		Thread requestThread = Thread.currentThread();
+
+		ProvideFunction provideFunction = __ -> aClass -> {
+			if (Thread.currentThread() != requestThread) {
+				throw new IllegalStateException(
+					"Provided " + aClass + " outside the request thread");
+			}
+
+			return PROVIDE_FUNCTION.apply(aClass);
+		};
+
+		ItemRoutes.Builder<String, Long> builder =
+			new ItemRoutesImpl.BuilderImpl<>(
+				"name", provideFunction,
+				__ -> {
+				},
+				__ -> null, __ -> Optional.empty());
+
+		ItemRoutes<String, Long> itemRoutes = builder.addRemover(
+			(identifier, string) -> {
+			},
+			String.class, HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			(identifier, map, string) -> String.valueOf(map.get("key")),
+			String.class, HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+
+		BatchEndpoint<Long> batchEndpoint = _batchEndpoint(() -> itemRoutes);
+
+		BatchResult<Long> deleteBatchResult =
+			batchEndpoint.deleteBatchCollectionItems(
+				asList("1", "2", "3")
+			).getUnchecked();
+
+		assertThat(deleteBatchResult.getIdentifiers(), contains(1L, 2L, 3L));
+		assertThat(deleteBatchResult.getFailedIdentifiers(), is(emptyList()));
+
+		Body body = Body.create(
+			asList(_body("1", "Apio"), _body("2", "Hypermedia")));
+
+		BatchResult<Long> updateBatchResult =
+			batchEndpoint.updateBatchCollectionItems(
+				body
+			).getUnchecked();
+
+		assertThat(updateBatchResult.getIdentifiers(), contains(1L, 2L));
+		assertThat(updateBatchResult.getFailedIdentifiers(), is(emptyList()));
+	}
+
+	@Test
+	public void testBatchUpdateReportsFailedItems() {
+		BatchEndpoint<Long> batchEndpoint = _batchEndpoint();
+
+		Body body = Body.create(
+			asList(_body("3", "Apio"), _body("2", "Hypermedia")));
+
+		Try<BatchResult<Long>> batchResultTry =
+			batchEndpoint.updateBatchCollectionItems(body);
+
+		BatchResult<Long> batchResult = batchResultTry.getUnchecked();
+
+		assertThat(batchResult.getIdentifiers(), contains(3L));
+		assertThat(batchResult.getFailedIdentifiers(), contains(2L));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testBatchUpdateWithoutIdProvokesFailure() throws Exception {
+		BatchEndpoint<Long> batchEndpoint = _batchEndpoint();
+
+		Body body = Body.create(asList(__ -> Optional.of("Apio")));
+
+		Try<BatchResult<Long>> batchResultTry =
+			batchEndpoint.updateBatchCollectionItems(body);
+
+		batchResultTry.get();
+	}
+
 	@Test(expected = NotAllowedException.class)
 	public void testEmptyCollectionRoutesSupplierProvokesFailure()
 		throws Exception {
@@ -58,6 +199,14 @@ public class BatchEndpointTest {
 			EndpointsTestUtil::emptyCollectionRoutes
 		).nestedCollectionRoutesFunction(
 			__ -> null
+		).itemRoutesSupplier(
+			() -> null
+		).pathToIdentifierFunction(
+			__ -> null
+		).batchExecutor(
+			null
+		).apiErrorFunction(
+			__ -> Optional.empty()
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -82,6 +231,14 @@ public class BatchEndpointTest {
 			() -> null
 		).nestedCollectionRoutesFunction(
 			__ -> emptyNestedCollectionRoutes()
+		).itemRoutesSupplier(
+			() -> null
+		).pathToIdentifierFunction(
+			__ -> null
+		).batchExecutor(
+			null
+		).apiErrorFunction(
+			__ -> Optional.empty()
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -109,6 +266,14 @@ public class BatchEndpointTest {
 			}
 		).nestedCollectionRoutesFunction(
 			__ -> null
+		).itemRoutesSupplier(
+			() -> null
+		).pathToIdentifierFunction(
+			__ -> null
+		).batchExecutor(
+			null
+		).apiErrorFunction(
+			__ -> Optional.empty()
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -135,6 +300,14 @@ public class BatchEndpointTest {
 			__ -> {
 				throw new IllegalArgumentException();
 			}
+		).itemRoutesSupplier(
+			() -> null
+		).pathToIdentifierFunction(
+			__ -> null
+		).batchExecutor(
+			null
+		).apiErrorFunction(
+			__ -> Optional.empty()
 		).build();
 
 		Try<BatchResult<Object>> batchResultTry =
@@ -159,6 +332,14 @@ public class BatchEndpointTest {
 			EndpointsTestUtil::collectionRoutes
 		).nestedCollectionRoutesFunction(
 			__ -> nestedCollectionRoutes()
+		).itemRoutesSupplier(
+			() -> null
+		).pathToIdentifierFunction(
+			__ -> null
+		).batchExecutor(
+			null
+		).apiErrorFunction(
+			__ -> Optional.empty()
 		).build();
 
 		Body body = Body.create(
@@ -197,6 +378,14 @@ public class BatchEndpointTest {
 
 				return nestedCollectionRoutes();
 			}
+		).itemRoutesSupplier(
+			() -> null
+		).pathToIdentifierFunction(
+			__ -> null
+		).batchExecutor(
+			null
+		).apiErrorFunction(
+			__ -> Optional.empty()
 		).build();
 
 		Body body = Body.create(
@@ -212,6 +401,46 @@ public class BatchEndpointTest {
 			batchResult.getIdentifiers(), contains("Apio", "Hypermedia"));
 	}
 
+	private static Body _body(String id, String key) {
+		Map<String, String> values = new HashMap<>();
+
+		values.put("id", id);
+		values.put("key", key);
+
+		return name -> Optional.ofNullable(values.get(name));
+	}
+
+	private static ItemRoutes<String, Long> _itemRoutes() {
+		ItemRoutes.Builder<String, Long> builder =
+			new ItemRoutesImpl.BuilderImpl<>(
+				"name", REQUEST_PROVIDE_FUNCTION,
+				__ -> {
+				},
+				__ -> null, __ -> Optional.empty());
+
+		return builder.addRemover(
+			identifier -> {
+				if (identifier == 2L) {
+					throw new IllegalArgumentException();
+				}
+
+				if (identifier == 4L) {
+					throw new NotFoundException();
+				}
+			},
+			HAS_REMOVE_PERMISSION_FUNCTION
+		).addUpdater(
+			(identifier, map) -> {
+				if (identifier == 2L) {
+					throw new IllegalArgumentException();
+				}
+
+				return String.valueOf(map.get("key"));
+			},
+			HAS_UPDATE_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).build();
+	}
+
 	private static Representor<Object> _representor() {
 		Representor.Builder<Object, Object> builder =
 			new RepresentorImpl.BuilderImpl<>(null);
@@ -223,4 +452,44 @@ public class BatchEndpointTest {
 		).build();
 	}
 
+	private BatchEndpoint<Long> _batchEndpoint() {
+		return _batchEndpoint(BatchEndpointTest::_itemRoutes);
+	}
+
+	private BatchEndpoint<Long> _batchEndpoint(
+		ThrowableSupplier<ItemRoutes<String, Long>> itemRoutesSupplier) {
+
+		return BatchEndpointBuilder.<String, Long>name(
+			"name"
+		).httpServletRequest(
+			null
+		).singleModelFunction(
+			__ -> null
+		).representorSupplier(
+			() -> null
+		).collectionRoutesSupplier(
+			() -> null
+		).nestedCollectionRoutesFunction(
+			__ -> null
+		).itemRoutesSupplier(
+			itemRoutesSupplier
+		).pathToIdentifierFunction(
+			path -> Long.valueOf(path.getId())
+		).batchExecutor(
+			_batchExecutorImpl
+		).apiErrorFunction(
+			exception -> {
+				if (exception instanceof IllegalArgumentException) {
+					return Optional.of(
+						new APIError(
+							exception, "Invalid item", "invalid-item", 400));
+				}
+
+				return Optional.empty();
+			}
+		).build();
+	}
+
+	private BatchExecutorImpl _batchExecutorImpl;
+
 }
\ No newline at end of file
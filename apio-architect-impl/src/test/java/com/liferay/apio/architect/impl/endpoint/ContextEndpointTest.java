@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.endpoint;
+
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createRootModelRepresentor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import com.liferay.apio.architect.representor.Representor;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ContextEndpointTest {
+
+	@Test
+	public void testGetContextReturnsCacheableDocument() {
+		Request request = Mockito.mock(Request.class);
+
+		Response response = _contextEndpoint.getContext("model", request);
+
+		assertThat(response.getStatus(), is(200));
+
+		CacheControl cacheControl = (CacheControl)response.getHeaders(
+		).getFirst(
+			"Cache-Control"
+		);
+
+		assertThat(cacheControl.getMaxAge(), is(ContextEndpoint.MAX_AGE));
+		assertThat(cacheControl.isMustRevalidate(), is(true));
+
+		String entity = (String)response.getEntity();
+
+		EntityTag entityTag = response.getEntityTag();
+
+		assertThat(
+			entityTag.getValue(), is(Integer.toHexString(entity.hashCode())));
+	}
+
+	@Test
+	public void testGetContextReturnsNotModifiedIfETagMatches() {
+		Request request = Mockito.mock(Request.class);
+
+		Mockito.when(
+			request.evaluatePreconditions(Mockito.any(EntityTag.class))
+		).thenReturn(
+			Response.notModified()
+		);
+
+		Response response = _contextEndpoint.getContext("model", request);
+
+		assertThat(response.getStatus(), is(304));
+		assertThat(response.getEntity(), is(nullValue()));
+	}
+
+	@Test(expected = NotFoundException.class)
+	public void testGetContextWithUnknownResourceThrowsNotFound() {
+		ContextEndpoint contextEndpoint = new ContextEndpoint(
+			name -> {
+				throw new NotFoundException();
+			});
+
+		contextEndpoint.getContext("unknown", Mockito.mock(Request.class));
+	}
+
+	private final ContextEndpoint _contextEndpoint = new ContextEndpoint(
+		__ -> (Representor)createRootModelRepresentor(false));
+
+}
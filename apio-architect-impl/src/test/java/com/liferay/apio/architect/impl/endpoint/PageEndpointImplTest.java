@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.endpoint;
+
+import static com.liferay.apio.architect.test.util.result.TryMatchers.aFailTry;
+import static com.liferay.apio.architect.test.util.result.TryMatchers.aSuccessTry;
+
+import static java.util.Collections.emptyList;
+import static java.util.function.Function.identity;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.alias.routes.NestedGetPageAsyncFunction;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.metrics.InstrumentationImpl;
+import com.liferay.apio.architect.impl.representor.RepresentorImpl.BuilderImpl;
+import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.representor.Representor.Builder;
+import com.liferay.apio.architect.routes.NestedCollectionRoutes;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.GenericEntity;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageEndpointImplTest {
+
+	@Test
+	public void testGetNestedCollectionPageMapsMissingPageToNotFound() {
+		CompletableFuture<Page<Object>> completableFuture =
+			new CompletableFuture<>();
+
+		completableFuture.completeExceptionally(new NoSuchElementException());
+
+		Try<Page<Object>> pageTry = _getNestedCollectionPageTry(
+			completableFuture);
+
+		assertThat(pageTry, is(aFailTry()));
+
+		Exception exception = pageTry.fold(identity(), __ -> null);
+
+		assertThat(exception, is(instanceOf(NotFoundException.class)));
+	}
+
+	@Test
+	public void testGetNestedCollectionPageResumesWithPage() {
+		@SuppressWarnings("unchecked")
+		Page<Object> page = Mockito.mock(Page.class);
+
+		Try<Page<Object>> pageTry = _getNestedCollectionPageTry(
+			CompletableFuture.completedFuture(page));
+
+		assertThat(pageTry, is(aSuccessTry()));
+		assertThat(pageTry.getUnchecked(), is(page));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Try<Page<Object>> _getNestedCollectionPageTry(
+		CompletableFuture<Page<Object>> completableFuture) {
+
+		NestedGetPageAsyncFunction<Object, Object> nestedGetPageAsyncFunction =
+			httpServletRequest -> path -> identifier -> completableFuture;
+
+		NestedCollectionRoutes<Object, Object, Object> nestedCollectionRoutes =
+			Mockito.mock(NestedCollectionRoutes.class);
+
+		Mockito.when(
+			nestedCollectionRoutes.getNestedGetPageAsyncFunctionOptional()
+		).thenReturn(
+			Optional.of(nestedGetPageAsyncFunction)
+		);
+
+		PageEndpointImpl<Object, Object> pageEndpointImpl =
+			new PageEndpointImpl<>(
+				"name", Mockito.mock(HttpServletRequest.class),
+				id -> Try.success(
+					new SingleModelImpl<>(id, "name", emptyList())),
+				null, null, null, PageEndpointImplTest::_representor, null,
+				__ -> nestedCollectionRoutes, null, new InstrumentationImpl());
+
+		AtomicReference<Object> entityReference = new AtomicReference<>();
+
+		AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+		Mockito.doAnswer(
+			invocation -> {
+				entityReference.set(invocation.getArgument(0));
+
+				return true;
+			}
+		).when(
+			asyncResponse
+		).resume(
+			Mockito.any(Object.class)
+		);
+
+		pageEndpointImpl.getNestedCollectionPage(
+			"id", "nestedName", asyncResponse);
+
+		GenericEntity<Try<Page<Object>>> genericEntity =
+			(GenericEntity<Try<Page<Object>>>)entityReference.get();
+
+		return genericEntity.getEntity();
+	}
+
+	private static Representor<Object> _representor() {
+		Builder<Object, Object> builder = new BuilderImpl<>(null);
+
+		return builder.types(
+			""
+		).identifier(
+			identity()
+		).build();
+	}
+
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import static com.liferay.apio.architect.impl.invalidation.FileInvalidationTransport.FILE;
+import static com.liferay.apio.architect.impl.invalidation.FileInvalidationTransport.POLL_INTERVAL;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class FileInvalidationTransportTest {
+
+	@Before
+	public void setUp() throws IOException {
+		_path = Files.createTempFile("invalidation", ".log");
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(FILE, _path.toString());
+		properties.put(POLL_INTERVAL, 10);
+
+		_sendingTransport.activate(properties);
+		_receivingTransport.activate(properties);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		_sendingTransport.deactivate();
+		_receivingTransport.deactivate();
+
+		Files.deleteIfExists(_path);
+	}
+
+	@Test
+	public void testMessagesAreReadAfterTruncation() throws Exception {
+		BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+		_receivingTransport.subscribe(messages::add);
+
+		_sendingTransport.send("first");
+
+		assertThat(messages.poll(5, SECONDS), is("first"));
+
+		Files.write(_path, new byte[0]);
+
+		Thread.sleep(100);
+
+		_sendingTransport.send("second");
+
+		assertThat(messages.poll(5, SECONDS), is("second"));
+	}
+
+	@Test
+	public void testMessagesAreReadByOtherTransportsInOrder()
+		throws Exception {
+
+		BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+		_receivingTransport.subscribe(messages::add);
+
+		_sendingTransport.send("first");
+		_sendingTransport.send("second");
+
+		assertThat(messages.poll(5, SECONDS), is("first"));
+		assertThat(messages.poll(5, SECONDS), is("second"));
+	}
+
+	@Test
+	public void testUnsubscribedConsumersAreNotNotified() throws Exception {
+		BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+		BlockingQueue<String> unsubscribedMessages =
+			new LinkedBlockingQueue<>();
+
+		Consumer<String> consumer = unsubscribedMessages::add;
+
+		_receivingTransport.subscribe(messages::add);
+		_receivingTransport.subscribe(consumer);
+		_receivingTransport.unsubscribe(consumer);
+
+		_sendingTransport.send("message");
+
+		assertThat(messages.poll(5, SECONDS), is("message"));
+		assertThat(unsubscribedMessages.isEmpty(), is(true));
+	}
+
+	private Path _path;
+	private final FileInvalidationTransport _receivingTransport =
+		new FileInvalidationTransport();
+	private final FileInvalidationTransport _sendingTransport =
+		new FileInvalidationTransport();
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.invalidation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class InvalidationMessageTest {
+
+	@Test
+	public void testFromJSONFailsWithInvalidJSON() {
+		Try<InvalidationMessage> invalidationMessageTry =
+			InvalidationMessage.fromJSON("{");
+
+		assertThat(invalidationMessageTry.isFailure(), is(true));
+	}
+
+	@Test
+	public void testFromJSONFailsWithoutNameOrNode() {
+		Try<InvalidationMessage> nameTry = InvalidationMessage.fromJSON(
+			"{\"node\": \"node\"}");
+		Try<InvalidationMessage> nodeTry = InvalidationMessage.fromJSON(
+			"{\"name\": \"name\"}");
+
+		assertThat(nameTry.isFailure(), is(true));
+		assertThat(nodeTry.isFailure(), is(true));
+	}
+
+	@Test
+	public void testMessageIsReadBack() {
+		InvalidationMessage invalidationMessage = new InvalidationMessage(
+			"node", "name", "id", "parentName", "parentId");
+
+		String json = invalidationMessage.toJSON();
+
+		assertThat(json.contains("\n"), is(false));
+
+		Try<InvalidationMessage> invalidationMessageTry =
+			InvalidationMessage.fromJSON(json);
+
+		InvalidationMessage readInvalidationMessage =
+			invalidationMessageTry.getUnchecked();
+
+		assertThat(readInvalidationMessage.getNode(), is("node"));
+		assertThat(readInvalidationMessage.getName(), is("name"));
+		assertThat(
+			readInvalidationMessage.getIdOptional(), is(Optional.of("id")));
+		assertThat(
+			readInvalidationMessage.getParentNameOptional(),
+			is(Optional.of("parentName")));
+		assertThat(
+			readInvalidationMessage.getParentIdOptional(),
+			is(Optional.of("parentId")));
+	}
+
+	@Test
+	public void testMessageWithoutIdentifiersIsReadBack() {
+		InvalidationMessage invalidationMessage = new InvalidationMessage(
+			"node", "name", null, null, null);
+
+		Try<InvalidationMessage> invalidationMessageTry =
+			InvalidationMessage.fromJSON(invalidationMessage.toJSON());
+
+		InvalidationMessage readInvalidationMessage =
+			invalidationMessageTry.getUnchecked();
+
+		assertThat(readInvalidationMessage.getName(), is("name"));
+		assertThat(
+			readInvalidationMessage.getIdOptional(), is(Optional.empty()));
+		assertThat(
+			readInvalidationMessage.getParentNameOptional(),
+			is(Optional.empty()));
+	}
+
+}
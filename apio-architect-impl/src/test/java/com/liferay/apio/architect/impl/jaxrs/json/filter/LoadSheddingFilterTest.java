@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.impl.admission.LoadShedder;
+
+import java.io.IOException;
+
+import java.lang.reflect.Field;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LoadSheddingFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_loadSheddingFilter = new LoadSheddingFilter();
+
+		_loadSheddingFilter.activate(
+			Collections.singletonMap(LoadSheddingFilter.ENABLED, true));
+
+		Field field = LoadSheddingFilter.class.getDeclaredField(
+			"_loadShedder");
+
+		field.setAccessible(true);
+
+		_loadShedder = (LoadShedder)field.get(_loadSheddingFilter);
+	}
+
+	@Test
+	public void testLongLivedRequestsAreNotAdmitted() throws Exception {
+		_loadSheddingFilter.filter(_mockContainerRequestContext("changes/p"));
+		_loadSheddingFilter.filter(_mockContainerRequestContext("stream/p"));
+
+		assertThat(_loadShedder.getInFlightCount(), is(0));
+		assertThat(_properties.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testRequestIsReleasedAfterEntityIsWritten() throws Exception {
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("p/people");
+
+		_loadSheddingFilter.filter(containerRequestContext);
+
+		assertThat(_loadShedder.getInFlightCount(), is(1));
+
+		_loadSheddingFilter.filter(
+			containerRequestContext, _mockContainerResponseContext(true));
+
+		assertThat(_loadShedder.getInFlightCount(), is(1));
+
+		_loadSheddingFilter.aroundWriteTo(_mockWriterInterceptorContext());
+
+		assertThat(_loadShedder.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void testRequestIsReleasedIfWritingEntityFails() throws Exception {
+		_loadSheddingFilter.filter(_mockContainerRequestContext("p/people"));
+
+		WriterInterceptorContext writerInterceptorContext =
+			_mockWriterInterceptorContext();
+
+		Mockito.doThrow(
+			new IOException()
+		).when(
+			writerInterceptorContext
+		).proceed();
+
+		try {
+			_loadSheddingFilter.aroundWriteTo(writerInterceptorContext);
+		}
+		catch (IOException ioe) {
+			assertThat(_loadShedder.getInFlightCount(), is(0));
+
+			return;
+		}
+
+		throw new AssertionError("Writing the entity should have failed");
+	}
+
+	@Test
+	public void testRequestWithoutEntityIsReleasedInResponseFilter()
+		throws Exception {
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext("p/people");
+
+		_loadSheddingFilter.filter(containerRequestContext);
+
+		_loadSheddingFilter.filter(
+			containerRequestContext, _mockContainerResponseContext(false));
+
+		assertThat(_loadShedder.getInFlightCount(), is(0));
+		assertThat(_properties.get(_ADMISSION_PROPERTY), is(nullValue()));
+
+		_loadSheddingFilter.aroundWriteTo(_mockWriterInterceptorContext());
+
+		assertThat(_loadShedder.getInFlightCount(), is(0));
+	}
+
+	private ContainerRequestContext _mockContainerRequestContext(String path) {
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getPath()
+		).thenReturn(
+			path
+		);
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		Mockito.when(
+			containerRequestContext.getProperty(Mockito.anyString())
+		).thenAnswer(
+			invocation -> _properties.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return _properties.put((String)arguments[0], arguments[1]);
+			}
+		).when(
+			containerRequestContext
+		).setProperty(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		Mockito.doAnswer(
+			invocation -> _properties.remove(invocation.getArguments()[0])
+		).when(
+			containerRequestContext
+		).removeProperty(
+			Mockito.anyString()
+		);
+
+		return containerRequestContext;
+	}
+
+	private ContainerResponseContext _mockContainerResponseContext(
+		boolean hasEntity) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.hasEntity()
+		).thenReturn(
+			hasEntity
+		);
+
+		return containerResponseContext;
+	}
+
+	private WriterInterceptorContext _mockWriterInterceptorContext() {
+		WriterInterceptorContext writerInterceptorContext = Mockito.mock(
+			WriterInterceptorContext.class);
+
+		Mockito.when(
+			writerInterceptorContext.getProperty(Mockito.anyString())
+		).thenAnswer(
+			invocation -> _properties.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> _properties.remove(invocation.getArguments()[0])
+		).when(
+			writerInterceptorContext
+		).removeProperty(
+			Mockito.anyString()
+		);
+
+		return writerInterceptorContext;
+	}
+
+	private static final String _ADMISSION_PROPERTY =
+		LoadSheddingFilter.class.getName() + ".admission";
+
+	private LoadShedder _loadShedder;
+	private LoadSheddingFilter _loadSheddingFilter;
+	private final Map<String, Object> _properties = new HashMap<>();
+
+}
@@ -0,0 +1,350 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.impl.metrics.RequestDiagnostics.DIAGNOSTICS_HEADER;
+import static com.liferay.apio.architect.impl.metrics.RequestDiagnostics.SERVER_TIMING_HEADER;
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+import java.lang.reflect.Field;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestCoalescingFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_requestCoalescingFilter = new RequestCoalescingFilter();
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(RequestCoalescingFilter.ENABLED, true);
+		properties.put(RequestCoalescingFilter.WAIT, 10000);
+
+		_requestCoalescingFilter.activate(properties);
+
+		ProviderManager providerManager = Mockito.mock(ProviderManager.class);
+
+		Mockito.when(
+			providerManager.provideOptional(
+				Mockito.any(HttpServletRequest.class), Mockito.any())
+		).thenReturn(
+			Optional.empty()
+		);
+
+		_setField("_httpServletRequest", createHttpServletRequest());
+		_setField("_instrumentation", Mockito.mock(Instrumentation.class));
+		_setField("_providerManager", providerManager);
+	}
+
+	@Test
+	public void testFollowerOnlyReceivesRepresentationHeaders()
+		throws Exception {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		ContainerRequestContext leaderContainerRequestContext =
+			_mockContainerRequestContext(properties, null);
+
+		_requestCoalescingFilter.filter(leaderContainerRequestContext);
+
+		assertThat(properties.isEmpty(), is(false));
+
+		AtomicReference<Response> responseReference = new AtomicReference<>();
+
+		ContainerRequestContext followerContainerRequestContext =
+			_mockContainerRequestContext(new HashMap<>(), responseReference);
+
+		Thread thread = new Thread(
+			() -> {
+				try {
+					_requestCoalescingFilter.filter(
+						followerContainerRequestContext);
+				}
+				catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+
+		thread.start();
+
+		while (thread.getState() != Thread.State.TIMED_WAITING) {
+			Thread.sleep(1);
+		}
+
+		_requestCoalescingFilter.filter(
+			leaderContainerRequestContext, _mockContainerResponseContext());
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		headers.add(CONTENT_TYPE, "application/json");
+		headers.add(DIAGNOSTICS_HEADER, "{}");
+		headers.add(ETAG, "\"1\"");
+		headers.add(SERVER_TIMING_HEADER, "total;dur=1");
+		headers.add(VARY, "Accept");
+		headers.add("Warning", "199 - \"Embedded resources exceeded\"");
+
+		_requestCoalescingFilter.aroundWriteTo(
+			_mockWriterInterceptorContext(properties, headers));
+
+		thread.join();
+
+		Response response = responseReference.get();
+
+		assertThat(response, is(notNullValue()));
+
+		MultivaluedMap<String, String> stringHeaders =
+			response.getStringHeaders();
+
+		assertThat(stringHeaders.getFirst(ETAG), is("\"1\""));
+		assertThat(stringHeaders.getFirst(VARY), is("Accept"));
+		assertThat(stringHeaders.getFirst(DIAGNOSTICS_HEADER), is(nullValue()));
+		assertThat(
+			stringHeaders.getFirst(SERVER_TIMING_HEADER), is(nullValue()));
+		assertThat(stringHeaders.getFirst("Warning"), is(nullValue()));
+	}
+
+	@Test
+	public void testRequestWithDiagnosticsTokenIsNotCoalesced()
+		throws Exception {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext(properties, null);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString(
+				DiagnosticsFilter.TOKEN_HEADER)
+		).thenReturn(
+			"token"
+		);
+
+		_requestCoalescingFilter.filter(containerRequestContext);
+
+		assertThat(properties.isEmpty(), is(true));
+	}
+
+	private ContainerRequestContext _mockContainerRequestContext(
+		Map<String, Object> properties,
+		AtomicReference<Response> responseReference) {
+
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getPath()
+		).thenReturn(
+			"p/name"
+		);
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getAcceptableMediaTypes()
+		).thenReturn(
+			Collections.singletonList(MediaType.APPLICATION_JSON_TYPE)
+		);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		Mockito.doAnswer(
+			invocation -> properties.put(
+				invocation.getArgument(0), invocation.getArgument(1))
+		).when(
+			containerRequestContext
+		).setProperty(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		Mockito.when(
+			containerRequestContext.getProperty(Mockito.anyString())
+		).thenAnswer(
+			invocation -> properties.get(invocation.getArgument(0))
+		);
+
+		Mockito.doAnswer(
+			invocation -> properties.remove(invocation.getArgument(0))
+		).when(
+			containerRequestContext
+		).removeProperty(
+			Mockito.anyString()
+		);
+
+		if (responseReference != null) {
+			Mockito.doAnswer(
+				invocation -> {
+					responseReference.set(invocation.getArgument(0));
+
+					return null;
+				}
+			).when(
+				containerRequestContext
+			).abortWith(
+				Mockito.any(Response.class)
+			);
+		}
+
+		return containerRequestContext;
+	}
+
+	private ContainerResponseContext _mockContainerResponseContext() {
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getStatus()
+		).thenReturn(
+			200
+		);
+
+		Mockito.when(
+			containerResponseContext.getStatusInfo()
+		).thenReturn(
+			Response.Status.OK
+		);
+
+		Mockito.when(
+			containerResponseContext.hasEntity()
+		).thenReturn(
+			true
+		);
+
+		return containerResponseContext;
+	}
+
+	private WriterInterceptorContext _mockWriterInterceptorContext(
+			Map<String, Object> properties,
+			MultivaluedMap<String, Object> headers)
+		throws Exception {
+
+		AtomicReference<OutputStream> outputStreamReference =
+			new AtomicReference<>(new ByteArrayOutputStream());
+
+		WriterInterceptorContext writerInterceptorContext = Mockito.mock(
+			WriterInterceptorContext.class);
+
+		Mockito.when(
+			writerInterceptorContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		Mockito.when(
+			writerInterceptorContext.getOutputStream()
+		).thenAnswer(
+			invocation -> outputStreamReference.get()
+		);
+
+		Mockito.when(
+			writerInterceptorContext.getProperty(Mockito.anyString())
+		).thenAnswer(
+			invocation -> properties.get(invocation.getArgument(0))
+		);
+
+		Mockito.doAnswer(
+			invocation -> {
+				OutputStream outputStream = outputStreamReference.get();
+
+				outputStream.write("{}".getBytes());
+
+				return null;
+			}
+		).when(
+			writerInterceptorContext
+		).proceed();
+
+		Mockito.doAnswer(
+			invocation -> properties.remove(invocation.getArgument(0))
+		).when(
+			writerInterceptorContext
+		).removeProperty(
+			Mockito.anyString()
+		);
+
+		Mockito.doAnswer(
+			invocation -> {
+				outputStreamReference.set(invocation.getArgument(0));
+
+				return null;
+			}
+		).when(
+			writerInterceptorContext
+		).setOutputStream(
+			Mockito.any(OutputStream.class)
+		);
+
+		return writerInterceptorContext;
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = RequestCoalescingFilter.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_requestCoalescingFilter, value);
+	}
+
+	private RequestCoalescingFilter _requestCoalescingFilter;
+
+}
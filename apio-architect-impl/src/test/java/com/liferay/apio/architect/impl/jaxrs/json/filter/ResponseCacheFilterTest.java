@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.filter;
+
+import static com.liferay.apio.architect.impl.metrics.RequestDiagnostics.SERVER_TIMING_HEADER;
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.impl.cache.CachedResponse;
+import com.liferay.apio.architect.impl.cache.ResponseCache;
+import com.liferay.apio.architect.impl.cache.ResponseCachePolicy;
+import com.liferay.apio.architect.impl.message.json.PageMessageMapper;
+import com.liferay.apio.architect.impl.metrics.Instrumentation;
+import com.liferay.apio.architect.impl.metrics.RequestDiagnostics;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.PageMessageMapperManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.router.CollectionRouterManager;
+
+import java.lang.reflect.Field;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResponseCacheFilterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_httpServletRequest = createHttpServletRequest();
+		_responseCache = Mockito.mock(ResponseCache.class);
+		_responseCacheFilter = new ResponseCacheFilter();
+
+		_setField("_httpServletRequest", _httpServletRequest);
+		_setField("_responseCache", _responseCache);
+	}
+
+	@Test
+	public void testCachedResponseIncludesServerTiming() throws Exception {
+		_mockCachedResponse();
+
+		RequestDiagnostics.start(_httpServletRequest);
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext();
+
+		_responseCacheFilter.filter(containerRequestContext);
+
+		Mockito.verify(
+			containerRequestContext
+		).abortWith(
+			Mockito.any(Response.class)
+		);
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(200);
+
+		_responseCacheFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(headers.containsKey(SERVER_TIMING_HEADER), is(true));
+	}
+
+	@Test
+	public void testNonSuccessfulResponseIsDiscarded() throws Exception {
+		_responseCacheFilter.filter(
+			Mockito.mock(ContainerRequestContext.class),
+			_mockContainerResponseContext(404));
+
+		Mockito.verify(
+			_responseCache
+		).discardCachedResponse(
+			_httpServletRequest
+		);
+	}
+
+	@Test
+	public void testSuccessfulResponseIsNotDiscarded() throws Exception {
+		_responseCacheFilter.filter(
+			Mockito.mock(ContainerRequestContext.class),
+			_mockContainerResponseContext(200));
+
+		Mockito.verify(
+			_responseCache, Mockito.never()
+		).discardCachedResponse(
+			Mockito.any(HttpServletRequest.class)
+		);
+	}
+
+	private void _mockCachedResponse() throws Exception {
+		CollectionRouterManager collectionRouterManager = Mockito.mock(
+			CollectionRouterManager.class);
+
+		Mockito.when(
+			collectionRouterManager.getResponseCachePolicyOptional("name")
+		).thenReturn(
+			Optional.of(new ResponseCachePolicy(60000, true))
+		);
+
+		PageMessageMapper<Object> pageMessageMapper = Mockito.mock(
+			PageMessageMapper.class);
+
+		Mockito.when(
+			pageMessageMapper.getMediaType()
+		).thenReturn(
+			"application/json"
+		);
+
+		PageMessageMapperManager pageMessageMapperManager = Mockito.mock(
+			PageMessageMapperManager.class);
+
+		Mockito.when(
+			pageMessageMapperManager.getPageMessageMapperOptional(
+				Mockito.any(Request.class))
+		).thenReturn(
+			Optional.of(pageMessageMapper)
+		);
+
+		Mockito.when(
+			_responseCache.getCachedResponseOptional(
+				Mockito.any(HttpServletRequest.class), Mockito.eq("name"),
+				Mockito.any(ResponseCachePolicy.class),
+				Mockito.eq("application/json"))
+		).thenReturn(
+			Optional.of(new CachedResponse("{}", "application/json"))
+		);
+
+		_setField("_collectionRouterManager", collectionRouterManager);
+		_setField("_instrumentation", Mockito.mock(Instrumentation.class));
+		_setField("_pageMessageMapperManager", pageMessageMapperManager);
+	}
+
+	private ContainerRequestContext _mockContainerRequestContext() {
+		UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+		Mockito.when(
+			uriInfo.getPath()
+		).thenReturn(
+			"p/name"
+		);
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			containerRequestContext.getUriInfo()
+		).thenReturn(
+			uriInfo
+		);
+
+		return containerRequestContext;
+	}
+
+	private ContainerResponseContext _mockContainerResponseContext(
+		int status) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getHeaders()
+		).thenReturn(
+			new MultivaluedHashMap<>()
+		);
+
+		Mockito.when(
+			containerResponseContext.getStatus()
+		).thenReturn(
+			status
+		);
+
+		return containerResponseContext;
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = ResponseCacheFilter.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_responseCacheFilter, value);
+	}
+
+	private HttpServletRequest _httpServletRequest;
+	private ResponseCache _responseCache;
+	private ResponseCacheFilter _responseCacheFilter;
+
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.util;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static java.util.Collections.emptyMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.impl.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
+
+import java.lang.reflect.Field;
+
+import java.util.Optional;
+
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ErrorUtilTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_errorUtil = new ErrorUtil();
+
+		ErrorMessageMapper errorMessageMapper = Mockito.mock(
+			ErrorMessageMapper.class);
+
+		Mockito.when(
+			errorMessageMapper.getMediaType()
+		).thenReturn(
+			"application/json"
+		);
+
+		ErrorMessageMapperManager errorMessageMapperManager = Mockito.mock(
+			ErrorMessageMapperManager.class);
+
+		Mockito.when(
+			errorMessageMapperManager.getErrorMessageMapperOptional(
+				Mockito.any(Request.class))
+		).thenReturn(
+			Optional.of(errorMessageMapper)
+		);
+
+		_setField("_errorMessageMapperManager", errorMessageMapperManager);
+
+		ExceptionMapperManager exceptionMapperManager = Mockito.mock(
+			ExceptionMapperManager.class);
+
+		Mockito.when(
+			exceptionMapperManager.map(Mockito.any(Exception.class))
+		).thenAnswer(
+			invocation -> {
+				Exception exception =
+					(Exception)invocation.getArguments()[0];
+
+				if (exception instanceof IllegalArgumentException) {
+					return Optional.of(
+						new APIError(
+							exception, "Bad request", exception.getMessage(),
+							"bad-request", 400));
+				}
+
+				return Optional.of(
+					new APIError(
+						exception, exception.getMessage(), "not-found", 404));
+			}
+		);
+
+		_setField("_exceptionMapperManager", exceptionMapperManager);
+
+		_errorUtil.activate(emptyMap());
+	}
+
+	@After
+	public void tearDown() {
+		_errorUtil.deactivate();
+	}
+
+	@Test
+	public void testErrorsWithDescriptionAreRenderedEveryTime() {
+		Object entity = _getEntity(new IllegalArgumentException("Wrong"));
+
+		assertThat(
+			_getEntity(new IllegalArgumentException("Wrong")),
+			is(not(sameInstance(entity))));
+	}
+
+	@Test
+	public void testErrorsWithoutDescriptionReuseRenderedBody() {
+		Object entity = _getEntity(new Exception("Not found"));
+
+		assertThat(
+			_getEntity(new Exception("Not found")), is(sameInstance(entity)));
+		assertThat(
+			_getEntity(new Exception("Gone")), is(not(sameInstance(entity))));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedBodiesAreEvicted() {
+		Object firstEntity = _getEntity(new Exception("Title 0"));
+		Object secondEntity = _getEntity(new Exception("Title 1"));
+
+		for (int i = 2; i <= 256; i++) {
+			_getEntity(new Exception("Title 0"));
+			_getEntity(new Exception("Title " + i));
+		}
+
+		assertThat(
+			_getEntity(new Exception("Title 0")),
+			is(sameInstance(firstEntity)));
+		assertThat(
+			_getEntity(new Exception("Title 1")),
+			is(not(sameInstance(secondEntity))));
+	}
+
+	@Test
+	public void testRenderedBodiesAreDiscardedWhenManagerCacheIsCleared() {
+		Object entity = _getEntity(new Exception("Not found"));
+
+		INSTANCE.clear();
+
+		assertThat(
+			_getEntity(new Exception("Not found")),
+			is(not(sameInstance(entity))));
+	}
+
+	private Object _getEntity(Exception exception) {
+		Response response = _errorUtil.getErrorResponse(
+			exception, Mockito.mock(Request.class));
+
+		return response.getEntity();
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = ErrorUtil.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_errorUtil, value);
+	}
+
+	private ErrorUtil _errorUtil;
+
+}
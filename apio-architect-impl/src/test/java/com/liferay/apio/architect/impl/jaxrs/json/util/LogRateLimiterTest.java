@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LogRateLimiterTest {
+
+	@Before
+	public void setUp() {
+		_clock = new AtomicLong();
+
+		_logRateLimiter = new LogRateLimiter(2, 1000, _clock::get);
+	}
+
+	@Test
+	public void testMessagesAboveLimitAreSuppressed() {
+		assertThat(_logRateLimiter.tryAcquire(), is(0L));
+		assertThat(_logRateLimiter.tryAcquire(), is(0L));
+		assertThat(_logRateLimiter.tryAcquire(), is(-1L));
+		assertThat(_logRateLimiter.tryAcquire(), is(-1L));
+	}
+
+	@Test
+	public void testNewIntervalReportsSuppressedMessages() {
+		for (int i = 0; i < 5; i++) {
+			_logRateLimiter.tryAcquire();
+		}
+
+		_clock.addAndGet(1000);
+
+		assertThat(_logRateLimiter.tryAcquire(), is(3L));
+		assertThat(_logRateLimiter.tryAcquire(), is(0L));
+		assertThat(_logRateLimiter.tryAcquire(), is(-1L));
+	}
+
+	@Test
+	public void testSameIntervalKeepsSuppressingMessages() {
+		_logRateLimiter.tryAcquire();
+		_logRateLimiter.tryAcquire();
+
+		_clock.addAndGet(999);
+
+		assertThat(_logRateLimiter.tryAcquire(), is(-1L));
+	}
+
+	private AtomicLong _clock;
+	private LogRateLimiter _logRateLimiter;
+
+}
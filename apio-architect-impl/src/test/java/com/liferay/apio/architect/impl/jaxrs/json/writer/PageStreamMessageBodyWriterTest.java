@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.jaxrs.json.writer;
+
+import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.impl.cache.ModelCache;
+import com.liferay.apio.architect.impl.metrics.InstrumentationImpl;
+import com.liferay.apio.architect.impl.pagination.PageImpl;
+import com.liferay.apio.architect.impl.pagination.PageStream;
+import com.liferay.apio.architect.impl.pagination.PaginationImpl;
+import com.liferay.apio.architect.impl.request.PaginatedHttpServletRequest;
+import com.liferay.apio.architect.impl.request.RequestInfo;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.representable.NameManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.router.NestedCollectionRouterManager;
+import com.liferay.apio.architect.impl.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.test.util.model.RootModel;
+import com.liferay.apio.architect.test.util.writer.MockWriterUtil;
+
+import java.io.ByteArrayOutputStream;
+
+import java.lang.reflect.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.MultivaluedHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageStreamMessageBodyWriterTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_pageStreamMessageBodyWriter = new PageStreamMessageBodyWriter<>();
+
+		InstrumentationImpl instrumentationImpl = new InstrumentationImpl();
+
+		instrumentationImpl.activate(emptyMap());
+
+		_setField("instrumentation", instrumentationImpl);
+
+		ModelCache modelCache = Mockito.mock(ModelCache.class);
+
+		Mockito.when(
+			modelCache.getSingleModelTry(
+				Mockito.any(HttpServletRequest.class), Mockito.anyString(),
+				Mockito.any(), Mockito.any())
+		).thenAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				_relatedModelHttpServletRequests.add(
+					(HttpServletRequest)arguments[0]);
+
+				return Try.fail(new NotFoundException());
+			}
+		);
+
+		_setField("modelCache", modelCache);
+
+		NameManager nameManager = Mockito.mock(NameManager.class);
+
+		Mockito.when(
+			nameManager.getNameOptional(Mockito.anyString())
+		).thenReturn(
+			Optional.of("first")
+		);
+
+		_setField("nameManager", nameManager);
+
+		NestedCollectionRouterManager nestedCollectionRouterManager =
+			Mockito.mock(NestedCollectionRouterManager.class);
+
+		Mockito.when(
+			nestedCollectionRouterManager.getNestedCollectionRoutesOptional(
+				Mockito.anyString(), Mockito.anyString())
+		).thenReturn(
+			Optional.empty()
+		);
+
+		_setField(
+			"nestedCollectionRouterManager", nestedCollectionRouterManager);
+
+		PathIdentifierMapperManager pathIdentifierMapperManager = Mockito.mock(
+			PathIdentifierMapperManager.class);
+
+		Mockito.when(
+			pathIdentifierMapperManager.mapToPath(
+				Mockito.anyString(), Mockito.any())
+		).thenAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return MockWriterUtil.identifierToPath(
+					(String)arguments[0], arguments[1]);
+			}
+		);
+
+		_setField("_pathIdentifierMapperManager", pathIdentifierMapperManager);
+
+		RepresentableManager representableManager = Mockito.mock(
+			RepresentableManager.class);
+
+		Mockito.when(
+			representableManager.getRepresentorOptional(Mockito.anyString())
+		).thenAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return MockWriterUtil.getRepresentorOptional(
+					(String)arguments[0]);
+			}
+		);
+
+		_setField("_representableManager", representableManager);
+	}
+
+	@Test
+	public void testEachItemIsWrittenAsACompactJSONLine() throws Exception {
+		String result = _writePageStream(createHttpServletRequest());
+
+		String[] lines = result.split("\n");
+
+		assertThat(lines.length, is(3));
+
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		for (String line : lines) {
+			JsonNode jsonNode = objectMapper.readTree(line);
+
+			assertThat(jsonNode.isObject(), is(true));
+		}
+	}
+
+	@Test
+	public void testEachPageFetchesRelatedModelsWithItsOwnRequest()
+		throws Exception {
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		_writePageStream(httpServletRequest);
+
+		assertThat(_relatedModelHttpServletRequests.isEmpty(), is(false));
+
+		HttpServletRequest firstHttpServletRequest =
+			_relatedModelHttpServletRequests.get(0);
+		HttpServletRequest lastHttpServletRequest =
+			_relatedModelHttpServletRequests.get(
+				_relatedModelHttpServletRequests.size() - 1);
+
+		assertThat(
+			firstHttpServletRequest instanceof PaginatedHttpServletRequest,
+			is(true));
+		assertThat(firstHttpServletRequest.getParameter("page"), is("1"));
+		assertThat(lastHttpServletRequest.getParameter("page"), is("2"));
+		assertThat(
+			firstHttpServletRequest,
+			is(not(sameInstance(lastHttpServletRequest))));
+	}
+
+	private Page<RootModel> _createPage(
+		int pageNumber, List<RootModel> rootModels) {
+
+		return new PageImpl<>(
+			"root", new PageItems<>(rootModels, 3),
+			new PaginationImpl(2, pageNumber), emptyList());
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Class<?> clazz = PageStreamMessageBodyWriter.class;
+
+		while (clazz != null) {
+			try {
+				Field field = clazz.getDeclaredField(name);
+
+				field.setAccessible(true);
+
+				field.set(_pageStreamMessageBodyWriter, value);
+
+				return;
+			}
+			catch (NoSuchFieldException nsfe) {
+				clazz = clazz.getSuperclass();
+			}
+		}
+
+		throw new NoSuchFieldException(name);
+	}
+
+	private String _writePageStream(HttpServletRequest httpServletRequest)
+		throws Exception {
+
+		Page<RootModel> secondPage = _createPage(2, asList(() -> "3"));
+
+		PageStream<RootModel> pageStream = new PageStream<>(
+			_createPage(1, asList(() -> "1", () -> "2")),
+			pagination -> secondPage);
+
+		RequestInfo requestInfo = RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				httpServletRequest
+			).serverURL(
+				() -> "localhost"
+			).applicationURL(
+				() -> "localhost/o/api"
+			).embedded(
+				__ -> false
+			).fields(
+				__ -> string -> true
+			).language(
+				Locale::getDefault
+			).build());
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_pageStreamMessageBodyWriter.writeTo(
+			unsafeCast(Try.success(pageStream)),
+			_pageStreamMessageBodyWriter.getMessageMapperOptional(
+				null
+			).get(),
+			requestInfo, new MultivaluedHashMap<>(), byteArrayOutputStream);
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private PageStreamMessageBodyWriter<RootModel>
+		_pageStreamMessageBodyWriter;
+	private final List<HttpServletRequest> _relatedModelHttpServletRequests =
+		new ArrayList<>();
+
+}
@@ -333,6 +333,71 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingFragmentValueAddsTheFragmentValue()
+		throws JSONException {
+
+		_jsonObjectBuilder.field(
+			"array"
+		).fragmentValue(
+			_jsonFragment
+		);
+
+		String expected = "{'array': ['api', 'apio']}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testInvokingFragmentValueOnAnArrayAddsTheFragmentElements()
+		throws JSONException {
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).addNumber(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).fragmentValue(
+			_jsonFragment
+		);
+
+		String expected = "{'array': [42, 'api', 'apio']}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testInvokingFragmentValueOnAnObjectAddsTheFragmentFields()
+		throws JSONException {
+
+		JSONFragment jsonFragment = new JSONFragment(
+			fieldStep -> fieldStep.field(
+				"second"
+			).numberValue(
+				2018
+			));
+
+		_jsonObjectBuilder.nestedField(
+			"object", "first"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"object"
+		).fragmentValue(
+			jsonFragment
+		);
+
+		String expected = "{'object': {'first': 42, 'second': 2018}}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingNestedFieldCreatesACorrectNestedField()
 		throws JSONException {
@@ -424,6 +489,43 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testModifyingAFragmentValueDoesNotModifyTheFragment()
+		throws JSONException {
+
+		_jsonObjectBuilder.field(
+			"array"
+		).fragmentValue(
+			_jsonFragment
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).addNumber(
+			42
+		);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"array"
+		).fragmentValue(
+			_jsonFragment
+		);
+
+		assertEquals(
+			"{'array': ['api', 'apio', 42]}", _jsonObjectBuilder.build(),
+			true);
+		assertEquals(
+			"{'array': ['api', 'apio']}", jsonObjectBuilder.build(), true);
+	}
+
+	private final JSONFragment _jsonFragment = new JSONFragment(
+		fieldStep -> fieldStep.arrayValue(
+		).addAllStrings(
+			Arrays.asList("api", "apio")
+		));
 	private final JSONObjectBuilder _jsonObjectBuilder =
 		new JSONObjectBuilder();
 
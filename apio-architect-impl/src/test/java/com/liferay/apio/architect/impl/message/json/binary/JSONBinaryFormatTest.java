@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.message.json.binary;
+
+import static com.liferay.apio.architect.impl.message.json.binary.JSONBinaryFormat.CBOR;
+import static com.liferay.apio.architect.impl.message.json.binary.JSONBinaryFormat.SMILE;
+import static com.liferay.apio.architect.impl.message.json.binary.JSONBinaryFormat.fromMediaType;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class JSONBinaryFormatTest {
+
+	@Test
+	public void testFromMediaTypeReturnsEmptyForTextMediaTypes() {
+		assertThat(fromMediaType("application/json"), is(emptyOptional()));
+		assertThat(fromMediaType("application/ld+json"), is(emptyOptional()));
+	}
+
+	@Test
+	public void testFromMediaTypeReturnsTheBinaryFormat() {
+		assertThat(
+			fromMediaType("application/cbor"), is(optionalWithValue(is(CBOR))));
+		assertThat(
+			fromMediaType("application/X-Jackson-Smile"),
+			is(optionalWithValue(is(SMILE))));
+	}
+
+	@Test
+	public void testToBytesGeneratesTheDocumentInTheFormat() throws Exception {
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"name"
+		).stringValue(
+			"Apio"
+		);
+
+		jsonObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).addNumber(
+			1
+		);
+
+		for (JSONBinaryFormat jsonBinaryFormat : JSONBinaryFormat.values()) {
+			byte[] bytes = jsonBinaryFormat.toBytes(jsonObjectBuilder::write);
+
+			ObjectMapper objectMapper = jsonBinaryFormat.getObjectMapper();
+
+			JsonNode jsonNode = objectMapper.readTree(bytes);
+
+			assertThat(jsonNode, is(_objectMapper.readTree(_JSON)));
+		}
+	}
+
+	private static final String _JSON = "{\"name\":\"Apio\",\"elements\":[1]}";
+
+	private static final ObjectMapper _objectMapper = new ObjectMapper();
+
+}
@@ -15,10 +15,14 @@
 package com.liferay.apio.architect.impl.message.json.ld;
 
 import static com.liferay.apio.architect.impl.message.json.ld.JSONLDMessageMapperUtil.getOperationTypes;
+import static com.liferay.apio.architect.impl.message.json.ld.JSONLDMessageMapperUtil.getSharedContext;
+import static com.liferay.apio.architect.test.util.representor.MockRepresentorCreator.createRootModelRepresentor;
 
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
 import com.liferay.apio.architect.impl.operation.BatchCreateOperation;
 import com.liferay.apio.architect.impl.operation.CreateOperation;
 import com.liferay.apio.architect.impl.operation.DeleteOperation;
@@ -32,6 +36,8 @@ import java.lang.reflect.InvocationTargetException;
 
 import java.util.List;
 
+import org.json.JSONException;
+
 import org.junit.Test;
 
 /**
@@ -99,4 +105,22 @@ public class JSONLDMessageMapperUtilTest {
 		assertThat(operationTypes, contains("ReplaceAction", "Operation"));
 	}
 
+	@Test
+	public void testGetSharedContextDeclaresLinkedFieldsAsIds()
+		throws JSONException {
+
+		String sharedContext = getSharedContext(
+			createRootModelRepresentor(false));
+
+		String expected = String.join(
+			"", "{'@context': [{'@vocab': 'http://schema.org/'}, ",
+			"'https://www.w3.org/ns/hydra/core#', {",
+			"'embedded1': {'@type': '@id'}, 'embedded2': {'@type': '@id'}, ",
+			"'linked1': {'@type': '@id'}, 'linked2': {'@type': '@id'}, ",
+			"'relatedCollection1': {'@type': '@id'}, ",
+			"'relatedCollection2': {'@type': '@id'}}]}");
+
+		assertEquals(expected, sharedContext, true);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.message.json.ld;
+
+import static com.liferay.apio.architect.impl.message.json.ld.JSONLDSingleModelMessageMapper.SHARED_CONTEXT_ENABLED;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.impl.list.FunctionalList;
+import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
+
+import org.json.JSONException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class JSONLDSingleModelMessageMapperTest {
+
+	@Test
+	public void testInlineContextIsWrittenByDefault() throws JSONException {
+		JSONLDSingleModelMessageMapper<String> singleModelMessageMapper =
+			new JSONLDSingleModelMessageMapper<>();
+
+		singleModelMessageMapper.activate(emptyMap());
+
+		String json = _write(singleModelMessageMapper);
+
+		String expected = String.join(
+			"", "{'linked': 'localhost/p/linked/1', '@context': [",
+			"{'linked': {'@type': '@id'}}, {'@vocab': 'http://schema.org/'}, ",
+			"'https://www.w3.org/ns/hydra/core#']}");
+
+		assertEquals(expected, json, true);
+	}
+
+	@Test
+	public void testSharedContextIsReferencedByURL() throws JSONException {
+		JSONLDSingleModelMessageMapper<String> singleModelMessageMapper =
+			new JSONLDSingleModelMessageMapper<>();
+
+		singleModelMessageMapper.activate(
+			singletonMap(SHARED_CONTEXT_ENABLED, true));
+
+		String json = _write(singleModelMessageMapper);
+
+		String expected = String.join(
+			"", "{'linked': 'localhost/p/linked/1', ",
+			"'@context': 'localhost/context/model'}");
+
+		assertEquals(expected, json, true);
+	}
+
+	@Test
+	public void testSharedContextKeepsEmbeddedContexts() throws JSONException {
+		JSONLDSingleModelMessageMapper<String> singleModelMessageMapper =
+			new JSONLDSingleModelMessageMapper<>();
+
+		singleModelMessageMapper.activate(
+			singletonMap(SHARED_CONTEXT_ENABLED, true));
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		singleModelMessageMapper.mapLinkedResourceURL(
+			jsonObjectBuilder,
+			new FunctionalList<>(
+				new FunctionalList<>(null, "embedded"), "linked"),
+			"localhost/p/linked/1");
+
+		String expected = String.join(
+			"", "{'embedded': {'linked': 'localhost/p/linked/1', ",
+			"'@context': [{'linked': {'@type': '@id'}}]}}");
+
+		assertEquals(expected, jsonObjectBuilder.build(), true);
+	}
+
+	private String _write(
+		JSONLDSingleModelMessageMapper<String> singleModelMessageMapper) {
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		singleModelMessageMapper.mapLinkedResourceURL(
+			jsonObjectBuilder, new FunctionalList<>(null, "linked"),
+			"localhost/p/linked/1");
+
+		singleModelMessageMapper.mapContextURL(
+			jsonObjectBuilder, "localhost/context/model");
+
+		singleModelMessageMapper.onFinish(jsonObjectBuilder, null);
+
+		return jsonObjectBuilder.build();
+	}
+
+}
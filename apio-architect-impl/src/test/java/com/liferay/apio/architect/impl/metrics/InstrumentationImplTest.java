@@ -0,0 +1,283 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import static com.liferay.apio.architect.impl.metrics.Phase.MODEL_FETCH;
+import static com.liferay.apio.architect.impl.metrics.Phase.SERIALIZATION;
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class InstrumentationImplTest {
+
+	@Test
+	public void testCountersAreRecordedPerResource() {
+		InstrumentationImpl instrumentationImpl = _activate(true, "");
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		instrumentationImpl.recordBytesWritten(httpServletRequest, "name", 10);
+		instrumentationImpl.recordBytesWritten(httpServletRequest, "name", 5);
+		instrumentationImpl.recordBytesWritten(httpServletRequest, "other", 1);
+		instrumentationImpl.recordItemsRendered(httpServletRequest, "name", 3);
+		instrumentationImpl.recordCacheAccess("model", true);
+		instrumentationImpl.recordCacheAccess("model", true);
+		instrumentationImpl.recordCacheAccess("model", true);
+		instrumentationImpl.recordCacheAccess("model", false);
+
+		MetricsSnapshot metricsSnapshot = instrumentationImpl.getSnapshot();
+
+		Map<String, Long> counters = metricsSnapshot.getCounters();
+
+		assertThat(counters.get("name.bytes"), is(15L));
+		assertThat(counters.get("name.items"), is(3L));
+		assertThat(counters.get("other.bytes"), is(1L));
+		assertThat(counters.get("cache.model.hits"), is(3L));
+		assertThat(counters.get("cache.model.misses"), is(1L));
+		assertThat(metricsSnapshot.getCacheHitRatio("model"), is(0.75));
+	}
+
+	@Test
+	public void testDiagnosticsAreOnlyStartedWithTheConfiguredToken() {
+		InstrumentationImpl instrumentationImpl = _activate(false, "secret");
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		assertThat(
+			instrumentationImpl.startDiagnosticsOptional(
+				httpServletRequest, null
+			).isPresent(),
+			is(false));
+		assertThat(
+			instrumentationImpl.startDiagnosticsOptional(
+				httpServletRequest, "other"
+			).isPresent(),
+			is(false));
+		assertThat(
+			instrumentationImpl.isEnabled(httpServletRequest), is(false));
+
+		assertThat(
+			instrumentationImpl.startDiagnosticsOptional(
+				httpServletRequest, "secret"
+			).isPresent(),
+			is(true));
+		assertThat(
+			instrumentationImpl.isEnabled(httpServletRequest), is(true));
+
+		instrumentationImpl.recordPhase(
+			httpServletRequest, "name", MODEL_FETCH, 1000000);
+
+		MetricsSnapshot metricsSnapshot = instrumentationImpl.getSnapshot();
+
+		Map<String, HistogramSnapshot> histogramSnapshots =
+			metricsSnapshot.getHistogramSnapshots();
+
+		assertThat(histogramSnapshots.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testDisabledInstrumentationRecordsNothing() {
+		InstrumentationImpl instrumentationImpl = _activate(false, "");
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		assertThat(
+			instrumentationImpl.isEnabled(httpServletRequest), is(false));
+
+		String result = instrumentationImpl.measure(
+			httpServletRequest, "name", MODEL_FETCH, () -> "result");
+
+		assertThat(result, is("result"));
+
+		instrumentationImpl.recordBytesWritten(httpServletRequest, "name", 10);
+		instrumentationImpl.recordCacheAccess("model", true);
+		instrumentationImpl.recordItemsRendered(httpServletRequest, "name", 3);
+		instrumentationImpl.recordPhase(
+			httpServletRequest, "name", SERIALIZATION, 1000000);
+
+		assertThat(
+			instrumentationImpl.startDiagnosticsOptional(
+				httpServletRequest, ""
+			).isPresent(),
+			is(false));
+
+		MetricsSnapshot metricsSnapshot = instrumentationImpl.getSnapshot();
+
+		Map<String, Long> counters = metricsSnapshot.getCounters();
+		Map<String, HistogramSnapshot> histogramSnapshots =
+			metricsSnapshot.getHistogramSnapshots();
+
+		assertThat(counters.isEmpty(), is(true));
+		assertThat(histogramSnapshots.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testMeasureAsyncRecordsFailedStagesOnCompletion() {
+		InstrumentationImpl instrumentationImpl = _activate(true, "");
+
+		CompletableFuture<String> completableFuture =
+			new CompletableFuture<>();
+
+		CompletionStage<String> completionStage =
+			instrumentationImpl.measureAsync(
+				createHttpServletRequest(), "name", MODEL_FETCH,
+				() -> completableFuture);
+
+		MetricsSnapshot metricsSnapshot = instrumentationImpl.getSnapshot();
+
+		Map<String, HistogramSnapshot> histogramSnapshots =
+			metricsSnapshot.getHistogramSnapshots();
+
+		assertThat(histogramSnapshots.isEmpty(), is(true));
+
+		completableFuture.completeExceptionally(new IllegalStateException());
+
+		CompletableFuture<String> measuredCompletableFuture =
+			completionStage.toCompletableFuture();
+
+		assertThat(
+			measuredCompletableFuture.isCompletedExceptionally(), is(true));
+
+		_assertCount(instrumentationImpl, "name.fetch", 1L);
+	}
+
+	@Test
+	public void testMeasureRecordsFailedCalls() {
+		InstrumentationImpl instrumentationImpl = _activate(true, "");
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		try {
+			instrumentationImpl.measure(
+				httpServletRequest, "name", MODEL_FETCH,
+				() -> {
+					throw new IllegalStateException();
+				});
+
+			throw new AssertionError("The failure should be propagated");
+		}
+		catch (IllegalStateException ise) {
+		}
+
+		instrumentationImpl.measure(
+			httpServletRequest, "name", MODEL_FETCH, () -> "result");
+
+		_assertCount(instrumentationImpl, "name.fetch", 2L);
+	}
+
+	@Test
+	public void testPhasesAreRecordedPerResourceAndPhase() {
+		InstrumentationImpl instrumentationImpl = _activate(true, "");
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		instrumentationImpl.recordPhase(
+			httpServletRequest, "name", MODEL_FETCH, 2000000);
+		instrumentationImpl.recordPhase(
+			httpServletRequest, "name", MODEL_FETCH, 4000000);
+		instrumentationImpl.recordPhase(
+			httpServletRequest, "name", SERIALIZATION, 1000000);
+		instrumentationImpl.recordPhase(
+			httpServletRequest, "other", MODEL_FETCH, 1000000);
+
+		_assertCount(instrumentationImpl, "name.fetch", 2L);
+		_assertCount(instrumentationImpl, "name.serialization", 1L);
+		_assertCount(instrumentationImpl, "other.fetch", 1L);
+
+		MetricsSnapshot metricsSnapshot = instrumentationImpl.getSnapshot();
+
+		Map<String, HistogramSnapshot> histogramSnapshots =
+			metricsSnapshot.getHistogramSnapshots();
+
+		HistogramSnapshot histogramSnapshot = histogramSnapshots.get(
+			"name.fetch");
+
+		assertThat(histogramSnapshot.getMax(), is(4000L));
+		assertThat(histogramSnapshot.getMean(), is(3000L));
+	}
+
+	@Test
+	public void testSnapshotIsSortedAndDoesNotChangeAfterwards() {
+		InstrumentationImpl instrumentationImpl = _activate(true, "");
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		instrumentationImpl.recordItemsRendered(httpServletRequest, "b", 1);
+		instrumentationImpl.recordItemsRendered(httpServletRequest, "a", 1);
+		instrumentationImpl.recordBytesWritten(httpServletRequest, "c", 1);
+
+		MetricsSnapshot metricsSnapshot = instrumentationImpl.getSnapshot();
+
+		instrumentationImpl.recordItemsRendered(httpServletRequest, "a", 1);
+		instrumentationImpl.recordPhase(
+			httpServletRequest, "a", MODEL_FETCH, 1000000);
+
+		Map<String, Long> counters = metricsSnapshot.getCounters();
+
+		assertThat(
+			new ArrayList<>(counters.keySet()),
+			is(Arrays.asList("a.items", "b.items", "c.bytes")));
+		assertThat(counters.get("a.items"), is(1L));
+
+		Map<String, HistogramSnapshot> histogramSnapshots =
+			metricsSnapshot.getHistogramSnapshots();
+
+		assertThat(histogramSnapshots.isEmpty(), is(true));
+	}
+
+	private InstrumentationImpl _activate(
+		boolean enabled, String diagnosticsToken) {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(InstrumentationImpl.DIAGNOSTICS_TOKEN, diagnosticsToken);
+		properties.put(InstrumentationImpl.ENABLED, enabled);
+
+		InstrumentationImpl instrumentationImpl = new InstrumentationImpl();
+
+		instrumentationImpl.activate(properties);
+
+		return instrumentationImpl;
+	}
+
+	private void _assertCount(
+		InstrumentationImpl instrumentationImpl, String key, long count) {
+
+		MetricsSnapshot metricsSnapshot = instrumentationImpl.getSnapshot();
+
+		Map<String, HistogramSnapshot> histogramSnapshots =
+			metricsSnapshot.getHistogramSnapshots();
+
+		HistogramSnapshot histogramSnapshot = histogramSnapshots.get(key);
+
+		assertThat(histogramSnapshot.getCount(), is(count));
+	}
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmptyHistogramReturnsZeroes() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		HistogramSnapshot histogramSnapshot = latencyHistogram.getSnapshot();
+
+		assertThat(histogramSnapshot.getCount(), is(0L));
+		assertThat(histogramSnapshot.getMax(), is(0L));
+		assertThat(histogramSnapshot.getMean(), is(0L));
+		assertThat(histogramSnapshot.getMedian(), is(0L));
+		assertThat(histogramSnapshot.getPercentile99(), is(0L));
+	}
+
+	@Test
+	public void testPercentilesAreWithinRelativeError() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		for (long micros = 1; micros <= 10000; micros++) {
+			latencyHistogram.record(micros * 1000);
+		}
+
+		HistogramSnapshot histogramSnapshot = latencyHistogram.getSnapshot();
+
+		assertThat(histogramSnapshot.getCount(), is(10000L));
+		assertThat(histogramSnapshot.getMax(), is(10000L));
+		assertThat(histogramSnapshot.getMean(), is(5000L));
+
+		_assertBetween(histogramSnapshot.getMedian(), 5000L, 5625L);
+		_assertBetween(histogramSnapshot.getPercentile90(), 9000L, 10000L);
+		_assertBetween(histogramSnapshot.getPercentile99(), 9900L, 10000L);
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		latencyHistogram.record(3000);
+		latencyHistogram.record(3000);
+		latencyHistogram.record(7000);
+
+		HistogramSnapshot histogramSnapshot = latencyHistogram.getSnapshot();
+
+		assertThat(histogramSnapshot.getMax(), is(7L));
+		assertThat(histogramSnapshot.getMedian(), is(3L));
+		assertThat(histogramSnapshot.getPercentile99(), is(7L));
+	}
+
+	private void _assertBetween(long value, long min, long max) {
+		assertThat(value >= min, is(true));
+		assertThat(value <= max, is(true));
+	}
+
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.metrics;
+
+import static com.liferay.apio.architect.impl.metrics.Phase.EMBEDDED_FETCH;
+import static com.liferay.apio.architect.impl.metrics.Phase.ROUTING;
+import static com.liferay.apio.architect.impl.metrics.RequestDiagnostics.DIAGNOSTICS_HEADER;
+import static com.liferay.apio.architect.impl.metrics.RequestDiagnostics.SERVER_TIMING_HEADER;
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestDiagnosticsTest {
+
+	@Test
+	public void testAddHeadersAddsBreakdownIfEnabled() {
+		RequestDiagnostics requestDiagnostics = RequestDiagnostics.start(
+			createHttpServletRequest());
+
+		requestDiagnostics.record("people", ROUTING, 500000);
+		requestDiagnostics.setBreakdownEnabled(true);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		requestDiagnostics.addHeaders(headers);
+
+		String breakdown = String.valueOf(headers.getFirst(DIAGNOSTICS_HEADER));
+
+		assertThat(
+			breakdown,
+			startsWith(
+				"{\"phases\":[{\"duration\":0.500,\"phase\":\"routing\"," +
+					"\"resource\":\"people\"}],\"total\":"));
+	}
+
+	@Test
+	public void testAddHeadersAggregatesPhasesInServerTiming() {
+		RequestDiagnostics requestDiagnostics = RequestDiagnostics.start(
+			createHttpServletRequest());
+
+		requestDiagnostics.record("people", ROUTING, 500000);
+		requestDiagnostics.record("blog-postings", EMBEDDED_FETCH, 1000000);
+		requestDiagnostics.record("blog-postings", EMBEDDED_FETCH, 1500000);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		requestDiagnostics.addHeaders(headers);
+
+		String serverTiming = String.valueOf(
+			headers.getFirst(SERVER_TIMING_HEADER));
+
+		assertThat(
+			serverTiming,
+			startsWith(
+				"routing;desc=\"people\";dur=0.500, embedded;desc=\"" +
+					"blog-postings x2\";dur=2.500, total;dur="));
+		assertThat(headers.containsKey(DIAGNOSTICS_HEADER), is(false));
+	}
+
+	@Test
+	public void testAddHeadersEscapesServerTimingDescriptions() {
+		RequestDiagnostics requestDiagnostics = RequestDiagnostics.start(
+			createHttpServletRequest());
+
+		requestDiagnostics.record("a\\\"b\\", ROUTING, 500000);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		requestDiagnostics.addHeaders(headers);
+
+		String serverTiming = String.valueOf(
+			headers.getFirst(SERVER_TIMING_HEADER));
+
+		assertThat(
+			serverTiming,
+			startsWith(
+				"routing;desc=\"a\\\\\\\"b\\\\\";dur=0.500, total;dur="));
+	}
+
+	@Test
+	public void testRecordIsIgnoredOnceHeadersAreAdded() {
+		RequestDiagnostics requestDiagnostics = RequestDiagnostics.start(
+			createHttpServletRequest());
+
+		requestDiagnostics.addHeaders(new MultivaluedHashMap<>());
+
+		requestDiagnostics.record("people", ROUTING, 500000);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		requestDiagnostics.addHeaders(headers);
+
+		String serverTiming = String.valueOf(
+			headers.getFirst(SERVER_TIMING_HEADER));
+
+		assertThat(serverTiming, startsWith("total;dur="));
+	}
+
+	@Test
+	public void testRequestDiagnosticsAreOnlyPresentOnceStarted() {
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		Optional<RequestDiagnostics> optional =
+			RequestDiagnostics.getRequestDiagnosticsOptional(
+				httpServletRequest);
+
+		assertThat(optional.isPresent(), is(false));
+
+		RequestDiagnostics requestDiagnostics = RequestDiagnostics.start(
+			httpServletRequest);
+
+		optional = RequestDiagnostics.getRequestDiagnosticsOptional(
+			httpServletRequest);
+
+		assertThat(optional.get(), is(requestDiagnostics));
+	}
+
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.pagination;
+
+import static java.util.Collections.emptyList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageStreamTest {
+
+	@Test
+	public void testForEachPageFetchesEveryPageInOrder() throws Exception {
+		List<Integer> pageNumbers = new ArrayList<>();
+		List<Integer> items = new ArrayList<>();
+
+		PageStream<Integer> pageStream = new PageStream<>(
+			_getPage(new PaginationImpl(3, 1), 8), pagination -> {
+				pageNumbers.add(pagination.getPageNumber());
+
+				return _getPage(pagination, 8);
+			});
+
+		pageStream.forEachPage(page -> items.addAll(page.getItems()));
+
+		assertThat(pageNumbers, is(_range(2, 4)));
+		assertThat(items, is(_range(0, 8)));
+	}
+
+	@Test
+	public void testForEachPageStopsAtAnEmptyPage() throws Exception {
+		List<Page<Integer>> pages = new ArrayList<>();
+
+		PageStream<Integer> pageStream = new PageStream<>(
+			_getPage(new PaginationImpl(3, 1), 0),
+			pagination -> {
+				throw new AssertionError();
+			});
+
+		pageStream.forEachPage(pages::add);
+
+		assertThat(pages, is(emptyList()));
+	}
+
+	@Test
+	public void testGetResourceNameReturnsFirstPageResourceName() {
+		PageStream<Integer> pageStream = new PageStream<>(
+			_getPage(new PaginationImpl(3, 1), 8), pagination -> null);
+
+		assertThat(pageStream.getResourceName(), is("name"));
+	}
+
+	private static Page<Integer> _getPage(
+		Pagination pagination, int totalCount) {
+
+		int end = Math.min(pagination.getEndPosition(), totalCount);
+
+		List<Integer> items = _range(pagination.getStartPosition(), end);
+
+		return new PageImpl<>(
+			"name", new PageItems<>(items, totalCount), pagination,
+			emptyList());
+	}
+
+	private static List<Integer> _range(int start, int end) {
+		return IntStream.range(
+			start, Math.max(start, end)
+		).boxed(
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.request;
+
+import static com.liferay.apio.architect.impl.request.PaginatedHttpServletRequest.getPageAttributeName;
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.impl.pagination.PaginationImpl;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PaginatedHttpServletRequestTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = createHttpServletRequest();
+
+		_httpServletRequest.setAttribute("shared", "parent");
+		_httpServletRequest.setAttribute(_PAGE_ATTRIBUTE_NAME, "parent");
+
+		_paginatedHttpServletRequest = new PaginatedHttpServletRequest(
+			_httpServletRequest, new PaginationImpl(10, 3));
+	}
+
+	@Test
+	public void testAttributesAreNotWrittenToTheWrappedRequest() {
+		_paginatedHttpServletRequest.setAttribute("shared", "page");
+		_paginatedHttpServletRequest.setAttribute("other", "page");
+
+		assertThat(
+			_paginatedHttpServletRequest.getAttribute("shared"), is("page"));
+		assertThat(_httpServletRequest.getAttribute("shared"), is("parent"));
+		assertThat(_httpServletRequest.getAttribute("other"), is(nullValue()));
+
+		_paginatedHttpServletRequest.removeAttribute("shared");
+
+		assertThat(
+			_paginatedHttpServletRequest.getAttribute("shared"), is("parent"));
+	}
+
+	@Test
+	public void testPageAttributesAreNotReadFromTheWrappedRequest() {
+		assertThat(
+			_paginatedHttpServletRequest.getAttribute(_PAGE_ATTRIBUTE_NAME),
+			is(nullValue()));
+
+		List<String> names = Collections.list(
+			_paginatedHttpServletRequest.getAttributeNames());
+
+		assertThat(names.contains("shared"), is(true));
+		assertThat(names.contains(_PAGE_ATTRIBUTE_NAME), is(false));
+
+		_paginatedHttpServletRequest.setAttribute(_PAGE_ATTRIBUTE_NAME, "page");
+
+		assertThat(
+			_paginatedHttpServletRequest.getAttribute(_PAGE_ATTRIBUTE_NAME),
+			is("page"));
+		assertThat(
+			_httpServletRequest.getAttribute(_PAGE_ATTRIBUTE_NAME),
+			is("parent"));
+	}
+
+	@Test
+	public void testPaginationParametersAreReplaced() {
+		assertThat(_paginatedHttpServletRequest.getParameter("page"), is("3"));
+		assertThat(
+			_paginatedHttpServletRequest.getParameter("per_page"), is("10"));
+		assertThat(
+			_paginatedHttpServletRequest.getParameterValues("page")[0],
+			is("3"));
+	}
+
+	private static final String _PAGE_ATTRIBUTE_NAME = getPageAttributeName(
+		"memo");
+
+	private HttpServletRequest _httpServletRequest;
+	private PaginatedHttpServletRequest _paginatedHttpServletRequest;
+
+}
@@ -35,6 +35,7 @@ import static org.hamcrest.core.Is.is;
 
 import com.liferay.apio.architect.alias.routes.BatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.CreateItemFunction;
+import com.liferay.apio.architect.alias.routes.GetPageAsyncFunction;
 import com.liferay.apio.architect.alias.routes.GetPageFunction;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
@@ -58,6 +59,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.Test;
 
@@ -66,6 +69,47 @@ import org.junit.Test;
  */
 public class CollectionRoutesImplTest {
 
+	@Test
+	public void testAsyncGetterCreatesValidRoutes() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null,
+			IDENTIFIER_FUNCTION);
+
+		CollectionRoutes<String, Long> collectionRoutes = builder.addCreator(
+			this::_testAndReturnNoParameterCreatorRoute,
+			HAS_ADDING_PERMISSION_FUNCTION, FORM_BUILDER_FUNCTION
+		).addGetterAsync(
+			pagination -> CompletableFuture.supplyAsync(
+				() -> _testAndReturnNoParameterGetterRoute(pagination))
+		).build();
+
+		assertThat(neededProviders.size(), is(0));
+
+		_testCollectionRoutes(collectionRoutes);
+
+		Optional<GetPageAsyncFunction<String>> optional =
+			collectionRoutes.getGetPageAsyncFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("GetPageAsyncFunction not present");
+		}
+
+		GetPageAsyncFunction<String> getPageAsyncFunction = optional.get();
+
+		CompletionStage<Page<String>> completionStage =
+			getPageAsyncFunction.apply(null);
+
+		CompletableFuture<Page<String>> completableFuture =
+			completionStage.toCompletableFuture();
+
+		Page<String> page = completableFuture.join();
+
+		assertThat(page.getItems(), hasItem("Apio"));
+		assertThat(page.getTotalCount(), is(1));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new BuilderImpl<>(
@@ -85,6 +129,11 @@ public class CollectionRoutesImplTest {
 			collectionRoutes.getGetPageFunctionOptional();
 
 		assertThat(getPageFunctionOptional, is(emptyOptional()));
+
+		Optional<GetPageAsyncFunction<String>> getPageAsyncFunctionOptional =
+			collectionRoutes.getGetPageAsyncFunctionOptional();
+
+		assertThat(getPageAsyncFunctionOptional, is(emptyOptional()));
 	}
 
 	@Test
@@ -34,6 +34,7 @@ import static org.hamcrest.core.Is.is;
 
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
+import com.liferay.apio.architect.alias.routes.GetItemsFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
@@ -44,6 +45,8 @@ import com.liferay.apio.architect.routes.ItemRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes.Builder;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,6 +60,80 @@ import org.junit.Test;
  */
 public class ItemRoutesImplTest {
 
+	@Test
+	public void testBatchGetterReturnsFoundItemsInRequestedOrder() {
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnNoParameterBatchGetterRoute
+		).build();
+
+		Optional<GetItemsFunction<String, Long>> optional =
+			itemRoutes.getItemsFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("GetItemsFunction not present");
+		}
+
+		GetItemsFunction<String, Long> getItemsFunction = optional.get();
+
+		List<SingleModel<String>> singleModels = getItemsFunction.apply(
+			null
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			Arrays.asList(3L, 1L, 2L)
+		);
+
+		assertThat(singleModels, hasSize(2));
+
+		SingleModel<String> firstSingleModel = singleModels.get(0);
+
+		assertThat(firstSingleModel.getModel(), is("Three"));
+		assertThat(firstSingleModel.getResourceName(), is("name"));
+
+		SingleModel<String> secondSingleModel = singleModels.get(1);
+
+		assertThat(secondSingleModel.getModel(), is("One"));
+	}
+
+	@Test
+	public void testBatchGetterWithParametersRegistersNeededProviders() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long> builder = new BuilderImpl<>(
+			"name", REQUEST_PROVIDE_FUNCTION, neededProviders::add, __ -> null,
+			IDENTIFIER_TO_PATH_FUNCTION);
+
+		ItemRoutes<String, Long> itemRoutes = builder.addBatchGetter(
+			this::_testAndReturnTwoParameterBatchGetterRoute, String.class,
+			Long.class
+		).build();
+
+		assertThat(
+			neededProviders,
+			contains(Long.class.getName(), String.class.getName()));
+
+		Optional<GetItemsFunction<String, Long>> optional =
+			itemRoutes.getItemsFunctionOptional();
+
+		List<SingleModel<String>> singleModels = optional.map(
+			getItemsFunction -> getItemsFunction.apply(null)
+		).map(
+			function -> function.apply(Arrays.asList(1L, 3L))
+		).map(
+			Try::getUnchecked
+		).orElseThrow(
+			() -> new AssertionError("GetItemsFunction not present")
+		);
+
+		assertThat(singleModels, hasSize(2));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long> builder = new BuilderImpl<>(
@@ -223,6 +300,34 @@ public class ItemRoutesImplTest {
 		_testItemRoutes(itemRoutes);
 	}
 
+	private Map<Long, String> _testAndReturnNoParameterBatchGetterRoute(
+		List<Long> identifiers) {
+
+		assertThat(identifiers, hasSize(3));
+
+		Map<Long, String> map = new HashMap<>();
+
+		map.put(1L, "One");
+		map.put(3L, "Three");
+
+		return map;
+	}
+
+	private Map<Long, String> _testAndReturnTwoParameterBatchGetterRoute(
+		List<Long> identifiers, String string, Long aLong) {
+
+		assertThat(string, is("Apio"));
+		assertThat(aLong, is(42L));
+
+		Map<Long, String> map = new HashMap<>();
+
+		for (Long identifier : identifiers) {
+			map.put(identifier, String.valueOf(identifier));
+		}
+
+		return map;
+	}
+
 	private String _testAndReturnFourParameterGetterRoute(
 		Long identifier, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -38,6 +38,7 @@ import static org.hamcrest.core.Is.is;
 import com.liferay.apio.architect.alias.routes.NestedBatchCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedCreateItemFunction;
 import com.liferay.apio.architect.alias.routes.NestedGetPageFunction;
+import com.liferay.apio.architect.alias.routes.NestedGetPagesFunction;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
@@ -56,6 +57,7 @@ import com.liferay.apio.architect.uri.Path;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -69,6 +71,85 @@ import org.junit.Test;
  */
 public class NestedCollectionRoutesImplTest {
 
+	@Test
+	public void testBatchGetterReturnsPageForEveryParent() {
+		Builder<String, Long, Long> builder = new BuilderImpl<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION,
+			__ -> {
+			},
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, IDENTIFIER_FUNCTION);
+
+		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes =
+			builder.addBatchGetter(
+				this::_testAndReturnNoParameterBatchGetterRoute
+			).build();
+
+		Optional<NestedGetPagesFunction<String, Long>> optional =
+			nestedCollectionRoutes.getNestedGetPagesFunctionOptional();
+
+		if (!optional.isPresent()) {
+			throw new AssertionError("NestedGetPagesFunction not present");
+		}
+
+		NestedGetPagesFunction<String, Long> nestedGetPagesFunction =
+			optional.get();
+
+		Map<Long, Page<String>> pages = nestedGetPagesFunction.apply(
+			null
+		).andThen(
+			Try::getUnchecked
+		).apply(
+			Arrays.asList(42L, 21L)
+		);
+
+		assertThat(pages.keySet(), contains(42L, 21L));
+
+		Page<String> firstPage = pages.get(42L);
+
+		assertThat(firstPage.getItems(), contains("Apio"));
+		assertThat(firstPage.getResourceName(), is("nested"));
+		assertThat(firstPage.getTotalCount(), is(1));
+
+		Page<String> secondPage = pages.get(21L);
+
+		assertThat(secondPage.getItems(), hasSize(0));
+		assertThat(secondPage.getTotalCount(), is(0));
+	}
+
+	@Test
+	public void testBatchGetterWithParametersRegistersNeededProviders() {
+		Set<String> neededProviders = new TreeSet<>();
+
+		Builder<String, Long, Long> builder = new BuilderImpl<>(
+			"name", "nested", REQUEST_PROVIDE_FUNCTION, neededProviders::add,
+			__ -> null, IDENTIFIER_TO_PATH_FUNCTION, IDENTIFIER_FUNCTION);
+
+		NestedCollectionRoutes<String, Long, Long> nestedCollectionRoutes =
+			builder.addBatchGetter(
+				this::_testAndReturnTwoParameterBatchGetterRoute, String.class,
+				Long.class
+			).build();
+
+		assertThat(
+			neededProviders,
+			contains(Long.class.getName(), String.class.getName()));
+
+		Optional<NestedGetPagesFunction<String, Long>> optional =
+			nestedCollectionRoutes.getNestedGetPagesFunctionOptional();
+
+		Map<Long, Page<String>> pages = optional.map(
+			nestedGetPagesFunction -> nestedGetPagesFunction.apply(null)
+		).map(
+			function -> function.apply(Collections.singletonList(42L))
+		).map(
+			Try::getUnchecked
+		).orElseThrow(
+			() -> new AssertionError("NestedGetPagesFunction not present")
+		);
+
+		assertThat(pages.keySet(), contains(42L));
+	}
+
 	@Test
 	public void testEmptyBuilderBuildsEmptyRoutes() {
 		Builder<String, Long, Long> builder = new BuilderImpl<>(
@@ -371,6 +452,20 @@ public class NestedCollectionRoutesImplTest {
 		return Arrays.asList(42L, 42L);
 	}
 
+	private Map<Long, PageItems<String>>
+		_testAndReturnNoParameterBatchGetterRoute(
+			Pagination pagination, List<Long> identifiers) {
+
+		assertThat(identifiers, contains(42L, 21L));
+		assertThat(pagination, is(PAGINATION));
+
+		Map<Long, PageItems<String>> map = new HashMap<>();
+
+		map.put(42L, new PageItems<>(Collections.singletonList("Apio"), 1));
+
+		return map;
+	}
+
 	private String _testAndReturnNoParameterCreatorRoute(
 		Long identifier, Map<String, Object> body) {
 
@@ -454,6 +549,25 @@ public class NestedCollectionRoutesImplTest {
 			identifier, bodies, string);
 	}
 
+	private Map<Long, PageItems<String>>
+		_testAndReturnTwoParameterBatchGetterRoute(
+			Pagination pagination, List<Long> identifiers, String string,
+			Long aLong) {
+
+		assertThat(aLong, is(42L));
+		assertThat(string, is("Apio"));
+
+		Map<Long, PageItems<String>> map = new HashMap<>();
+
+		for (Long identifier : identifiers) {
+			map.put(
+				identifier,
+				_testAndReturnNoParameterGetterRoute(pagination, identifier));
+		}
+
+		return map;
+	}
+
 	private String _testAndReturnTwoParameterCreatorRoute(
 		Long identifier, Map<String, Object> body, String string, Long aLong) {
 
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.url;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ApplicationURLImplTest {
+
+	@Test
+	public void testGetReturnsResolvedURL() {
+		ApplicationURL applicationURL = new ApplicationURLImpl(
+			"http://localhost:8080/o/api");
+
+		assertThat(applicationURL.get(), is("http://localhost:8080/o/api"));
+	}
+
+	@Test
+	public void testGetURLPrefixIsCached() {
+		ApplicationURL applicationURL = new ApplicationURLImpl(
+			"http://localhost:8080/o/api/");
+
+		String prefix = applicationURL.getURLPrefix("p", "people");
+
+		assertThat(prefix, is("http://localhost:8080/o/api/p/people/"));
+		assertThat(
+			applicationURL.getURLPrefix("p", "people"),
+			is(sameInstance(prefix)));
+		assertThat(
+			applicationURL.getURLPrefix("b", "people"),
+			is("http://localhost:8080/o/api/b/people/"));
+	}
+
+	@Test
+	public void testLambdaApplicationURLComputesURLPrefix() {
+		ApplicationURL applicationURL = () -> "http://localhost:8080/o/api";
+
+		assertThat(
+			applicationURL.getURLPrefix("f", ""),
+			is("http://localhost:8080/o/api/f/"));
+	}
+
+}
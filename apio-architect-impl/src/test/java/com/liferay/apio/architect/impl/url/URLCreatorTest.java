@@ -16,11 +16,13 @@ package com.liferay.apio.architect.impl.url;
 
 import static com.liferay.apio.architect.impl.url.URLCreator.createAbsoluteURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createBinaryURL;
+import static com.liferay.apio.architect.impl.url.URLCreator.createCollectionItemsURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createCollectionURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createNestedCollectionURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createOperationURL;
 import static com.liferay.apio.architect.impl.url.URLCreator.createSingleURL;
+import static com.liferay.apio.architect.impl.url.URLCreator.createURLPrefix;
 import static com.liferay.apio.architect.impl.url.URLCreator.getPath;
 
 import static java.util.Collections.emptyList;
@@ -47,6 +49,7 @@ import com.liferay.apio.architect.uri.Path;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -97,6 +100,14 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/b/name/id/binary"));
 	}
 
+	@Test
+	public void testCreateCollectionItemsURL() {
+		String url = createCollectionItemsURL(
+			_applicationURL, "resource", Arrays.asList("1", "a&b"));
+
+		assertThat(url, is("www.liferay.com/p/resource?id=1&id=a%26b"));
+	}
+
 	@Test
 	public void testCreateCollectionPageURL() {
 		Pagination pagination = Mockito.mock(Pagination.class);
@@ -121,6 +132,13 @@ public class URLCreatorTest {
 			"www.liferay.com", page, PageType.FIRST);
 
 		assertThat(firstPageURL, is("www.liferay.com?page=1&per_page=30"));
+
+		String filteredPageURL = createCollectionPageURL(
+			"www.liferay.com?filter=name", page, PageType.FIRST);
+
+		assertThat(
+			filteredPageURL,
+			is("www.liferay.com?filter=name&page=1&per_page=30"));
 	}
 
 	@Test
@@ -173,6 +191,41 @@ public class URLCreatorTest {
 		_validateOperationURL(deleteOperation, "www.liferay.com/p/name");
 	}
 
+	@Test
+	public void testCreateURLPrefix() {
+		assertThat(
+			createURLPrefix("www.liferay.com/", "p", "name"),
+			is("www.liferay.com/p/name/"));
+		assertThat(
+			createURLPrefix("www.liferay.com", "p", "name"),
+			is("www.liferay.com/p/name/"));
+		assertThat(
+			createURLPrefix("www.liferay.com", "f", ""),
+			is("www.liferay.com/f/"));
+	}
+
+	@Test
+	public void testCreateURLsWithResolvedApplicationURL() {
+		ApplicationURL applicationURL = new ApplicationURLImpl(
+			"www.liferay.com/");
+
+		assertThat(
+			createSingleURL(applicationURL, _path),
+			is("www.liferay.com/p/name/id"));
+		assertThat(
+			createSingleURL(applicationURL, new Path("name", "other")),
+			is("www.liferay.com/p/name/other"));
+		assertThat(
+			createCollectionURL(applicationURL, "name"),
+			is("www.liferay.com/p/name"));
+		assertThat(
+			createNestedCollectionURL(applicationURL, _path, "related"),
+			is("www.liferay.com/p/name/id/related"));
+		assertThat(
+			createBinaryURL(applicationURL, "binary", _path),
+			is("www.liferay.com/b/name/id/binary"));
+	}
+
 	@Test
 	public void testExtractsPathFromSingleURL() {
 		Path path = getPath("www.liferay.com/p/name/id");
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.impl.wiring.osgi.alias.EmptyFunction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheWarmerImplTest {
+
+	@Before
+	public void setUp() {
+		_warmUpFunction = () -> {
+			_count.incrementAndGet();
+
+			_countDownLatch.countDown();
+		};
+
+		INSTANCE.addWarmUpFunction(_warmUpFunction);
+	}
+
+	@After
+	public void tearDown() {
+		_managerCacheWarmerImpl.deactivate();
+
+		INSTANCE.removeWarmUpFunction(_warmUpFunction);
+	}
+
+	@Test
+	public void testBurstOfClearsCausesOneWarmUp() throws Exception {
+		_activate(true, 100, 10000);
+
+		_await();
+
+		_count.set(0);
+		_countDownLatch = new CountDownLatch(1);
+
+		for (int i = 0; i < 10; i++) {
+			INSTANCE.clear();
+		}
+
+		_await();
+
+		Thread.sleep(300);
+
+		assertThat(_count.get(), is(1));
+	}
+
+	@Test
+	public void testDisabledWarmerIsAlwaysReady() {
+		_activate(false, 0, 0);
+
+		assertThat(_managerCacheWarmerImpl.isReady(), is(true));
+		assertThat(_count.get(), is(0));
+	}
+
+	@Test
+	public void testFailingWarmUpFunctionReportsNotReady() throws Exception {
+		EmptyFunction failingFunction = () -> {
+			throw new IllegalStateException();
+		};
+
+		INSTANCE.addWarmUpFunction(failingFunction);
+
+		try {
+			_activate(true, 0, 0);
+
+			assertThat(_countDownLatch.await(5, TimeUnit.SECONDS), is(true));
+
+			Thread.sleep(200);
+
+			assertThat(_managerCacheWarmerImpl.isReady(), is(false));
+		}
+		finally {
+			INSTANCE.removeWarmUpFunction(failingFunction);
+		}
+
+		_countDownLatch = new CountDownLatch(1);
+
+		INSTANCE.clear();
+
+		_await();
+	}
+
+	@Test
+	public void testWarmerIsReadyAfterFirstWarmUp() throws Exception {
+		_activate(true, 0, 0);
+
+		_await();
+
+		assertThat(_managerCacheWarmerImpl.isReady(), is(true));
+	}
+
+	@Test
+	public void testWarmUpIsNotPostponedBeyondMaxDelay() throws Exception {
+		_activate(true, 200, 300);
+
+		_await();
+
+		_countDownLatch = new CountDownLatch(1);
+
+		long start = System.nanoTime();
+
+		while (_countDownLatch.getCount() > 0) {
+			INSTANCE.clear();
+
+			Thread.sleep(50);
+
+			long elapsed = TimeUnit.NANOSECONDS.toMillis(
+				System.nanoTime() - start);
+
+			assertThat(elapsed < 5000, is(true));
+		}
+	}
+
+	private void _activate(boolean enabled, long delay, long maxDelay) {
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put(ManagerCacheWarmerImpl.DELAY, delay);
+		properties.put(ManagerCacheWarmerImpl.ENABLED, enabled);
+		properties.put(ManagerCacheWarmerImpl.MAX_DELAY, maxDelay);
+
+		_managerCacheWarmerImpl.activate(properties);
+	}
+
+	private void _await() throws InterruptedException {
+		assertThat(_countDownLatch.await(5, TimeUnit.SECONDS), is(true));
+
+		long start = System.nanoTime();
+
+		while (!_managerCacheWarmerImpl.isReady() &&
+			   ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(5))) {
+
+			Thread.sleep(10);
+		}
+
+		assertThat(_managerCacheWarmerImpl.isReady(), is(true));
+	}
+
+	private final AtomicInteger _count = new AtomicInteger();
+	private CountDownLatch _countDownLatch = new CountDownLatch(1);
+	private final ManagerCacheWarmerImpl _managerCacheWarmerImpl =
+		new ManagerCacheWarmerImpl();
+	private EmptyFunction _warmUpFunction;
+
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.exception.mapper;
+
+import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.exception.mapper.ExceptionMapper;
+import com.liferay.apio.architect.impl.wiring.osgi.alias.EmptyFunction;
+import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
+
+import java.lang.reflect.Field;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ExceptionMapperManagerImplTest {
+
+	@Before
+	public void setUp() {
+		ServiceTrackerMap<String, ExceptionMapper> serviceTrackerMap =
+			unsafeCast(Mockito.mock(ServiceTrackerMap.class));
+
+		_serviceTrackerMap = serviceTrackerMap;
+
+		_exceptionMapperManagerImpl = new ExceptionMapperManagerImpl() {
+			{
+				this.serviceTrackerMap = serviceTrackerMap;
+			}
+		};
+	}
+
+	@Test
+	public void testClosestSuperclassMapperIsUsed() {
+		_register(RuntimeException.class, new APIError(null, "A", "a", 500));
+
+		Optional<APIError> optional = _exceptionMapperManagerImpl.map(
+			new IllegalArgumentException());
+
+		assertThat(optional.get().getTitle(), is("A"));
+	}
+
+	@Test
+	public void testMapperReturningNullFallsBackToSuperclassMapper() {
+		_register(IllegalArgumentException.class, null);
+		_register(RuntimeException.class, new APIError(null, "A", "a", 500));
+
+		Optional<APIError> optional = _exceptionMapperManagerImpl.map(
+			new IllegalArgumentException());
+
+		assertThat(optional.get().getTitle(), is("A"));
+	}
+
+	@Test
+	public void testMappersReturningNullReturnEmpty() {
+		_register(IllegalArgumentException.class, null);
+		_register(Exception.class, null);
+
+		Optional<APIError> optional = _exceptionMapperManagerImpl.map(
+			new IllegalArgumentException());
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testResolvedMappersAreDiscardedWhenCacheIsCleared()
+		throws Exception {
+
+		Optional<APIError> optional = _exceptionMapperManagerImpl.map(
+			new IllegalStateException());
+
+		assertThat(optional.isPresent(), is(false));
+
+		_register(
+			IllegalStateException.class, new APIError(null, "A", "a", 500));
+
+		optional = _exceptionMapperManagerImpl.map(new IllegalStateException());
+
+		assertThat(optional.isPresent(), is(false));
+
+		Field field = ExceptionMapperManagerImpl.class.getDeclaredField(
+			"_clearListener");
+
+		field.setAccessible(true);
+
+		EmptyFunction clearListener = (EmptyFunction)field.get(
+			_exceptionMapperManagerImpl);
+
+		clearListener.invoke();
+
+		optional = _exceptionMapperManagerImpl.map(new IllegalStateException());
+
+		assertThat(optional.get().getTitle(), is("A"));
+	}
+
+	private void _register(Class<?> clazz, APIError apiError) {
+		ExceptionMapper<Exception> exceptionMapper = exception -> apiError;
+
+		Mockito.when(
+			_serviceTrackerMap.getService(clazz.getName())
+		).thenReturn(
+			exceptionMapper
+		);
+	}
+
+	private ExceptionMapperManagerImpl _exceptionMapperManagerImpl;
+	private ServiceTrackerMap<String, ExceptionMapper> _serviceTrackerMap;
+
+}
@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.provider;
+
+import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.TypeArgumentProperties.KEY_PRINCIPAL_TYPE_ARGUMENT;
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderScope.KEY_SCOPE;
+import static com.liferay.apio.architect.test.util.request.MockHttpServletRequestCreator.createHttpServletRequest;
+
+import static java.util.Collections.emptyMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.impl.metrics.InstrumentationImpl;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
+
+import java.lang.reflect.Field;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProviderManagerImplTest {
+
+	@Before
+	public void setUp() throws Exception {
+		BundleContext bundleContext = Mockito.mock(BundleContext.class);
+		ServiceTrackerMap<String, Provider> serviceTrackerMap = unsafeCast(
+			Mockito.mock(ServiceTrackerMap.class));
+
+		_bundleContext = bundleContext;
+		_serviceTrackerMap = serviceTrackerMap;
+
+		_providerManagerImpl = new ProviderManagerImpl() {
+			{
+				this.bundleContext = bundleContext;
+				this.serviceTrackerMap = serviceTrackerMap;
+			}
+		};
+
+		InstrumentationImpl instrumentationImpl = new InstrumentationImpl();
+
+		instrumentationImpl.activate(emptyMap());
+
+		Field field = ProviderManagerImpl.class.getDeclaredField(
+			"_instrumentation");
+
+		field.setAccessible(true);
+
+		field.set(_providerManagerImpl, instrumentationImpl);
+	}
+
+	@Test
+	public void testCallScopedProviderIsCalledOncePerCall() {
+		AtomicInteger atomicInteger = _registerProvider(
+			CallContext.class, "call");
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		_providerManagerImpl.provideOptional(
+			httpServletRequest, CallContext.class);
+		_providerManagerImpl.provideOptional(
+			httpServletRequest, CallContext.class);
+
+		assertThat(atomicInteger.get(), is(2));
+	}
+
+	@Test
+	public void testProviderWithoutScopeIsCalledOncePerCall() {
+		AtomicInteger atomicInteger = _registerProvider(
+			CallContext.class, null);
+
+		HttpServletRequest httpServletRequest = createHttpServletRequest();
+
+		_providerManagerImpl.provideOptional(
+			httpServletRequest, CallContext.class);
+		_providerManagerImpl.provideOptional(
+			httpServletRequest, CallContext.class);
+
+		assertThat(atomicInteger.get(), is(2));
+	}
+
+	@Test
+	public void testRequestScopedProviderIsCalledOncePerRequest() {
+		AtomicInteger atomicInteger = _registerProvider(
+			RequestContext.class, "request");
+
+		HttpServletRequest firstHttpServletRequest =
+			createHttpServletRequest();
+
+		_providerManagerImpl.provideOptional(
+			firstHttpServletRequest, RequestContext.class);
+		_providerManagerImpl.provideOptional(
+			firstHttpServletRequest, RequestContext.class);
+
+		assertThat(atomicInteger.get(), is(1));
+
+		HttpServletRequest secondHttpServletRequest =
+			createHttpServletRequest();
+
+		_providerManagerImpl.provideOptional(
+			secondHttpServletRequest, RequestContext.class);
+
+		assertThat(atomicInteger.get(), is(2));
+	}
+
+	@Test
+	public void testScopeFollowsTheHighestRankedProvider() {
+		AtomicInteger callAtomicInteger = new AtomicInteger();
+
+		Provider<Object> callProvider = _emitProvider(
+			RequestContext.class, "call", callAtomicInteger);
+
+		AtomicInteger requestAtomicInteger = new AtomicInteger();
+
+		Provider<Object> requestProvider = _emitProvider(
+			RequestContext.class, "request", requestAtomicInteger);
+
+		String className = RequestContext.class.getName();
+
+		Mockito.when(
+			_serviceTrackerMap.getService(className)
+		).thenReturn(
+			callProvider
+		);
+
+		HttpServletRequest firstHttpServletRequest =
+			createHttpServletRequest();
+
+		_providerManagerImpl.provideOptional(
+			firstHttpServletRequest, RequestContext.class);
+		_providerManagerImpl.provideOptional(
+			firstHttpServletRequest, RequestContext.class);
+
+		assertThat(callAtomicInteger.get(), is(2));
+
+		Mockito.when(
+			_serviceTrackerMap.getService(className)
+		).thenReturn(
+			requestProvider
+		);
+
+		_providerManagerImpl.serviceRemoved(className, callProvider);
+
+		HttpServletRequest secondHttpServletRequest =
+			createHttpServletRequest();
+
+		_providerManagerImpl.provideOptional(
+			secondHttpServletRequest, RequestContext.class);
+		_providerManagerImpl.provideOptional(
+			secondHttpServletRequest, RequestContext.class);
+
+		assertThat(requestAtomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testServiceRemovedForgetsScopeAndSingletonContext() {
+		AtomicInteger atomicInteger = _registerProvider(
+			SingletonContext.class, "singleton");
+
+		_providerManagerImpl.provideOptional(
+			createHttpServletRequest(), SingletonContext.class);
+		_providerManagerImpl.provideOptional(
+			createHttpServletRequest(), SingletonContext.class);
+
+		assertThat(atomicInteger.get(), is(1));
+
+		String className = SingletonContext.class.getName();
+
+		_providerManagerImpl.serviceRemoved(
+			className, _serviceTrackerMap.getService(className));
+
+		_providerManagerImpl.provideOptional(
+			createHttpServletRequest(), SingletonContext.class);
+		_providerManagerImpl.provideOptional(
+			createHttpServletRequest(), SingletonContext.class);
+
+		assertThat(atomicInteger.get(), is(3));
+	}
+
+	private Provider<Object> _emitProvider(
+		Class<?> clazz, String scope, AtomicInteger atomicInteger) {
+
+		Provider<Object> provider = httpServletRequest -> {
+			atomicInteger.incrementAndGet();
+
+			return new Object();
+		};
+
+		ServiceReference<Provider> serviceReference = unsafeCast(
+			Mockito.mock(ServiceReference.class));
+
+		Mockito.when(
+			serviceReference.getProperty(KEY_PRINCIPAL_TYPE_ARGUMENT)
+		).thenReturn(
+			clazz
+		);
+
+		Mockito.when(
+			serviceReference.getProperty(KEY_SCOPE)
+		).thenReturn(
+			scope
+		);
+
+		Mockito.when(
+			_bundleContext.getService(serviceReference)
+		).thenReturn(
+			provider
+		);
+
+		_providerManagerImpl.emit(serviceReference, className -> {
+		});
+
+		return provider;
+	}
+
+	private AtomicInteger _registerProvider(Class<?> clazz, String scope) {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		Provider<Object> provider = _emitProvider(clazz, scope, atomicInteger);
+
+		Mockito.when(
+			_serviceTrackerMap.getService(clazz.getName())
+		).thenReturn(
+			provider
+		);
+
+		return atomicInteger;
+	}
+
+	private BundleContext _bundleContext;
+	private ProviderManagerImpl _providerManagerImpl;
+	private ServiceTrackerMap<String, Provider> _serviceTrackerMap;
+
+	private static class CallContext {
+	}
+
+	private static class RequestContext {
+	}
+
+	private static class SingletonContext {
+	}
+
+}
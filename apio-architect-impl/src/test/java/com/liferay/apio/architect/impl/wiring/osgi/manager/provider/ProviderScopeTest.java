@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.provider;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.provider.ProviderScope.KEY_SCOPE;
+
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProviderScopeTest {
+
+	@Test
+	public void testFromPropertiesIgnoresCase() {
+		Map<String, Object> properties = singletonMap(KEY_SCOPE, "Singleton");
+
+		ProviderScope providerScope = ProviderScope.fromProperties(
+			properties::get);
+
+		assertThat(providerScope, is(ProviderScope.SINGLETON));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsCallWithInvalidScope() {
+		Map<String, Object> properties = singletonMap(KEY_SCOPE, "session");
+
+		ProviderScope providerScope = ProviderScope.fromProperties(
+			properties::get);
+
+		assertThat(providerScope, is(ProviderScope.CALL));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsCallWithoutScope() {
+		Map<String, Object> properties = new HashMap<>();
+
+		ProviderScope providerScope = ProviderScope.fromProperties(
+			properties::get);
+
+		assertThat(providerScope, is(ProviderScope.CALL));
+	}
+
+	@Test
+	public void testFromPropertiesReturnsDeclaredScope() {
+		Map<String, Object> properties = singletonMap(KEY_SCOPE, "request");
+
+		ProviderScope providerScope = ProviderScope.fromProperties(
+			properties::get);
+
+		assertThat(providerScope, is(ProviderScope.REQUEST));
+	}
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.representable;
+
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.representable.RepresentableManagerImplTest.createNames;
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.representable.RepresentableManagerImplTest.createRepresentableManager;
+
+/**
+ * Measures how long it takes to rebuild the representors of 1,000 synthetic
+ * {@link com.liferay.apio.architect.representor.Representable}s after the
+ * manager cache is cleared. Run its {@code main} method from the test
+ * classpath.
+ *
+ * @author Alejandro Hernández
+ */
+public class RepresentableManagerImplBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int count = _getArgument(args, 0, 1000);
+		int iterations = _getArgument(args, 1, 50);
+
+		RepresentableManagerImpl representableManagerImpl =
+			createRepresentableManager(createNames(count));
+
+		for (int i = 0; i < _WARM_UP_ITERATIONS; i++) {
+			_rebuild(representableManagerImpl);
+		}
+
+		long total = 0;
+
+		for (int i = 0; i < iterations; i++) {
+			total += _rebuild(representableManagerImpl);
+		}
+
+		System.out.printf(
+			"Rebuilt %d representables in %.3f ms on average (%d runs)%n",
+			count, total / (iterations * 1e6), iterations);
+	}
+
+	private static int _getArgument(
+		String[] args, int position, int defaultValue) {
+
+		if (args.length > position) {
+			return Integer.parseInt(args[position]);
+		}
+
+		return defaultValue;
+	}
+
+	private static long _rebuild(
+		RepresentableManagerImpl representableManagerImpl) {
+
+		INSTANCE.clear();
+
+		long start = System.nanoTime();
+
+		representableManagerImpl.getRepresentors();
+
+		return System.nanoTime() - start;
+	}
+
+	private static final int _WARM_UP_ITERATIONS = 10;
+
+}
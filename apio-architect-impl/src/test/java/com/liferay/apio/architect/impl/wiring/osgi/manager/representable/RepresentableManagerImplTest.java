@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.wiring.osgi.manager.representable;
+
+import static com.liferay.apio.architect.impl.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.impl.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.impl.wiring.osgi.validator.NameValidatorImpl;
+import com.liferay.apio.architect.representor.Representable;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RepresentableManagerImplTest {
+
+	/**
+	 * Returns a {@link RepresentableManagerImpl} that manages one synthetic
+	 * {@link Representable} per name. Every representable has a
+	 * bidirectional relation with the previous one.
+	 *
+	 * @param  names the representables' names
+	 * @return the representable manager
+	 */
+	public static RepresentableManagerImpl createRepresentableManager(
+			List<String> names)
+		throws ReflectiveOperationException {
+
+		ServiceTrackerMap<Class<Identifier>, Representable> serviceTrackerMap =
+			unsafeCast(Mockito.mock(ServiceTrackerMap.class));
+
+		Set<Class<Identifier>> classes = new LinkedHashSet<>();
+
+		ClassLoader classLoader =
+			RepresentableManagerImplTest.class.getClassLoader();
+
+		Class<Identifier> previousClass = null;
+
+		for (String name : names) {
+			Class<Identifier> clazz = unsafeCast(
+				Proxy.getProxyClass(
+					new ClassLoader(classLoader) {
+					},
+					Identifier.class));
+
+			classes.add(clazz);
+
+			Mockito.when(
+				serviceTrackerMap.getService(clazz)
+			).thenReturn(
+				new SyntheticRepresentable(name, previousClass)
+			);
+
+			previousClass = clazz;
+		}
+
+		Mockito.when(
+			serviceTrackerMap.keySet()
+		).thenReturn(
+			classes
+		);
+
+		RepresentableManagerImpl representableManagerImpl =
+			new RepresentableManagerImpl() {
+				{
+					this.serviceTrackerMap = serviceTrackerMap;
+				}
+			};
+
+		Field field = RepresentableManagerImpl.class.getDeclaredField(
+			"_nameValidator");
+
+		field.setAccessible(true);
+
+		field.set(representableManagerImpl, new NameValidatorImpl());
+
+		return representableManagerImpl;
+	}
+
+	/**
+	 * Returns a list of valid and distinct resource names.
+	 *
+	 * @param  count the number of names
+	 * @return the names
+	 */
+	public static List<String> createNames(int count) {
+		List<String> names = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			StringBuilder sb = new StringBuilder("resource-");
+
+			int value = i;
+
+			do {
+				sb.append((char)('a' + (value % 26)));
+
+				value /= 26;
+			}
+			while (value > 0);
+
+			names.add(sb.toString());
+		}
+
+		return names;
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testDuplicatedNameIsOnlyRegisteredOnce() throws Exception {
+		List<String> names = new ArrayList<>();
+
+		names.add("people");
+		names.add("people");
+
+		RepresentableManagerImpl representableManagerImpl =
+			createRepresentableManager(names);
+
+		Map<String, Representor> representors =
+			representableManagerImpl.getRepresentors();
+
+		assertThat(representors.size(), is(1));
+	}
+
+	@Test
+	public void testNamesAreIndexedInBothDirections() throws Exception {
+		RepresentableManagerImpl representableManagerImpl =
+			createRepresentableManager(createNames(2));
+
+		representableManagerImpl.getRepresentors();
+
+		Optional<String> classNameOptional = INSTANCE.getClassNameOptional(
+			"resource-b");
+
+		assertThat(classNameOptional.isPresent(), is(true));
+
+		Optional<String> nameOptional =
+			representableManagerImpl.getNameOptional(classNameOptional.get());
+
+		assertThat(nameOptional, is(Optional.of("resource-b")));
+		assertThat(
+			INSTANCE.getClassNameOptional("resource-c"), is(Optional.empty()));
+	}
+
+	@Test
+	public void testThousandRepresentablesAreRegistered() throws Exception {
+		RepresentableManagerImpl representableManagerImpl =
+			createRepresentableManager(createNames(1000));
+
+		Map<String, Representor> representors =
+			representableManagerImpl.getRepresentors();
+
+		assertThat(representors.size(), is(1000));
+	}
+
+	private static class SyntheticRepresentable
+		implements Representable<Object, Object, Identifier<Object>> {
+
+		@Override
+		public String getName() {
+			return _name;
+		}
+
+		@Override
+		public Representor<Object> representor(
+			Representor.Builder<Object, Object> builder) {
+
+			Representor.FirstStep<Object> firstStep = builder.types(
+				"Thing"
+			).identifier(
+				model -> model
+			).addString(
+				"name", String::valueOf
+			);
+
+			if (_relatedClass != null) {
+				firstStep.addBidirectionalModel(
+					"previous", "next", unsafeCast(_relatedClass),
+					model -> model);
+			}
+
+			return firstStep.build();
+		}
+
+		private SyntheticRepresentable(
+			String name, Class<Identifier> relatedClass) {
+
+			_name = name;
+			_relatedClass = relatedClass;
+		}
+
+		private final String _name;
+		private final Class<Identifier> _relatedClass;
+
+	}
+
+}
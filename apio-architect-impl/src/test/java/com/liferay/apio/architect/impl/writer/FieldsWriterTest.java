@@ -24,16 +24,20 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+import com.liferay.apio.architect.impl.embedding.EmbeddingBudget;
+import com.liferay.apio.architect.impl.embedding.EmbeddingPolicy;
 import com.liferay.apio.architect.impl.list.FunctionalList;
 import com.liferay.apio.architect.impl.related.RelatedModelImpl;
 import com.liferay.apio.architect.impl.request.RequestInfo;
 import com.liferay.apio.architect.impl.single.model.SingleModelImpl;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.test.util.identifier.FirstEmbeddedId;
@@ -96,6 +100,12 @@ public class FieldsWriterTest {
 			Locale::getDefault
 		);
 
+		Mockito.when(
+			_requestInfo.getEmbeddingBudget()
+		).thenReturn(
+			EmbeddingBudget.unlimited()
+		);
+
 		_fieldsWriter = new FieldsWriter<>(
 			new SingleModelImpl<>(
 				() -> "first", "root", Collections.emptyList()),
@@ -319,6 +329,53 @@ public class FieldsWriterTest {
 			contains(aFunctionalListThat(contains("first", "embedded2"))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteEmbeddedRelatedModelsWithExhaustedEmbeddingBudget() {
+		EmbeddingBudget embeddingBudget = new EmbeddingBudget(
+			new EmbeddingPolicy(1, 100, 1000, false));
+
+		Mockito.when(
+			_requestInfo.getEmbedded()
+		).thenReturn(
+			"first.embedded2"::equals
+		);
+
+		Mockito.when(
+			_requestInfo.getEmbeddingBudget()
+		).thenReturn(
+			embeddingBudget
+		);
+
+		List<String> linkedRelatedModelURLs = new ArrayList<>();
+
+		Function<SingleModel<?>, Optional<Path>> pathFunction = Mockito.mock(
+			Function.class);
+
+		Mockito.when(
+			pathFunction.apply(Mockito.any())
+		).thenReturn(
+			Optional.of(new Path("name1", "id1")),
+			Optional.of(new Path("name2", "id2")),
+			Optional.of(new Path("name3", "id3")),
+			Optional.of(new Path("name4", "id4"))
+		);
+
+		_fieldsWriter.writeRelatedModels(
+			pathFunction,
+			(singleModel, embeddedPathElements) ->
+				Assert.fail("Should not be embedded"),
+			(url, embeddedPathElements) -> linkedRelatedModelURLs.add(url),
+			(url, embeddedPathElements) -> Assert.fail(
+				"Should not be embedded"));
+
+		assertThat(linkedRelatedModelURLs, hasSize(equalTo(4)));
+		assertThat(
+			linkedRelatedModelURLs, hasItem("www.liferay.com/o/p/name2/id2"));
+
+		assertThat(embeddingBudget.isExceeded(), is(true));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testWriteEmbeddedRelatedModelsWithFieldsFilter() {
@@ -630,6 +687,54 @@ public class FieldsWriterTest {
 				aFunctionalListThat(contains("first", "relatedCollection2"))));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteRelatedCollectionsWithEmbeddedPage() {
+		Mockito.when(
+			_requestInfo.getEmbedded()
+		).thenReturn(
+			"first.relatedCollection2"::equals
+		);
+
+		List<String> relatedCollectionURLs = new ArrayList<>();
+		List<String> embeddedCollectionURLs = new ArrayList<>();
+		List<Page> pages = new ArrayList<>();
+		List<Object> identifiers = new ArrayList<>();
+
+		Function<String, Optional<String>> nameFunction = Mockito.mock(
+			Function.class);
+
+		Mockito.when(
+			nameFunction.apply(Mockito.any())
+		).thenReturn(
+			Optional.of("first"), Optional.of("second")
+		);
+
+		Page page = Mockito.mock(Page.class);
+
+		_fieldsWriter.writeRelatedCollections(
+			nameFunction,
+			(nestedName, identifier) -> {
+				identifiers.add(identifier);
+
+				return Optional.of(page);
+			},
+			(url, embeddedPathElements) -> relatedCollectionURLs.add(url),
+			(url, embeddedPage, embeddedPathElements) -> {
+				embeddedCollectionURLs.add(url);
+				pages.add(embeddedPage);
+			});
+
+		assertThat(
+			relatedCollectionURLs,
+			contains("www.liferay.com/o/p/name/id/first"));
+		assertThat(
+			embeddedCollectionURLs,
+			contains("www.liferay.com/o/p/name/id/second"));
+		assertThat(pages, contains(page));
+		assertThat(identifiers, contains("first"));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testWriteRelatedCollectionsWithFilter() {
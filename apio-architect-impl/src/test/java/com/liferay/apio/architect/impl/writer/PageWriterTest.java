@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.impl.writer;
+
+import static com.liferay.apio.architect.test.util.writer.MockWriterUtil.getRequestInfo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.liferay.apio.architect.impl.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.impl.message.json.PageMessageMapper;
+import com.liferay.apio.architect.impl.pagination.ItemsPageImpl;
+import com.liferay.apio.architect.impl.pagination.PageImpl;
+import com.liferay.apio.architect.impl.pagination.PaginationImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageWriterTest {
+
+	@Before
+	public void setUp() {
+		_urls = new TreeMap<>();
+	}
+
+	@Test
+	public void testItemsPageURLContainsIdsAndHasNoPageURLs() {
+		_write(
+			new ItemsPageImpl<>(
+				"name", Collections.emptyList(), Arrays.asList("1", "2")));
+
+		assertThat(_urls.size(), is(1));
+		assertThat(
+			_urls.get("collection"), is("localhost/o/api/p/name?id=1&id=2"));
+	}
+
+	@Test
+	public void testPageHasPageURLs() {
+		_write(
+			new PageImpl<>(
+				"name", new PageItems<>(Collections.emptyList(), 9),
+				new PaginationImpl(3, 2), Collections.emptyList()));
+
+		assertThat(_urls.get("collection"), is("localhost/o/api/p/name"));
+		assertThat(
+			_urls.get("current"),
+			is("localhost/o/api/p/name?page=2&per_page=3"));
+		assertThat(
+			_urls.get("first"), is("localhost/o/api/p/name?page=1&per_page=3"));
+		assertThat(
+			_urls.get("last"), is("localhost/o/api/p/name?page=3&per_page=3"));
+	}
+
+	private void _write(Page<Object> page) {
+		PageWriter<Object> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				page
+			).pageMessageMapper(
+				new PageMessageMapper<Object>() {
+
+					@Override
+					public String getMediaType() {
+						return "mediaType";
+					}
+
+					@Override
+					public void mapCollectionURL(
+						JSONObjectBuilder jsonObjectBuilder, String url) {
+
+						_urls.put("collection", url);
+					}
+
+					@Override
+					public void mapCurrentPageURL(
+						JSONObjectBuilder jsonObjectBuilder, String url) {
+
+						_urls.put("current", url);
+					}
+
+					@Override
+					public void mapFirstPageURL(
+						JSONObjectBuilder jsonObjectBuilder, String url) {
+
+						_urls.put("first", url);
+					}
+
+					@Override
+					public void mapLastPageURL(
+						JSONObjectBuilder jsonObjectBuilder, String url) {
+
+						_urls.put("last", url);
+					}
+
+					@Override
+					public void mapNextPageURL(
+						JSONObjectBuilder jsonObjectBuilder, String url) {
+
+						_urls.put("next", url);
+					}
+
+					@Override
+					public void mapPreviousPageURL(
+						JSONObjectBuilder jsonObjectBuilder, String url) {
+
+						_urls.put("previous", url);
+					}
+
+				}
+			).pathFunction(
+				(resourceName, identifier) -> Optional.empty()
+			).resourceNameFunction(
+				__ -> Optional.empty()
+			).representorFunction(
+				__ -> Optional.empty()
+			).requestInfo(
+				getRequestInfo()
+			).singleModelFunction(
+				(o, aClass) -> Optional.empty()
+			).build());
+
+		pageWriter.write();
+	}
+
+	private Map<String, String> _urls;
+
+}
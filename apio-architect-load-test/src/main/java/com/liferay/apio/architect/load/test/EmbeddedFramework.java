@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.net.URI;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.launch.Framework;
+import org.osgi.framework.launch.FrameworkFactory;
+
+/**
+ * Boots an OSGi framework in the current process and installs the bundles of
+ * the configuration: the Apio bundles, Declarative Services, and a JAX-RS
+ * whiteboard with an HTTP server. The components are wired by the same
+ * {@code @Reference} annotations and service trackers used in a portal.
+ *
+ * <p>
+ * The {@code apio.sample.*} system properties are passed to the framework, so
+ * the size of the sample's data can be configured.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class EmbeddedFramework implements AutoCloseable {
+
+	public EmbeddedFramework(LoadTestConfiguration loadTestConfiguration) {
+		_loadTestConfiguration = loadTestConfiguration;
+	}
+
+	@Override
+	public void close() throws BundleException, InterruptedException {
+		if (_framework == null) {
+			return;
+		}
+
+		_framework.stop();
+
+		_framework.waitForStop(_STOP_TIMEOUT);
+	}
+
+	/**
+	 * Starts the framework, installs the configuration's bundles, and starts
+	 * every bundle that isn't a fragment.
+	 */
+	public void start() throws BundleException, IOException {
+		Path storagePath = Files.createTempDirectory("apio-load-test");
+
+		Map<String, String> properties = new HashMap<>();
+
+		properties.put(Constants.FRAMEWORK_STORAGE, storagePath.toString());
+		properties.put(
+			Constants.FRAMEWORK_STORAGE_CLEAN,
+			Constants.FRAMEWORK_STORAGE_CLEAN_ONFIRSTINIT);
+		properties.put(
+			"org.osgi.service.http.port",
+			String.valueOf(_loadTestConfiguration.getPort()));
+
+		Properties systemProperties = System.getProperties();
+
+		for (String key : systemProperties.stringPropertyNames()) {
+			if (key.startsWith("apio.sample.")) {
+				properties.put(key, systemProperties.getProperty(key));
+			}
+		}
+
+		ServiceLoader<FrameworkFactory> serviceLoader = ServiceLoader.load(
+			FrameworkFactory.class);
+
+		Iterator<FrameworkFactory> iterator = serviceLoader.iterator();
+
+		if (!iterator.hasNext()) {
+			throw new IllegalStateException(
+				"Unable to find an OSGi framework in the classpath");
+		}
+
+		FrameworkFactory frameworkFactory = iterator.next();
+
+		_framework = frameworkFactory.newFramework(properties);
+
+		_framework.start();
+
+		BundleContext bundleContext = _framework.getBundleContext();
+
+		List<Bundle> bundles = new ArrayList<>();
+
+		for (File file : _loadTestConfiguration.getBundleFiles()) {
+			URI uri = file.toURI();
+
+			bundles.add(bundleContext.installBundle(uri.toString()));
+		}
+
+		for (Bundle bundle : bundles) {
+			if (bundle.getHeaders().get(Constants.FRAGMENT_HOST) == null) {
+				bundle.start();
+			}
+		}
+	}
+
+	private static final long _STOP_TIMEOUT = 30000;
+
+	private Framework _framework;
+	private final LoadTestConfiguration _loadTestConfiguration;
+
+}
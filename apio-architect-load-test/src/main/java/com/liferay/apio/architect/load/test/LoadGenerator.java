@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import java.io.IOException;
+
+import java.time.Duration;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the configured scenarios with a fixed number of concurrent clients.
+ * Each client sends a request as soon as the previous one finishes, picking
+ * the scenario at random, so the scenarios get a similar share of the
+ * requests.
+ *
+ * @author Alejandro Hernández
+ */
+public class LoadGenerator {
+
+	public LoadGenerator(
+		LoadTestClient loadTestClient,
+		LoadTestConfiguration loadTestConfiguration) {
+
+		_loadTestClient = loadTestClient;
+		_loadTestConfiguration = loadTestConfiguration;
+	}
+
+	/**
+	 * Runs the warm up, which isn't measured, and then the measured run.
+	 *
+	 * @return the report of the measured run
+	 */
+	public LoadTestReport run() throws InterruptedException {
+		_run(_loadTestConfiguration.getWarmup());
+
+		long start = System.nanoTime();
+
+		Map<Scenario, ScenarioStatistics> scenarioStatistics = _run(
+			_loadTestConfiguration.getDuration());
+
+		Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+		return new LoadTestReport(scenarioStatistics, duration);
+	}
+
+	private Map<Scenario, ScenarioStatistics> _run(Duration duration)
+		throws InterruptedException {
+
+		long deadline = System.nanoTime() + duration.toNanos();
+
+		int concurrency = _loadTestConfiguration.getConcurrency();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			concurrency);
+
+		try {
+			List<Future<Map<Scenario, ScenarioStatistics>>> futures =
+				IntStream.range(
+					0, concurrency
+				).mapToObj(
+					seed -> executorService.submit(
+						() -> _runClient(deadline, seed))
+				).collect(
+					Collectors.toList()
+				);
+
+			Map<Scenario, ScenarioStatistics> scenarioStatistics =
+				new EnumMap<>(Scenario.class);
+
+			for (Future<Map<Scenario, ScenarioStatistics>> future : futures) {
+				Map<Scenario, ScenarioStatistics> clientStatistics =
+					future.get();
+
+				clientStatistics.forEach(
+					(scenario, statistics) -> {
+						ScenarioStatistics merged =
+							scenarioStatistics.computeIfAbsent(
+								scenario, __ -> new ScenarioStatistics());
+
+						merged.merge(statistics);
+					});
+			}
+
+			return scenarioStatistics;
+		}
+		catch (ExecutionException ee) {
+			throw new IllegalStateException(
+				"Unable to run the load test clients", ee.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private Map<Scenario, ScenarioStatistics> _runClient(
+		long deadline, long seed) {
+
+		List<Scenario> scenarios = _loadTestConfiguration.getScenarios();
+
+		Map<Scenario, ScenarioStatistics> scenarioStatistics = new EnumMap<>(
+			Scenario.class);
+
+		Random random = new Random(seed);
+
+		while (System.nanoTime() < deadline) {
+			Scenario scenario = scenarios.get(random.nextInt(scenarios.size()));
+
+			long start = System.nanoTime();
+
+			boolean failed;
+
+			try {
+				int status = scenario.execute(_loadTestClient, random);
+
+				failed = status >= 400;
+			}
+			catch (IOException ioe) {
+				failed = true;
+			}
+
+			ScenarioStatistics statistics = scenarioStatistics.computeIfAbsent(
+				scenario, __ -> new ScenarioStatistics());
+
+			statistics.record(System.nanoTime() - start, failed);
+		}
+
+		return scenarioStatistics;
+	}
+
+	private final LoadTestClient _loadTestClient;
+	private final LoadTestConfiguration _loadTestConfiguration;
+
+}
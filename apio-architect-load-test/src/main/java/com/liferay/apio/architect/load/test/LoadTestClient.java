@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Sends requests to the application under test. Response bodies are always
+ * read to the end, so connections are reused between requests.
+ *
+ * @author Alejandro Hernández
+ */
+public class LoadTestClient {
+
+	public LoadTestClient(String baseURL, String authorization) {
+		_baseURL = baseURL;
+		_authorization = authorization;
+	}
+
+	/**
+	 * Sends a {@code GET} request to the provided path.
+	 *
+	 * @param  path the path, relative to the application's base URL
+	 * @return the response's status code
+	 */
+	public int get(String path) throws IOException {
+		HttpURLConnection httpURLConnection = _openConnection(path);
+
+		httpURLConnection.setRequestProperty("Accept", "application/ld+json");
+
+		return _execute(httpURLConnection);
+	}
+
+	/**
+	 * Returns the application's base URL.
+	 *
+	 * @return the base URL
+	 */
+	public String getBaseURL() {
+		return _baseURL;
+	}
+
+	/**
+	 * Sends a {@code POST} request to the provided path.
+	 *
+	 * @param  path the path, relative to the application's base URL
+	 * @param  contentType the body's content type
+	 * @param  body the body
+	 * @return the response's status code
+	 */
+	public int post(String path, String contentType, byte[] body)
+		throws IOException {
+
+		HttpURLConnection httpURLConnection = _openConnection(path);
+
+		httpURLConnection.setDoOutput(true);
+		httpURLConnection.setFixedLengthStreamingMode(body.length);
+		httpURLConnection.setRequestMethod("POST");
+		httpURLConnection.setRequestProperty("Accept", "application/ld+json");
+		httpURLConnection.setRequestProperty("Content-Type", contentType);
+
+		try (OutputStream outputStream = httpURLConnection.getOutputStream()) {
+			outputStream.write(body);
+		}
+
+		return _execute(httpURLConnection);
+	}
+
+	private int _execute(HttpURLConnection httpURLConnection)
+		throws IOException {
+
+		int status = httpURLConnection.getResponseCode();
+
+		InputStream inputStream;
+
+		if (status < 400) {
+			inputStream = httpURLConnection.getInputStream();
+		}
+		else {
+			inputStream = httpURLConnection.getErrorStream();
+		}
+
+		if (inputStream != null) {
+			try (InputStream closeable = inputStream) {
+				byte[] buffer = new byte[8192];
+
+				while (closeable.read(buffer) != -1) {
+				}
+			}
+		}
+
+		return status;
+	}
+
+	private HttpURLConnection _openConnection(String path) throws IOException {
+		URL url = new URL(_baseURL + path);
+
+		HttpURLConnection httpURLConnection =
+			(HttpURLConnection)url.openConnection();
+
+		if (_authorization != null) {
+			httpURLConnection.setRequestProperty(
+				"Authorization", _authorization);
+		}
+
+		httpURLConnection.setConnectTimeout(_TIMEOUT);
+		httpURLConnection.setReadTimeout(_TIMEOUT);
+
+		return httpURLConnection;
+	}
+
+	private static final int _TIMEOUT = 30000;
+
+	private final String _authorization;
+	private final String _baseURL;
+
+}
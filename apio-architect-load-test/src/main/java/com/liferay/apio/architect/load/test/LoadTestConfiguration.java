@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import java.io.File;
+
+import java.time.Duration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Holds the configuration of a load test run, read from the {@code
+ * apio.load.test.*} properties.
+ *
+ * @author Alejandro Hernández
+ */
+public class LoadTestConfiguration {
+
+	/**
+	 * The property with the path list of bundles to install in the embedded
+	 * framework.
+	 */
+	public static final String BUNDLES = "apio.load.test.bundles";
+
+	/**
+	 * The property with the number of concurrent clients.
+	 */
+	public static final String CONCURRENCY = "apio.load.test.concurrency";
+
+	/**
+	 * The property with the measured duration of the run, in seconds.
+	 */
+	public static final String DURATION = "apio.load.test.duration";
+
+	/**
+	 * The property with the maximum percentage of failed requests before the
+	 * run is considered a regression.
+	 */
+	public static final String MAX_ERROR_RATE =
+		"apio.load.test.max.error.rate";
+
+	/**
+	 * The property with the maximum p99 latency of any scenario, in
+	 * milliseconds, before the run is considered a regression. Zero disables
+	 * the check.
+	 */
+	public static final String MAX_P99 = "apio.load.test.max.p99";
+
+	/**
+	 * The property with the minimum total throughput, in requests per second,
+	 * before the run is considered a regression. Zero disables the check.
+	 */
+	public static final String MIN_THROUGHPUT =
+		"apio.load.test.min.throughput";
+
+	/**
+	 * The property with the port of the embedded HTTP server.
+	 */
+	public static final String PORT = "apio.load.test.port";
+
+	/**
+	 * The property with the comma-separated list of scenarios to run.
+	 */
+	public static final String SCENARIOS = "apio.load.test.scenarios";
+
+	/**
+	 * The property with the warm-up duration, in seconds. Requests made during
+	 * the warm up are not measured.
+	 */
+	public static final String WARMUP = "apio.load.test.warmup";
+
+	public LoadTestConfiguration(Properties properties) {
+		_bundleFiles = Stream.of(
+			properties.getProperty(BUNDLES, "").split(File.pathSeparator)
+		).filter(
+			path -> !path.isEmpty()
+		).map(
+			File::new
+		).collect(
+			Collectors.toList()
+		);
+
+		_concurrency = _getInteger(properties, CONCURRENCY, 16);
+		_duration = Duration.ofSeconds(_getInteger(properties, DURATION, 60));
+		_maxErrorRate = Double.parseDouble(
+			properties.getProperty(MAX_ERROR_RATE, "1"));
+		_maxP99 = _getInteger(properties, MAX_P99, 0);
+		_minThroughput = _getInteger(properties, MIN_THROUGHPUT, 0);
+		_port = _getInteger(properties, PORT, 8080);
+
+		String scenarios = properties.getProperty(SCENARIOS);
+
+		if (scenarios == null) {
+			_scenarios = Arrays.asList(Scenario.values());
+		}
+		else {
+			_scenarios = Stream.of(
+				scenarios.split(",")
+			).map(
+				String::trim
+			).map(
+				String::toUpperCase
+			).map(
+				Scenario::valueOf
+			).collect(
+				Collectors.toList()
+			);
+		}
+
+		_warmup = Duration.ofSeconds(_getInteger(properties, WARMUP, 10));
+	}
+
+	/**
+	 * Returns the bundles to install in the embedded framework.
+	 *
+	 * @return the bundles' files
+	 */
+	public List<File> getBundleFiles() {
+		return Collections.unmodifiableList(_bundleFiles);
+	}
+
+	/**
+	 * Returns the number of concurrent clients.
+	 *
+	 * @return the number of concurrent clients
+	 */
+	public int getConcurrency() {
+		return _concurrency;
+	}
+
+	/**
+	 * Returns the measured duration of the run.
+	 *
+	 * @return the measured duration
+	 */
+	public Duration getDuration() {
+		return _duration;
+	}
+
+	/**
+	 * Returns the maximum percentage of failed requests.
+	 *
+	 * @return the maximum error rate
+	 */
+	public double getMaxErrorRate() {
+		return _maxErrorRate;
+	}
+
+	/**
+	 * Returns the maximum p99 latency, in milliseconds. Zero disables the
+	 * check.
+	 *
+	 * @return the maximum p99 latency
+	 */
+	public int getMaxP99() {
+		return _maxP99;
+	}
+
+	/**
+	 * Returns the minimum total throughput, in requests per second. Zero
+	 * disables the check.
+	 *
+	 * @return the minimum throughput
+	 */
+	public int getMinThroughput() {
+		return _minThroughput;
+	}
+
+	/**
+	 * Returns the port of the embedded HTTP server.
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return _port;
+	}
+
+	/**
+	 * Returns the scenarios to run.
+	 *
+	 * @return the scenarios
+	 */
+	public List<Scenario> getScenarios() {
+		return Collections.unmodifiableList(_scenarios);
+	}
+
+	/**
+	 * Returns the warm-up duration.
+	 *
+	 * @return the warm-up duration
+	 */
+	public Duration getWarmup() {
+		return _warmup;
+	}
+
+	private static int _getInteger(
+		Properties properties, String key, int defaultValue) {
+
+		String value = properties.getProperty(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		return Integer.parseInt(value.trim());
+	}
+
+	private final List<File> _bundleFiles;
+	private final int _concurrency;
+	private final Duration _duration;
+	private final double _maxErrorRate;
+	private final int _maxP99;
+	private final int _minThroughput;
+	private final int _port;
+	private final List<Scenario> _scenarios;
+	private final Duration _warmup;
+
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import java.io.IOException;
+
+import java.util.List;
+
+/**
+ * Boots the sample application in an {@link EmbeddedFramework}, runs the
+ * configured scenarios against it, and prints the report. The process exits
+ * with a non-zero status if the run violates any of the configured thresholds,
+ * so it can be used as a regression gate.
+ *
+ * @author Alejandro Hernández
+ */
+public class LoadTestLauncher {
+
+	public static void main(String[] args) throws Exception {
+		LoadTestConfiguration loadTestConfiguration = new LoadTestConfiguration(
+			System.getProperties());
+
+		int status = 0;
+
+		try (EmbeddedFramework embeddedFramework = new EmbeddedFramework(
+				loadTestConfiguration)) {
+
+			embeddedFramework.start();
+
+			LoadTestClient loadTestClient = new LoadTestClient(
+				"http://localhost:" + loadTestConfiguration.getPort() + "/api",
+				System.getenv("LIFERAY_APIO_AUTH"));
+
+			_awaitReady(loadTestClient);
+
+			LoadGenerator loadGenerator = new LoadGenerator(
+				loadTestClient, loadTestConfiguration);
+
+			LoadTestReport loadTestReport = loadGenerator.run();
+
+			System.out.println(loadTestReport);
+
+			List<String> violations = loadTestReport.getViolations(
+				loadTestConfiguration);
+
+			for (String violation : violations) {
+				System.err.println(violation);
+			}
+
+			if (!violations.isEmpty()) {
+				status = 1;
+			}
+		}
+
+		System.exit(status);
+	}
+
+	private static void _awaitReady(LoadTestClient loadTestClient)
+		throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + _READY_TIMEOUT;
+
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				if (loadTestClient.get("/ready") == 200) {
+					return;
+				}
+			}
+			catch (IOException ioe) {
+
+				// The HTTP server may not be listening yet
+
+			}
+
+			Thread.sleep(_READY_INTERVAL);
+		}
+
+		throw new IllegalStateException(
+			"The application wasn't ready after " + _READY_TIMEOUT + " ms");
+	}
+
+	private static final long _READY_INTERVAL = 500;
+	private static final long _READY_TIMEOUT = 120000;
+
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Summarizes a load test run: throughput and p50, p99, and p999 latencies of
+ * every scenario, and the thresholds the run violated, if any.
+ *
+ * @author Alejandro Hernández
+ */
+public class LoadTestReport {
+
+	public LoadTestReport(
+		Map<Scenario, ScenarioStatistics> scenarioStatistics,
+		Duration duration) {
+
+		_scenarioStatistics = scenarioStatistics;
+		_duration = duration;
+	}
+
+	/**
+	 * Returns the statistics of each scenario.
+	 *
+	 * @return the statistics of each scenario
+	 */
+	public Map<Scenario, ScenarioStatistics> getScenarioStatistics() {
+		return Collections.unmodifiableMap(_scenarioStatistics);
+	}
+
+	/**
+	 * Returns the total throughput of the run, in requests per second.
+	 *
+	 * @return the throughput
+	 */
+	public double getThroughput() {
+		Collection<ScenarioStatistics> scenarioStatistics =
+			_scenarioStatistics.values();
+
+		Stream<ScenarioStatistics> stream = scenarioStatistics.stream();
+
+		int count = stream.mapToInt(
+			ScenarioStatistics::getCount
+		).sum();
+
+		return _getThroughput(count);
+	}
+
+	/**
+	 * Returns the thresholds of the configuration that this run violated. An
+	 * empty list means the run passed.
+	 *
+	 * @param  loadTestConfiguration the configuration with the thresholds
+	 * @return the violated thresholds
+	 */
+	public List<String> getViolations(
+		LoadTestConfiguration loadTestConfiguration) {
+
+		List<String> violations = new ArrayList<>();
+
+		double maxErrorRate = loadTestConfiguration.getMaxErrorRate();
+		long maxP99 = loadTestConfiguration.getMaxP99() * _NANOS_PER_MILLI;
+
+		_scenarioStatistics.forEach(
+			(scenario, scenarioStatistics) -> {
+				double errorRate =
+					100.0 * scenarioStatistics.getErrorCount() /
+						scenarioStatistics.getCount();
+
+				if (errorRate > maxErrorRate) {
+					violations.add(
+						String.format(
+							"%s error rate %.2f%% is above %.2f%%", scenario,
+							errorRate, maxErrorRate));
+				}
+
+				long p99 = scenarioStatistics.getPercentile(99);
+
+				if ((maxP99 > 0) && (p99 > maxP99)) {
+					violations.add(
+						String.format(
+							"%s p99 latency %s is above %d ms", scenario,
+							_toMillis(p99), loadTestConfiguration.getMaxP99()));
+				}
+			});
+
+		int minThroughput = loadTestConfiguration.getMinThroughput();
+
+		if ((minThroughput > 0) && (getThroughput() < minThroughput)) {
+			violations.add(
+				String.format(
+					"Throughput %.1f req/s is below %d req/s", getThroughput(),
+					minThroughput));
+		}
+
+		return violations;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(
+			String.format(
+				_FORMAT, "Scenario", "Requests", "Errors", "req/s", "p50",
+				"p99", "p999"));
+
+		_scenarioStatistics.forEach(
+			(scenario, scenarioStatistics) -> sb.append(
+				String.format(
+					_FORMAT, scenario, scenarioStatistics.getCount(),
+					scenarioStatistics.getErrorCount(),
+					String.format(
+						"%.1f", _getThroughput(scenarioStatistics.getCount())),
+					_toMillis(scenarioStatistics.getPercentile(50)),
+					_toMillis(scenarioStatistics.getPercentile(99)),
+					_toMillis(scenarioStatistics.getPercentile(99.9)))));
+
+		sb.append(
+			String.format("Total throughput: %.1f req/s", getThroughput()));
+
+		return sb.toString();
+	}
+
+	private double _getThroughput(int count) {
+		return count * 1000.0 / Math.max(_duration.toMillis(), 1);
+	}
+
+	private String _toMillis(long nanos) {
+		return String.format("%.2f ms", (double)nanos / _NANOS_PER_MILLI);
+	}
+
+	private static final String _FORMAT =
+		"%-16s %10s %8s %10s %12s %12s %12s%n";
+	private static final long _NANOS_PER_MILLI = 1000000;
+
+	private final Duration _duration;
+	private final Map<Scenario, ScenarioStatistics> _scenarioStatistics;
+
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Defines the workloads that can be run against the sample application. Each
+ * execution sends one request and returns its status code.
+ *
+ * @author Alejandro Hernández
+ */
+public enum Scenario {
+
+	BATCH_CREATE {
+
+		@Override
+		public int execute(LoadTestClient loadTestClient, Random random)
+			throws IOException {
+
+			String creatorURL = _getPersonURL(loadTestClient, random);
+
+			String json = IntStream.range(
+				0, _BATCH_SIZE
+			).mapToObj(
+				index -> String.format(
+					"{\"alternativeHeadline\": \"Load test %d\", " +
+						"\"articleBody\": \"Body %d\", \"creator\": \"%s\", " +
+							"\"headline\": \"Headline %d\"}",
+					index, index, creatorURL, index)
+			).collect(
+				Collectors.joining(",", "[", "]")
+			);
+
+			return loadTestClient.post(
+				"/batch/blog-postings", "application/json",
+				json.getBytes(UTF_8));
+		}
+
+	},
+	EMBEDDED_READ {
+
+		@Override
+		public int execute(LoadTestClient loadTestClient, Random random)
+			throws IOException {
+
+			int id = random.nextInt(_BLOG_POSTINGS_COUNT);
+
+			return loadTestClient.get(
+				"/p/blog-postings/" + id + "?embedded=creator,comment");
+		}
+
+	},
+	MULTIPART_UPLOAD {
+
+		@Override
+		public int execute(LoadTestClient loadTestClient, Random random)
+			throws IOException {
+
+			String boundary = "apio" + Long.toHexString(random.nextLong());
+
+			StringBuilder sb = new StringBuilder();
+
+			_addPart(sb, boundary, "addressCountry", "ES");
+			_addPart(sb, boundary, "addressLocality", "Madrid");
+			_addPart(sb, boundary, "addressRegion", "Madrid");
+			_addPart(sb, boundary, "birthDate", "1990-01-01T00:00Z");
+			_addPart(sb, boundary, "email", "load.test@example.com");
+			_addPart(sb, boundary, "familyName", "Test");
+			_addPart(sb, boundary, "givenName", "Load");
+			_addPart(sb, boundary, "image", "https://example.com/avatar");
+			_addPart(sb, boundary, "postalCode", "28001");
+			_addPart(sb, boundary, "streetAddress", "Calle Mayor 1");
+
+			sb.append("--");
+			sb.append(boundary);
+			sb.append("\r\nContent-Disposition: form-data; name=\"file\"; ");
+			sb.append("filename=\"load-test.txt\"\r\n");
+			sb.append("Content-Type: text/plain\r\n\r\n");
+
+			for (int i = 0; i < _FILE_SIZE; i++) {
+				sb.append((char)('a' + random.nextInt(26)));
+			}
+
+			sb.append("\r\n--");
+			sb.append(boundary);
+			sb.append("--\r\n");
+
+			String body = sb.toString();
+
+			return loadTestClient.post(
+				"/p/people", "multipart/form-data; boundary=" + boundary,
+				body.getBytes(UTF_8));
+		}
+
+	},
+	PAGE_READ {
+
+		@Override
+		public int execute(LoadTestClient loadTestClient, Random random)
+			throws IOException {
+
+			int pages = Math.max(1, _BLOG_POSTINGS_COUNT / _PAGE_SIZE);
+
+			int page = random.nextInt(pages) + 1;
+
+			return loadTestClient.get(
+				"/p/blog-postings?page=" + page + "&per_page=" + _PAGE_SIZE);
+		}
+
+	};
+
+	/**
+	 * Sends one request of this scenario.
+	 *
+	 * @param  loadTestClient the client used to send the request
+	 * @param  random the random generator used to pick the request's data
+	 * @return the response's status code
+	 */
+	public abstract int execute(LoadTestClient loadTestClient, Random random)
+		throws IOException;
+
+	private static void _addPart(
+		StringBuilder sb, String boundary, String name, String value) {
+
+		sb.append("--");
+		sb.append(boundary);
+		sb.append("\r\nContent-Disposition: form-data; name=\"");
+		sb.append(name);
+		sb.append("\"\r\n\r\n");
+		sb.append(value);
+		sb.append("\r\n");
+	}
+
+	private static String _getPersonURL(
+		LoadTestClient loadTestClient, Random random) {
+
+		int id = random.nextInt(_PEOPLE_COUNT);
+
+		return loadTestClient.getBaseURL() + "/p/people/" + id;
+	}
+
+	private static final int _BATCH_SIZE = 10;
+	private static final int _BLOG_POSTINGS_COUNT = Integer.getInteger(
+		"apio.sample.blog.postings.count", 42);
+	private static final int _FILE_SIZE = 16384;
+	private static final int _PAGE_SIZE = 30;
+	private static final int _PEOPLE_COUNT = Integer.getInteger(
+		"apio.sample.people.count", 10);
+
+}
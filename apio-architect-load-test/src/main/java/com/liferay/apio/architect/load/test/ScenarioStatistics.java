@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import java.util.Arrays;
+
+/**
+ * Records the latencies and failures of the requests of one scenario. Every
+ * latency is kept, so percentiles are exact. Instances aren't thread safe;
+ * each client records its own statistics, which are merged at the end of the
+ * run.
+ *
+ * @author Alejandro Hernández
+ */
+public class ScenarioStatistics {
+
+	/**
+	 * Returns the number of recorded requests.
+	 *
+	 * @return the number of requests
+	 */
+	public int getCount() {
+		return _count;
+	}
+
+	/**
+	 * Returns the number of recorded requests that failed.
+	 *
+	 * @return the number of failed requests
+	 */
+	public int getErrorCount() {
+		return _errorCount;
+	}
+
+	/**
+	 * Returns the latency, in nanoseconds, below which the provided percentage
+	 * of requests falls, using the nearest-rank method.
+	 *
+	 * @param  percentile the percentile, between {@code 0} and {@code 100}
+	 * @return the latency in nanoseconds; {@code 0} if there are no requests
+	 */
+	public long getPercentile(double percentile) {
+		if (_count == 0) {
+			return 0;
+		}
+
+		if (!_sorted) {
+			Arrays.sort(_latencies, 0, _count);
+
+			_sorted = true;
+		}
+
+		int rank = (int)Math.ceil(percentile / 100 * _count);
+
+		return _latencies[Math.max(rank, 1) - 1];
+	}
+
+	/**
+	 * Adds the requests recorded by other statistics to these ones.
+	 *
+	 * @param scenarioStatistics the statistics to add
+	 */
+	public void merge(ScenarioStatistics scenarioStatistics) {
+		_ensureCapacity(_count + scenarioStatistics._count);
+
+		System.arraycopy(
+			scenarioStatistics._latencies, 0, _latencies, _count,
+			scenarioStatistics._count);
+
+		_count += scenarioStatistics._count;
+		_errorCount += scenarioStatistics._errorCount;
+		_sorted = false;
+	}
+
+	/**
+	 * Records a request.
+	 *
+	 * @param latency the request's latency in nanoseconds
+	 * @param failed whether the request failed
+	 */
+	public void record(long latency, boolean failed) {
+		_ensureCapacity(_count + 1);
+
+		_latencies[_count++] = latency;
+
+		if (failed) {
+			_errorCount++;
+		}
+
+		_sorted = false;
+	}
+
+	private void _ensureCapacity(int capacity) {
+		if (capacity > _latencies.length) {
+			_latencies = Arrays.copyOf(
+				_latencies, Math.max(capacity, _latencies.length * 2));
+		}
+	}
+
+	private int _count;
+	private int _errorCount;
+	private long[] _latencies = new long[1024];
+	private boolean _sorted;
+
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.time.Duration;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LoadTestReportTest {
+
+	@Test
+	public void testGetThroughputUsesAllScenarios() {
+		LoadTestReport loadTestReport = _createLoadTestReport(0);
+
+		assertThat(loadTestReport.getThroughput(), is(200.0));
+	}
+
+	@Test
+	public void testGetViolationsIsEmptyIfThresholdsAreMet() {
+		Properties properties = new Properties();
+
+		properties.setProperty(LoadTestConfiguration.MAX_P99, "10");
+		properties.setProperty(LoadTestConfiguration.MIN_THROUGHPUT, "100");
+
+		LoadTestReport loadTestReport = _createLoadTestReport(0);
+
+		List<String> violations = loadTestReport.getViolations(
+			new LoadTestConfiguration(properties));
+
+		assertThat(violations, is(empty()));
+	}
+
+	@Test
+	public void testGetViolationsReportsEveryExceededThreshold() {
+		Properties properties = new Properties();
+
+		properties.setProperty(LoadTestConfiguration.MAX_ERROR_RATE, "5");
+		properties.setProperty(LoadTestConfiguration.MAX_P99, "1");
+		properties.setProperty(LoadTestConfiguration.MIN_THROUGHPUT, "1000");
+
+		LoadTestReport loadTestReport = _createLoadTestReport(10);
+
+		List<String> violations = loadTestReport.getViolations(
+			new LoadTestConfiguration(properties));
+
+		assertThat(
+			violations,
+			contains(
+				"EMBEDDED_READ p99 latency 2.00 ms is above 1 ms",
+				"PAGE_READ error rate 10.00% is above 5.00%",
+				"PAGE_READ p99 latency 2.00 ms is above 1 ms",
+				"Throughput 200.0 req/s is below 1000 req/s"));
+	}
+
+	private LoadTestReport _createLoadTestReport(int pageReadErrors) {
+		Map<Scenario, ScenarioStatistics> scenarioStatistics = new EnumMap<>(
+			Scenario.class);
+
+		scenarioStatistics.put(
+			Scenario.EMBEDDED_READ, _createScenarioStatistics(0));
+		scenarioStatistics.put(
+			Scenario.PAGE_READ, _createScenarioStatistics(pageReadErrors));
+
+		return new LoadTestReport(scenarioStatistics, Duration.ofSeconds(1));
+	}
+
+	private ScenarioStatistics _createScenarioStatistics(int errors) {
+		ScenarioStatistics scenarioStatistics = new ScenarioStatistics();
+
+		for (int i = 0; i < 100; i++) {
+			scenarioStatistics.record(2000000, i < errors);
+		}
+
+		return scenarioStatistics;
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.load.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ScenarioStatisticsTest {
+
+	@Test
+	public void testGetPercentileReturnsNearestRank() {
+		ScenarioStatistics scenarioStatistics = new ScenarioStatistics();
+
+		for (int i = 100; i > 0; i--) {
+			scenarioStatistics.record(i, false);
+		}
+
+		assertThat(scenarioStatistics.getPercentile(50), is(50L));
+		assertThat(scenarioStatistics.getPercentile(99), is(99L));
+		assertThat(scenarioStatistics.getPercentile(99.9), is(100L));
+		assertThat(scenarioStatistics.getPercentile(0), is(1L));
+	}
+
+	@Test
+	public void testGetPercentileWithoutRequestsReturnsZero() {
+		ScenarioStatistics scenarioStatistics = new ScenarioStatistics();
+
+		assertThat(scenarioStatistics.getPercentile(99), is(0L));
+	}
+
+	@Test
+	public void testMergeAddsRequestsAndErrors() {
+		ScenarioStatistics scenarioStatistics = new ScenarioStatistics();
+
+		scenarioStatistics.record(3, false);
+		scenarioStatistics.record(1, true);
+
+		ScenarioStatistics otherScenarioStatistics = new ScenarioStatistics();
+
+		for (int i = 0; i < 2000; i++) {
+			otherScenarioStatistics.record(2, i % 2 == 0);
+		}
+
+		scenarioStatistics.merge(otherScenarioStatistics);
+
+		assertThat(scenarioStatistics.getCount(), is(2002));
+		assertThat(scenarioStatistics.getErrorCount(), is(1001));
+		assertThat(scenarioStatistics.getPercentile(0), is(1L));
+		assertThat(scenarioStatistics.getPercentile(100), is(3L));
+	}
+
+}
@@ -20,6 +20,9 @@ import com.liferay.apio.architect.sample.internal.model.BlogPostingCommentModel;
 import com.liferay.apio.architect.sample.internal.model.BlogPostingModel;
 import com.liferay.apio.architect.sample.internal.model.PersonModel;
 
+import java.util.Optional;
+import java.util.Random;
+
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -27,19 +30,62 @@ import org.osgi.framework.BundleContext;
  * Initiates the in-memory databases by asynchronously calling the different
  * {@code compute} methods in each model class.
  *
+ * <p>
+ * The size of the generated data can be configured with framework properties,
+ * so the sample can be loaded with millions of records. When {@link #SEED} is
+ * set, the same data is generated on every start.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ApioSampleBundleActivator implements BundleActivator {
 
+	/**
+	 * The framework property with the number of blog postings to create.
+	 */
+	public static final String BLOG_POSTINGS_COUNT =
+		"apio.sample.blog.postings.count";
+
+	/**
+	 * The framework property with the maximum number of comments to create
+	 * for each blog posting.
+	 */
+	public static final String COMMENTS_MAX = "apio.sample.comments.max";
+
+	/**
+	 * The framework property with the number of persons to create.
+	 */
+	public static final String PEOPLE_COUNT = "apio.sample.people.count";
+
+	/**
+	 * The framework property with the seed of the random data generator.
+	 */
+	public static final String SEED = "apio.sample.seed";
+
 	@Override
 	public void start(BundleContext bundleContext) throws Exception {
+		int peopleCount = _getInteger(bundleContext, PEOPLE_COUNT, 10);
+		int blogPostingsCount = _getInteger(
+			bundleContext, BLOG_POSTINGS_COUNT, 42);
+		int commentsMax = _getInteger(bundleContext, COMMENTS_MAX, 70);
+
+		Random random = Optional.ofNullable(
+			bundleContext.getProperty(SEED)
+		).map(
+			Long::parseLong
+		).map(
+			Random::new
+		).orElseGet(
+			Random::new
+		);
+
 		runAsync(
 			() -> {
-				PersonModel.compute();
+				PersonModel.compute(peopleCount, random);
 
-				BlogPostingModel.compute();
+				BlogPostingModel.compute(blogPostingsCount, random);
 
-				BlogPostingCommentModel.compute();
+				BlogPostingCommentModel.compute(commentsMax, random);
 			});
 	}
 
@@ -47,4 +93,16 @@ public class ApioSampleBundleActivator implements BundleActivator {
 	public void stop(BundleContext bundleContext) throws Exception {
 	}
 
-}
\ No newline at end of file
+	private static int _getInteger(
+		BundleContext bundleContext, String key, int defaultValue) {
+
+		return Optional.ofNullable(
+			bundleContext.getProperty(key)
+		).map(
+			Integer::parseInt
+		).orElse(
+			defaultValue
+		);
+	}
+
+}
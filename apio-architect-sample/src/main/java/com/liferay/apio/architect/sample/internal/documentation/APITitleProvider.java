@@ -26,7 +26,7 @@ import org.osgi.service.component.annotations.Component;
  *
  * @author Alejandro Hernández
  */
-@Component
+@Component(property = "apio.architect.provider.scope=singleton")
 public class APITitleProvider implements Provider<APITitle> {
 
 	@Override
@@ -20,18 +20,16 @@ import com.github.javafaker.DateAndTime;
 import com.github.javafaker.Faker;
 import com.github.javafaker.Shakespeare;
 
-import java.util.Collection;
+import com.liferay.apio.architect.sample.internal.store.ModelStore;
+
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Represents a comment on a {@link BlogPostingModel}. This is a mock class for
@@ -46,36 +44,45 @@ public class BlogPostingCommentModel {
 	 * Computes the fake data for this model class.
 	 */
 	public static void compute() {
+		compute(70, new Random());
+	}
+
+	/**
+	 * Computes the fake data for this model class. The persons and blog
+	 * postings must be computed first, since they are the comments' authors
+	 * and targets.
+	 *
+	 * @param max the maximum number of comments to create for each blog
+	 *        posting
+	 * @param random the random generator used to create the data. Using the
+	 *        same seed creates the same comments
+	 */
+	public static void compute(int max, Random random) {
 		if (!_blogPostingCommentModels.isEmpty()) {
 			return;
 		}
 
-		for (long index = 0; index < BlogPostingModel.getCount(); index++) {
-			Map<Long, BlogPostingCommentModel> blogPostingCommentModels =
-				new HashMap<>();
-			Random random = new Random();
+		Faker faker = new Faker(random);
 
-			for (int i = 0; i < random.nextInt(70); i++) {
-				long authorId = random.nextInt(PersonModel.getCount());
+		Shakespeare shakespeare = faker.shakespeare();
 
-				Faker faker = new Faker();
+		DateAndTime dateAndTime = faker.date();
 
-				Shakespeare shakespeare = faker.shakespeare();
+		for (long index = 0; index < BlogPostingModel.getCount(); index++) {
+			int count = max > 0 ? random.nextInt(max) : 0;
 
-				DateAndTime dateAndTime = faker.date();
+			for (int i = 0; i < count; i++) {
+				long authorId = random.nextInt(PersonModel.getCount());
 
 				Date date = dateAndTime.past(400, DAYS);
 
 				BlogPostingCommentModel blogPostingCommentModel =
 					new BlogPostingCommentModel(
-						authorId, _count.get(), index,
+						authorId, _count.getAndIncrement(), index,
 						shakespeare.hamletQuote(), date, date);
 
-				blogPostingCommentModels.put(
-					_count.getAndIncrement(), blogPostingCommentModel);
+				_put(blogPostingCommentModel);
 			}
-
-			_blogPostingCommentModels.put(index, blogPostingCommentModels);
 		}
 	}
 
@@ -92,15 +99,10 @@ public class BlogPostingCommentModel {
 
 		BlogPostingCommentModel blogPostingCommentModel =
 			new BlogPostingCommentModel(
-				authorId, _count.get(), blogPostingModelId, content, new Date(),
-				new Date());
-
-		Map<Long, BlogPostingCommentModel> blogPostingCommentModels =
-			_blogPostingCommentModels.computeIfAbsent(
-				blogPostingModelId, __ -> new HashMap<>());
+				authorId, _count.getAndIncrement(), blogPostingModelId, content,
+				new Date(), new Date());
 
-		blogPostingCommentModels.put(
-			_count.getAndIncrement(), blogPostingCommentModel);
+		_put(blogPostingCommentModel);
 
 		return blogPostingCommentModel;
 	}
@@ -114,21 +116,7 @@ public class BlogPostingCommentModel {
 	 *         otherwise
 	 */
 	public static Optional<BlogPostingCommentModel> get(long id) {
-		Collection<Map<Long, BlogPostingCommentModel>>
-			blogPostingCommentModels = _blogPostingCommentModels.values();
-
-		Stream<Map<Long, BlogPostingCommentModel>> stream =
-			blogPostingCommentModels.stream();
-
-		return stream.map(
-			Map::values
-		).map(
-			Collection::stream
-		).flatMap(
-			Function.identity()
-		).filter(
-			blogPostingCommentModel -> blogPostingCommentModel.getId() == id
-		).findFirst();
+		return _blogPostingCommentModels.get(id);
 	}
 
 	/**
@@ -141,9 +129,9 @@ public class BlogPostingCommentModel {
 		return Optional.of(
 			blogPostingModelId
 		).map(
-			_blogPostingCommentModels::get
+			_blogPostingCommentModelsByBlogPosting::get
 		).map(
-			Map::size
+			ModelStore::getCount
 		).orElse(
 			0
 		);
@@ -164,19 +152,11 @@ public class BlogPostingCommentModel {
 		return Optional.of(
 			blogPostingModelId
 		).map(
-			_blogPostingCommentModels::get
+			_blogPostingCommentModelsByBlogPosting::get
 		).map(
-			Map::values
-		).map(
-			Collection::stream
+			modelStore -> modelStore.getPage(start, end)
 		).orElseGet(
-			Stream::empty
-		).skip(
-			start
-		).limit(
-			end
-		).collect(
-			Collectors.toList()
+			Collections::emptyList
 		);
 	}
 
@@ -186,7 +166,16 @@ public class BlogPostingCommentModel {
 	 * @param id the blog posting comment's ID
 	 */
 	public static void remove(long id) {
-		_blogPostingCommentModels.remove(id);
+		Optional<BlogPostingCommentModel> optional =
+			_blogPostingCommentModels.remove(id);
+
+		optional.map(
+			BlogPostingCommentModel::getBlogPostingModelId
+		).map(
+			_blogPostingCommentModelsByBlogPosting::get
+		).ifPresent(
+			modelStore -> modelStore.remove(id)
+		);
 	}
 
 	/**
@@ -209,17 +198,7 @@ public class BlogPostingCommentModel {
 				blogPostingCommentModel.getBlogPostingModelId(), content,
 				blogPostingCommentModel.getCreateDate(), new Date()));
 
-		newOptional.ifPresent(
-			blogPostingCommentModel -> {
-				long blogPostingModelId =
-					blogPostingCommentModel.getBlogPostingModelId();
-
-				Map<Long, BlogPostingCommentModel> blogPostingCommentModels =
-					_blogPostingCommentModels.computeIfAbsent(
-						blogPostingModelId, __ -> new HashMap<>());
-
-				blogPostingCommentModels.put(id, blogPostingCommentModel);
-			});
+		newOptional.ifPresent(BlogPostingCommentModel::_put);
 
 		return newOptional;
 	}
@@ -290,8 +269,23 @@ public class BlogPostingCommentModel {
 		_modifiedDate = modifiedDate;
 	}
 
-	private static final Map<Long, Map<Long, BlogPostingCommentModel>>
-		_blogPostingCommentModels = new ConcurrentHashMap<>();
+	private static void _put(BlogPostingCommentModel blogPostingCommentModel) {
+		long id = blogPostingCommentModel.getId();
+
+		_blogPostingCommentModels.put(id, blogPostingCommentModel);
+
+		ModelStore<BlogPostingCommentModel> modelStore =
+			_blogPostingCommentModelsByBlogPosting.computeIfAbsent(
+				blogPostingCommentModel.getBlogPostingModelId(),
+				__ -> new ModelStore<>());
+
+		modelStore.put(id, blogPostingCommentModel);
+	}
+
+	private static final ModelStore<BlogPostingCommentModel>
+		_blogPostingCommentModels = new ModelStore<>();
+	private static final Map<Long, ModelStore<BlogPostingCommentModel>>
+		_blogPostingCommentModelsByBlogPosting = new ConcurrentHashMap<>();
 	private static final AtomicLong _count = new AtomicLong(0);
 
 	private final long _authorId;
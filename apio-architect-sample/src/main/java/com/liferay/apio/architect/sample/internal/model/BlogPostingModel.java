@@ -22,17 +22,16 @@ import com.github.javafaker.Faker;
 import com.github.javafaker.Lorem;
 import com.github.javafaker.service.RandomService;
 
-import java.util.Collection;
+import com.liferay.apio.architect.sample.internal.store.ModelStore;
+
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * Represents a blog posting. This is a mock class for sample purposes only. It
@@ -47,13 +46,25 @@ public class BlogPostingModel {
 	 * Computes the fake data for this model class.
 	 */
 	public static void compute() {
+		compute(42, new Random());
+	}
+
+	/**
+	 * Computes the fake data for this model class. The persons must be
+	 * computed first, since they are the blog postings' creators.
+	 *
+	 * @param count the number of blog postings to create
+	 * @param random the random generator used to create the data. Using the
+	 *        same seed creates the same blog postings
+	 */
+	public static void compute(int count, Random random) {
 		if (!_blogPostings.isEmpty()) {
 			return;
 		}
 
-		for (long index = 0; index < 42; index++) {
-			Faker faker = new Faker();
+		Faker faker = new Faker(random);
 
+		for (long index = 0; index < count; index++) {
 			Book book = faker.book();
 
 			Lorem lorem = faker.lorem();
@@ -117,7 +128,7 @@ public class BlogPostingModel {
 	 * @return the blog posting, if present; {@code Optional#empty()} otherwise
 	 */
 	public static Optional<BlogPostingModel> get(long id) {
-		return Optional.ofNullable(_blogPostings.get(id));
+		return _blogPostings.get(id);
 	}
 
 	/**
@@ -126,7 +137,7 @@ public class BlogPostingModel {
 	 * @return the total number of blog postings
 	 */
 	public static int getCount() {
-		return _blogPostings.size();
+		return _blogPostings.getCount();
 	}
 
 	/**
@@ -138,17 +149,7 @@ public class BlogPostingModel {
 	 * @return the page of blog postings
 	 */
 	public static List<BlogPostingModel> getPage(int start, int end) {
-		Collection<BlogPostingModel> blogPostingModels = _blogPostings.values();
-
-		Stream<BlogPostingModel> stream = blogPostingModels.stream();
-
-		return stream.skip(
-			start
-		).limit(
-			end
-		).collect(
-			Collectors.toList()
-		);
+		return _blogPostings.getPage(start, end);
 	}
 
 	/**
@@ -176,20 +177,20 @@ public class BlogPostingModel {
 		long id, String content, long creatorId, String subtitle,
 		String title) {
 
-		BlogPostingModel blogPostingModel = _blogPostings.get(id);
-
-		if (blogPostingModel == null) {
-			return Optional.empty();
-		}
+		Optional<BlogPostingModel> optional = _blogPostings.get(id);
 
-		Date createDate = blogPostingModel.getCreateDate();
+		return optional.map(
+			BlogPostingModel::getCreateDate
+		).map(
+			createDate -> new BlogPostingModel(
+				id, content, createDate, creatorId, new Date(), subtitle, title)
+		).map(
+			blogPostingModel -> {
+				_blogPostings.put(id, blogPostingModel);
 
-		blogPostingModel = new BlogPostingModel(
-			id, content, createDate, creatorId, new Date(), subtitle, title);
-
-		_blogPostings.put(id, blogPostingModel);
-
-		return Optional.of(blogPostingModel);
+				return blogPostingModel;
+			}
+		);
 	}
 
 	/**
@@ -288,8 +289,8 @@ public class BlogPostingModel {
 			Collections.emptyList(), subtitle, title);
 	}
 
-	private static final Map<Long, BlogPostingModel> _blogPostings =
-		new ConcurrentHashMap<>();
+	private static final ModelStore<BlogPostingModel> _blogPostings =
+		new ModelStore<>();
 	private static final AtomicLong _count = new AtomicLong(0);
 
 	private final String _content;
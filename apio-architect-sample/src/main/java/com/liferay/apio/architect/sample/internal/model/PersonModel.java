@@ -24,17 +24,16 @@ import com.github.javafaker.Internet;
 import com.github.javafaker.Name;
 import com.github.javafaker.service.RandomService;
 
+import com.liferay.apio.architect.sample.internal.store.ModelStore;
+
 import java.util.Calendar;
-import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * Represents a person. This is a mock class for sample purposes only. It
@@ -49,13 +48,24 @@ public class PersonModel {
 	 * Computes the fake data for this model class.
 	 */
 	public static void compute() {
+		compute(10, new Random());
+	}
+
+	/**
+	 * Computes the fake data for this model class.
+	 *
+	 * @param count the number of persons to create
+	 * @param random the random generator used to create the data. Using the
+	 *        same seed creates the same persons
+	 */
+	public static void compute(int count, Random random) {
 		if (!_personModels.isEmpty()) {
 			return;
 		}
 
-		for (long index = 0; index < 10; index++) {
-			Faker faker = new Faker();
+		Faker faker = new Faker(random);
 
+		for (long index = 0; index < count; index++) {
 			Internet internet = faker.internet();
 
 			DateAndTime dateAndTime = faker.date();
@@ -127,7 +137,7 @@ public class PersonModel {
 	 * @return the person, if present; {@code Optional#empty()} otherwise
 	 */
 	public static Optional<PersonModel> get(long id) {
-		return Optional.ofNullable(_personModels.get(id));
+		return _personModels.get(id);
 	}
 
 	/**
@@ -136,7 +146,7 @@ public class PersonModel {
 	 * @return the total number of persons
 	 */
 	public static int getCount() {
-		return _personModels.size();
+		return _personModels.getCount();
 	}
 
 	/**
@@ -148,17 +158,7 @@ public class PersonModel {
 	 * @return the page of persons
 	 */
 	public static List<PersonModel> getPage(int start, int end) {
-		Collection<PersonModel> personModels = _personModels.values();
-
-		Stream<PersonModel> stream = personModels.stream();
-
-		return stream.skip(
-			start
-		).limit(
-			end
-		).collect(
-			Collectors.toList()
-		);
+		return _personModels.getPage(start, end);
 	}
 
 	/**
@@ -190,13 +190,11 @@ public class PersonModel {
 		String email, String firstName, List<String> jobTitles, String lastName,
 		long id) {
 
-		PersonModel personModel = _personModels.get(id);
-
-		if (personModel == null) {
+		if (!_personModels.get(id).isPresent()) {
 			return Optional.empty();
 		}
 
-		personModel = new PersonModel(
+		PersonModel personModel = new PersonModel(
 			avatar, birthDate, email, firstName, jobTitles, lastName,
 			postalAddressModel, id);
 
@@ -311,8 +309,8 @@ public class PersonModel {
 	}
 
 	private static final AtomicLong _count = new AtomicLong(0);
-	private static final Map<Long, PersonModel> _personModels =
-		new ConcurrentHashMap<>();
+	private static final ModelStore<PersonModel> _personModels =
+		new ModelStore<>();
 
 	private final String _avatar;
 	private final Date _birthDate;
@@ -30,7 +30,9 @@ import com.liferay.apio.architect.sample.internal.identifier.BlogPostingIdentifi
 import com.liferay.apio.architect.sample.internal.identifier.PersonIdentifier;
 import com.liferay.apio.architect.sample.internal.model.BlogPostingCommentModel;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.ws.rs.ForbiddenException;
@@ -57,7 +59,9 @@ public class BlogPostingCommentNestedCollectionResource implements
 			NestedCollectionRoutes.Builder<BlogPostingCommentModel, Long, Long>
 				builder) {
 
-		return builder.addGetter(
+		return builder.addBatchGetter(
+			this::_getPageItemsMap
+		).addGetter(
 			this::_getPageItems
 		).addCreator(
 			this::_addBlogPostingComment, Credentials.class,
@@ -150,6 +154,21 @@ public class BlogPostingCommentNestedCollectionResource implements
 		return new PageItems<>(blogPostingCommentModels, count);
 	}
 
+	private Map<Long, PageItems<BlogPostingCommentModel>> _getPageItemsMap(
+		Pagination pagination, List<Long> blogPostingModelIds) {
+
+		Map<Long, PageItems<BlogPostingCommentModel>> pageItemsMap =
+			new HashMap<>();
+
+		for (Long blogPostingModelId : blogPostingModelIds) {
+			pageItemsMap.put(
+				blogPostingModelId,
+				_getPageItems(pagination, blogPostingModelId));
+		}
+
+		return pageItemsMap;
+	}
+
 	private BlogPostingCommentModel _updateBlogPostingComment(
 		long id, BlogPostingCommentUpdaterForm blogPostingCommentUpdaterForm,
 		Credentials credentials) {
@@ -29,7 +29,9 @@ import com.liferay.apio.architect.sample.internal.identifier.PersonIdentifier;
 import com.liferay.apio.architect.sample.internal.model.PersonModel;
 import com.liferay.apio.architect.sample.internal.model.PostalAddressModel;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.ws.rs.ForbiddenException;
@@ -44,7 +46,7 @@ import org.osgi.service.component.annotations.Component;
  *
  * @author Alejandro Hernández
  */
-@Component
+@Component(property = "apio.architect.response.cache.ttl=30000")
 public class PersonCollectionResource
 	implements CollectionResource<PersonModel, Long, PersonIdentifier> {
 
@@ -69,7 +71,9 @@ public class PersonCollectionResource
 	public ItemRoutes<PersonModel, Long> itemRoutes(
 		ItemRoutes.Builder<PersonModel, Long> builder) {
 
-		return builder.addGetter(
+		return builder.addBatchGetter(
+			this::_getPeople
+		).addGetter(
 			this::_getPerson
 		).addRemover(
 			this::_deletePerson, Credentials.class,
@@ -151,6 +155,19 @@ public class PersonCollectionResource
 		return new PageItems<>(personModels, count);
 	}
 
+	private Map<Long, PersonModel> _getPeople(List<Long> ids) {
+		Map<Long, PersonModel> personModels = new HashMap<>();
+
+		for (Long id : ids) {
+			Optional<PersonModel> optional = PersonModel.get(id);
+
+			optional.ifPresent(
+				personModel -> personModels.put(id, personModel));
+		}
+
+		return personModels;
+	}
+
 	private PersonModel _getPerson(long id) {
 		Optional<PersonModel> optional = PersonModel.get(id);
 
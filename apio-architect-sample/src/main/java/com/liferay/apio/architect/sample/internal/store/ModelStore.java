@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.sample.internal.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stores the models of one of the sample's in-memory tables. This is a mock
+ * class for sample purposes only.
+ *
+ * <p>
+ * Models are kept in insertion order. Each one occupies a slot, and a Fenwick
+ * tree counts the live slots, so both the lookup by ID and the lookup of the
+ * first model of a page are O(log n), regardless of the page's offset. Slots
+ * of removed models are reclaimed once they're more than half of the total.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ */
+public class ModelStore<T> {
+
+	/**
+	 * Returns the model with the provided ID, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  id the model's ID
+	 * @return the model, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<T> get(long id) {
+		Lock lock = _readWriteLock.readLock();
+
+		lock.lock();
+
+		try {
+			Integer slot = _slots.get(id);
+
+			if (slot == null) {
+				return Optional.empty();
+			}
+
+			return Optional.of(_getModel(slot));
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of models in the store.
+	 *
+	 * @return the number of models
+	 */
+	public int getCount() {
+		Lock lock = _readWriteLock.readLock();
+
+		lock.lock();
+
+		try {
+			return _count;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the models between the page's start (inclusive) and end
+	 * (exclusive) positions, in insertion order.
+	 *
+	 * @param  start the page's start position
+	 * @param  end the page's end position
+	 * @return the page of models
+	 */
+	public List<T> getPage(int start, int end) {
+		Lock lock = _readWriteLock.readLock();
+
+		lock.lock();
+
+		try {
+			if ((start < 0) || (start >= _count) || (end <= start)) {
+				return Collections.emptyList();
+			}
+
+			int size = Math.min(end, _count) - start;
+
+			List<T> models = new ArrayList<>(size);
+
+			for (int slot = _findSlot(start + 1);
+				 (slot < _size) && (models.size() < size); slot++) {
+
+				if (_models[slot] != null) {
+					models.add(_getModel(slot));
+				}
+			}
+
+			return models;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the store has no models.
+	 *
+	 * @return {@code true} if the store is empty; {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return getCount() == 0;
+	}
+
+	/**
+	 * Stores the model with the provided ID. If a model with the same ID
+	 * exists, it's replaced and keeps its position.
+	 *
+	 * @param id the model's ID
+	 * @param model the model
+	 */
+	public void put(long id, T model) {
+		Lock lock = _readWriteLock.writeLock();
+
+		lock.lock();
+
+		try {
+			Integer slot = _slots.get(id);
+
+			if (slot != null) {
+				_models[slot] = model;
+
+				return;
+			}
+
+			if (_size == _models.length) {
+				_resize(_models.length * 2);
+			}
+
+			_ids[_size] = id;
+			_models[_size] = model;
+			_slots.put(id, _size);
+
+			_add(_size, 1);
+
+			_count++;
+			_size++;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the model with the provided ID, if present.
+	 *
+	 * @param  id the model's ID
+	 * @return the removed model, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<T> remove(long id) {
+		Lock lock = _readWriteLock.writeLock();
+
+		lock.lock();
+
+		try {
+			Integer slot = _slots.remove(id);
+
+			if (slot == null) {
+				return Optional.empty();
+			}
+
+			T model = _getModel(slot);
+
+			_models[slot] = null;
+
+			_add(slot, -1);
+
+			_count--;
+
+			if ((_size > _CAPACITY_INITIAL) && (_count < (_size / 2))) {
+				_resize(_models.length);
+			}
+
+			return Optional.of(model);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void _add(int slot, int delta) {
+		for (int i = slot + 1; i < _tree.length; i += i & -i) {
+			_tree[i] += delta;
+		}
+	}
+
+	private int _findSlot(int position) {
+		int index = 0;
+
+		for (int step = Integer.highestOneBit(_tree.length - 1); step > 0;
+			 step >>= 1) {
+
+			int next = index + step;
+
+			if ((next < _tree.length) && (_tree[next] < position)) {
+				index = next;
+				position -= _tree[next];
+			}
+		}
+
+		return index;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T _getModel(int slot) {
+		return (T)_models[slot];
+	}
+
+	private void _resize(int capacity) {
+		long[] ids = new long[capacity];
+		Object[] models = new Object[capacity];
+
+		int size = 0;
+
+		for (int slot = 0; slot < _size; slot++) {
+			if (_models[slot] != null) {
+				ids[size] = _ids[slot];
+				models[size] = _models[slot];
+
+				_slots.put(_ids[slot], size);
+
+				size++;
+			}
+		}
+
+		int[] tree = new int[capacity + 1];
+
+		for (int i = 1; i <= capacity; i++) {
+			if (i <= size) {
+				tree[i]++;
+			}
+
+			int parent = i + (i & -i);
+
+			if (parent <= capacity) {
+				tree[parent] += tree[i];
+			}
+		}
+
+		_ids = ids;
+		_models = models;
+		_size = size;
+		_tree = tree;
+	}
+
+	private static final int _CAPACITY_INITIAL = 16;
+
+	private int _count;
+	private long[] _ids = new long[_CAPACITY_INITIAL];
+	private Object[] _models = new Object[_CAPACITY_INITIAL];
+	private final ReadWriteLock _readWriteLock = new ReentrantReadWriteLock();
+	private int _size;
+	private final Map<Long, Integer> _slots = new HashMap<>();
+	private int[] _tree = new int[_CAPACITY_INITIAL + 1];
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.sample.internal.store;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ModelStoreTest {
+
+	@Test
+	public void testGetPageKeepsInsertionOrder() {
+		ModelStore<String> modelStore = _createModelStore(10);
+
+		assertThat(modelStore.getPage(3, 6), contains("3", "4", "5"));
+	}
+
+	@Test
+	public void testGetPageOutOfBoundsReturnsEmptyList() {
+		ModelStore<String> modelStore = _createModelStore(10);
+
+		assertThat(modelStore.getPage(10, 20), is(empty()));
+		assertThat(modelStore.getPage(5, 5), is(empty()));
+	}
+
+	@Test
+	public void testGetPageReturnsTheLastModels() {
+		ModelStore<String> modelStore = _createModelStore(10);
+
+		assertThat(modelStore.getPage(8, 20), contains("8", "9"));
+	}
+
+	@Test
+	public void testGetPageSkipsRemovedModels() {
+		ModelStore<String> modelStore = _createModelStore(10);
+
+		modelStore.remove(1);
+		modelStore.remove(4);
+
+		assertThat(modelStore.getCount(), is(8));
+		assertThat(modelStore.getPage(1, 4), contains("2", "3", "5"));
+	}
+
+	@Test
+	public void testPutReplacesModelKeepingItsPosition() {
+		ModelStore<String> modelStore = _createModelStore(3);
+
+		modelStore.put(1, "updated");
+
+		assertThat(modelStore.getCount(), is(3));
+		assertThat(modelStore.getPage(0, 3), contains("0", "updated", "2"));
+	}
+
+	@Test
+	public void testRemoveCompactsTheStore() {
+		ModelStore<String> modelStore = _createModelStore(1000);
+
+		LongStream.range(
+			0, 900
+		).forEach(
+			modelStore::remove
+		);
+
+		List<String> expected = LongStream.range(
+			950, 960
+		).mapToObj(
+			String::valueOf
+		).collect(
+			Collectors.toList()
+		);
+
+		assertThat(modelStore.getCount(), is(100));
+		assertThat(modelStore.get(950), is(Optional.of("950")));
+		assertThat(modelStore.getPage(50, 60), is(expected));
+	}
+
+	@Test
+	public void testRemoveReturnsTheRemovedModel() {
+		ModelStore<String> modelStore = _createModelStore(3);
+
+		assertThat(modelStore.remove(1), is(Optional.of("1")));
+		assertThat(modelStore.remove(1), is(Optional.empty()));
+		assertThat(modelStore.get(1), is(Optional.empty()));
+	}
+
+	private ModelStore<String> _createModelStore(int count) {
+		ModelStore<String> modelStore = new ModelStore<>();
+
+		LongStream.range(
+			0, count
+		).forEach(
+			id -> modelStore.put(id, String.valueOf(id))
+		);
+
+		return modelStore;
+	}
+
+}
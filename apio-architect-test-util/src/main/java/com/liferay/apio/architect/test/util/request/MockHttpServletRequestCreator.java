@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.test.util.request;
+
+import java.lang.reflect.Proxy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Provides methods that create {@link HttpServletRequest} objects.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class MockHttpServletRequestCreator {
+
+	/**
+	 * Creates a mock {@code HttpServletRequest} that stores its attributes in
+	 * a map, so {@code setAttribute}, {@code getAttribute} and {@code
+	 * removeAttribute} behave like in a real request. It has no parameters;
+	 * the rest of its methods return {@code null}, {@code false} or {@code 0}.
+	 *
+	 * @return the mock {@code HttpServletRequest}
+	 */
+	public static HttpServletRequest createHttpServletRequest() {
+		Map<String, Object> attributes = new HashMap<>();
+
+		Object proxy = Proxy.newProxyInstance(
+			MockHttpServletRequestCreator.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(instance, method, arguments) -> {
+				String methodName = method.getName();
+
+				if (methodName.equals("equals")) {
+					return instance == arguments[0];
+				}
+
+				if (methodName.equals("getAttribute")) {
+					return attributes.get(arguments[0]);
+				}
+
+				if (methodName.equals("getAttributeNames")) {
+					return Collections.enumeration(attributes.keySet());
+				}
+
+				if (methodName.equals("getParameterMap")) {
+					return Collections.emptyMap();
+				}
+
+				if (methodName.equals("hashCode")) {
+					return System.identityHashCode(instance);
+				}
+
+				if (methodName.equals("removeAttribute")) {
+					attributes.remove(arguments[0]);
+
+					return null;
+				}
+
+				if (methodName.equals("setAttribute") &&
+					(arguments[1] == null)) {
+
+					attributes.remove(arguments[0]);
+
+					return null;
+				}
+
+				if (methodName.equals("setAttribute")) {
+					attributes.put((String)arguments[0], arguments[1]);
+
+					return null;
+				}
+
+				if (methodName.equals("toString")) {
+					return "MockHttpServletRequest" + attributes;
+				}
+
+				return _getDefaultValue(method.getReturnType());
+			});
+
+		return (HttpServletRequest)proxy;
+	}
+
+	private static Object _getDefaultValue(Class<?> clazz) {
+		if (clazz.equals(boolean.class)) {
+			return false;
+		}
+
+		if (clazz.equals(int.class)) {
+			return 0;
+		}
+
+		if (clazz.equals(long.class)) {
+			return 0L;
+		}
+
+		return null;
+	}
+
+	private MockHttpServletRequestCreator() {
+		throw new UnsupportedOperationException();
+	}
+
+}